@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2013 Search Solution Corporation. All rights reserved by Search Solution. 
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted provided that the following conditions are met: 
+ *
+ * - Redistributions of source code must retain the above copyright notice, 
+ *   this list of conditions and the following disclaimer. 
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, 
+ *   this list of conditions and the following disclaimer in the documentation 
+ *   and/or other materials provided with the distribution. 
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors 
+ *   may be used to endorse or promote products derived from this software without 
+ *   specific prior written permission. 
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, 
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, 
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY 
+ * OF SUCH DAMAGE. 
+ *
+ */
+package com.cubrid.common.core.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * SQLStatementReaderTest Description
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class SQLStatementReaderTest extends TestCase {
+
+	private List<String> readAll(String text, List<Integer> lines) throws IOException {
+		SQLStatementReader reader = new SQLStatementReader(new StringReader(text), "UTF-8");
+		List<String> result = new ArrayList<String>();
+		String sql;
+		while ((sql = reader.readStatement()) != null) {
+			result.add(sql);
+			if (lines != null) {
+				lines.add(reader.getStatementLine());
+			}
+		}
+		reader.close();
+		return result;
+	}
+
+	public void testSplitLines() throws IOException {
+		List<Integer> lines = new ArrayList<Integer>();
+		List<String> list = readAll("insert into t values (1);insert into t values (2);\n"
+				+ "\n" + "  insert into t\n" + "  values (3)\n" + ";\n"
+				+ "insert into t values (4); insert into t\n" + "values (5);", lines);
+		assertEquals(5, list.size());
+		assertEquals("insert into t values (1);", list.get(0));
+		assertEquals("insert into t values (2);", list.get(1));
+		assertEquals("insert into t\nvalues (3)\n;", list.get(2));
+		assertEquals("insert into t values (4);", list.get(3));
+		assertEquals("insert into t\nvalues (5);", list.get(4));
+		assertEquals(Integer.valueOf(1), lines.get(0));
+		assertEquals(Integer.valueOf(1), lines.get(1));
+		assertEquals(Integer.valueOf(3), lines.get(2));
+		assertEquals(Integer.valueOf(6), lines.get(3));
+		assertEquals(Integer.valueOf(6), lines.get(4));
+	}
+
+	public void testQuotes() throws IOException {
+		List<String> list = readAll("insert into t values ('a;b', \"c;d\");\n"
+				+ "insert into t values ('it''s\n" + "  -- not a comment;\n" + "end');", null);
+		assertEquals(2, list.size());
+		assertEquals("insert into t values ('a;b', \"c;d\");", list.get(0));
+		assertEquals("insert into t values ('it''s\n  -- not a comment;\nend');", list.get(1));
+	}
+
+	public void testComments() throws IOException {
+		List<Integer> lines = new ArrayList<Integer>();
+		List<String> list = readAll("-- header;\n" + "// other;\n" + "/* block;\n" + " still; */\n"
+				+ "insert into t values (1); -- trailing;\n" + "/* lead */ insert into t\n"
+				+ "values (2 /* ; */);\n" + ";\n" + "/* only */;\n" + "insert into t values (3)",
+				lines);
+		assertEquals(2, list.size());
+		assertEquals("insert into t values (1);", list.get(0));
+		assertEquals("insert into t\nvalues (2 /* ; */);", list.get(1));
+		assertEquals(Integer.valueOf(5), lines.get(0));
+		assertEquals(Integer.valueOf(6), lines.get(1));
+	}
+
+	public void testStatementSize() throws IOException {
+		String text = "insert into t values ('\uD55C');\n" + "insert into t\n" + "values (2);\n";
+		SQLStatementReader reader = new SQLStatementReader(new StringReader(text), "UTF-8");
+		long total = 0;
+		while (reader.readStatement() != null) {
+			total += reader.getStatementSize();
+		}
+		assertEquals(text.getBytes("UTF-8").length, total);
+	}
+
+	public void testSameAsExtractQueries() throws IOException {
+		String text = "insert into t values (1, 'x;y');\n" + "update t set a = 2 where b = \"q\";\n"
+				+ "delete from t where c = 'it''s';\n";
+		List<String> list = readAll(text, null);
+		List<String[]> extracted = StringUtil.extractQueries(text);
+		assertEquals(extracted.size(), list.size());
+		for (int i = 0; i < list.size(); i++) {
+			assertEquals(extracted.get(i)[0], list.get(i));
+		}
+	}
+}
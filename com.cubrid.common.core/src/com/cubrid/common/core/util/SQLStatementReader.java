@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *  - Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *  - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.common.core.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * 
+ * Read the statements of a SQL file one by one in a single pass. The
+ * statements are split on ';' outside of quotes and comments with the same
+ * rules as StringUtil.extractQueries, but every character is looked at once
+ * however many lines a statement has.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class SQLStatementReader {
+	private final BufferedReader reader;
+	private final String charset;
+	private final StringBuilder statement = new StringBuilder();
+
+	private String line;
+	private int position;
+	private int lineNumber = 0;
+	private int statementLine = 0;
+	private long readSize = 0;
+	private long statementSize = 0;
+	private long returnedSize = 0;
+
+	private boolean sglQuote = false;
+	private boolean dblQuote = false;
+	private boolean isLineComment = false;
+	private boolean isBlockComment = false;
+	private boolean hasContent = false;
+	private char prevChar = '\0';
+
+	/**
+	 * The constructor
+	 * 
+	 * @param reader the SQL file reader
+	 * @param charset the file charset to count the read size, null for the
+	 *        default charset
+	 */
+	public SQLStatementReader(Reader reader, String charset) {
+		if (reader instanceof BufferedReader) {
+			this.reader = (BufferedReader) reader;
+		} else {
+			this.reader = new BufferedReader(reader);
+		}
+		this.charset = charset;
+	}
+
+	/**
+	 * Read the next statement, the text after the last ';' of the file is
+	 * ignored.
+	 * 
+	 * @return the statement which ends with ';', or null at the end of file
+	 * @throws IOException the exception
+	 */
+	public String readStatement() throws IOException {
+		while (true) {
+			if (line == null && !readLine()) {
+				return null;
+			}
+			while (position < line.length()) {
+				char c = line.charAt(position++);
+				if (append(c)) {
+					String sql = statement.toString();
+					statement.setLength(0);
+					if (!hasContent) {
+						continue;
+					}
+					hasContent = false;
+					statementSize = readSize - returnedSize;
+					returnedSize = readSize;
+					return sql;
+				}
+			}
+			line = null;
+		}
+	}
+
+	/**
+	 * Read the next line which is not empty and not a whole line comment, the
+	 * lines are trimmed unless they are inside of a quoted string.
+	 */
+	private boolean readLine() throws IOException {
+		String text;
+		while ((text = reader.readLine()) != null) {
+			lineNumber++;
+			readSize += getSize(text) + 1;
+			if (sglQuote || dblQuote) {
+				break;
+			}
+			text = text.trim();
+			if (isBlockComment || text.length() > 0 && !text.startsWith("--")
+					&& !text.startsWith("//")) {
+				break;
+			}
+		}
+		if (text == null) {
+			return false;
+		}
+		line = text + "\n";
+		position = 0;
+		return true;
+	}
+
+	private int getSize(String text) {
+		if (charset != null) {
+			try {
+				return text.getBytes(charset).length;
+			} catch (UnsupportedEncodingException e) {
+				return text.getBytes().length;
+			}
+		}
+		return text.getBytes().length;
+	}
+
+	/**
+	 * Append one character to the statement
+	 * 
+	 * @param c the character
+	 * @return true if it ends the statement
+	 */
+	private boolean append(char c) {
+		if (c == '\'' && !dblQuote && !isLineComment && !isBlockComment) {
+			sglQuote = !sglQuote;
+		}
+		if (c == '"' && !sglQuote && !isLineComment && !isBlockComment) {
+			dblQuote = !dblQuote;
+		}
+
+		boolean isComment = isLineComment || isBlockComment;
+		if (!dblQuote && !sglQuote) {
+			if (!isLineComment && prevChar == '-' && c == '-' && !isBlockComment) {
+				isLineComment = true;
+			} else if (!isLineComment && prevChar == '/' && c == '/' && !isBlockComment) {
+				isLineComment = true;
+			}
+
+			if (isLineComment && c == '\n') {
+				isLineComment = false;
+			}
+
+			if (!isBlockComment && prevChar == '/' && c == '*' && !isLineComment) {
+				isBlockComment = true;
+			}
+
+			if (isBlockComment && prevChar == '*' && c == '/') {
+				isBlockComment = false;
+			}
+		}
+		prevChar = c;
+
+		if (statement.length() == 0 && Character.isWhitespace(c)) {
+			return false;
+		}
+		/*Drop the comments before a statement when they end*/
+		if (!hasContent && isComment && !isLineComment && !isBlockComment) {
+			statement.setLength(0);
+			return false;
+		}
+		if (statement.length() == 0) {
+			statementLine = lineNumber;
+		}
+		statement.append(c);
+
+		if (!isLineComment && !isBlockComment && !dblQuote && !sglQuote) {
+			if (c == ';') {
+				return true;
+			}
+			/*The comment markers are not the content of a statement*/
+			if (!isComment && c != '-' && c != '/' && c != '*' && !Character.isWhitespace(c)) {
+				hasContent = true;
+			}
+		} else if (sglQuote || dblQuote) {
+			hasContent = true;
+		}
+		return false;
+	}
+
+	/**
+	 * Get the line number of the first line of the last statement, the first
+	 * line of the file is 1.
+	 * 
+	 * @return int
+	 */
+	public int getStatementLine() {
+		return statementLine;
+	}
+
+	/**
+	 * Get the size of the lines read for the last statement.
+	 * 
+	 * @return long
+	 */
+	public long getStatementSize() {
+		return statementSize;
+	}
+
+	/**
+	 * Close the reader
+	 * 
+	 * @throws IOException the exception
+	 */
+	public void close() throws IOException {
+		reader.close();
+	}
+}
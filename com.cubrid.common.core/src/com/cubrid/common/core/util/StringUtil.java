@@ -40,6 +40,7 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Vector;
+import java.util.regex.Pattern;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -54,6 +55,9 @@ import org.slf4j.Logger;
 public final class StringUtil {
 	private static final Logger LOGGER = LogUtil.getLogger(StringUtil.class);
 	public static final String NEWLINE = System.getProperty("line.separator");
+	private static final Pattern INT_PATTERN = Pattern.compile("^[-\\+]?\\d+$");
+	private static final Pattern SCI_DOUBLE_PATTERN = Pattern.compile("^[-||+]?\\d+(\\.\\d+)?([e||E]\\d+)?$");
+	private static final Pattern PLAIN_DOUBLE_PATTERN = Pattern.compile("^[-\\+]?\\d+(\\.\\d+)?$");
 
 	private StringUtil() {
 	}
@@ -789,8 +793,7 @@ public final class StringUtil {
 	 * @return int
 	 */
 	public static int str2Int(String str) {
-		String reg = "^[-\\+]?\\d+$";
-		if (str.matches(reg)) {
+		if (INT_PATTERN.matcher(str).matches()) {
 			return Integer.parseInt(str);
 		}
 		return 0;
@@ -804,9 +807,8 @@ public final class StringUtil {
 	 */
 	public static double str2Double(String inval) {
 		// TODO: if inval == null, will be return 0 or exception?
-		String sciReg = "^[-||+]?\\d+(\\.\\d+)?([e||E]\\d+)?$";
-		String plainReg = "^[-\\+]?\\d+(\\.\\d+)?$";
-		if (inval.matches(sciReg) || inval.matches(plainReg)) {
+		if (SCI_DOUBLE_PATTERN.matcher(inval).matches()
+				|| PLAIN_DOUBLE_PATTERN.matcher(inval).matches()) {
 			return Double.parseDouble(inval);
 		}
 		return 0.0;
@@ -36,6 +36,7 @@ import org.osgi.framework.BundleContext;
 
 import com.cubrid.common.ui.common.navigator.NodeAdapterFactory;
 import com.cubrid.common.ui.spi.model.ICubridNode;
+import com.cubrid.common.ui.spi.thread.ExecutorPools;
 
 public class CommonUIPlugin extends
 		AbstractUIPlugin {
@@ -50,6 +51,7 @@ public class CommonUIPlugin extends
 
 	public void stop(BundleContext context) throws Exception {
 		plugin = null;
+		ExecutorPools.shutdownAll();
 		super.stop(context);
 	}
 
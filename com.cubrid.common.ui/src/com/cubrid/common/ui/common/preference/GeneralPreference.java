@@ -54,6 +54,8 @@ public final class GeneralPreference {
 	public static final String AUTO_COMPLETE_TABLESORCOLUMNS = ".auto_complete_tablesorcolumns";
 	public static final String AUTO_SHOW_SCHEMA_INFO = ".auto_show_schema_info";
 	public static final String ALERT_MULTIQUERY_ALWAYS_CONFIRM = ".alert_multiquery_always_confirm";
+	public static final String MULTIQUERY_HOST_THREAD_COUNT = ".multiquery_host_thread_count";
+	public static final String MULTIQUERY_TIMEOUT = ".multiquery_timeout";
 	public static final String USE_HOST_DASHBOARD = ".use_host_dashboard";
 	public static final String USE_DATABASE_DASHBOARD = ".use_database_dashboard";
 	public static final String ALWAYS = MessageDialogWithToggle.ALWAYS;
@@ -75,6 +77,8 @@ public final class GeneralPreference {
 		pref.setDefault(AUTO_COMPLETE_TABLESORCOLUMNS, true);
 		pref.setDefault(AUTO_SHOW_SCHEMA_INFO, true);
 		pref.setDefault(ALERT_MULTIQUERY_ALWAYS_CONFIRM, false);
+		pref.setDefault(MULTIQUERY_HOST_THREAD_COUNT, 4);
+		pref.setDefault(MULTIQUERY_TIMEOUT, 0);
 		pref.setDefault(USE_HOST_DASHBOARD, true);
 		pref.setDefault(USE_DATABASE_DASHBOARD, true);
 		pref.setDefault(SHOW_ALERT_RUN_MODIFIED_QUERIES_AUTOCOMMIT, true);
@@ -351,6 +355,62 @@ public final class GeneralPreference {
 			LOGGER.error(ignored.getMessage());
 		}
 	}
+
+	/**
+	 * Return how many queries of a multiple query run can be executed at the
+	 * same time on one broker host.
+	 * 
+	 * @return the thread count of one host
+	 */
+	public static int getMultiQueryHostThreadCount() {
+		try {
+			return Math.max(1, pref.getInt(MULTIQUERY_HOST_THREAD_COUNT));
+		} catch (Exception ignored) {
+			return 4;
+		}
+	}
+
+	/**
+	 * Set how many queries of a multiple query run can be executed at the same
+	 * time on one broker host.
+	 * 
+	 * @param threadCount the thread count of one host
+	 */
+	public static void setMultiQueryHostThreadCount(int threadCount) {
+		try {
+			pref.setValue(GeneralPreference.MULTIQUERY_HOST_THREAD_COUNT, threadCount);
+		} catch (Exception ignored) {
+			LOGGER.error(ignored.getMessage());
+		}
+	}
+
+	/**
+	 * Return the timeout seconds of one database in a multiple query run, 0
+	 * means no timeout.
+	 * 
+	 * @return the timeout seconds
+	 */
+	public static int getMultiQueryTimeout() {
+		try {
+			return Math.max(0, pref.getInt(MULTIQUERY_TIMEOUT));
+		} catch (Exception ignored) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Set the timeout seconds of one database in a multiple query run, 0
+	 * means no timeout.
+	 * 
+	 * @param timeout the timeout seconds
+	 */
+	public static void setMultiQueryTimeout(int timeout) {
+		try {
+			pref.setValue(GeneralPreference.MULTIQUERY_TIMEOUT, timeout);
+		} catch (Exception ignored) {
+			LOGGER.error(ignored.getMessage());
+		}
+	}
 	
 	/**
 	 * Return true by using host dashboard
@@ -38,7 +38,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.w3c.dom.Document;
@@ -59,6 +58,7 @@ import com.cubrid.common.ui.cubrid.database.erwin.model.ERWinSchemaInfo;
 import com.cubrid.common.ui.cubrid.database.erwin.model.ERXmlModelConstant;
 import com.cubrid.common.ui.cubrid.table.Messages;
 import com.cubrid.common.ui.spi.model.CubridDatabase;
+import com.cubrid.common.ui.spi.thread.ExecutorPools;
 import com.cubrid.common.ui.spi.util.CommonUITool;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
@@ -475,7 +475,7 @@ public class ERXmlContainer {
 
 			CountDownLatch latch = new CountDownLatch(taskcount);
 
-			Executor threadPool = Executors.newCachedThreadPool();
+			Executor threadPool = ExecutorPools.getCpuPool();
 			ParseKeyGroupColumnTask task = null;
 			for (int i = 0; i < taskcount; i++) {
 				List<Node> copy = new ArrayList<Node>();
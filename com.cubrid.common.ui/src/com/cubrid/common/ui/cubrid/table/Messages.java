@@ -626,6 +626,7 @@ public class Messages extends
 	public static String grpSelectFile;
 	public static String lblTotalLines;
 	public static String lblThreadCount;
+	public static String lblRowsPerInsert;
 	public static String lblCommitLines;
 	public static String grpMapping;
 	public static String lblMapping;
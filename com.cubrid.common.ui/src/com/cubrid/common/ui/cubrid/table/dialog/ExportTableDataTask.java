@@ -77,7 +77,9 @@ import com.cubrid.common.ui.cubrid.table.importhandler.ImportFileConstants;
 import com.cubrid.common.ui.query.control.Export;
 import com.cubrid.common.ui.spi.model.CubridDatabase;
 import com.cubrid.common.ui.spi.util.CommonUITool;
+import com.cubrid.common.ui.spi.util.ExportRowEncoder;
 import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ResultSetFetchPlan;
 import com.cubrid.cubridmanager.core.common.jdbc.JDBCConnectionManager;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
 import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetMetaDataProxy;
@@ -318,16 +320,14 @@ public class ExportTableDataTask extends
 				xssfRowNum++;
 			}
 
+			ResultSetFetchPlan plan = ResultSetFetchPlan.create(rs);
 			while (rs.next()) {
 				sheetWriter.insertRow(xssfRowNum);
 				for (int k = 1; k <= colCount; k++) {
-					String colType = rsmt.getColumnTypeName(k);
-					colType = FieldHandlerUtils.amendDataTypeByResult(rs, k,
-							colType);
-					int precision = rsmt.getPrecision(k);
+					String colType = plan.getColumnType(rs, k);
+					int precision = plan.getPrecision(k);
 					setIsHasBigValue(colType, precision);
-					Object cellValue = FieldHandlerUtils.getRsValueForExport(
-							colType, rs, k, nullValue);
+					Object cellValue = plan.getExportValue(rs, k, nullValue);
 
 					if (cellValue instanceof Long) {
 						sheetWriter.createCell(k - 1, ((Long) cellValue).longValue());
@@ -513,16 +513,16 @@ public class ExportTableDataTask extends
 			if (isFirstRowAsColumnName) {
 				xlsRecordNum = 1;
 			}
+			ResultSetFetchPlan plan = ResultSetFetchPlan.create(rs);
 			while (rs.next()) {
 				if (!CommonUITool.isAvailableMemory(REMAINING_MEMORY_SIZE)) {
 					throw new OutOfMemoryError();
 				}
 				for (int j = 1; j < colCount; j++) {
-					String colType = rsmt.getColumnTypeName(j);
-					colType = FieldHandlerUtils.amendDataTypeByResult(rs, j, colType);
-					int precision = rsmt.getPrecision(j);
+					String colType = plan.getColumnType(rs, j);
+					int precision = plan.getPrecision(j);
 					setIsHasBigValue(colType, precision);
-					Object cellValue = FieldHandlerUtils.getRsValueForExport(colType, rs, j, nullValue);
+					Object cellValue = plan.getExportValue(rs, j, nullValue);
 					if (cellValue instanceof Long) {
 						sheet.addCell(new Number(j - 1, xlsRecordNum, (Long) cellValue));
 					} else if (cellValue instanceof Double) {
@@ -615,8 +615,9 @@ public class ExportTableDataTask extends
 				fs.write('\n');
 				fs.flush();
 			}
+			ResultSetFetchPlan plan = ResultSetFetchPlan.create(rs);
 			while (rs.next()) {
-				writeNextLine(fs, rs, rsmt, seprator, surround);
+				writeNextLine(fs, rs, plan, seprator, surround);
 				exportedCount++;
 				if (exportedCount % COMMIT_LINES == 0) {
 					fs.flush();
@@ -641,20 +642,19 @@ public class ExportTableDataTask extends
 	 *
 	 * @param fs BufferedWriter
 	 * @param rs CUBRIDResultSetProxy
-	 * @param rsmt CUBRIDResultSetMetaDataProxy
+	 * @param plan ResultSetFetchPlan
 	 * @throws SQLException The exception
 	 * @throws IOException The exception
 	 */
 	private void writeNextLine(BufferedWriter fs, CUBRIDResultSetProxy rs,
-			CUBRIDResultSetMetaDataProxy rsmt, String seprator, String surround) throws SQLException,
+			ResultSetFetchPlan plan, String seprator, String surround) throws SQLException,
 			IOException { // FIXME move this logic to core module
-		int length = rsmt.getColumnCount() + 1;
+		int length = plan.getColumnCount() + 1;
 		for (int j = 1; j < length; j++) {
-			String columnType = rsmt.getColumnTypeName(j);
-			int precision = rsmt.getPrecision(j);
-			columnType = FieldHandlerUtils.amendDataTypeByResult(rs, j, columnType);
+			String columnType = plan.getColumnType(rs, j);
+			int precision = plan.getPrecision(j);
 			setIsHasBigValue(columnType, precision);
-			Object value = FieldHandlerUtils.getRsValueForExport(columnType, rs, j, nullValue);
+			Object value = plan.getExportValue(rs, j, nullValue);
 			fs.write(surround);
 			fs.write(value.toString().replaceAll("\"", "\"\""));
 			fs.write(surround);
@@ -682,34 +682,9 @@ public class ExportTableDataTask extends
 		BufferedWriter fs = null;
 		try {
 			fs = getBufferedWriter();
-			CUBRIDResultSetMetaDataProxy rsmt = (CUBRIDResultSetMetaDataProxy) rs.getMetaData();
-
-			StringBuffer insert = new StringBuffer("INSERT INTO ");
-			insert.append(QuerySyntax.escapeKeyword(tableName));
-			insert.append(" (");
-			for (int i = 1; i < rsmt.getColumnCount() + 1; i++) {
-				if (i > 1) {
-					insert.append(", ");
-				}
-				insert.append(QuerySyntax.escapeKeyword(rsmt.getColumnName(i)));
-			}
-			insert.append(") ");
-
+			ExportRowEncoder encoder = ExportRowEncoder.createForSQL(rs, tableName, 1);
 			while (rs.next()) {
-				StringBuffer values = new StringBuffer("VALUES (");
-				for (int j = 1; j < rsmt.getColumnCount() + 1; j++) {
-					if (j > 1) {
-						values.append(", ");
-					}
-					String columnType = rsmt.getColumnTypeName(j);
-					int precision = rsmt.getPrecision(j);
-					columnType = FieldHandlerUtils.amendDataTypeByResult(rs, j, columnType);
-					setIsHasBigValue(columnType, precision);
-					values.append(FieldHandlerUtils.getRsValueForExportSQL(columnType, rs, j).toString());
-				}
-				values.append(");\n");
-				fs.write(insert.toString());
-				fs.write(values.toString());
+				encoder.writeRow(rs, fs);
 				exportedCount++;
 				if (exportedCount % COMMIT_LINES == 0) {
 					fs.flush();
@@ -718,6 +693,7 @@ public class ExportTableDataTask extends
 				monitor.subTask(Messages.bind(Messages.msgExportDataRow,
 						exportedCount));
 			}
+			isHasBigValue |= encoder.hasBigValue();
 		} finally {
 			FileUtil.close(fs);
 		}
@@ -765,20 +741,11 @@ public class ExportTableDataTask extends
 			fs.write(header.toString());
 
 			// loaddb body
+			ExportRowEncoder encoder = ExportRowEncoder.createForOBS(rs);
 			while (rs.next()) {
-				StringBuffer values = new StringBuffer();
-				values.append(++exportedCount);
-				values.append(":");
-				for (int j = 1; j < rsmt.getColumnCount() + 1; j++) {
-					String columnType = rsmt.getColumnTypeName(j);
-					int precision = rsmt.getPrecision(j);
-					columnType = FieldHandlerUtils.amendDataTypeByResult(rs, j, columnType);
-					setIsHasBigValue(columnType, precision);
-					values.append(FieldHandlerUtils.getRsValueForExportOBS(columnType, rs, j).toString());
-				}
-				values.append("\n");
-
-				fs.write(values.toString());
+				fs.write(String.valueOf(++exportedCount));
+				fs.write(":");
+				encoder.writeRow(rs, fs);
 
 				if (exportedCount % COMMIT_LINES == 0) {
 					fs.flush();
@@ -786,6 +753,7 @@ public class ExportTableDataTask extends
 				monitor.worked(10);
 				monitor.subTask(Messages.bind(Messages.msgExportDataRow, exportedCount));
 			}
+			isHasBigValue |= encoder.hasBigValue();
 		} finally {
 			FileUtil.close(fs);
 		}
@@ -105,6 +105,7 @@ public class ExportConfigManager {
 				String dataFilePath = children[i].getString("dataFile");
 				String fileCharset = children[i].getString("fileCharset");
 				int threadCount = children[i].getInteger("threadCount");
+				Integer rowsPerInsert = children[i].getInteger("rowsPerInsert");
 				boolean useFirstAsColumnBtn = children[i].getBoolean("useFirstAsColumn");
 				String nullValue = children[i].getString("nullValue");
 				String rowDelimiter = children[i].getString("rowDelimiter");
@@ -141,6 +142,9 @@ public class ExportConfigManager {
 				model.setDataFileFolder(dataFilePath);
 				model.setFileCharset(fileCharset);
 				model.setThreadCount(threadCount);
+				if (rowsPerInsert != null) {
+					model.setRowsPerInsert(rowsPerInsert);
+				}
 
 				model.setFirstRowAsColumnName(useFirstAsColumnBtn);
 				model.setNULLValueTranslation(nullValue);
@@ -187,6 +191,7 @@ public class ExportConfigManager {
 				configMemento.putString("dataFile", model.getDataFileFolder());
 				configMemento.putString("fileCharset", model.getFileCharset());
 				configMemento.putInteger("threadCount", model.getThreadCount());
+				configMemento.putInteger("rowsPerInsert", model.getRowsPerInsert());
 				configMemento.putBoolean("useFirstAsColumn", model.isFirstRowAsColumnName());
 				configMemento.putString("nullValue", model.getNULLValueTranslation());
 				configMemento.putString("rowDelimiter", model.getRowDelimeter());
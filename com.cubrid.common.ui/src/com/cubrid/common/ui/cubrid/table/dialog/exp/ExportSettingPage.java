@@ -112,6 +112,8 @@ public class ExportSettingPage extends
 	public final static int DEFAULT_EXPORT_THREAD_COUNT = 1;
 	public final static int MIN_EXPORT_THREAD_COUNT = 1;
 	public final static int MAX_EXPORT_THREAD_COUNT = 10;
+	public final static int DEFAULT_ROWS_PER_INSERT = 1;
+	public final static int MAX_ROWS_PER_INSERT = 1000;
 	public final static String VIEWNODEFLAG = "view";
 	private boolean isFirstVisible = true;
 	private CheckboxTreeViewer treeViewer;
@@ -131,6 +133,7 @@ public class ExportSettingPage extends
 	private Button txtButton;
 	private Text pathText;
 	private Spinner threadCountSpinner;
+	private Spinner rowsPerInsertSpinner;
 	private Combo rowDelimiterCombo;
 	private Combo columnDelimiterCombo;
 	private Button useFirstAsColumnBtn = null;
@@ -315,6 +318,7 @@ public class ExportSettingPage extends
 			public void widgetDefaultSelected(SelectionEvent e) {
 				updateDialogStatus(null);
 				updateExportLobButtonStatus();
+				updateRowsPerInsertStatus();
 			}
 		});
 
@@ -366,6 +370,7 @@ public class ExportSettingPage extends
 				setDelimiterWidgetStatus(false);
 				updateDialogStatus(null);
 				updateExportLobButtonStatus();
+				updateRowsPerInsertStatus();
 			}
 		});
 
@@ -384,6 +389,7 @@ public class ExportSettingPage extends
 				setDelimiterWidgetStatus(false);
 				updateDialogStatus(null);
 				updateExportLobButtonStatus();
+				updateRowsPerInsertStatus();
 			}
 		});
 
@@ -402,6 +408,7 @@ public class ExportSettingPage extends
 				setDelimiterWidgetStatus(false);
 				updateDialogStatus(null);
 				updateExportLobButtonStatus();
+				updateRowsPerInsertStatus();
 			}
 		});
 
@@ -420,6 +427,7 @@ public class ExportSettingPage extends
 				setDelimiterWidgetStatus(false);
 				updateDialogStatus(null);
 				updateExportLobButtonStatus();
+				updateRowsPerInsertStatus();
 			}
 		});
 
@@ -438,6 +446,7 @@ public class ExportSettingPage extends
 				setDelimiterWidgetStatus(true);
 				updateDialogStatus(null);
 				updateExportLobButtonStatus();
+				updateRowsPerInsertStatus();
 			}
 		});
 
@@ -456,6 +465,7 @@ public class ExportSettingPage extends
 				setDelimiterWidgetStatus(false);
 				updateDialogStatus(null);
 				updateExportLobButtonStatus();
+				updateRowsPerInsertStatus();
 			}
 		});
 
@@ -538,9 +548,14 @@ public class ExportSettingPage extends
 		threadCountSpinner.setLayoutData(CommonUITool.createGridData(
 				GridData.HORIZONTAL_ALIGN_FILL, 1, 1, -1, -1));
 
-		Label emptyLabel = new Label(parsingGroup, SWT.None);
-		emptyLabel.setLayoutData(CommonUITool.createGridData(2, 1, -1, -1));
-		emptyLabel.setText("");
+		Label rowsPerInsertLabel = new Label(parsingGroup, SWT.None);
+		rowsPerInsertLabel.setLayoutData(CommonUITool.createGridData(1, 1, -1, -1));
+		rowsPerInsertLabel.setText(Messages.lblRowsPerInsert);
+
+		rowsPerInsertSpinner = new Spinner(parsingGroup, SWT.BORDER | SWT.LEFT);
+		rowsPerInsertSpinner.setValues(DEFAULT_ROWS_PER_INSERT, 1, MAX_ROWS_PER_INSERT, 0, 1, 10);
+		rowsPerInsertSpinner.setLayoutData(CommonUITool.createGridData(
+				GridData.HORIZONTAL_ALIGN_FILL, 1, 1, -1, -1));
 
 		Label dbCharsetLabel = new Label(parsingGroup, SWT.None);
 		dbCharsetLabel.setLayoutData(CommonUITool.createGridData(1, 1, -1, -1));
@@ -749,6 +764,7 @@ public class ExportSettingPage extends
 			}
 
 			updateExportLobButtonStatus();
+			updateRowsPerInsertStatus();
 			if (exportLobButton.isEnabled()) {
 				exportLobButton.setSelection(exportConfig.isExportLob());
 			}
@@ -773,6 +789,7 @@ public class ExportSettingPage extends
 			}
 			fileCharsetCombo.select(index);
 			threadCountSpinner.setSelection(exportConfig.getThreadCount());
+			rowsPerInsertSpinner.setSelection(exportConfig.getRowsPerInsert());
 			useFirstAsColumnBtn.setSelection(exportConfig.isFirstRowAsColumnName());
 
 			setColumnDelimeter(exportConfig.getColumnDelimeter());
@@ -828,6 +845,7 @@ public class ExportSettingPage extends
 			setDelimiterWidgetStatus(false);
 			useFirstAsColumnBtn.setEnabled(false);
 			updateExportLobButtonStatus();
+			updateRowsPerInsertStatus();
 		}
 	}
 
@@ -1104,6 +1122,10 @@ public class ExportSettingPage extends
 		}
 	}
 
+	private void updateRowsPerInsertStatus() {
+		rowsPerInsertSpinner.setEnabled(dataButton.getSelection() && sqlButton.getSelection());
+	}
+
 	/**
 	 * fire page changed
 	 *
@@ -1189,6 +1211,7 @@ public class ExportSettingPage extends
 
 		exportConfig.setExportFileType(fileType);
 		exportConfig.setThreadCount(threadCountSpinner.getSelection());
+		exportConfig.setRowsPerInsert(rowsPerInsertSpinner.getSelection());
 
 		exportConfig.setFileCharset(fileCharsetCombo.getText());
 		exportConfig.setFirstRowAsColumnName(useFirstAsColumnBtn.getSelection());
@@ -1314,6 +1337,7 @@ public class ExportSettingPage extends
 		txtButton.setSelection(false);
 		pathText.setText("");
 		threadCountSpinner.setSelection(DEFAULT_EXPORT_THREAD_COUNT);
+		rowsPerInsertSpinner.setSelection(DEFAULT_ROWS_PER_INSERT);
 		rowDelimiterCombo.select(1);
 		columnDelimiterCombo.select(0);
 		useFirstAsColumnBtn.setSelection(false);
@@ -109,6 +109,7 @@ public abstract class AbsImportRunnable implements
 
 	protected volatile boolean isFinished = false;
 	protected volatile boolean isCanceled = false;
+	protected ImportFileChunk chunk;
 	private ParamSetter paramSetter = new ParamSetter();
 
 	/**
@@ -152,6 +153,9 @@ public abstract class AbsImportRunnable implements
 		String errLogFilePath = null;
 		if (errLogDir != null) {
 			errLogFilePath = errLogDir + File.separator + tableName + "_err";
+			if (chunk != null && !chunk.isFirst()) {
+				errLogFilePath += "_" + (chunk.getIndex() + 1);
+			}
 			if (isCsvErrorLog) {
 				errLogFilePath += ".csv";
 			} else {
@@ -179,13 +183,16 @@ public abstract class AbsImportRunnable implements
 	}
 
 	public void run() {
-		handleEvent(new ImportDataBeginOneTableEvent(tableName));
+		/*The other chunks of a split file are executed after the table is created*/
+		if (chunk == null || chunk.isFirst()) {
+			handleEvent(new ImportDataBeginOneTableEvent(tableName));
 
-		try {
-			performCreateTable(tableName);
-		} catch (Exception e) {
-			writeErrorLog("Create table failed:" + e.getMessage());
-			LOGGER.error("", e);
+			try {
+				performCreateTable(tableName);
+			} catch (Exception e) {
+				writeErrorLog("Create table failed:" + e.getMessage());
+				LOGGER.error("", e);
+			}
 		}
 
 		DataType.setNULLValuesForImport(importConfig.getNullValueList().toArray(
@@ -210,7 +217,9 @@ public abstract class AbsImportRunnable implements
 		} finally {
 			finish();
 		}
-		handleEvent(new ImportDataFinishOneTableEvent(tableName));
+		if (chunk == null || chunk.finish()) {
+			handleEvent(new ImportDataFinishOneTableEvent(tableName));
+		}
 		if (progressManager != null) {
 			progressManager.taskFinished(this);
 		}
@@ -231,6 +240,51 @@ public abstract class AbsImportRunnable implements
 
 	protected abstract void doRun() throws Exception;
 
+	/**
+	 * Split the file at record boundaries when more than one import thread is
+	 * configured, the other chunks are executed by new runnables with their own
+	 * connections and this runnable keeps the first chunk.
+	 *
+	 * @param file the import file
+	 * @param isQuoted true if a quoted field may contain new lines
+	 * @return the first chunk, or null if the whole file is imported here
+	 */
+	protected ImportFileChunk splitFile(File file, boolean isQuoted) {
+		if (importConfig.getThreadCount() <= 1 || progressManager == null
+				|| file.length() < ImportFileChunk.MIN_CHUNK_SIZE * 2
+				|| !ImportFileChunk.isSplittable(importConfig.getFilesCharset())) {
+			return null;
+		}
+
+		List<ImportFileChunk> chunks;
+		try {
+			chunks = ImportFileChunk.split(file, isQuoted, importConfig.getThreadCount());
+		} catch (IOException e) {
+			LOGGER.error("Split import file failed:" + file.getAbsolutePath(), e);
+			return null;
+		}
+		if (chunks.size() <= 1
+				|| !progressManager.executeChunks(tableName, chunks.subList(1, chunks.size()))) {
+			return null;
+		}
+		LOGGER.debug("Import " + tableName + " in " + chunks.size() + " chunks.");
+		return chunks.get(0);
+	}
+
+	/**
+	 * Stop the other chunks of the file when this one is stopped by the error
+	 * handling.
+	 */
+	protected void stopChunks() {
+		if (chunk != null) {
+			chunk.stop();
+		}
+	}
+
+	protected boolean isStopped() {
+		return isCanceled || (chunk != null && chunk.isStopped());
+	}
+
 	/**
 	 * Init the connection
 	 *
@@ -668,6 +722,10 @@ public abstract class AbsImportRunnable implements
 		isFinished = true;
 	}
 
+	public void setChunk(ImportFileChunk chunk) {
+		this.chunk = chunk;
+	}
+
 	public void setTableName(String tableName) {
 		this.tableName = tableName;
 	}
@@ -29,6 +29,8 @@
  */
 package com.cubrid.common.ui.cubrid.table.dialog.imp.progress;
 
+import java.util.List;
+
 /**
  * 
  * 
@@ -67,4 +69,13 @@ public interface IImportDataProcessManager {
 	 */
 	public void taskFinished(AbsImportRunnable importRunnable);
 
+	/**
+	 * Execute the other chunks of a split table file
+	 * 
+	 * @param tableName
+	 * @param chunks
+	 * @return false if the process is stopped and the chunks are not executed
+	 */
+	public boolean executeChunks(String tableName, List<ImportFileChunk> chunks);
+
 }
@@ -187,12 +187,14 @@ public class ImportDataProgressManager implements
 
 	public void stopProcess() {
 		/*Stop the import thread first*/
-		for (AbsImportRunnable importDataRunnable : importDataRunnableList) {
-			if (importDataRunnable != null) {
-				importDataRunnable.setCancel(true);
+		synchronized (this) {
+			for (AbsImportRunnable importDataRunnable : importDataRunnableList) {
+				if (importDataRunnable != null) {
+					importDataRunnable.setCancel(true);
+				}
 			}
+			executor.shutdownNow();
 		}
-		executor.shutdownNow();
 
 		if (importDDLRunnable != null) {
 			importDDLRunnable.setCancel(true);
@@ -232,6 +234,21 @@ public class ImportDataProgressManager implements
 		return null;
 	}
 
+	public synchronized boolean executeChunks(String tableName, List<ImportFileChunk> chunks) {
+		if (executor.isShutdown()) {
+			return false;
+		}
+		for (ImportFileChunk chunk : chunks) {
+			AbsImportRunnable importDataRunnable = getImportRunnable(importConfig, tableName);
+			importDataRunnable.setChunk(chunk);
+			totalDataTaskCount++;
+			totalTaskCount++;
+			executor.execute(importDataRunnable);
+			importDataRunnableList.add(importDataRunnable);
+		}
+		return true;
+	}
+
 	public synchronized void taskFinished(AbsImportRunnable task) {
 		// Count finished task count
 		finishedTaskCount++;
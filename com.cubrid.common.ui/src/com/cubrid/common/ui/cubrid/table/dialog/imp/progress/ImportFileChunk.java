@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2012 Search Solution Corporation. All rights reserved by Search Solution.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.common.ui.cubrid.table.dialog.imp.progress;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * A byte range of a CSV/TXT import file which starts and ends on a record
+ * boundary, so it can be imported by its own runnable and connection. All the
+ * chunks of one file share the pending counter and the stop flag.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class ImportFileChunk {
+	public static final long MIN_CHUNK_SIZE = 8L * 1024 * 1024;
+	private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+	private final int index;
+	private final long startOffset;
+	private final long endOffset;
+	private final int firstRowIndex;
+	private final AtomicInteger pendingCount;
+	private final AtomicBoolean stopped;
+
+	private ImportFileChunk(int index, long startOffset, long endOffset, int firstRowIndex,
+			AtomicInteger pendingCount, AtomicBoolean stopped) {
+		this.index = index;
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+		this.firstRowIndex = firstRowIndex;
+		this.pendingCount = pendingCount;
+		this.stopped = stopped;
+	}
+
+	/**
+	 * Whether the file can be split on bytes with the charset, the record
+	 * separators and the quote must be single bytes which never appear inside
+	 * a multi-byte character (UTF-8, EUC-KR, GBK and so on but not UTF-16).
+	 *
+	 * @param charset the file charset, empty for the platform default
+	 * @return boolean
+	 */
+	public static boolean isSplittable(String charset) {
+		try {
+			byte[] bytes = "\r\n\"".getBytes(getCharsetName(charset));
+			return Arrays.equals(bytes, new byte[]{'\r', '\n', '"' });
+		} catch (UnsupportedEncodingException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Split the file into at most chunkCount ranges of similar size. The file
+	 * is scanned once to find the record boundaries the readers would find: a
+	 * CR, LF or CRLF ends a record unless it is inside a double quoted CSV
+	 * field. The first row index of every chunk is counted on the way so that
+	 * the error log keeps the line numbers of the whole file.
+	 *
+	 * @param file the import file
+	 * @param isQuoted true for CSV, where quoted fields may contain new lines
+	 * @param chunkCount the wanted chunk count
+	 * @return the chunks, one chunk covering the whole file if it is too small
+	 * @throws IOException the exception
+	 */
+	public static List<ImportFileChunk> split(File file, boolean isQuoted, int chunkCount) throws IOException {
+		long length = file.length();
+		int count = (int) Math.min(chunkCount, Math.max(1, length / MIN_CHUNK_SIZE));
+		List<long[]> ranges = new ArrayList<long[]>();
+		if (count > 1) {
+			ranges = scanBoundaries(file, isQuoted, length, count);
+		}
+
+		long start = 0;
+		int firstRow = 0;
+		AtomicInteger pendingCount = new AtomicInteger(ranges.size() + 1);
+		AtomicBoolean stopped = new AtomicBoolean(false);
+		List<ImportFileChunk> chunks = new ArrayList<ImportFileChunk>();
+		for (long[] range : ranges) {
+			chunks.add(new ImportFileChunk(chunks.size(), start, range[0], firstRow, pendingCount,
+					stopped));
+			start = range[0];
+			firstRow = (int) range[1];
+		}
+		chunks.add(new ImportFileChunk(chunks.size(), start, length, firstRow, pendingCount,
+				stopped));
+		return chunks;
+	}
+
+	/**
+	 * Find the cut offsets and the rows before them, the offsets are the first
+	 * byte after a record separator which is at or after k * length / count.
+	 */
+	private static List<long[]> scanBoundaries(File file, boolean isQuoted, long length,
+			int count) throws IOException {
+		List<long[]> boundaries = new ArrayList<long[]>();
+		long nextTarget = length / count;
+		long position = 0;
+		long rowCount = 0;
+		boolean inQuotes = false;
+		boolean afterCR = false;
+
+		InputStream in = new FileInputStream(file);
+		try {
+			byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				for (int i = 0; i < read; i++, position++) {
+					byte b = buffer[i];
+					if (afterCR) {
+						afterCR = false;
+						if (b == '\n') {
+							if (position + 1 >= nextTarget) {
+								nextTarget = addBoundary(boundaries, position + 1, rowCount,
+										length, count);
+							}
+							continue;
+						}
+						// A single CR ends the record before this byte
+						if (position >= nextTarget) {
+							nextTarget = addBoundary(boundaries, position, rowCount, length,
+									count);
+						}
+					}
+					if (b == '"' && isQuoted) {
+						inQuotes = !inQuotes;
+					} else if (!inQuotes) {
+						if (b == '\r') {
+							rowCount++;
+							afterCR = true;
+						} else if (b == '\n') {
+							rowCount++;
+							if (position + 1 >= nextTarget) {
+								nextTarget = addBoundary(boundaries, position + 1, rowCount,
+										length, count);
+							}
+						}
+					}
+				}
+				if (boundaries.size() >= count - 1) {
+					break;
+				}
+			}
+		} finally {
+			in.close();
+		}
+
+		// The last boundary can not be the end of the file
+		if (!boundaries.isEmpty() && boundaries.get(boundaries.size() - 1)[0] >= length) {
+			boundaries.remove(boundaries.size() - 1);
+		}
+		return boundaries;
+	}
+
+	private static long addBoundary(List<long[]> boundaries, long offset, long rowCount,
+			long length, int count) {
+		boundaries.add(new long[]{offset, rowCount });
+		if (boundaries.size() >= count - 1) {
+			return Long.MAX_VALUE;
+		}
+		return Math.max(offset + 1, length / count * (boundaries.size() + 1));
+	}
+
+	private static String getCharsetName(String charset) {
+		if (charset == null || charset.trim().length() == 0) {
+			return Charset.defaultCharset().name();
+		}
+		return charset;
+	}
+
+	/**
+	 * Open a reader over the bytes of this chunk.
+	 *
+	 * @param file the import file
+	 * @param charset the file charset, empty for the platform default
+	 * @return the reader
+	 * @throws IOException the exception
+	 */
+	public Reader openReader(File file, String charset) throws IOException {
+		FileInputStream in = new FileInputStream(file);
+		try {
+			in.getChannel().position(startOffset);
+			return new InputStreamReader(new RangeInputStream(new BufferedInputStream(in,
+					SCAN_BUFFER_SIZE), endOffset - startOffset), getCharsetName(charset));
+		} catch (IOException e) {
+			in.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Mark one chunk finished.
+	 *
+	 * @return true if it is the last one of the file
+	 */
+	public boolean finish() {
+		return pendingCount.decrementAndGet() == 0;
+	}
+
+	/**
+	 * Stop the other chunks of the file, when the error handling is break.
+	 */
+	public void stop() {
+		stopped.set(true);
+	}
+
+	public boolean isStopped() {
+		return stopped.get();
+	}
+
+	public boolean isFirst() {
+		return index == 0;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public long getStartOffset() {
+		return startOffset;
+	}
+
+	public long getEndOffset() {
+		return endOffset;
+	}
+
+	public int getFirstRowIndex() {
+		return firstRowIndex;
+	}
+
+	/**
+	 * An input stream which ends after the limit bytes.
+	 */
+	private static class RangeInputStream extends
+			FilterInputStream {
+		private long remaining;
+
+		RangeInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int b = super.read();
+			if (b != -1) {
+				remaining--;
+			}
+			return b;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int n = super.read(b, off, (int) Math.min(len, remaining));
+			if (n > 0) {
+				remaining -= n;
+			}
+			return n;
+		}
+
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+		public boolean markSupported() {
+			return false;
+		}
+	}
+}
@@ -95,18 +95,24 @@ public class ImportFromCsvRunnable extends
 			parentFile = null;
 		}
 
+		if (chunk == null) {
+			chunk = splitFile(file, true);
+		}
+
 		CSVReader csvReader = null;
-		int currentRow = 0;
+		int currentRow = chunk == null ? 0 : chunk.getFirstRowIndex();
 		List<ImportRowData> rowList = new ArrayList<ImportRowData>();
 		try {
-			if (fileCharset == null || fileCharset.trim().length() == 0) {
+			if (chunk != null) {
+				csvReader = new CSVReader(chunk.openReader(file, fileCharset));
+			} else if (fileCharset == null || fileCharset.trim().length() == 0) {
 				csvReader = new CSVReader(new FileReader(file));
 			} else {
 				csvReader = new CSVReader(new InputStreamReader(new FileInputStream(file),
 						fileCharset));
 			}
 
-			if (isFirstRowAsColumn) {
+			if (isFirstRowAsColumn && (chunk == null || chunk.isFirst())) {
 				csvReader.readNext();
 				currentRow++;
 			}
@@ -127,7 +133,7 @@ public class ImportFromCsvRunnable extends
 						commit(rowList);
 					}
 
-					if (isCanceled) {
+					if (isStopped()) {
 						return;
 					}
 
@@ -137,6 +143,7 @@ public class ImportFromCsvRunnable extends
 				} catch (StopPerformException ex) {
 					isSuccess = false;
 					handleEvent(new ImportDataTableFailedEvent(tableName));
+					stopChunks();
 					break;
 				} finally {
 					if (!isSuccess) {
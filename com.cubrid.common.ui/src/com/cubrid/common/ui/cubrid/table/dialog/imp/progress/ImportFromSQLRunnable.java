@@ -33,15 +33,19 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.core.util.QueryUtil;
-import com.cubrid.common.core.util.StringUtil;
+import com.cubrid.common.core.util.SQLStatementReader;
 import com.cubrid.common.ui.cubrid.table.Messages;
 import com.cubrid.common.ui.cubrid.table.dialog.imp.ImportConfig;
 import com.cubrid.common.ui.cubrid.table.dialog.imp.event.ImportDataFailedEvent;
@@ -61,10 +65,12 @@ public class ImportFromSQLRunnable extends
 		AbsImportRunnable {
 
 	private static final Logger LOGGER = LogUtil.getLogger(ImportFromSQLRunnable.class);
+	private static final String[] BATCH_KEYWORDS = {"INSERT", "UPDATE", "DELETE", "MERGE",
+			"REPLACE" };
 	private final String fileName;
 	private boolean end = false;
-	private int lineNumber = 1;
 	private int commitCount = 1;
+	private String batchErrorMessage;
 
 	/**
 	 * The constructor
@@ -86,11 +92,12 @@ public class ImportFromSQLRunnable extends
 
 	@Override
 	public void doRun() throws Exception { // FIXME move this logic to core module
-		BufferedReader reader = null;
+		SQLStatementReader reader = null;
 		try {
 			File file = new File(tableConfig.getFilePath());
-			reader = new BufferedReader(new InputStreamReader(new FileInputStream(
-					file.getAbsoluteFile()), importConfig.getFilesCharset()));
+			reader = new SQLStatementReader(new BufferedReader(new InputStreamReader(
+					new FileInputStream(file.getAbsoluteFile()), importConfig.getFilesCharset())),
+					importConfig.getFilesCharset());
 			while (!end) {
 				List<ImportRowData> sqlList = loadSQL(reader);
 				if (sqlList.size() == 0) {
@@ -126,7 +133,10 @@ public class ImportFromSQLRunnable extends
 	}
 
 	/**
-	 * Commit the data
+	 * Commit the data. The statements are executed in batches and committed
+	 * together, if one of them fails the transaction is rolled back, the
+	 * statements up to the failed one are logged as failed and the others are
+	 * executed again.
 	 *
 	 * @param importDataEventHandler IImportDataEventHandler
 	 * @param rowList List<RowData>
@@ -136,156 +146,180 @@ public class ImportFromSQLRunnable extends
 			return;
 		}
 
-		String sql = "";
-		int importCount = 0;
-		long currentRunCount = 0;
-		int totalWorkedSize = 0;
-		List<ImportRowData> batchDataList = new ArrayList<ImportRowData>();
-		for (ImportRowData rowData : rowList) {
-			batchDataList.add(rowData);
-			sql = rowData.getSql();
-			try {
-				importCount++;
-				currentRunCount++;
-				totalWorkedSize += rowData.getWorkSize();
-				stmt.execute(sql);
-
-				if (importCount % commitCount == 0) {
-					QueryUtil.commit(conn);
-					ImportDataSuccessEvent successEvt = new ImportDataSuccessEvent(fileName,
-							importCount);
-					successEvt.setWorkedSize(totalWorkedSize);
-					handleEvent(successEvt);
-					LOGGER.debug("Committed : currentRunCount={}, commitCount={}", currentRunCount,
-							importCount);
-					importCount = 0;
-					totalWorkedSize = 0;
-					batchDataList.clear();
+		int from = 0;
+		while (from < rowList.size()) {
+			int failedIndex = executeStatements(rowList, from);
+			if (failedIndex < 0) {
+				QueryUtil.commit(conn);
+				int totalWorkedSize = 0;
+				for (int i = from; i < rowList.size(); i++) {
+					totalWorkedSize += rowList.get(i).getWorkSize();
 				}
-			} catch (Exception e) {
-				for (ImportRowData batchData : batchDataList) {
-					String tempSql = batchData.getSql();
-					String errMessage = Messages.msgFailedByRollback;
-					if (StringUtil.isEqual(tempSql, sql)) {
-						errMessage = e.getMessage();
-					}
-					ImportDataFailedEvent failedEvt = new ImportDataFailedEvent(fileName, 1, tempSql,
-							errMessage);
-					failedEvt.setWorkedSize(batchData.getWorkSize());
-					handleEvent(failedEvt);
+				ImportDataSuccessEvent successEvt = new ImportDataSuccessEvent(fileName,
+						rowList.size() - from);
+				successEvt.setWorkedSize(totalWorkedSize);
+				handleEvent(successEvt);
+				LOGGER.debug("Committed : commitCount={}", rowList.size() - from);
+				break;
+			}
 
-					writeErrorLog(batchData);
+			QueryUtil.rollback(conn);
+			for (int i = from; i <= failedIndex; i++) {
+				ImportRowData batchData = rowList.get(i);
+				String errMessage = i == failedIndex ? batchErrorMessage
+						: Messages.msgFailedByRollback;
+				ImportDataFailedEvent failedEvt = new ImportDataFailedEvent(fileName, 1,
+						batchData.getSql(), errMessage);
+				failedEvt.setWorkedSize(batchData.getWorkSize());
+				handleEvent(failedEvt);
+
+				writeErrorLog(batchData);
+			}
+			LOGGER.debug("Execute SQL from SQL file sql : {}, error message: {}",
+					rowList.get(failedIndex).getSql(), batchErrorMessage);
+			from = failedIndex + 1;
+		}
+	}
+
+	/**
+	 * Execute the statements from the index, the consecutive DML statements
+	 * are sent in one batch and the others are executed one by one.
+	 *
+	 * @param rowList List<RowData>
+	 * @param from the first statement index
+	 * @return the index of the failed statement, -1 if all succeed
+	 */
+	private int executeStatements(List<ImportRowData> rowList, int from) {
+		int batchStart = from;
+		int batchCount = 0;
+		for (int i = from; i < rowList.size(); i++) {
+			String sql = rowList.get(i).getSql();
+			try {
+				if (isBatchStatement(sql)) {
+					stmt.addBatch(sql);
+					batchCount++;
+					continue;
 				}
+			} catch (SQLException e) {
+				clearBatch();
+				batchErrorMessage = e.getMessage();
+				return i;
+			}
 
-				QueryUtil.rollback(conn);
-				LOGGER.debug("Execute SQL from SQL file sql : {}, error message: {}", sql, e);
+			int failedIndex = executeBatch(batchStart, batchCount);
+			if (failedIndex >= 0) {
+				return failedIndex;
+			}
+			batchStart = i + 1;
+			batchCount = 0;
+			try {
+				stmt.execute(sql);
+			} catch (SQLException e) {
+				batchErrorMessage = e.getMessage();
+				return i;
+			}
+		}
+		return executeBatch(batchStart, batchCount);
+	}
 
-				importCount = 0;
-				totalWorkedSize = 0;
-				batchDataList.clear();
+	/**
+	 * Execute the added batch
+	 *
+	 * @param batchStart the index of the first statement of the batch
+	 * @param batchCount the statement count of the batch
+	 * @return the index of the failed statement, -1 if all succeed
+	 */
+	private int executeBatch(int batchStart, int batchCount) {
+		if (batchCount == 0) {
+			return -1;
+		}
+		try {
+			int[] counts = stmt.executeBatch();
+			int failed = getFailedIndex(counts, batchCount);
+			if (failed >= 0) {
+				batchErrorMessage = Messages.msgFailedByRollback;
+				return batchStart + failed;
 			}
+			return -1;
+		} catch (BatchUpdateException e) {
+			batchErrorMessage = e.getMessage();
+			int failed = getFailedIndex(e.getUpdateCounts(), batchCount);
+			return batchStart + Math.max(failed, 0);
+		} catch (SQLException e) {
+			/*The failed one is not known, the others are executed again after rollback*/
+			batchErrorMessage = e.getMessage();
+			return batchStart;
+		} finally {
+			clearBatch();
 		}
-		if (importCount > 0) {
-			QueryUtil.commit(conn);
-			ImportDataSuccessEvent successEvt = new ImportDataSuccessEvent(fileName, importCount);
-			successEvt.setWorkedSize(totalWorkedSize);
-			handleEvent(successEvt);
-			LOGGER.debug("Committed : currentRunCount={}, commitCount={}", currentRunCount,
-					importCount);
-			importCount = 0;
-			totalWorkedSize = 0;
-			batchDataList.clear();
+	}
+
+	private int getFailedIndex(int[] counts, int batchCount) {
+		if (counts == null) {
+			return -1;
+		}
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] == Statement.EXECUTE_FAILED) {
+				return i;
+			}
+		}
+		if (counts.length < batchCount) {
+			return counts.length;
+		}
+		return -1;
+	}
+
+	private void clearBatch() {
+		try {
+			stmt.clearBatch();
+		} catch (SQLException e) {
+			LOGGER.error(e.getMessage());
+		}
+	}
+
+	/**
+	 * Whether the statement can be executed in a batch, it is true for DML
+	 *
+	 * @param sql
+	 * @return boolean
+	 */
+	private boolean isBatchStatement(String sql) {
+		int start = 0;
+		while (start < sql.length() && !Character.isLetter(sql.charAt(start))) {
+			start++;
 		}
+		int keywordEnd = start;
+		while (keywordEnd < sql.length() && Character.isLetter(sql.charAt(keywordEnd))) {
+			keywordEnd++;
+		}
+		String keyword = sql.substring(start, keywordEnd).toUpperCase(Locale.ENGLISH);
+		for (String batchKeyword : BATCH_KEYWORDS) {
+			if (batchKeyword.equals(keyword)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
-	 * load SQL file by bufferedReader
+	 * load SQL statements from the reader until the commit count
 	 *
 	 * @param reader
 	 * @return
 	 */
-	protected List<ImportRowData> loadSQL(BufferedReader reader) { // FIXME move this logic to core module
+	protected List<ImportRowData> loadSQL(SQLStatementReader reader) { // FIXME move this logic to core module
 		List<ImportRowData> sqlList = new ArrayList<ImportRowData>();
 		try {
-			String tempString = null;
-			int seprateSQLLineNumber = lineNumber;//the first line which sql doesnt'in one line
-			String preString = "";
-			boolean parseCommentFlag = false;//parse /**/ comment
-			int sizeCount = 0;
-			while ((tempString = reader.readLine()) != null) {
-				sizeCount += tempString.getBytes().length;
-				tempString = tempString.trim();
-
-				if (parseCommentFlag && tempString.endsWith("*/")) {
-					parseCommentFlag = false;
-					lineNumber++;
-					continue;
-				} else if (parseCommentFlag) {
-					lineNumber++;
-					continue;
-				}
-				if (tempString.trim().startsWith("/*")) {
-					if (tempString.trim().endsWith("*/")) {
-						lineNumber++;
-						continue;
-					} else {
-						parseCommentFlag = true;
-						lineNumber++;
-						continue;
-					}
+			String sql;
+			while ((sql = reader.readStatement()) != null) {
+				ImportRowData rowData = new ImportRowData(reader.getStatementLine());
+				rowData.setSql(sql);
+				rowData.setWorkSize((int) reader.getStatementSize());
+				sqlList.add(rowData);
+				if (sqlList.size() >= commitCount) {
+					return sqlList;
 				}
-				if (StringUtil.isEmpty(tempString) || tempString.trim().startsWith("--")
-						|| tempString.trim().startsWith("//")) {
-					lineNumber++;
-					continue;
-				}
-				if (StringUtil.isNotEmpty(preString)) {
-					tempString = preString + tempString;
-				}
-
-				List<String[]> qList = StringUtil.extractQueries(tempString);
-				if (qList.isEmpty()) {
-					if (StringUtil.isEmpty(preString)) {
-						preString = preString + tempString + "\n";
-						seprateSQLLineNumber = lineNumber;
-					} else {
-						preString = tempString + "\n";
-					}
-				} else {
-					for (int i = 0; i < qList.size(); i++) {
-						if (StringUtil.isEmpty(preString)) {
-							seprateSQLLineNumber = lineNumber;
-						}
-						String[] o = qList.get(i);
-						String sql = o[0].toString();
-						if (sql.endsWith(";")) {
-							ImportRowData rowData = new ImportRowData(seprateSQLLineNumber);
-							rowData.setSql(sql);
-							rowData.setWorkSize((sizeCount / qList.size()));
-							sqlList.add(rowData);
-							if (i == qList.size() - 1
-									&& (Integer.valueOf(o[1]) + 1 < tempString.length())) {
-								preString = tempString.substring(Integer.valueOf(o[1]) + 1,
-										tempString.length());
-							} else {
-								preString = "";
-							}
-						} else {
-							preString = preString.substring(Integer.valueOf(o[1]),
-									tempString.length());
-							break;
-						}
-					}
-					sizeCount = 0;
-					if (sqlList.size() + 1 > commitCount) {
-						lineNumber++;
-						return sqlList;
-					}
-				}
-
-				lineNumber++;
 			}
-
 		} catch (Exception e) {
 			LOGGER.error("", e);
 		}
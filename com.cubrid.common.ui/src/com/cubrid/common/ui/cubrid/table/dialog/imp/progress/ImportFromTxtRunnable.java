@@ -42,6 +42,7 @@ import org.slf4j.Logger;
 
 import com.cubrid.common.core.reader.TxtReader;
 import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.common.core.util.StringUtil;
 import com.cubrid.common.ui.cubrid.table.dialog.imp.ImportConfig;
 import com.cubrid.common.ui.cubrid.table.dialog.imp.event.ImportDataFailedEvent;
 import com.cubrid.common.ui.cubrid.table.dialog.imp.event.ImportDataTableFailedEvent;
@@ -95,12 +96,19 @@ public class ImportFromTxtRunnable extends
 			parentFile = null;
 		}
 
-		int currentRow = 0;
+		if (chunk == null && isLineRowDelimiter()) {
+			chunk = splitFile(file, false);
+		}
+
+		int currentRow = chunk == null ? 0 : chunk.getFirstRowIndex();
 		TxtReader txtReader = null;
 		List<ImportRowData> rowList = new ArrayList<ImportRowData>();
 
 		try {
-			if (importConfig.getFilesCharset() == null
+			if (chunk != null) {
+				txtReader = new TxtReader(chunk.openReader(file, importConfig.getFilesCharset()),
+						importConfig.getColumnDelimiter(), importConfig.getRowDelimiter());
+			} else if (importConfig.getFilesCharset() == null
 					|| importConfig.getFilesCharset().trim().length() == 0) {
 				txtReader = new TxtReader(new FileReader(file), importConfig.getColumnDelimiter(),
 						importConfig.getRowDelimiter());
@@ -110,7 +118,7 @@ public class ImportFromTxtRunnable extends
 						importConfig.getRowDelimiter());
 			}
 
-			if (isFirstRowAsCoulmn) {
+			if (isFirstRowAsCoulmn && (chunk == null || chunk.isFirst())) {
 				txtReader.readNextRow();
 				currentRow++;
 			}
@@ -133,7 +141,7 @@ public class ImportFromTxtRunnable extends
 					if (rowList.size() >= importConfig.getCommitLine()) {
 						commit(rowList);
 					}
-					if (isCanceled) {
+					if (isStopped()) {
 						return;
 					}
 
@@ -143,6 +151,7 @@ public class ImportFromTxtRunnable extends
 				} catch (StopPerformException ex) {
 					isSuccess = false;
 					handleEvent(new ImportDataTableFailedEvent(tableName));
+					stopChunks();
 					LOGGER.debug("Stop import by user setting.");
 					break;
 				} catch (OutOfMemoryError error) {
@@ -173,4 +182,16 @@ public class ImportFromTxtRunnable extends
 			}
 		}
 	}
+
+	/**
+	 * The reader reads one record per line with the new line row delimiter, so
+	 * the file can be split at any line end.
+	 *
+	 * @return boolean
+	 */
+	private boolean isLineRowDelimiter() {
+		String rowDelimiter = importConfig.getRowDelimiter();
+		return rowDelimiter == null || rowDelimiter.length() == 0
+				|| StringUtil.NEWLINE.equals(rowDelimiter);
+	}
 }
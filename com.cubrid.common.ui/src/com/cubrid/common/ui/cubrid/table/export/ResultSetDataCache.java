@@ -32,6 +32,7 @@ package com.cubrid.common.ui.cubrid.table.export;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -40,6 +41,7 @@ import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.ui.query.control.ColumnInfo;
+import com.cubrid.common.ui.spi.table.ColumnVector;
 import com.cubrid.jdbc.proxy.driver.CUBRIDBlobProxy;
 import com.cubrid.jdbc.proxy.driver.CUBRIDClobProxy;
 
@@ -47,13 +49,33 @@ import com.cubrid.jdbc.proxy.driver.CUBRIDClobProxy;
  * 
  * Cache a querying result data from ResultSet
  * 
+ * The values are kept in one {@link ColumnVector} per column, the rows
+ * returned by {@link #getDatas()} are created on demand.
+ * 
  * @author Yu Guojia
  * @version 1.0 - 2014-11-6 created by Yu Guojia
  */
 public class ResultSetDataCache {
 	private static final Logger LOGGER = LogUtil.getLogger(ResultSetDataCache.class);
 	private ArrayList<ColumnInfo> columnInfos;
-	private LinkedList<ArrayList<Object>> datas = new LinkedList<ArrayList<Object>>();
+	private final List<ColumnVector> columns = new ArrayList<ColumnVector>();
+	private int rowCount;
+	private final List<ArrayList<Object>> datas = new AbstractList<ArrayList<Object>>() {
+		public ArrayList<Object> get(int index) {
+			if (index < 0 || index >= rowCount) {
+				throw new IndexOutOfBoundsException(String.valueOf(index));
+			}
+			ArrayList<Object> rowData = new ArrayList<Object>(columns.size());
+			for (ColumnVector column : columns) {
+				rowData.add(index < column.size() ? column.get(index) : null);
+			}
+			return rowData;
+		}
+
+		public int size() {
+			return rowCount;
+		}
+	};
 
 	public void AddColumn(ColumnInfo column) {
 		if (columnInfos == null) {
@@ -63,10 +85,13 @@ public class ResultSetDataCache {
 	}
 
 	public void AddData(ArrayList<Object> oneRowData) {
-		if (datas == null) {
-			datas = new LinkedList<ArrayList<Object>>();
+		while (columns.size() < oneRowData.size()) {
+			columns.add(new ColumnVector());
+		}
+		for (int i = 0; i < oneRowData.size(); i++) {
+			columns.get(i).set(rowCount, oneRowData.get(i));
 		}
-		datas.add(oneRowData);
+		rowCount++;
 	}
 
 	public ArrayList<ColumnInfo> getColumnInfos() {
@@ -82,12 +107,22 @@ public class ResultSetDataCache {
 	}
 
 	public void setDatas(LinkedList<ArrayList<Object>> datas) {
-		this.datas = datas;
+		columns.clear();
+		rowCount = 0;
+		if (datas != null) {
+			for (ArrayList<Object> rowData : datas) {
+				AddData(rowData);
+			}
+		}
 	}
 
 	public void free(){
-		for(ArrayList<Object> rowData : datas){
-			for(Object value : rowData){
+		for (ColumnVector column : columns) {
+			if (column.isCompact()) {
+				continue;
+			}
+			for (int i = 0; i < column.size(); i++) {
+				Object value = column.get(i);
 				if(value instanceof Blob){
 					Blob blob = (Blob)value;
 					try {
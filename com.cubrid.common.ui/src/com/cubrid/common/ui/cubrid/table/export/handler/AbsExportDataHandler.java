@@ -31,6 +31,7 @@ package com.cubrid.common.ui.cubrid.table.export.handler;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
@@ -41,9 +42,12 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -51,7 +55,14 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 
@@ -99,7 +110,21 @@ public abstract class AbsExportDataHandler {
 	protected final IExportDataEventHandler exportDataEventHandler;
 	protected final String CLOB_FOLDER_POSTFIX = "(CLOB)";
 	protected final String BLOB_FOLDER_POSTFIX = "(BLOB)";
-	
+	protected final String SEGMENT_FILE_POSTFIX = ".part";
+
+	// the single column primary key used by keyset pagination, null when paging by ROWNUM
+	protected String keyColumn;
+	protected boolean isIntegerKey;
+	protected Object lastKeyValue;
+	private int keyColumnIndex;
+	private int pageRowCount;
+	// the primary key range and file of a segment handler, see exportBySegments
+	private int segmentIndex = -1;
+	private Long segmentLowerBound;
+	private Long segmentUpperBound;
+	private String segmentFilePath;
+	private final List<AbsExportDataHandler> segmentHandlers = new ArrayList<AbsExportDataHandler>();
+
 	public AbsExportDataHandler(DatabaseInfo dbInfo, ExportConfig exportConfig,
 			IExportDataEventHandler exportDataEventHandler) {
 		this.dbInfo = dbInfo;
@@ -130,7 +155,122 @@ public abstract class AbsExportDataHandler {
 		
 		return true;
 	}
-	
+
+	/**
+	 * Decide how the table is paginated. A table read by the default select SQL
+	 * with a single column primary key is paginated by the key ranges
+	 * (WHERE key > last ORDER BY key), so each page is an index range scan
+	 * instead of a rescan from the first row; other tables use ROWNUM.
+	 *
+	 * @param conn
+	 * @param tableName
+	 * @param sql
+	 * @param whereCondition
+	 */
+	protected void initPagination(Connection conn, String tableName, String sql,
+			String whereCondition) {
+		isPaginating = isPagination(tableName, sql, whereCondition);
+		lastKeyValue = null;
+		keyColumnIndex = 0;
+		pageRowCount = 0;
+		if (segmentIndex >= 0) {
+			// the key is resolved by the handler which split the table
+			return;
+		}
+
+		keyColumn = null;
+		isIntegerKey = false;
+		if (!isPaginating || tableName == null || exportConfig.getSQL(tableName) != null) {
+			return;
+		}
+		if (!StringUtil.isEmpty(whereCondition) && getWhereConditionBody(whereCondition) == null) {
+			return;
+		}
+
+		StringBuilder sqlBuf = new StringBuilder();
+		sqlBuf.append("SELECT k.key_attr_name, a.data_type ");
+		sqlBuf.append("FROM db_index_key k, db_index i, db_attribute a ");
+		sqlBuf.append("WHERE k.class_name = i.class_name ");
+		sqlBuf.append("AND k.index_name = i.index_name ");
+		sqlBuf.append("AND i.is_primary_key = 'YES' ");
+		sqlBuf.append("AND a.class_name = k.class_name ");
+		sqlBuf.append("AND a.attr_name = k.key_attr_name ");
+		sqlBuf.append("AND k.class_name = ?");
+		String pkSql = dbInfo.wrapShardQuery(sqlBuf.toString());
+
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		try {
+			pstmt = conn.prepareStatement(pkSql);
+			pstmt.setString(1, tableName);
+			rs = pstmt.executeQuery();
+			String column = null;
+			String dataType = null;
+			int count = 0;
+			while (rs.next()) {
+				column = rs.getString(1);
+				dataType = rs.getString(2);
+				count++;
+			}
+			if (count == 1 && column != null) {
+				keyColumn = column;
+				isIntegerKey = isIntegerType(dataType);
+			}
+		} catch (SQLException e) {
+			LOGGER.error("Failed to get the primary key of " + tableName, e);
+		} finally {
+			QueryUtil.freeQuery(pstmt, rs);
+		}
+	}
+
+	/**
+	 * Whether the data type of the column is an integer type
+	 *
+	 * @param dataType
+	 * @return
+	 */
+	private static boolean isIntegerType(String dataType) {
+		if (dataType == null) {
+			return false;
+		}
+		String type = dataType.toUpperCase(Locale.getDefault());
+		return "INTEGER".equals(type) || "SMALLINT".equals(type) || "SHORT".equals(type)
+				|| "BIGINT".equals(type);
+	}
+
+	/**
+	 * Return the condition of the where clause without the WHERE keyword, or
+	 * null if the where clause does not begin with it
+	 *
+	 * @param whereCondition
+	 * @return
+	 */
+	private static String getWhereConditionBody(String whereCondition) {
+		String condition = whereCondition.trim();
+		if (condition.length() > 5 && condition.substring(0, 5).equalsIgnoreCase("where")
+				&& !Character.isJavaIdentifierPart(condition.charAt(5))) {
+			return condition.substring(5).trim();
+		}
+		return null;
+	}
+
+	/**
+	 * Remember the primary key of the current row, the next page begins after it
+	 *
+	 * @param rs
+	 * @throws SQLException
+	 */
+	protected void markPageRow(CUBRIDResultSetProxy rs) throws SQLException {
+		if (keyColumn == null || !isPaginating) {
+			return;
+		}
+		if (keyColumnIndex == 0) {
+			keyColumnIndex = rs.findColumn(keyColumn);
+		}
+		lastKeyValue = rs.getObject(keyColumnIndex);
+		pageRowCount++;
+	}
+
 	/**
 	 * generate SQL with page setting
 	 *
@@ -150,7 +290,27 @@ public abstract class AbsExportDataHandler {
 			newSql = newSql.substring(0, newSql.length() - 1);
 		}
 		StringBuilder sb = new StringBuilder(newSql);
-		if (isPaginating) {
+		if (isPaginating && keyColumn != null) {
+			String key = QuerySyntax.escapeKeyword(keyColumn);
+			String conjunction = " WHERE ";
+			if (!StringUtil.isEmpty(whereCondition)) {
+				sb.append(" WHERE (").append(getWhereConditionBody(whereCondition)).append(")");
+				conjunction = " AND ";
+			}
+			if (segmentLowerBound != null) {
+				sb.append(conjunction).append(key).append(" >= ").append(segmentLowerBound);
+				conjunction = " AND ";
+			}
+			if (segmentUpperBound != null) {
+				sb.append(conjunction).append(key).append(" < ").append(segmentUpperBound);
+				conjunction = " AND ";
+			}
+			if (lastKeyValue != null) {
+				sb.append(conjunction).append(key).append(" > ?");
+			}
+			sb.append(" ORDER BY ").append(key).append(" LIMIT ").append(RSPAGESIZE);
+			pageRowCount = 0;
+		} else if (isPaginating) {
 			if (!StringUtil.isEmpty(whereCondition)) {
 				sb.append(" " + whereCondition).append(" AND ");
 			} else {
@@ -218,17 +378,295 @@ public abstract class AbsExportDataHandler {
 
 	public synchronized void setStop(boolean stop) {
 		this.stop = stop;
+		synchronized (segmentHandlers) {
+			for (AbsExportDataHandler handler : segmentHandlers) {
+				handler.setStop(stop);
+			}
+		}
+	}
+
+	/**
+	 * Whether the handler writes the beginning of the data file, segment
+	 * handlers except the first one must not write a header
+	 *
+	 * @return
+	 */
+	protected boolean isFirstSegment() {
+		return segmentIndex <= 0;
+	}
+
+	/**
+	 * Get the file the data of the table is written to
+	 *
+	 * @param tableName
+	 * @return
+	 */
+	protected String getDataFilePath(String tableName) {
+		if (segmentFilePath != null) {
+			return segmentFilePath;
+		}
+		return exportConfig.getDataFilePath(tableName);
+	}
+
+	/**
+	 * Get how many primary key ranges of the table are exported concurrently.
+	 * The export threads are shared by the tables, the thread exporting the
+	 * table takes one range itself, and each range has at least one page of
+	 * rows.
+	 *
+	 * @param tableName
+	 * @return
+	 */
+	private int getSegmentCount(String tableName) {
+		if (StringUtil.isEmpty(tableName) || !(this instanceof ISegmentExportHandler) || segmentIndex >= 0
+				|| !exportConfig.isUsePagination()
+				|| exportConfig.isExportFromCache()) {
+			return 1;
+		}
+		String charset = exportConfig.getFileCharset();
+		if (charset != null && charset.trim().toUpperCase(Locale.getDefault()).startsWith("UTF-16")) {
+			// every segment would begin with a byte order mark
+			return 1;
+		}
+
+		long totalRecord = exportConfig.getTotalCount(tableName);
+		int tableCount = Math.max(1, exportConfig.getTableNameList().size());
+		long count = Math.min(exportConfig.getThreadCount() / tableCount, totalRecord / RSPAGESIZE);
+		return count < 2 ? 1 : (int) count;
+	}
+
+	/**
+	 * Export a large table with an integer primary key as several key ranges
+	 * concurrently. Every range is written to its own segment file by another
+	 * handler, and the segments are concatenated in key order at the end. The
+	 * first range is exported on the current thread, so the table uses no more
+	 * threads than its share of the export thread count.
+	 *
+	 * @param tableName
+	 * @return false if the table can not be split and has not been exported
+	 * @throws IOException
+	 * @throws SQLException
+	 */
+	protected boolean exportBySegments(final String tableName) throws IOException, SQLException {
+		int segmentCount = getSegmentCount(tableName);
+		if (segmentCount < 2) {
+			return false;
+		}
+
+		long[] bounds = null;
+		Connection conn = null;
+		try {
+			conn = getConnection();
+			String whereCondition = exportConfig.getWhereCondition(tableName);
+			initPagination(conn, tableName, getSelectSQL(conn, tableName), whereCondition);
+			if (isPaginating && keyColumn != null && isIntegerKey) {
+				bounds = getSegmentBounds(conn, tableName, whereCondition, segmentCount);
+			}
+		} finally {
+			QueryUtil.freeQuery(conn);
+		}
+		if (bounds == null) {
+			return false;
+		}
+
+		List<AbsExportDataHandler> handlers = new ArrayList<AbsExportDataHandler>();
+		for (int i = 0; i < bounds.length; i++) {
+			AbsExportDataHandler handler = ExportHandlerFactory.getExportHandler(dbInfo,
+					exportConfig, exportDataEventHandler);
+			if (!(handler instanceof ISegmentExportHandler)) {
+				return false;
+			}
+			handlers.add(handler);
+		}
+
+		String filePath = exportConfig.getDataFilePath(tableName);
+		List<String> segmentFiles = new ArrayList<String>();
+		List<Future<Void>> futures = new ArrayList<Future<Void>>();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(bounds.length - 1,
+				bounds.length - 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+		try {
+			for (int i = 0; i < bounds.length; i++) {
+				final AbsExportDataHandler handler = handlers.get(i);
+				handler.segmentIndex = i;
+				handler.keyColumn = keyColumn;
+				handler.isIntegerKey = isIntegerKey;
+				handler.segmentLowerBound = i == 0 ? null : Long.valueOf(bounds[i]);
+				handler.segmentUpperBound = i == bounds.length - 1 ? null
+						: Long.valueOf(bounds[i + 1]);
+				handler.segmentFilePath = filePath + SEGMENT_FILE_POSTFIX + i;
+				handler.stop = stop;
+				segmentFiles.add(handler.segmentFilePath);
+				synchronized (segmentHandlers) {
+					segmentHandlers.add(handler);
+				}
+				if (i == 0) {
+					continue;
+				}
+				futures.add(executor.submit(new Callable<Void>() {
+					public Void call() throws Exception {
+						((ISegmentExportHandler) handler).exportByQuerying(tableName);
+						return null;
+					}
+				}));
+			}
+
+			Throwable error = null;
+			try {
+				((ISegmentExportHandler) handlers.get(0)).exportByQuerying(tableName);
+			} catch (SQLException e) {
+				error = e;
+			} catch (IOException e) {
+				error = e;
+			} catch (RuntimeException e) {
+				error = e;
+			}
+			for (Future<Void> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (error == null) {
+						error = e.getCause();
+					}
+				} catch (InterruptedException e) {
+					setStop(true);
+					Thread.currentThread().interrupt();
+					throw new IOException("Export of " + tableName + " has been interrupted.");
+				}
+			}
+			if (error instanceof SQLException) {
+				throw (SQLException) error;
+			} else if (error instanceof IOException) {
+				throw (IOException) error;
+			} else if (error != null) {
+				throw new SQLException(error);
+			}
+
+			mergeSegmentFiles(segmentFiles, filePath);
+		} finally {
+			executor.shutdownNow();
+			synchronized (segmentHandlers) {
+				segmentHandlers.clear();
+			}
+			for (String segmentFile : segmentFiles) {
+				FileUtil.delete(segmentFile);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Split the primary key range of the table into segmentCount ranges of the
+	 * same width. The range i begins at bounds[i] and ends before bounds[i + 1].
+	 *
+	 * @param conn
+	 * @param tableName
+	 * @param whereCondition
+	 * @param segmentCount
+	 * @return the lower bounds of the ranges, null if the table is empty
+	 * @throws SQLException
+	 */
+	private long[] getSegmentBounds(Connection conn, String tableName, String whereCondition,
+			int segmentCount) throws SQLException {
+		String key = QuerySyntax.escapeKeyword(keyColumn);
+		StringBuilder sqlBuf = new StringBuilder();
+		sqlBuf.append("SELECT MIN(").append(key).append("), MAX(").append(key).append(") FROM ");
+		sqlBuf.append(QuerySyntax.escapeKeyword(tableName));
+		if (!StringUtil.isEmpty(whereCondition)) {
+			sqlBuf.append(" WHERE (").append(getWhereConditionBody(whereCondition)).append(")");
+		}
+		String sql = dbInfo.wrapShardQuery(sqlBuf.toString());
+
+		CUBRIDPreparedStatementProxy pStmt = null;
+		CUBRIDResultSetProxy rs = null;
+		long min = 0;
+		long max = 0;
+		try {
+			pStmt = getStatement(conn, sql, tableName);
+			rs = (CUBRIDResultSetProxy) pStmt.executeQuery();
+			if (!rs.next()) {
+				return null;
+			}
+			min = rs.getLong(1);
+			if (rs.wasNull()) {
+				return null;
+			}
+			max = rs.getLong(2);
+		} finally {
+			QueryUtil.freeQuery(pStmt, rs);
+		}
+
+		BigInteger low = BigInteger.valueOf(min);
+		BigInteger width = BigInteger.valueOf(max).subtract(low).add(BigInteger.ONE);
+		if (width.compareTo(BigInteger.valueOf(segmentCount)) < 0) {
+			segmentCount = width.intValue();
+		}
+		if (segmentCount < 2) {
+			return null;
+		}
+
+		long[] bounds = new long[segmentCount];
+		BigInteger count = BigInteger.valueOf(segmentCount);
+		for (int i = 0; i < segmentCount; i++) {
+			bounds[i] = low.add(width.multiply(BigInteger.valueOf(i)).divide(count)).longValue();
+		}
+		return bounds;
+	}
+
+	/**
+	 * Concatenate the segment files into the data file in order
+	 *
+	 * @param segmentFiles
+	 * @param filePath
+	 * @throws IOException
+	 */
+	private void mergeSegmentFiles(List<String> segmentFiles, String filePath) throws IOException {
+		FileOutputStream out = null;
+		FileChannel target = null;
+		try {
+			out = new FileOutputStream(filePath);
+			target = out.getChannel();
+			for (String segmentFile : segmentFiles) {
+				File file = new File(segmentFile);
+				if (!file.exists()) {
+					continue;
+				}
+				FileInputStream in = null;
+				FileChannel source = null;
+				try {
+					in = new FileInputStream(file);
+					source = in.getChannel();
+					long size = source.size();
+					long position = 0;
+					while (position < size) {
+						position += source.transferTo(position, size - position, target);
+					}
+				} finally {
+					Closer.close(source);
+					Closer.close(in);
+				}
+			}
+		} finally {
+			Closer.close(target);
+			Closer.close(out);
+		}
 	}
 
 	protected CUBRIDPreparedStatementProxy getStatement(Connection conn, String sql,
 			String tableName) throws SQLException { // FIXME move this logic to core module
 		CUBRIDPreparedStatementProxy stmt = QueryExecuter.getStatement(conn, sql, false, true);
 		List<PstmtParameter> pstmList = exportConfig.getParameterList(tableName);
+		int parameterCount = 0;
 		if (pstmList != null) {
 			String charset = dbInfo.getCharSet();
 			for (PstmtParameter pstmtParameter : pstmList) {
 				FieldHandlerUtils.setPreparedStatementValue(pstmtParameter, stmt, charset);
 			}
+			parameterCount = pstmList.size();
+		}
+		// the key after which the next keyset page begins
+		if (isPaginating && keyColumn != null && lastKeyValue != null) {
+			stmt.setObject(parameterCount + 1, lastKeyValue);
 		}
 
 		return stmt;
@@ -245,6 +683,10 @@ public abstract class AbsExportDataHandler {
 		if (stop) {
 			return false;
 		}
+		if (isPaginating && keyColumn != null) {
+			// a keyset page shorter than the page size is the last one
+			return pageRowCount >= RSPAGESIZE;
+		}
 		if (totalCount > 0 && beginIndex <= totalCount && isPaginating) {
 			return true;
 		}
@@ -381,15 +823,10 @@ public abstract class AbsExportDataHandler {
 	 * @throws IOException
 	 */
 	private File createLobFile(String path) throws IOException { // FIXME move this logic to core module
-		File file = null;
-		String fileName = String.valueOf(System.nanoTime());
-		synchronized (this) {
-			file = new File(path + File.separator + fileName);
-			while (file.exists()) {
-				fileName = String.valueOf(System.nanoTime());
-				file = new File(path + File.separator + fileName);
-			}
-			file.createNewFile();
+		// segment handlers of one table share the folder, createNewFile is atomic
+		File file = new File(path + File.separator + System.nanoTime());
+		while (!file.createNewFile()) {
+			file = new File(path + File.separator + System.nanoTime());
 		}
 
 		return file;
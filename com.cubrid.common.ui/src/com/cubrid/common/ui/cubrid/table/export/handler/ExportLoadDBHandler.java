@@ -48,7 +48,7 @@ import com.cubrid.common.ui.cubrid.table.event.ExportDataFinishOneTableEvent;
 import com.cubrid.common.ui.cubrid.table.event.ExportDataSuccessEvent;
 import com.cubrid.common.ui.cubrid.table.event.handler.IExportDataEventHandler;
 import com.cubrid.common.ui.cubrid.table.progress.ExportConfig;
-import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ExportRowEncoder;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.jdbc.proxy.driver.CUBRIDPreparedStatementProxy;
 import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetMetaDataProxy;
@@ -151,8 +151,9 @@ public class ExportLoadDBHandler extends
 				int exportedCount = 0;
 				long beginIndex = 1;
 				String sql = getSelectSQL(conn, tableName);
-				isPaginating = isPagination(tableName, sql, whereCondition);
+				initPagination(conn, tableName, sql, whereCondition);
 				boolean isExportedColumnTitles = false;
+				ExportRowEncoder encoder = null;
 				while (hasNextPage) {
 					try {
 						String executeSQL = null;
@@ -189,20 +190,12 @@ public class ExportLoadDBHandler extends
 							isExportedColumnTitles = true;
 						}
 
+						if (encoder == null) {
+							encoder = ExportRowEncoder.createForOBS(rs);
+						}
 						while (rs.next()) {
-							StringBuffer values = new StringBuffer();
-							for (int j = 1; j < rsmt.getColumnCount() + 1; j++) {
-								String columnType = rsmt.getColumnTypeName(j);
-								int precision = rsmt.getPrecision(j);
-								columnType = FieldHandlerUtils.amendDataTypeByResult(rs, j,
-										columnType);
-								setIsHasBigValue(columnType, precision);
-								values.append(FieldHandlerUtils.getRsValueForExportOBS(columnType,
-										rs, j).toString());
-							}
-							values.append("\n");
-
-							fs.write(values.toString());
+							markPageRow(rs);
+							encoder.writeRow(rs, fs);
 							exportedCount++;
 							if (exportedCount >= COMMIT_LINES) {
 								fs.flush();
@@ -215,6 +208,7 @@ public class ExportLoadDBHandler extends
 								break;
 							}
 						}
+						isHasBigValue |= encoder.hasBigValue();
 						exportDataEventHandler.handleEvent(new ExportDataSuccessEvent(tableName,
 								exportedCount));
 						exportedCount = 0;
@@ -232,8 +226,6 @@ public class ExportLoadDBHandler extends
 					} else {
 						hasNextPage = false;
 					}
-
-					System.gc();
 				}
 			}
 		} catch (IOException e) {
@@ -52,7 +52,7 @@ import com.cubrid.common.ui.cubrid.table.event.handler.IExportDataEventHandler;
 import com.cubrid.common.ui.cubrid.table.export.ResultSetDataCache;
 import com.cubrid.common.ui.cubrid.table.progress.ExportConfig;
 import com.cubrid.common.ui.query.control.ColumnInfo;
-import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ExportRowEncoder;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DBAttrTypeFormatter;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
@@ -67,7 +67,8 @@ import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetProxy;
  * @version 1.0 - 2013-5-24 created by Kevin.Wang
  */
 public class ExportToTxtHandler extends
-		AbsExportDataHandler {
+		AbsExportDataHandler implements
+		ISegmentExportHandler {
 	private static final Logger LOGGER = LogUtil.getLogger(ExportToTxtHandler.class);
 
 	protected String surround = "";
@@ -100,7 +101,7 @@ public class ExportToTxtHandler extends
 		
 		if(exportConfig.isExportFromCache()){
 			exportFromCache(tableName);
-		}else{
+		}else if (!exportBySegments(tableName)) {
 			exportByQuerying(tableName);
 		}
 	}
@@ -117,12 +118,13 @@ public class ExportToTxtHandler extends
 		String whereCondition = exportConfig.getWhereCondition(tableName);
 		boolean isExportedColumnTitles = false;
 		List<String> columnTitles = new ArrayList<String>();
+		ExportRowEncoder encoder = null;
 		try {
 			conn = getConnection();
-			fs = FileUtil.getBufferedWriter(exportConfig.getDataFilePath(tableName),
+			fs = FileUtil.getBufferedWriter(getDataFilePath(tableName),
 					exportConfig.getFileCharset());
 			String sql = getSelectSQL(conn, tableName);
-			isPaginating = isPagination(tableName, sql, whereCondition);
+			initPagination(conn, tableName, sql, whereCondition);
 			while (hasNextPage) {
 				try {
 					String executeSQL = null;
@@ -155,7 +157,7 @@ public class ExportToTxtHandler extends
 						}
 						isExportedColumnTitles = true;
 
-						if (exportConfig.isFirstRowAsColumnName()) {
+						if (exportConfig.isFirstRowAsColumnName() && isFirstSegment()) {
 							for (int j = 1; j < rsmt.getColumnCount() + 1; j++) {
 								fs.write(surround + rsmt.getColumnName(j) + surround);
 								if (j != rsmt.getColumnCount()) {
@@ -167,9 +169,13 @@ public class ExportToTxtHandler extends
 						}
 					}
 
+					if (encoder == null) {
+						encoder = ExportRowEncoder.createForText(rs, columnSeprator, surround,
+								exportConfig.getNULLValueTranslation(), new LobExporter(tableName));
+					}
 					while (rs.next()) {
-						writeNextLine(tableName, fs, rs, rsmt, columnSeprator, rowSeprator,
-								surround);
+						markPageRow(rs);
+						encoder.writeRow(rs, fs);
 						fs.write(rowSeprator);
 						exportedCount++;
 						if (exportedCount >= COMMIT_LINES) {
@@ -198,8 +204,6 @@ public class ExportToTxtHandler extends
 				} else {
 					hasNextPage = false;
 				}
-
-				System.gc();
 			}
 		} finally {
 			QueryUtil.freeQuery(conn);
@@ -257,51 +261,33 @@ public class ExportToTxtHandler extends
 	}
 
 	/**
-	 * Write a line to a CSV file
-	 * 
-	 * @param fs BufferedWriter
-	 * @param rs CUBRIDResultSetProxy
-	 * @param rsmt CUBRIDResultSetMetaDataProxy
-	 * @throws SQLException The exception
-	 * @throws IOException The exception
+	 * Export the LOB values of a table to the LOB folders and write their file
+	 * URLs
 	 */
-	private void writeNextLine(String tableName, BufferedWriter fs, CUBRIDResultSetProxy rs,
-			CUBRIDResultSetMetaDataProxy rsmt, String columnSeprator, String rowSeprator,
-			String surround) throws SQLException, IOException { // FIXME move this logic to core module
-		int colCount = rsmt.getColumnCount();
-		for (int j = 1; j <= colCount; j++) {
-			String columnType = rsmt.getColumnTypeName(j);
-			int precision = rsmt.getPrecision(j);
-			columnType = FieldHandlerUtils.amendDataTypeByResult(rs, j, columnType);
-			setIsHasBigValue(columnType, precision);
-			Object value = null;
-			if (DataType.DATATYPE_BLOB.equals(columnType)) {
-				String fileName = exportBlobData(tableName, rs, j);
-				if (StringUtil.isNotEmpty(fileName)) {
-					value = DBAttrTypeFormatter.FILE_URL_PREFIX + tableName + BLOB_FOLDER_POSTFIX
-							+ File.separator + fileName;
-				} else {
-					value = DataType.NULL_EXPORT_FORMAT;
-				}
-			} else if (DataType.DATATYPE_CLOB.equals(columnType)) {
-				String fileName = exportClobData(tableName, rs, j);
-				if (StringUtil.isNotEmpty(fileName)) {
-					value = DBAttrTypeFormatter.FILE_URL_PREFIX + tableName + CLOB_FOLDER_POSTFIX
-							+ File.separator + fileName;
-				} else {
-					value = DataType.NULL_EXPORT_FORMAT;
-				}
-			} else {
-				value = FieldHandlerUtils.getRsValueForExport(columnType, rs, j,
-						exportConfig.getNULLValueTranslation());
+	private class LobExporter implements
+			ExportRowEncoder.ILobExporter {
+		private final String tableName;
+
+		public LobExporter(String tableName) {
+			this.tableName = tableName;
+		}
+
+		public String exportBlob(CUBRIDResultSetProxy rs, int column) throws SQLException {
+			String fileName = exportBlobData(tableName, rs, column);
+			if (StringUtil.isNotEmpty(fileName)) {
+				return DBAttrTypeFormatter.FILE_URL_PREFIX + tableName + BLOB_FOLDER_POSTFIX
+						+ File.separator + fileName;
 			}
+			return DataType.NULL_EXPORT_FORMAT;
+		}
 
-			fs.write(surround);
-			fs.write(value.toString().replaceAll("\"", "\"\""));
-			fs.write(surround);
-			if (j != colCount) {
-				fs.write(columnSeprator);
+		public String exportClob(CUBRIDResultSetProxy rs, int column) throws SQLException {
+			String fileName = exportClobData(tableName, rs, column);
+			if (StringUtil.isNotEmpty(fileName)) {
+				return DBAttrTypeFormatter.FILE_URL_PREFIX + tableName + CLOB_FOLDER_POSTFIX
+						+ File.separator + fileName;
 			}
+			return DataType.NULL_EXPORT_FORMAT;
 		}
 	}
 
@@ -67,6 +67,7 @@ import com.cubrid.common.ui.cubrid.table.progress.ExportConfig;
 import com.cubrid.common.ui.query.control.ColumnInfo;
 import com.cubrid.common.ui.spi.util.CommonUITool;
 import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ResultSetFetchPlan;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DBAttrTypeFormatter;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
@@ -131,7 +132,7 @@ public class ExportToXlsHandler extends
 			sheetNum++;
 			int exportedCount = 0;
 			String sql = getSelectSQL(conn, tableName);
-			isPaginating = isPagination(whereCondition, sql, whereCondition);
+			initPagination(conn, tableName, sql, whereCondition);
 			while (hasNextPage) {
 				try {
 					String executeSQL = null;
@@ -164,7 +165,9 @@ public class ExportToXlsHandler extends
 						}
 					}
 
+					ResultSetFetchPlan plan = ResultSetFetchPlan.create(rs);
 					while (rs.next()) {
+						markPageRow(rs);
 						//Check memory
 						if (!CommonUITool.isAvailableMemory(REMAINING_MEMORY_SIZE)) {
 							closeWorkbook(workbook);
@@ -183,12 +186,11 @@ public class ExportToXlsHandler extends
 							}
 						}
 						for (int j = 1; j <= colCount; j++) {
-							String colType = rsmt.getColumnTypeName(j);
-							colType = FieldHandlerUtils.amendDataTypeByResult(rs, j, colType);
-							int precision = rsmt.getPrecision(j);
+							String colType = plan.getColumnType(rs, j);
+							int precision = plan.getPrecision(j);
 							setIsHasBigValue(colType, precision);
-							Object cellValue = FieldHandlerUtils.getRsValueForExport(colType, rs,
-									j, exportConfig.getNULLValueTranslation());
+							Object cellValue = plan.getExportValue(rs, j,
+									exportConfig.getNULLValueTranslation());
 							// We need judge the CLOB/BLOD data by column type
 							if (DataType.DATATYPE_BLOB.equals(colType)
 									|| DataType.DATATYPE_CLOB.equals(colType)) {
@@ -275,8 +277,6 @@ public class ExportToXlsHandler extends
 				} else {
 					hasNextPage = false;
 				}
-
-				System.gc();
 			}
 		} catch (Exception e) {
 			LOGGER.error("", e);
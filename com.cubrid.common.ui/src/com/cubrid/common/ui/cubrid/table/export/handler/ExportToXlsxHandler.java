@@ -65,6 +65,7 @@ import com.cubrid.common.ui.query.control.ColumnInfo;
 import com.cubrid.common.ui.query.control.Export;
 import com.cubrid.common.ui.spi.util.CommonUITool;
 import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ResultSetFetchPlan;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DBAttrTypeFormatter;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
@@ -147,7 +148,7 @@ public class ExportToXlsxHandler extends
 		try {
 			conn = getConnection();
 			String sql = getSelectSQL(conn, tableName);
-			isPaginating = isPagination(whereCondition, sql, whereCondition);
+			initPagination(conn, tableName, sql, whereCondition);
 			int exportedCount = 0;
 			while (hasNextPage) {
 				String executeSQL = null;
@@ -205,15 +206,16 @@ public class ExportToXlsxHandler extends
 				}
 
 				try {
+					ResultSetFetchPlan plan = ResultSetFetchPlan.create(rs);
 					while (rs.next()) {
+						markPageRow(rs);
 						sheetWriter.insertRow(xssfRowNum);
 						for (int k = 1; k <= colCount; k++) {
-							String colType = rsmt.getColumnTypeName(k);
-							colType = FieldHandlerUtils.amendDataTypeByResult(rs, k, colType);
-							int precision = rsmt.getPrecision(k);
+							String colType = plan.getColumnType(rs, k);
+							int precision = plan.getPrecision(k);
 							setIsHasBigValue(colType, precision);
-							Object cellValue = FieldHandlerUtils.getRsValueForExport(colType, rs,
-									k, exportConfig.getNULLValueTranslation());
+							Object cellValue = plan.getExportValue(rs, k,
+									exportConfig.getNULLValueTranslation());
 							// We need judge the CLOB/BLOD data by column type
 							if (DataType.DATATYPE_BLOB.equals(colType)
 									|| DataType.DATATYPE_CLOB.equals(colType)) {
@@ -306,8 +308,6 @@ public class ExportToXlsxHandler extends
 				} else {
 					hasNextPage = false;
 				}
-
-				System.gc();
 			}
 		} finally {
 			QueryUtil.freeQuery(conn);
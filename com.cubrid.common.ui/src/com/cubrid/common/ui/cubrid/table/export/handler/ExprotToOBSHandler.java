@@ -49,7 +49,7 @@ import com.cubrid.common.ui.cubrid.table.event.ExportDataFinishOneTableEvent;
 import com.cubrid.common.ui.cubrid.table.event.ExportDataSuccessEvent;
 import com.cubrid.common.ui.cubrid.table.event.handler.IExportDataEventHandler;
 import com.cubrid.common.ui.cubrid.table.progress.ExportConfig;
-import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ExportRowEncoder;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.jdbc.proxy.driver.CUBRIDPreparedStatementProxy;
 import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetMetaDataProxy;
@@ -172,8 +172,9 @@ public class ExprotToOBSHandler extends
 		int exportedCount = 0;
 		long totalRecord = exportConfig.getTotalCount(tableName);
 		String whereCondition = exportConfig.getWhereCondition(tableName);
-		isPaginating = isPagination(tableName, sql, whereCondition);
+		initPagination(conn, tableName, sql, whereCondition);
 		boolean isNeedWriteHeader = true;
+		ExportRowEncoder encoder = null;
 		while (hasNextPage) {
 			try {
 				String executeSQL = null;
@@ -207,18 +208,12 @@ public class ExprotToOBSHandler extends
 					isNeedWriteHeader = false;
 				}
 
+				if (encoder == null) {
+					encoder = ExportRowEncoder.createForOBS(rs);
+				}
 				while (rs.next()) {
-					StringBuffer values = new StringBuffer();
-					for (int j = 1; j < rsmt.getColumnCount() + 1; j++) {
-						String columnType = rsmt.getColumnTypeName(j);
-						int precision = rsmt.getPrecision(j);
-						columnType = FieldHandlerUtils.amendDataTypeByResult(rs, j, columnType);
-						setIsHasBigValue(columnType, precision);
-						values.append(FieldHandlerUtils.getRsValueForExportOBS(columnType, rs, j).toString());
-					}
-					values.append("\n");
-
-					fs.write(values.toString());
+					markPageRow(rs);
+					encoder.writeRow(rs, fs);
 					exportedCount++;
 					if (exportedCount >= COMMIT_LINES) {
 						fs.flush();
@@ -230,6 +225,7 @@ public class ExprotToOBSHandler extends
 						break;
 					}
 				}
+				isHasBigValue |= encoder.hasBigValue();
 				exportDataEventHandler.handleEvent(new ExportDataSuccessEvent(tableName,
 						exportedCount));
 				exportedCount = 0;
@@ -245,8 +241,6 @@ public class ExprotToOBSHandler extends
 			} else {
 				hasNextPage = false;
 			}
-
-			System.gc();
 		}
 	}
 }
@@ -49,11 +49,10 @@ import com.cubrid.common.ui.cubrid.table.event.handler.IExportDataEventHandler;
 import com.cubrid.common.ui.cubrid.table.export.ResultSetDataCache;
 import com.cubrid.common.ui.cubrid.table.progress.ExportConfig;
 import com.cubrid.common.ui.query.control.ColumnInfo;
-import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ExportRowEncoder;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
 import com.cubrid.jdbc.proxy.driver.CUBRIDPreparedStatementProxy;
-import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetMetaDataProxy;
 import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetProxy;
 
 /**
@@ -63,7 +62,8 @@ import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetProxy;
  * @version 1.0 - 2013-5-24 created by Kevin.Wang
  */
 public class ExprotToSqlHandler extends
-		AbsExportDataHandler {
+		AbsExportDataHandler implements
+		ISegmentExportHandler {
 	private static final Logger LOGGER = LogUtil.getLogger(ExprotToSqlHandler.class);
 
 	public ExprotToSqlHandler(DatabaseInfo dbInfo, ExportConfig exportConfig,
@@ -74,7 +74,7 @@ public class ExprotToSqlHandler extends
 	public void handle(String tableName) throws IOException, SQLException { // FIXME move this logic to core module
 		if(exportConfig.isExportFromCache()){
 			exportFromCache(tableName);
-		}else{
+		}else if (!exportBySegments(tableName)) {
 			exportByQuerying(tableName);
 		}
 	}
@@ -97,13 +97,14 @@ public class ExprotToSqlHandler extends
 		Connection conn = null;
 		CUBRIDPreparedStatementProxy pStmt = null;
 		CUBRIDResultSetProxy rs = null;
+		ExportRowEncoder encoder = null;
 
 		try {
 			conn = getConnection();
-			fs = FileUtil.getBufferedWriter(exportConfig.getDataFilePath(tableName),
+			fs = FileUtil.getBufferedWriter(getDataFilePath(tableName),
 					exportConfig.getFileCharset());
 			String sql = getSelectSQL(conn, tableName);
-			isPaginating = isPagination(tableName, sql, whereCondition);
+			initPagination(conn, tableName, sql, whereCondition);
 			while (hasNextPage) {
 				try {
 					String executeSQL = null;
@@ -122,35 +123,14 @@ public class ExprotToSqlHandler extends
 					pStmt = getStatement(conn, executeSQL, tableName);
 					rs = (CUBRIDResultSetProxy) pStmt.executeQuery();
 
-					CUBRIDResultSetMetaDataProxy rsmt = (CUBRIDResultSetMetaDataProxy) rs.getMetaData();
-
-					StringBuffer insert = new StringBuffer("INSERT INTO ");
-					insert.append(QuerySyntax.escapeKeyword(tableName));
-					insert.append(" (");
-					for (int i = 1; i < rsmt.getColumnCount() + 1; i++) {
-						if (i > 1) {
-							insert.append(", ");
-						}
-						insert.append(QuerySyntax.escapeKeyword(rsmt.getColumnName(i)));
+					if (encoder == null) {
+						encoder = ExportRowEncoder.createForSQL(rs, tableName,
+								exportConfig.getRowsPerInsert());
 					}
-					insert.append(") ");
 
 					while (rs.next()) {
-						StringBuffer values = new StringBuffer("VALUES (");
-						for (int j = 1; j < rsmt.getColumnCount() + 1; j++) {
-							if (j > 1) {
-								values.append(", ");
-							}
-							String columnType = rsmt.getColumnTypeName(j);
-							int precision = rsmt.getPrecision(j);
-							columnType = FieldHandlerUtils.amendDataTypeByResult(rs, j, columnType);
-							setIsHasBigValue(columnType, precision);
-							values.append(FieldHandlerUtils.getRsValueForExportSQL(columnType, rs,
-									j).toString());
-						}
-						values.append(");\n");
-						fs.write(insert.toString());
-						fs.write(values.toString());
+						markPageRow(rs);
+						encoder.writeRow(rs, fs);
 						exportedCount++;
 						if (exportedCount >= COMMIT_LINES) {
 							fs.flush();
@@ -163,6 +143,7 @@ public class ExprotToSqlHandler extends
 							break;
 						}
 					}
+					isHasBigValue |= encoder.hasBigValue();
 					exportDataEventHandler.handleEvent(new ExportDataSuccessEvent(tableName,
 							exportedCount));
 					exportedCount = 0;
@@ -178,8 +159,9 @@ public class ExprotToSqlHandler extends
 				} else {
 					hasNextPage = false;
 				}
-
-				System.gc();
+			}
+			if (encoder != null) {
+				encoder.finish(fs);
 			}
 		} finally {
 			QueryUtil.freeQuery(conn);
@@ -91,6 +91,7 @@ public class ExportConfig implements
 	private String columnDelimeter;
 	private String rowDelimeter;
 	private int threadCount;
+	private int rowsPerInsert = 1;
 	private boolean usePagination = true;
 	private boolean exportFromCache = false;
 
@@ -301,6 +302,19 @@ public class ExportConfig implements
 		this.threadCount = count;
 	}
 
+	/**
+	 * Get the number of rows written in one INSERT statement of the SQL file
+	 *
+	 * @return the number of rows, at least 1
+	 */
+	public int getRowsPerInsert() {
+		return rowsPerInsert;
+	}
+
+	public void setRowsPerInsert(int rowsPerInsert) {
+		this.rowsPerInsert = rowsPerInsert < 1 ? 1 : rowsPerInsert;
+	}
+
 	public String getSQL(String name) {
 		return sqlMap.get(name);
 	}
@@ -179,6 +179,8 @@ public class Messages extends
 	public static String errInvalidDatabaseIp;
 	public static String btnUseScientificNotation;
 	public static String lblLobLoadSize;
+	public static String btnUseStreamingFetch;
+	public static String lblFetchSize;
 	public static String fileSave;
 	public static String overWrite;
 	public static String columnCountOver;
@@ -724,6 +726,19 @@ public class Messages extends
 
 	public static String errQeditNotOpenForConnectionFull;
 
+	public static String lblMultiQueryWaiting;
+	public static String lblMultiQueryRunning;
+	public static String lblMultiQueryDone;
+	public static String lblMultiQueryFailed;
+	public static String lblMultiQueryTimeout;
+	public static String lblMultiQueryCanceled;
+	public static String lblMultiQueryTotal;
+	public static String colMultiQueryDatabase;
+	public static String colMultiQueryStatus;
+	public static String colMultiQueryRows;
+	public static String colMultiQueryElapsed;
+	public static String msgMultiQueryStopped;
+
 	static {
 		NLS.initializeMessages(CommonUIPlugin.PLUGIN_ID + ".query.Messages",
 				Messages.class);
@@ -32,6 +32,7 @@ import java.util.Comparator;
 import java.util.Map;
 
 import com.cubrid.common.ui.spi.table.CellValue;
+import com.cubrid.common.ui.spi.table.ColumnarResultStore;
 import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
 
 /**
@@ -86,28 +87,18 @@ public class ColumnComparator implements
 	 * @return a negative integer, zero, or a positive integer as the first
 	 *         argument is less than, equal to, or greater than the second.
 	 */
+	@SuppressWarnings("unchecked")
 	public int compare(Object o1, Object o2) {
-		CellValue value1 = null, value2 = null;
-		Map map1 = (Map) o1;
-		Map map2 = (Map) o2;
-		if (map1 != null) {
-			value1 = (CellValue) map1.get(columnIndex);
-		}
-
-		if (map2 != null) {
-			value2 = (CellValue) map2.get(columnIndex);
-		}
-		String str1 = getStrValue(value1);
-		String str2 = getStrValue(value2);
+		String str1 = getStrValue((Map<String, CellValue>) o1);
+		String str2 = getStrValue((Map<String, CellValue>) o2);
 
 		return FieldHandlerUtils.comparedDBValues(columnType, str1, str2, isAsc);
 	}
 
-	private String getStrValue(CellValue value) {
-		if (value == null || value.getStringValue() == null) {
-			return "";
-		}
-
-		return value.getStringValue();
+	private String getStrValue(Map<String, CellValue> map) {
+		// the cell values of the rows are not created for sorting
+		String value = CellValue.getStringValue(ColumnarResultStore.getValue(
+				map, columnIndex));
+		return value == null ? "" : value;
 	}
 }
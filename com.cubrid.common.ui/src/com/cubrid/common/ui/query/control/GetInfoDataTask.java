@@ -54,7 +54,6 @@ import com.cubrid.common.core.common.model.DBAttribute;
 import com.cubrid.common.core.common.model.SchemaInfo;
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.core.util.QuerySyntax;
-import com.cubrid.common.core.util.QueryUtil;
 import com.cubrid.common.core.util.StringUtil;
 import com.cubrid.common.ui.cubrid.table.control.AttributeTableViewerContentProvider;
 import com.cubrid.common.ui.cubrid.table.control.AttributeTableViewerLabelProvider;
@@ -304,10 +303,8 @@ public class GetInfoDataTask extends JDBCTask {
 					+ event.getMessage() + StringUtil.NEWLINE;
 			throw event;
 		} finally {
-			QueryUtil.freeQuery(connection, stmt, rs);
-			rs = null;
-			stmt = null;
-			connection = null;
+			// the borrowed connection is given back to the pool
+			finish();
 		}
 
 		Display.getDefault().syncExec(new Runnable() {
@@ -33,6 +33,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,13 +47,15 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
 import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.core.util.QueryUtil;
 import com.cubrid.common.core.util.StringUtil;
 import com.cubrid.common.ui.common.navigator.CubridNavigatorView;
-import com.cubrid.common.ui.cubrid.database.erwin.xmlmodel.AttributePropsList.Order;
 import com.cubrid.common.ui.query.Messages;
 import com.cubrid.common.ui.query.editor.QueryEditorPart;
 import com.cubrid.common.ui.query.editor.QueryUnit;
@@ -84,11 +87,14 @@ public class MultiDBQueryResultComposite extends
 	private List<CubridDatabase> dbList;
 	public LinkedHashMap<CubridDatabase, QueryResultComposite> dbResultMap = new LinkedHashMap<CubridDatabase, QueryResultComposite>();
 	private int assignIndex = 0;
-	private Map<CubridDatabase, QueryResultComposite> compositeMap = new HashMap<CubridDatabase, QueryResultComposite>();
-	private Map<CubridDatabase, Map<String, QueryExecuter>> queryExecuterMap = new HashMap<CubridDatabase, Map<String, QueryExecuter>>();
-	private Map<CubridDatabase, Map<String, StringBuilder>> logsMap = new HashMap<CubridDatabase, Map<String, StringBuilder>>();
+	private Map<CubridDatabase, MultiQueryThread> queryThreadMap = new LinkedHashMap<CubridDatabase, MultiQueryThread>();
+	private Set<CubridDatabase> finishedSet = new HashSet<CubridDatabase>();
 	private CubridDatabase baseDatabase = null;
 	private String queries;
+	private MultiQueryDispatcher dispatcher;
+	private Table summaryTable;
+	private long beginMillis;
+	private long endMillis;
 	public MultiDBQueryResultComposite(Composite parent, int style, QueryEditorPart editor, List<CubridDatabase> dbList,
 			String queries) {
 		super(parent, style);
@@ -141,10 +147,11 @@ public class MultiDBQueryResultComposite extends
 		for (int i = 0; i < columnCount; i++) {
 			columnWeights[i] = 100 / columnCount;
 		}
-		int[] rowWeights = new int[rowCount];
+		int[] rowWeights = new int[rowCount + 1];
 		for (int i = 0; i < rowCount; i++) {
 			rowWeights[i] = 100 / rowCount;
 		}
+		rowWeights[rowCount] = 20;
 
 		// create row
 		SashForm horizontalMainForm = createSashForm(this, SWT.VERTICAL, columnCount);
@@ -153,7 +160,6 @@ public class MultiDBQueryResultComposite extends
 			SashForm verticalForm = createSashForm(horizontalMainForm, SWT.HORIZONTAL, rowCount);
 			verticalFormList.add(verticalForm);
 		}
-		setWeightsToSashForm(horizontalMainForm, rowWeights);
 
 		// create column
 		for (int i = 0; i < verticalFormList.size(); i++) {
@@ -164,10 +170,38 @@ public class MultiDBQueryResultComposite extends
 			}
 			setWeightsToSashForm(verticalForm, columnWeights);
 		}
+		createSummaryTable(horizontalMainForm);
+		setWeightsToSashForm(horizontalMainForm, rowWeights);
 
 		assignIndex = 0;
 	}
 
+	/**
+	 * Create the summary table which shows the status, the row count and the
+	 * elapsed time of every database
+	 *
+	 * @param parent the parent composite
+	 */
+	private void createSummaryTable(Composite parent) {
+		summaryTable = new Table(parent, SWT.BORDER | SWT.FULL_SELECTION);
+		summaryTable.setHeaderVisible(true);
+		summaryTable.setLinesVisible(true);
+		summaryTable.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true));
+
+		TableColumn column = new TableColumn(summaryTable, SWT.LEFT);
+		column.setText(Messages.colMultiQueryDatabase);
+		column.setWidth(300);
+		column = new TableColumn(summaryTable, SWT.LEFT);
+		column.setText(Messages.colMultiQueryStatus);
+		column.setWidth(100);
+		column = new TableColumn(summaryTable, SWT.RIGHT);
+		column.setText(Messages.colMultiQueryRows);
+		column.setWidth(100);
+		column = new TableColumn(summaryTable, SWT.RIGHT);
+		column.setText(Messages.colMultiQueryElapsed);
+		column.setWidth(120);
+	}
+
 	public void setWeightsToSashForm(SashForm form, int[] weights) {
 		form.setWeights(weights);
 	}
@@ -175,9 +209,17 @@ public class MultiDBQueryResultComposite extends
 	public void runQueries() {
 		CubridNavigatorView navigatorView = CubridNavigatorView.findNavigationView();
 		navigatorView.getMultiDBQuerySelectedDBList().clear();
+		if (dispatcher != null) {
+			dispatcher.dispose();
+		}
+		dispatcher = new MultiQueryDispatcher();
+		queryThreadMap.clear();
+		finishedSet.clear();
+		beginMillis = System.currentTimeMillis();
+		endMillis = 0;
 		int index = 0;
 		for (Map.Entry<CubridDatabase, QueryResultComposite> entry : dbResultMap.entrySet()) {
-			CubridDatabase cubridDatabase = entry.getKey();
+			final CubridDatabase cubridDatabase = entry.getKey();
 			if (index == 0) {
 				baseDatabase = cubridDatabase;
 			}
@@ -185,67 +227,155 @@ public class MultiDBQueryResultComposite extends
 			QueryResultComposite queryResultComp = entry.getValue();
 			MultiQueryThread queryThread = new MultiQueryThread(queries, editor, cubridDatabase, queryResultComp);
 			makeProgressBar(queryThread, cubridDatabase, queryResultComp);
-			queryThread.run();
-			compositeMap.put(cubridDatabase, queryResultComp);
-			queryExecuterMap.put(cubridDatabase, queryThread.getQueryExecuterMap());
-			logsMap.put(cubridDatabase, queryThread.getLogsMap());
+			queryThreadMap.put(cubridDatabase, queryThread);
 			index++;
 		}
-		displayResults();
+		updateSummary();
+
+		for (Map.Entry<CubridDatabase, MultiQueryThread> entry : queryThreadMap.entrySet()) {
+			final CubridDatabase cubridDatabase = entry.getKey();
+			dispatcher.submit(cubridDatabase, entry.getValue(), new Runnable() {
+				public void run() {
+					Display.getDefault().asyncExec(new Runnable() {
+						public void run() {
+							queryFinished(cubridDatabase);
+						}
+					});
+				}
+			});
+		}
 	}
 
 	public Composite getControl() {
 		return this;
 	}
 
+	/**
+	 * Show the result of a database as soon as its queries are finished, the
+	 * results which are shown before the base database is finished are shown
+	 * again to compare with the base database.
+	 *
+	 * @param database the finished database
+	 */
+	private void queryFinished(CubridDatabase database) {
+		if (isDisposed() || !queryThreadMap.containsKey(database)) {
+			return;
+		}
+		finishedSet.add(database);
+		if (finishedSet.size() == queryThreadMap.size()) {
+			endMillis = System.currentTimeMillis();
+		}
+		if (database == baseDatabase) {
+			for (CubridDatabase finished : queryThreadMap.keySet()) {
+				if (finishedSet.contains(finished)) {
+					displayResult(finished);
+				}
+			}
+		} else {
+			displayResult(database);
+		}
+		updateSummary();
+	}
+
 	/**
 	 * Display Multiple DBs/Queries Results
 	 */
 	public void displayResults() {
-		final Map<String, QueryExecuter> baseExecuterList = queryExecuterMap.get(baseDatabase);
-		Set<CubridDatabase> databaseSet = compositeMap.keySet();
-		for (final CubridDatabase database : databaseSet) {
-			final QueryResultComposite queryResultComp = compositeMap.get(database);
-			final Map<String, QueryExecuter> queryExecuterList = queryExecuterMap.get(database);
-			final Map<String, StringBuilder> logs = logsMap.get(database);
-
-			Display.getDefault().syncExec(new Runnable() {
-				public void run() {
-					CTabFolder queryResultTabFolder = queryResultComp.getQueryResultTabFolder();
-					if (queryResultTabFolder != null && !queryResultTabFolder.isDisposed()) {
-						queryResultComp.disposeAllResult();
-						queryResultComp.disposeTabResult();
-
-						for (String sql : queryExecuterList.keySet()) {
-							queryResultComp.setMultiResultsCompare(true);
-							if (database != baseDatabase) {
-								queryResultComp.setBaseQueryExecuter(baseExecuterList.get(sql));
-							} else {
-								queryResultComp.setBaseQueryExecuter(null);
-							}
-							QueryExecuter executer = (QueryExecuter) queryExecuterList.get(sql);
-							StringBuilder log = logs.get(sql);
-							if (log != null) {
-								String logsBak = log.toString();
-								if (logsBak.trim().length() > 0) {
-									queryResultComp.makeLogResult("", logsBak);
-								} else {
-									queryResultComp.makeMultiQueryResult(executer);
-								}
-							} else {
-								queryResultComp.makeMultiQueryResult(executer);
-							}
-						}
+		for (CubridDatabase database : queryThreadMap.keySet()) {
+			if (finishedSet.contains(database)) {
+				displayResult(database);
+			}
+		}
+	}
 
-						if (queryResultTabFolder.getItemCount() > 0) {
-							queryResultTabFolder.setSelection(queryResultTabFolder.getItemCount() - 1);
-						}
-					}
+	/**
+	 * Display the results of a database, it should be called in the UI thread
+	 *
+	 * @param database the database
+	 */
+	private void displayResult(CubridDatabase database) {
+		MultiQueryThread baseThread = finishedSet.contains(baseDatabase) ? queryThreadMap.get(baseDatabase)
+				: null;
+		Map<String, QueryExecuter> baseExecuterList = baseThread == null ? null
+				: baseThread.getQueryExecuterMap();
+		MultiQueryThread queryThread = queryThreadMap.get(database);
+		QueryResultComposite queryResultComp = dbResultMap.get(database);
+		Map<String, QueryExecuter> queryExecuterList = queryThread.getQueryExecuterMap();
+		Map<String, StringBuilder> logs = queryThread.getLogsMap();
+
+		CTabFolder queryResultTabFolder = queryResultComp.getQueryResultTabFolder();
+		if (queryResultTabFolder == null || queryResultTabFolder.isDisposed()) {
+			return;
+		}
+		queryResultComp.disposeAllResult();
+		queryResultComp.disposeTabResult();
+
+		boolean isLogShown = false;
+		for (String sql : queryExecuterList.keySet()) {
+			queryResultComp.setMultiResultsCompare(true);
+			if (database != baseDatabase && baseExecuterList != null) {
+				queryResultComp.setBaseQueryExecuter(baseExecuterList.get(sql));
+			} else {
+				queryResultComp.setBaseQueryExecuter(null);
+			}
+			QueryExecuter executer = (QueryExecuter) queryExecuterList.get(sql);
+			StringBuilder log = logs.get(sql);
+			if (log != null) {
+				String logsBak = log.toString();
+				if (logsBak.trim().length() > 0) {
+					queryResultComp.makeLogResult("", logsBak);
+					isLogShown = true;
+				} else {
+					queryResultComp.makeMultiQueryResult(executer);
 				}
-			});
+			} else {
+				queryResultComp.makeMultiQueryResult(executer);
+			}
+		}
+		String logsBak = queryThread.getLogs().toString();
+		if (!isLogShown && logsBak.trim().length() > 0) {
+			queryResultComp.makeLogResult("", logsBak);
+		}
+
+		if (queryResultTabFolder.getItemCount() > 0) {
+			queryResultTabFolder.setSelection(queryResultTabFolder.getItemCount() - 1);
 		}
 	}
 
+	/**
+	 * Refresh the summary table, it should be called in the UI thread
+	 */
+	private void updateSummary() {
+		if (summaryTable == null || summaryTable.isDisposed()) {
+			return;
+		}
+		NumberFormat nf = NumberFormat.getInstance();
+		nf.setMaximumFractionDigits(3);
+		nf.setMinimumFractionDigits(3);
+
+		summaryTable.removeAll();
+		long totalRows = 0;
+		for (Map.Entry<CubridDatabase, MultiQueryThread> entry : queryThreadMap.entrySet()) {
+			CubridDatabase database = entry.getKey();
+			MultiQueryThread queryThread = entry.getValue();
+			boolean isFinished = finishedSet.contains(database);
+			TableItem item = new TableItem(summaryTable, SWT.NONE);
+			item.setText(0, "[" + database.getData(MultiDBQueryComposite.INDEXKEY) + "]"
+					+ database.getName() + "@" + database.getDatabaseInfo().getBrokerIP());
+			item.setText(1, queryThread.getStatusText());
+			item.setText(2, isFinished ? String.valueOf(queryThread.getRowCount()) : "");
+			item.setText(3, isFinished ? nf.format(queryThread.getElapsedMillis() * 0.001) : "");
+			totalRows += queryThread.getRowCount();
+		}
+
+		TableItem item = new TableItem(summaryTable, SWT.NONE);
+		item.setText(0, Messages.lblMultiQueryTotal);
+		item.setText(1, finishedSet.size() + "/" + queryThreadMap.size());
+		item.setText(2, String.valueOf(totalRows));
+		long elapsed = (endMillis == 0 ? System.currentTimeMillis() : endMillis) - beginMillis;
+		item.setText(3, nf.format(elapsed * 0.001));
+	}
+
 	/**
 	 * Make the progress bar
 	 */
@@ -254,6 +384,7 @@ public class MultiDBQueryResultComposite extends
 		Runnable runable = new Runnable() {
 			public void run() {
 				if (queryThread != null) {
+					queryThread.cancel(MultiQueryTask.STATUS_CANCELED);
 					try {
 						if (queryThread.getResult() != null) {
 							queryThread.getResult().dispose();
@@ -302,6 +433,9 @@ public class MultiDBQueryResultComposite extends
 	 * dispose all connection which are get connection on this composite
 	 */
 	public void dispose() {
+		if (dispatcher != null) {
+			dispatcher.dispose();
+		}
 		for (Map.Entry<CubridDatabase, QueryResultComposite> entry : dbResultMap.entrySet()) {
 			QueryResultComposite queryResultComp = entry.getValue();
 			queryResultComp.disposeAllResult();
@@ -321,15 +455,15 @@ public class MultiDBQueryResultComposite extends
  *
  * @author fulei 2012-05-21
  */
-class MultiQueryThread implements
-		Runnable {
+class MultiQueryThread extends
+		MultiQueryTask {
 	private static final Logger LOGGER = LogUtil.getLogger(MultiQueryThread.class);
 	private final String queries;
 	private final QueryEditorPart queryEditor;
 	private CubridDatabase database;
-	private QueryExecuter result = null;
-	public CUBRIDPreparedStatementProxy stmt = null;
-	private CUBRIDResultSetProxy rs = null;
+	private volatile QueryExecuter result = null;
+	public volatile CUBRIDPreparedStatementProxy stmt = null;
+	private volatile CUBRIDResultSetProxy rs = null;
 	@SuppressWarnings("unused")
 	private int line;
 	private QueryResultComposite queryResultComp = null;
@@ -374,15 +508,36 @@ class MultiQueryThread implements
 		this.queryResultComp = queryResultComp;
 	}
 
+	/**
+	 * Cancel the statement which is being executed
+	 */
+	protected void cancelStatement() {
+		CUBRIDPreparedStatementProxy statement = stmt;
+		if (statement == null) {
+			return;
+		}
+		try {
+			statement.cancel();
+		} catch (SQLException e) {
+			LOGGER.error("", e);
+		}
+	}
+
 	/**
 	 * Execute query
 	 */
 	public void run() { // FIXME move this logic to core module
+		begin();
 		DBConnection connection = new DBConnection(database.getDatabaseInfo());
 		try {
 			connection.checkAndConnect();
 			connection.setAutoClosable(true);
 		} catch (final SQLException event) {
+			if (event.getMessage() != null) {
+				logs.append(event.getMessage()).append(StringUtil.NEWLINE);
+			}
+			fail();
+			end();
 			Display.getDefault().syncExec(new Runnable() {
 				public void run() {
 					String errorMsg = Messages.errDbConnect;
@@ -449,7 +604,7 @@ class MultiQueryThread implements
 			boolean enableSearchUnit = QueryOptions.getEnableSearchUnit(serverInfo);
 			int unitCount = QueryOptions.getSearchUnitCount(serverInfo);
 			int sqlTotalCount = qVector.size();
-			for (int i = 0; i < sqlTotalCount; i++) {
+			for (int i = 0; i < sqlTotalCount && !isCancelled(); i++) {
 				currentQueryIndex = i;
 				log.delete(0, log.length());
 				long endTimestamp = 0;
@@ -501,6 +656,7 @@ class MultiQueryThread implements
 						List<String> columnTableNameList = UIQueryUtil.loadColumnTableNameList(stmt);
 						result = createQueryExecutor(queryEditor, cntResults, sql, database, connection, orignSQL, columnTableNameList);
 						result.makeResult(rs);
+						addRowCount(result.cntRecord);
 						String queryMsg = Messages.bind(Messages.querySeq, order) + "[ " + elapsedTimeStr + " "
 								+ Messages.second + " , " + Messages.totalRows + " : " + result.cntRecord + " ]"
 								+ StringUtil.NEWLINE;
@@ -530,6 +686,7 @@ class MultiQueryThread implements
 						}
 						elapsedTime = (endTimestamp - beginTimestamp) * 0.001;
 						int cntModify = threadExecResult;
+						addRowCount(Math.max(0, cntModify));
 						noSelectSql += sql + StringUtil.NEWLINE;
 						hasModifyQuery = true;
 
@@ -606,6 +763,7 @@ class MultiQueryThread implements
 					} catch (final SQLException ee) {
 						throw ee;
 					}
+					addRowCount(result.cntRecord);
 					curResult.addElement(result);
 					cntResults++;
 				}
@@ -623,6 +781,7 @@ class MultiQueryThread implements
 			//				}
 		} catch (final SQLException event) {
 			LOGGER.error(event.getMessage(), event);
+			fail();
 			//				try {
 			//					if (editor.isAutocommit()) {
 			//						editor.queryAction(QUERY_ACTION.ROLLBACK);
@@ -641,6 +800,7 @@ class MultiQueryThread implements
 			logsMap.put(sql, logs);
 		} catch (final Exception event) {
 			LOGGER.error(event.getMessage(), event);
+			fail();
 			if (multiQuerySql == null || result == null) {
 				final String errorSql = (String) qVector.get(currentQueryIndex);
 				noSelectSql += errorSql;
@@ -659,6 +819,11 @@ class MultiQueryThread implements
 			if (connection != null && connection.isAutoClosable()) {
 				connection.close();
 			}
+			if (isCancelled()) {
+				logs.append(Messages.bind(Messages.msgMultiQueryStopped, getStatusText()));
+				logs.append(StringUtil.NEWLINE);
+			}
+			end();
 		}
 	}
 
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2014 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.common.ui.query.control;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.common.ui.common.preference.GeneralPreference;
+import com.cubrid.common.ui.spi.model.CubridDatabase;
+import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
+
+/**
+ * Fan out the tasks of a multiple DB/SQL query run. Every broker host has its
+ * own bounded pool, so the tasks on different hosts run in parallel and one
+ * host never gets more than the configured count of queries at the same time.
+ * A task which runs longer than the timeout is cancelled.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+class MultiQueryDispatcher {
+	private static final Logger LOGGER = LogUtil.getLogger(MultiQueryDispatcher.class);
+	private final int hostThreadCount;
+	private final int timeoutSeconds;
+	private final Map<String, ExecutorService> hostExecutors = new HashMap<String, ExecutorService>();
+	private final List<MultiQueryTask> tasks = new ArrayList<MultiQueryTask>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private ScheduledExecutorService timer;
+	private boolean isDisposed;
+
+	public MultiQueryDispatcher() {
+		this(GeneralPreference.getMultiQueryHostThreadCount(),
+				GeneralPreference.getMultiQueryTimeout());
+	}
+
+	/**
+	 * The constructor
+	 * 
+	 * @param hostThreadCount the max count of running tasks on one host
+	 * @param timeoutSeconds the timeout of one task, 0 means no timeout
+	 */
+	public MultiQueryDispatcher(int hostThreadCount, int timeoutSeconds) {
+		this.hostThreadCount = Math.max(1, hostThreadCount);
+		this.timeoutSeconds = timeoutSeconds;
+	}
+
+	/**
+	 * Submit a task, the callback is called on the worker thread when the task
+	 * is finished whether it succeeded or not
+	 * 
+	 * @param database the target database
+	 * @param task the task
+	 * @param callback the callback
+	 */
+	public synchronized void submit(CubridDatabase database,
+			final MultiQueryTask task, final Runnable callback) {
+		if (isDisposed) {
+			task.cancel(MultiQueryTask.STATUS_CANCELED);
+			return;
+		}
+		String host = getHostKey(database);
+		ExecutorService executor = hostExecutors.get(host);
+		if (executor == null) {
+			executor = Executors.newFixedThreadPool(hostThreadCount,
+					new DispatcherThreadFactory("MultiQuery-" + host));
+			hostExecutors.put(host, executor);
+		}
+		tasks.add(task);
+		pendingCount.incrementAndGet();
+		executor.execute(new Runnable() {
+			public void run() {
+				ScheduledFuture<?> watchdog = scheduleTimeout(task);
+				try {
+					if (!task.isCancelled()) {
+						task.run();
+					}
+				} catch (Exception e) {
+					LOGGER.error(e.getMessage(), e);
+				} finally {
+					if (watchdog != null) {
+						watchdog.cancel(false);
+					}
+					finish();
+					try {
+						callback.run();
+					} catch (Exception e) {
+						LOGGER.error(e.getMessage(), e);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Cancel all the tasks and release the threads
+	 */
+	public synchronized void dispose() {
+		isDisposed = true;
+		for (MultiQueryTask task : tasks) {
+			task.cancel(MultiQueryTask.STATUS_CANCELED);
+		}
+		for (ExecutorService executor : hostExecutors.values()) {
+			executor.shutdownNow();
+		}
+		hostExecutors.clear();
+		if (timer != null) {
+			timer.shutdownNow();
+			timer = null;
+		}
+	}
+
+	/**
+	 * Schedule the cancellation of a task after the timeout
+	 * 
+	 * @param task the task
+	 * @return the scheduled cancellation or null if there is no timeout
+	 */
+	private synchronized ScheduledFuture<?> scheduleTimeout(final MultiQueryTask task) {
+		if (timeoutSeconds <= 0 || isDisposed) {
+			return null;
+		}
+		if (timer == null) {
+			timer = Executors.newSingleThreadScheduledExecutor(new DispatcherThreadFactory(
+					"MultiQuery-Timeout"));
+		}
+		try {
+			return timer.schedule(new Runnable() {
+				public void run() {
+					task.cancel(MultiQueryTask.STATUS_TIMEOUT);
+				}
+			}, timeoutSeconds, TimeUnit.SECONDS);
+		} catch (RejectedExecutionException e) {
+			LOGGER.error(e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Release the threads after the last task is finished, they are created
+	 * again by the next submit
+	 */
+	private synchronized void finish() {
+		if (pendingCount.decrementAndGet() > 0) {
+			return;
+		}
+		for (ExecutorService executor : hostExecutors.values()) {
+			executor.shutdown();
+		}
+		hostExecutors.clear();
+		if (timer != null) {
+			timer.shutdown();
+			timer = null;
+		}
+	}
+
+	/**
+	 * Get the key of the broker host of the database
+	 * 
+	 * @param database the database
+	 * @return the host key
+	 */
+	private static String getHostKey(CubridDatabase database) {
+		DatabaseInfo databaseInfo = database == null ? null : database.getDatabaseInfo();
+		if (databaseInfo == null) {
+			return "";
+		}
+		return databaseInfo.getBrokerIP() + ":" + databaseInfo.getBrokerPort();
+	}
+
+	/**
+	 * Create the daemon worker threads with the pool name
+	 */
+	private static class DispatcherThreadFactory implements
+			ThreadFactory {
+		private final String name;
+		private final AtomicInteger threadNo = new AtomicInteger();
+
+		public DispatcherThreadFactory(String name) {
+			this.name = name;
+		}
+
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, name + "-" + threadNo.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2014 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.common.ui.query.control;
+
+import com.cubrid.common.ui.query.Messages;
+
+/**
+ * The base of the query task of a multiple DB/SQL query run, it keeps the
+ * status, the elapsed time and the row count of the task which are used by
+ * the dispatcher and the summary of the run.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+abstract class MultiQueryTask implements
+		Runnable {
+	public static final int STATUS_WAITING = 0;
+	public static final int STATUS_RUNNING = 1;
+	public static final int STATUS_DONE = 2;
+	public static final int STATUS_FAILED = 3;
+	public static final int STATUS_TIMEOUT = 4;
+	public static final int STATUS_CANCELED = 5;
+
+	private int status = STATUS_WAITING;
+	private volatile long beginMillis;
+	private volatile long endMillis;
+	private volatile long rowCount;
+
+	/**
+	 * Cancel the statement which is being executed
+	 */
+	protected abstract void cancelStatement();
+
+	/**
+	 * Mark the task running, it is called at the beginning of run
+	 */
+	protected synchronized void begin() {
+		if (status == STATUS_WAITING) {
+			status = STATUS_RUNNING;
+		}
+		beginMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Mark the task failed
+	 */
+	protected synchronized void fail() {
+		if (status == STATUS_RUNNING) {
+			status = STATUS_FAILED;
+		}
+	}
+
+	/**
+	 * Mark the task finished, it is called at the end of run
+	 */
+	protected synchronized void end() {
+		if (status == STATUS_RUNNING) {
+			status = STATUS_DONE;
+		}
+		endMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Cancel the task, the task is stopped before the next query if it is
+	 * running
+	 * 
+	 * @param reason STATUS_TIMEOUT or STATUS_CANCELED
+	 */
+	public void cancel(int reason) {
+		synchronized (this) {
+			if (status != STATUS_WAITING && status != STATUS_RUNNING) {
+				return;
+			}
+			status = reason;
+		}
+		cancelStatement();
+	}
+
+	public synchronized int getStatus() {
+		return status;
+	}
+
+	public synchronized boolean isCancelled() {
+		return status == STATUS_TIMEOUT || status == STATUS_CANCELED;
+	}
+
+	/**
+	 * Add the fetched or affected row count
+	 * 
+	 * @param count the row count
+	 */
+	protected void addRowCount(long count) {
+		rowCount += count;
+	}
+
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Get the elapsed milliseconds, it keeps growing while the task is running
+	 * 
+	 * @return the elapsed milliseconds
+	 */
+	public long getElapsedMillis() {
+		long begin = beginMillis;
+		if (begin == 0) {
+			return 0;
+		}
+		long end = endMillis;
+		return (end == 0 ? System.currentTimeMillis() : end) - begin;
+	}
+
+	/**
+	 * Get the text of the status
+	 * 
+	 * @return the status text
+	 */
+	public String getStatusText() {
+		switch (getStatus()) {
+		case STATUS_RUNNING:
+			return Messages.lblMultiQueryRunning;
+		case STATUS_DONE:
+			return Messages.lblMultiQueryDone;
+		case STATUS_FAILED:
+			return Messages.lblMultiQueryFailed;
+		case STATUS_TIMEOUT:
+			return Messages.lblMultiQueryTimeout;
+		case STATUS_CANCELED:
+			return Messages.lblMultiQueryCanceled;
+		default:
+			return Messages.lblMultiQueryWaiting;
+		}
+	}
+}
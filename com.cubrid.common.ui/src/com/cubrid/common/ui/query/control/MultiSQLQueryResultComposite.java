@@ -31,8 +31,9 @@ import java.sql.SQLException;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -82,11 +83,11 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 	public LinkedHashMap<String, QueryResultComposite> sqlResultMap = new LinkedHashMap<String, QueryResultComposite>();
 	private int assignIndex = 0;
 	private static int[] perCompInShell = {9, 4};
-	private ArrayList<DBConnection> connectionList = new ArrayList<DBConnection>();
-	private Map<String, QueryExecuter> queryExecuterMap = new HashMap<String, QueryExecuter>();
-	private Map<String, QueryResultComposite> compositeMap = new HashMap<String, QueryResultComposite>();
-	private Map<String, StringBuilder> logsMap = new HashMap<String, StringBuilder>();
+	private List<DBConnection> connectionList = Collections.synchronizedList(new ArrayList<DBConnection>());
+	private Map<String, MultiQueryThread> queryThreadMap = new LinkedHashMap<String, MultiQueryThread>();
+	private Set<String> finishedSet = new HashSet<String>();
 	private String baseSql = null;
+	private MultiQueryDispatcher dispatcher;
 
 	public MultiSQLQueryResultComposite(Composite parent, int style, QueryEditorPart editor,
 			CubridDatabase cubridDatabase, String queries){
@@ -176,6 +177,12 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 	}
 
 	public void runQueries() { // FIXME move this logic to core module
+		if (dispatcher != null) {
+			dispatcher.dispose();
+		}
+		dispatcher = new MultiQueryDispatcher();
+		queryThreadMap.clear();
+		finishedSet.clear();
 		int index = 0;
 		for (Map.Entry<String, QueryResultComposite> entry : sqlResultMap.entrySet()) {
 			String sql = entry.getKey();
@@ -186,56 +193,94 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 			MultiQueryThread queryThread = new MultiQueryThread(sql, editor,
 					cubridDatabase, queryResultComp);
 			makeProgressBar(queryThread, cubridDatabase, queryResultComp);
-			queryThread.run();
-			compositeMap.put(sql, queryResultComp);
-			queryExecuterMap.put(sql, queryThread.getResult());
-			logsMap.put(sql, queryThread.getLogs());
+			queryThreadMap.put(sql, queryThread);
 			index++;
 		}
 
-		displayResults();
+		for (Map.Entry<String, MultiQueryThread> entry : queryThreadMap.entrySet()) {
+			final String sql = entry.getKey();
+			dispatcher.submit(cubridDatabase, entry.getValue(), new Runnable() {
+				public void run() {
+					Display.getDefault().asyncExec(new Runnable() {
+						public void run() {
+							queryFinished(sql);
+						}
+					});
+				}
+			});
+		}
 	}
 
 	public Composite getControl() {
 		return this;
 	}
+
+	/**
+	 * Show the result of a query as soon as it is finished, the results which
+	 * are shown before the base query is finished are shown again to compare
+	 * with the base query.
+	 *
+	 * @param sql the finished query
+	 */
+	private void queryFinished(String sql) {
+		if (isDisposed() || !queryThreadMap.containsKey(sql)) {
+			return;
+		}
+		finishedSet.add(sql);
+		if (sql.equals(baseSql)) {
+			for (String finished : queryThreadMap.keySet()) {
+				if (finishedSet.contains(finished)) {
+					displayResult(finished);
+				}
+			}
+		} else {
+			displayResult(sql);
+		}
+	}
+
 	/**
 	 * Display Multiple Query Results
 	 */
 	public void displayResults(){
-		QueryExecuter baseQueryExecuter = (QueryExecuter) queryExecuterMap.get(baseSql);
-		Set<String> sqlSet = queryExecuterMap.keySet();
+		for (String sql : queryThreadMap.keySet()) {
+			if (finishedSet.contains(sql)) {
+				displayResult(sql);
+			}
+		}
+	}
 
-		for (final String sql : sqlSet) {
-			final QueryResultComposite queryResultComp = compositeMap.get(sql);
-			final QueryExecuter queryExecuter = (QueryExecuter) queryExecuterMap.get(sql);
-			final StringBuilder logs = (StringBuilder) logsMap.get(sql);
+	/**
+	 * Display the result of a query, it should be called in the UI thread
+	 *
+	 * @param sql the query
+	 */
+	private void displayResult(String sql) {
+		QueryExecuter baseQueryExecuter = finishedSet.contains(baseSql) ? queryThreadMap.get(
+				baseSql).getResult() : null;
+		MultiQueryThread queryThread = queryThreadMap.get(sql);
+		QueryResultComposite queryResultComp = sqlResultMap.get(sql);
+		QueryExecuter queryExecuter = queryThread.getResult();
+
+		queryResultComp.setMultiResultsCompare(true);
+		if (sql.equals(baseSql)) {
+			queryResultComp.setBaseQueryExecuter(null);
+		} else {
+			queryResultComp.setBaseQueryExecuter(baseQueryExecuter);
+		}
 
-			queryResultComp.setMultiResultsCompare(true);
-			if (sql.equals(baseSql)) {
-				queryResultComp.setBaseQueryExecuter(null);
+		final String logsBak = queryThread.getLogs().toString();
+		CTabFolder queryResultTabFolder = queryResultComp.getQueryResultTabFolder();
+		if (queryResultTabFolder != null && !queryResultTabFolder.isDisposed()) {
+			queryResultComp.disposeAllResult();
+			queryResultComp.disposeTabResult();
+			if (logsBak.trim().length() > 0 || queryExecuter == null) {
+				queryResultComp.makeLogResult("", logsBak);
 			} else {
-				queryResultComp.setBaseQueryExecuter(baseQueryExecuter);
+				queryResultComp.makeMultiQueryResult(queryExecuter);
+			}
+			if (queryResultTabFolder.getItemCount() > 0) {
+				queryResultTabFolder.setSelection(queryResultTabFolder.getItemCount() - 1);
 			}
-
-			Display.getDefault().syncExec(new Runnable() {
-				public void run() {
-					final String logsBak = logs.toString();
-					CTabFolder queryResultTabFolder = queryResultComp.getQueryResultTabFolder();
-					if (queryResultTabFolder != null && !queryResultTabFolder.isDisposed()) {
-						queryResultComp.disposeAllResult();
-						queryResultComp.disposeTabResult();
-						if (logsBak.trim().length() > 0) {
-							queryResultComp.makeLogResult("", logsBak);
-						} else {
-							queryResultComp.makeMultiQueryResult(queryExecuter);
-						}
-						if (queryResultTabFolder.getItemCount() > 0) {
-							queryResultTabFolder.setSelection(queryResultTabFolder.getItemCount() - 1);
-						}
-					}
-				}
-			});
 		}
 	}
 
@@ -246,6 +291,7 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 		Runnable runable = new Runnable() {
 			public void run() {
 				if (queryThread != null) {
+					queryThread.cancel(MultiQueryTask.STATUS_CANCELED);
 					try {
 						if (queryThread.getResult() != null) {
 							queryThread.getResult().dispose();
@@ -295,14 +341,14 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 	 *
 	 * @author fulei 2012-05-21
 	 */
-	class MultiQueryThread implements Runnable {
+	class MultiQueryThread extends MultiQueryTask {
 		private final QueryEditorPart queryEditor;
 		private DBConnection connection;
 		private CubridDatabase database;
 		final Vector<String> qVector = new Vector<String>();
-		private QueryExecuter result = null;
-		public CUBRIDPreparedStatementProxy stmt = null;
-		private CUBRIDResultSetProxy rs = null;
+		private volatile QueryExecuter result = null;
+		public volatile CUBRIDPreparedStatementProxy stmt = null;
+		private volatile CUBRIDResultSetProxy rs = null;
 		@SuppressWarnings("unused")
 		private int line ;
 		private final String sql ;
@@ -352,10 +398,26 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 			return queryExecuter;
 		}
 
+		/**
+		 * Cancel the statement which is being executed
+		 */
+		protected void cancelStatement() {
+			CUBRIDPreparedStatementProxy statement = stmt;
+			if (statement == null) {
+				return;
+			}
+			try {
+				statement.cancel();
+			} catch (SQLException e) {
+				LOGGER.error("", e);
+			}
+		}
+
 		/**
 		 * Execute query
 		 */
 		public void run() { // FIXME move this logic to core module
+			begin();
 			try {
 				if (connection == null) {
 					connection = new DBConnection(database.getDatabaseInfo());
@@ -364,6 +426,11 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 				connection.setAutoClosable(true);
 				connectionList.add(connection); // add list when dispose composite, disconnect all
 			} catch (final SQLException event) {
+				if (event.getMessage() != null) {
+					logs.append(event.getMessage()).append(StringUtil.NEWLINE);
+				}
+				fail();
+				end();
 				Display.getDefault().syncExec(new Runnable() {
 					public void run() {
 						String errorMsg = Messages.errDbConnect;
@@ -434,7 +501,7 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 				boolean enableSearchUnit = QueryOptions.getEnableSearchUnit(serverInfo);
 				int unitCount = QueryOptions.getSearchUnitCount(serverInfo);
 				int sqlTotalCount = qVector.size();
-				for (i = 0; i < sqlTotalCount; i++) {
+				for (i = 0; i < sqlTotalCount && !isCancelled(); i++) {
 					currentQueryIndex = i;
 					log.delete(0, log.length());
 					long endTimestamp = 0;
@@ -487,6 +554,7 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 							result = createQueryExecutor(queryEditor,
 									cntResults, sql, database, orignSQL, UIQueryUtil.loadColumnTableNameList(stmt));
 							result.makeResult(rs);
+							addRowCount(result.cntRecord);
 							
 							String queryMsg = Messages.bind(Messages.querySeq, order)
 									+ "[ " + elapsedTimeStr + " "
@@ -519,6 +587,7 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 							}
 							elapsedTime = (endTimestamp - beginTimestamp) * 0.001;
 							int cntModify = threadExecResult;
+							addRowCount(Math.max(0, cntModify));
 							noSelectSql += sql + StringUtil.NEWLINE;
 							hasModifyQuery = true;
 							log.append(Messages.bind(Messages.querySeq, order)).append(" ");
@@ -593,6 +662,7 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 						} catch (final SQLException ee) {
 							throw ee;
 						}
+						addRowCount(result.cntRecord);
 						curResult.addElement(result);
 						cntResults++;
 					}
@@ -607,6 +677,7 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 				}
 			} catch (final SQLException event) {
 				LOGGER.error(event.getMessage(), event);
+				fail();
 
 				if (multiQuerySql == null || result == null) {
 					final String errorSql = (String) qVector.get(i);
@@ -618,6 +689,7 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 				}
 			} catch (final Exception event) {
 				LOGGER.error(event.getMessage(), event);
+				fail();
 
 				if (multiQuerySql == null || result == null) {
 					final String errorSql = (String) qVector.get(i);
@@ -639,14 +711,24 @@ public class MultiSQLQueryResultComposite extends Composite implements IMultiQue
 					connection.close();
 					LOGGER.debug("CLOSE CONN");
 				}
+				if (isCancelled()) {
+					logs.append(Messages.bind(Messages.msgMultiQueryStopped, getStatusText()));
+					logs.append(StringUtil.NEWLINE);
+				}
+				end();
 			}
 		}
 	}
 
 	public void dispose() {
-		for (DBConnection con : connectionList) {
-			if (con != null) {
-				con.close();
+		if (dispatcher != null) {
+			dispatcher.dispose();
+		}
+		synchronized (connectionList) {
+			for (DBConnection con : connectionList) {
+				if (con != null) {
+					con.close();
+				}
 			}
 		}
 		for (Map.Entry<String, QueryResultComposite> entry : sqlResultMap.entrySet()) {
@@ -132,11 +132,15 @@ import com.cubrid.common.ui.spi.model.CubridDatabase;
 import com.cubrid.common.ui.spi.persist.QueryOptions;
 import com.cubrid.common.ui.spi.progress.ExecTaskWithProgress;
 import com.cubrid.common.ui.spi.table.CellValue;
+import com.cubrid.common.ui.spi.table.ColumnarResultStore;
 import com.cubrid.common.ui.spi.table.IShowMoreOperator;
+import com.cubrid.common.ui.spi.table.IShowValueFormatter;
 import com.cubrid.common.ui.spi.table.TableSelectSupport;
 import com.cubrid.common.ui.spi.table.celleditor.CellViewer;
 import com.cubrid.common.ui.spi.util.CommonUITool;
 import com.cubrid.common.ui.spi.util.FieldHandlerUtils;
+import com.cubrid.common.ui.spi.util.ResultSetFetchPlan;
+import com.cubrid.common.ui.spi.util.ResultSetFetchPlan.ColumnKind;
 import com.cubrid.common.ui.spi.util.UIQueryUtil;
 import com.cubrid.common.ui.spi.util.paramSetter.ParamSetException;
 import com.cubrid.common.ui.spi.util.paramSetter.ParamSetter;
@@ -191,8 +195,10 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 	private Action nextPageAction = null;
 	private Action lastPageAction = null;
 	private FilterResultContrItem filterResultContrItem;
-	private List<Map<String, CellValue>> allDataList = null;
+	private ColumnarResultStore allDataList = null;
 	private ResultSetDataCache resultSetDataCache;
+	private ResultSetFetchPlan fetchPlan;
+	private ColumnKind[] columnKinds;
 	private List<ColumnInfo> allColumnList = null;
 	private boolean isEnd = false;
 	private boolean dontTipNext = false;
@@ -226,6 +232,14 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 	private boolean isContainPrimayKey;
 	private boolean isSingleTableQuery;
 	private int loadSize = 0;
+	private final boolean useStreamingFetch;
+	private final int fetchSize;
+	// true while makeTable holds one cursor open across "load more" prompts
+	private boolean isStreamingCursor = false;
+	// single column primary key used for keyset paging when streaming is off
+	private String keysetColumn;
+	private int keysetColumnIndex;
+	private Object keysetLastValue;
 
 	private String statsLog;
 	private String queryPlanLog;
@@ -250,12 +264,14 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 		pageLimit = QueryOptions.getPageLimit(serverInfo);
 		filterResultContrItem = new FilterResultContrItem(this, pageLimit);
 		recordLimit = QueryOptions.getSearchUnitCount(serverInfo);
-		allDataList = new ArrayList<Map<String, CellValue>>();
+		allDataList = new ColumnarResultStore();
 		allColumnList = new ArrayList<ColumnInfo>();
 		colComparatorMap = new HashMap<String, ColumnComparator>();
 		resultSetDataCache = new ResultSetDataCache();
 		boolean enableSearchUnit = QueryOptions.getEnableSearchUnit(serverInfo);
 		loadSize = QueryOptions.getLobLoadSize(serverInfo);
+		useStreamingFetch = QueryOptions.getUseStreamingFetch(serverInfo);
+		fetchSize = QueryOptions.getFetchSize(serverInfo);
 		dontTipNext = !QueryOptions.getMultiPageConfirm();
 		if (!enableSearchUnit) {
 			dontTipNext = true;
@@ -359,6 +375,89 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 			allColumnList.add(colInfo);
 		}
 		resultSetDataCache.setColumnInfos(new ArrayList<ColumnInfo>(allColumnList));
+		fetchPlan = ResultSetFetchPlan.create(rs);
+		columnKinds = new ColumnKind[allColumnList.size()];
+		for (int i = 0; i < columnKinds.length; i++) {
+			ColumnInfo columnInfo = allColumnList.get(i);
+			String columnType = columnInfo.getType();
+			columnKinds[i] = ResultSetFetchPlan.getKind(columnType);
+			// the type names are compared ignoring the case, so they are
+			// normalized for the editing and the exporting
+			switch (columnKinds[i]) {
+			case BLOB:
+				columnInfo.setType(DataType.DATATYPE_BLOB);
+				break;
+			case CLOB:
+				columnInfo.setType(DataType.DATATYPE_CLOB);
+				break;
+			case NCHAR:
+				columnInfo.setType(DataType.DATATYPE_NCHAR.equalsIgnoreCase(columnType)
+						? DataType.DATATYPE_NCHAR : DataType.DATATYPE_NCHAR_VARYING);
+				break;
+			default:
+				break;
+			}
+		}
+		registerShowValueFormatters();
+	}
+
+	/**
+	 * Register the formatters of the columns whose display text is formatted
+	 * from the value on demand instead of being kept for every row.
+	 */
+	private void registerShowValueFormatters() {
+		if (allDataList == null) {
+			return;
+		}
+		for (int i = 0; i < columnKinds.length; i++) {
+			final ColumnInfo columnInfo = allColumnList.get(i);
+			IShowValueFormatter formatter = null;
+			switch (columnKinds[i]) {
+			case DATETIME:
+				formatter = new IShowValueFormatter() {
+					public String format(Object value) {
+						return CommonUITool.formatDate((Date) value, FieldHandlerUtils.FORMAT_DATETIME);
+					}
+				};
+				break;
+			case BIT:
+				formatter = new IShowValueFormatter() {
+					public String format(Object value) {
+						byte[] dataTmp = (byte[]) value;
+						if (dataTmp.length > FieldHandlerUtils.BIT_TYPE_MUCH_VALUE_LENGTH) {
+							return DataType.BIT_EXPORT_FORMAT;
+						}
+						return "X'" + DBAttrTypeFormatter.getHexString(dataTmp,
+								columnInfo.getPrecision()) + "'";
+					}
+				};
+				break;
+			case FLOAT:
+				formatter = new IShowValueFormatter() {
+					public String format(Object value) {
+						return formater4Float.format(value);
+					}
+				};
+				break;
+			case DOUBLE:
+				formatter = new IShowValueFormatter() {
+					public String format(Object value) {
+						return formater4Double.format(value);
+					}
+				};
+				break;
+			case NCHAR:
+				formatter = new IShowValueFormatter() {
+					public String format(Object value) {
+						return "N'" + value + "'";
+					}
+				};
+				break;
+			default:
+				break;
+			}
+			allDataList.setFormatter(columnInfo.getIndex(), formatter);
+		}
 	}
 
 	/**
@@ -369,101 +468,88 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 	 * @throws SQLException
 	 */
 	public Map<String, CellValue> addTableItemData(CUBRIDResultSetProxy rs, int idxInDataList) throws SQLException {
-		Map<String, CellValue> map = new HashMap<String, CellValue>();
+		ColumnarResultStore store = allDataList == null ? new ColumnarResultStore() : allDataList;
+		int row = store.newRow();
 		int columnPos = 0, columnCount = allColumnList == null ? 0 : allColumnList.size();
 
 		if (allColumnList != null) {
 			for (int j = 1; j <= columnCount; j++) {
 				ColumnInfo columnInfo = (ColumnInfo) allColumnList.get(columnPos);
-				String columnType = columnInfo.getType();
 				String index = columnInfo.getIndex();
-				String showValue = null;
-				Object value = rs.getObject(j);
-				CellValue cellValue = new CellValue();
-				if (value != null) {
-					if (DataType.DATATYPE_SET.equals(columnType)
-							|| DataType.DATATYPE_MULTISET.equals(columnType)
-							|| DataType.DATATYPE_SEQUENCE.equals(columnType)) {
-						StringBuffer data = new StringBuffer();
-						Object[] set = (Object[]) rs.getCollection(j);
-						data.append("{");
-						for (int i = 0; i < set.length; i++) {
-							Object setI = set[i];
-							if (setI == null) {
-								data.append(DataType.VALUE_NULL);
-							} else if (setI.getClass() == CUBRIDOIDProxy.getCUBRIDOIDClass(rs.getJdbcVersion())) {
-								data.append((new CUBRIDOIDProxy(setI)).getOidString());
-							} else {
-								data.append(setI);
-							}
-							if (i < set.length - 1) {
-								data.append(",");
-							}
-						}
-						data.append("}");
-						showValue = data.toString();
-						cellValue.setShowValue(showValue);
-						cellValue.setValue(showValue);
-					} else if (DataType.DATATYPE_DATETIME.equalsIgnoreCase(columnType)) {
-						showValue = CommonUITool.formatDate(
-								rs.getTimestamp(j),
-								FieldHandlerUtils.FORMAT_DATETIME);
-						cellValue.setValue(rs.getTimestamp(j));
-						cellValue.setShowValue(showValue);
-					} else if (DataType.DATATYPE_BIT_VARYING.equalsIgnoreCase(columnType)
-							|| DataType.DATATYPE_BIT.equalsIgnoreCase(columnType)) {
-						byte[] dataTmp = rs.getBytes(j);
-						if (dataTmp.length > FieldHandlerUtils.BIT_TYPE_MUCH_VALUE_LENGTH) {
-							showValue = DataType.BIT_EXPORT_FORMAT;
+				switch (columnKinds[columnPos]) {
+				case COLLECTION:
+					if (rs.getObject(j) == null) {
+						store.setValue(row, index, null);
+						break;
+					}
+					Object[] set = (Object[]) rs.getCollection(j);
+					StringBuffer data = new StringBuffer();
+					data.append("{");
+					for (int i = 0; i < set.length; i++) {
+						Object setI = set[i];
+						if (setI == null) {
+							data.append(DataType.VALUE_NULL);
+						} else if (setI.getClass() == CUBRIDOIDProxy.getCUBRIDOIDClass(rs.getJdbcVersion())) {
+							data.append((new CUBRIDOIDProxy(setI)).getOidString());
 						} else {
-							showValue = "X'" + DBAttrTypeFormatter.getHexString(dataTmp,
-										columnInfo.getPrecision()) + "'";
+							data.append(setI);
+						}
+						if (i < set.length - 1) {
+							data.append(",");
 						}
-						cellValue.setValue(dataTmp);
-						cellValue.setShowValue(showValue);
-					} else if (DataType.DATATYPE_FLOAT.equalsIgnoreCase(columnType)) {
-						float floatValue = rs.getFloat(j);
-						showValue = formater4Float.format(floatValue);
-						cellValue.setValue(floatValue);
-						cellValue.setShowValue(showValue);
-					} else if (DataType.DATATYPE_DOUBLE.equalsIgnoreCase(columnType)) {
-						double doubleValue = rs.getDouble(j);
-						showValue = formater4Double.format(doubleValue);
-						cellValue.setValue(doubleValue);
-						cellValue.setShowValue(showValue);
-					} else if (DataType.DATATYPE_BLOB.equalsIgnoreCase(columnType)
-							|| value instanceof Blob) {
+					}
+					data.append("}");
+					store.setValue(row, index, data.toString());
+					break;
+				case DATETIME:
+					store.setValue(row, index, rs.getTimestamp(j));
+					break;
+				case BIT:
+					store.setValue(row, index, rs.getBytes(j));
+					break;
+				case FLOAT:
+					float floatValue = rs.getFloat(j);
+					store.setValue(row, index, rs.wasNull() ? null : Float.valueOf(floatValue));
+					break;
+				case DOUBLE:
+					double doubleValue = rs.getDouble(j);
+					store.setValue(row, index, rs.wasNull() ? null : Double.valueOf(doubleValue));
+					break;
+				case BLOB:
+					loadLobData(rs, j, store, row, index, true);
+					break;
+				case CLOB:
+					loadLobData(rs, j, store, row, index, false);
+					break;
+				case NCHAR:
+				case STRING:
+					store.setValue(row, index, rs.getString(j));
+					break;
+				case INTEGER:
+					store.setValue(row, index, rs.getObject(j));
+					break;
+				default:
+					Object value = rs.getObject(j);
+					if (value instanceof Blob) {
 						columnInfo.setType(DataType.DATATYPE_BLOB);
-						loadBlobData(rs, j, cellValue);
-					} else if (DataType.DATATYPE_CLOB.equalsIgnoreCase(columnType)
-							|| value instanceof Clob) {
+						columnKinds[columnPos] = ColumnKind.BLOB;
+						loadLobData(rs, j, store, row, index, true);
+					} else if (value instanceof Clob) {
 						columnInfo.setType(DataType.DATATYPE_CLOB);
-						loadClobData(rs, j, cellValue);
-					} else if (DataType.DATATYPE_NCHAR.equalsIgnoreCase(columnType)) {
-						columnInfo.setType(DataType.DATATYPE_NCHAR);
-						String strValue = rs.getString(j);
-						showValue = "N'" + strValue + "'";
-						cellValue.setValue(strValue);
-						cellValue.setShowValue(showValue);
-
-					} else if (DataType.DATATYPE_NCHAR_VARYING.equalsIgnoreCase(columnType)) {
-						columnInfo.setType(DataType.DATATYPE_NCHAR_VARYING);
-						String strValue = rs.getString(j);
-						showValue = "N'" + strValue + "'";
-						cellValue.setValue(strValue);
-						cellValue.setShowValue(showValue);
+						columnKinds[columnPos] = ColumnKind.CLOB;
+						loadLobData(rs, j, store, row, index, false);
+					} else if (value == null) {
+						store.setValue(row, index, null);
 					} else {
-						showValue = rs.getString(j);
-						cellValue.setValue(value);
-						cellValue.setShowValue(showValue);
+						store.setValue(row, index, value, rs.getString(j));
 					}
+					break;
 				}
-
-				map.put(index, cellValue);
 				columnPos++;
 			}
 		}
 
+		Map<String, CellValue> map = store.getRow(row);
 		if (allDataList != null) {
 			if (idxInDataList < 0 || idxInDataList >= allDataList.size() - 1) {
 				allDataList.add(map);
@@ -482,29 +568,54 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 	 * @throws SQLException
 	 */
 	public ArrayList<Object> BuildCurrentRowData(CUBRIDResultSetProxy rs) throws SQLException {
-		int columnPos = 0, columnCount = allColumnList == null ? 0 : allColumnList.size();
+		int columnCount = allColumnList == null ? 0 : allColumnList.size();
 		ArrayList<Object> rowData = new ArrayList<Object>(columnCount);
-		
-		if (allColumnList != null) {
-			for (int j = 1; j <= columnCount; j++) {
-				ColumnInfo columnInfo = (ColumnInfo) allColumnList.get(columnPos);
-				String columnType = columnInfo.getType();
-				int index = Integer.valueOf(columnInfo.getIndex());
-				Object value = null;
-				if (DataType.DATATYPE_BLOB.equals(columnType)) {
-					value = rs.getBlob(index);
-				} else if (DataType.DATATYPE_CLOB.equals(columnType)) {
-					value = rs.getClob(index);
-				}else{
-					value = FieldHandlerUtils.getRsValueForExport(columnType, rs, index, null);
-				}
-				rowData.add(value);
-				columnPos++;
-			}
+
+		for (int j = 1; j <= columnCount; j++) {
+			Object value = null;
+			switch (columnKinds[j - 1]) {
+			case BLOB:
+				value = rs.getBlob(j);
+				break;
+			case CLOB:
+				value = rs.getClob(j);
+				break;
+			default:
+				value = fetchPlan.getExportValue(rs, j, null);
+				break;
+			}
+			rowData.add(value);
 		}
 		return rowData;
 	}
 	
+	/**
+	 * Load the Blob or Clob data of a cell into the result store
+	 *
+	 * @param rs
+	 * @param columnIndex
+	 * @param store
+	 * @param row
+	 * @param index
+	 * @param isBlob
+	 * @throws SQLException
+	 */
+	private void loadLobData(ResultSet rs, int columnIndex, ColumnarResultStore store, int row,
+			String index, boolean isBlob) throws SQLException {
+		CellValue cellValue = new CellValue();
+		if (isBlob) {
+			loadBlobData(rs, columnIndex, cellValue);
+		} else {
+			loadClobData(rs, columnIndex, cellValue);
+		}
+		if (cellValue.getValue() == null) {
+			store.setValue(row, index, null);
+			return;
+		}
+		store.setValue(row, index, cellValue.getValue(), cellValue.getShowValue());
+		store.setHasLoadAll(row, index, cellValue.hasLoadAll());
+	}
+
 	/**
 	 * Load Blob data
 	 *
@@ -599,12 +710,16 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 	private void fillTableItemData(CUBRIDResultSetProxy rs) throws SQLException {
 		cntRecord = 0;
 		int limit = recordLimit;
+		boolean isPromptInLoop = multiQuerySql == null || isStreamingCursor;
 		while (rs.next()) {
 			cntRecord++;
 			//add item data to the end of list
 			addTableItemData(rs, -1);
 			resultSetDataCache.AddData(BuildCurrentRowData(rs));
-			if (recordLimit > 0 && cntRecord >= limit && multiQuerySql == null) {
+			if (keysetColumnIndex > 0) {
+				keysetLastValue = rs.getObject(keysetColumnIndex);
+			}
+			if (recordLimit > 0 && cntRecord >= limit && isPromptInLoop) {
 				final String msg = Messages.bind(Messages.tooManyRecord, limit);
 				showQueryTip(msg);
 				if (isEnd) {
@@ -1808,7 +1923,13 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 	}
 
 	/**
-	 * make query editor result table
+	 * make query editor result table.
+	 *
+	 * When streaming fetch is enabled, the query is executed once and the next
+	 * search units are read from the same cursor. Otherwise every search unit
+	 * re-executes the query, continuing after the last primary key value when
+	 * the query reads a table with a single column primary key or after the
+	 * last ROWNUM when it does not.
 	 *
 	 * @param start int
 	 * @throws SQLException if failed
@@ -1816,15 +1937,17 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 	public TuneModeModel makeTable(int start, boolean useTuneMode) throws SQLException {
 		int end = start + recordLimit - 1;
 		String sql = multiQuerySql;
+		isStreamingCursor = false;
 		if (multiQuerySql.indexOf(SqlParser.ROWNUM_CONDITION_MARK) != -1) {
-			if (dontTipNext) {
-				if (recordLimit > 0) {
-					sql = this.multiQuerySql.replace(SqlParser.ROWNUM_CONDITION_MARK,
-						"\r\nWHERE ROWNUM  >= " + String.valueOf(start));
-				}
+			if (useStreamingFetch) {
+				isStreamingCursor = true;
+				sql = this.multiQuerySql.replace(SqlParser.ROWNUM_CONDITION_MARK, "");
 			} else {
+				if (start == 1) {
+					resolveKeysetColumn();
+				}
 				sql = this.multiQuerySql.replace(SqlParser.ROWNUM_CONDITION_MARK,
-					"\r\nWHERE ROWNUM BETWEEN " + String.valueOf(start) + " AND " + String.valueOf(end));
+						getPagingCondition(start, end));
 			}
 		}
 
@@ -1843,6 +1966,10 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 			stmt = getStatement(connection.checkAndConnectQuietly(), sql, false, false);
 			stmt.setQueryInfo(false);
 			stmt.setOnlyQueryPlan(false);
+			stmt.setFetchSize(fetchSize);
+			if (!isStreamingCursor && keysetColumn != null && start > 1) {
+				stmt.setObject(1, keysetLastValue);
+			}
 
 			// begin tune mode
 			if (queryEditor.isCollectExecStats()) {
@@ -1901,7 +2028,7 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 			QueryUtil.freeQuery(stmt, rs);
 			stmt = null;
 			rs = null;
-			if (!isHasError && cntRecord == recordLimit && recordLimit > 0) {
+			if (!isHasError && !isStreamingCursor && cntRecord == recordLimit && recordLimit > 0) {
 				isEnd = false;
 				final String msg = Messages.bind(Messages.tooManyRecord, end);
 				showQueryTip(msg);
@@ -1914,6 +2041,84 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 		return tuneModeModel;
 	}
 
+	/**
+	 * Get the condition which replaces the ROWNUM mark of the paginating SQL
+	 * for the search unit beginning at start
+	 *
+	 * @param start the first row number of the search unit
+	 * @param end the last row number of the search unit
+	 * @return the condition
+	 */
+	private String getPagingCondition(int start, int end) {
+		if (keysetColumn != null) {
+			StringBuilder condition = new StringBuilder("\r\n");
+			if (start > 1) {
+				condition.append("WHERE ").append(keysetColumn).append(" > ? ");
+			}
+			condition.append("ORDER BY ").append(keysetColumn);
+			if (!dontTipNext && recordLimit > 0) {
+				condition.append(" LIMIT ").append(recordLimit);
+			}
+			return condition.toString();
+		}
+
+		if (dontTipNext) {
+			return "\r\nWHERE ROWNUM  >= " + String.valueOf(start);
+		}
+		return "\r\nWHERE ROWNUM BETWEEN " + String.valueOf(start) + " AND " + String.valueOf(end);
+	}
+
+	/**
+	 * Find the single column primary key of the table the paginating SQL reads,
+	 * so that the next search units can continue after the last key instead of
+	 * counting ROWNUM from the first row again. The key is used only when it
+	 * is one of the selected columns and nothing follows the ROWNUM mark.
+	 */
+	private void resolveKeysetColumn() {
+		keysetColumn = null;
+		keysetColumnIndex = 0;
+		keysetLastValue = null;
+		if (!multiQuerySql.trim().endsWith(SqlParser.ROWNUM_CONDITION_MARK + ";")) {
+			return;
+		}
+
+		String sql = multiQuerySql.replace(SqlParser.ROWNUM_CONDITION_MARK, "");
+		CUBRIDPreparedStatementProxy pstmt = null;
+		try {
+			pstmt = getStatement(connection.checkAndConnectQuietly(), sql, false, false);
+			ResultSetMetaData rsMetaData = pstmt.getMetaData();
+			if (rsMetaData == null || rsMetaData.getColumnCount() == 0) {
+				return;
+			}
+			String tableName = rsMetaData.getTableName(1);
+			for (int i = 2; i <= rsMetaData.getColumnCount(); i++) {
+				if (tableName == null || !tableName.equalsIgnoreCase(rsMetaData.getTableName(i))) {
+					return;
+				}
+			}
+			if (StringUtil.isEmpty(tableName)) {
+				return;
+			}
+
+			List<String> pkList = UIQueryUtil.getPkList(getDatabaseInfo(), tableName);
+			if (pkList.size() != 1) {
+				return;
+			}
+			String pkName = pkList.get(0);
+			for (int i = 1; i <= rsMetaData.getColumnCount(); i++) {
+				if (pkName.equalsIgnoreCase(rsMetaData.getColumnName(i))) {
+					keysetColumn = QuerySyntax.escapeKeyword(pkName);
+					keysetColumnIndex = i;
+					break;
+				}
+			}
+		} catch (SQLException e) {
+			LOGGER.debug("Can not resolve the primary key for keyset paging: " + e.getMessage());
+		} finally {
+			QueryUtil.freeQuery(pstmt);
+		}
+	}
+
 	private void recordSQLDetail(String elapseTime, String info) {
 		elapseTime = elapseTime.trim();
 		try {
@@ -2110,13 +2315,7 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 					compareTableItemData(item, i, columnIndex);
 				}
 
-				Object colValue = dataMap.get(columnIndex);
-				String showValue = null;
-				if (colValue instanceof String) {
-					showValue = (String) colValue;
-				} else if (colValue instanceof CellValue) {
-					showValue = ((CellValue) colValue).getShowValue();
-				}
+				String showValue = ColumnarResultStore.getShowValue(dataMap, columnIndex);
 
 				if (showValue == null) {
 					item.setText(columnNum, DataType.NULL_EXPORT_FORMAT);
@@ -3088,6 +3287,7 @@ public class QueryExecuter implements IShowMoreOperator{ // FIXME very complicat
 						CellValue oldValue = oldValueMap.get(colInfo.getIndex());
 						if (newValue != null && oldValue != null) {
 							oldValue.setValue(newValue.getValue());
+							oldValueMap.put(colInfo.getIndex(), oldValue);
 						}
 					}
 				} catch (SQLException e) {
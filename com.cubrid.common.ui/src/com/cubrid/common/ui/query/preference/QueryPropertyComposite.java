@@ -70,6 +70,8 @@ public class QueryPropertyComposite extends
 	private Spinner pageUnitCountSpinner;
 	private Spinner unitCountSpinner;
 	private Spinner loadSizeSpinner;
+	private Button streamingFetchBtn;
+	private Spinner fetchSizeSpinner;
 //	private Button oidBtn;
 	private final CubridServer server;
 	protected int fontColorBlue;
@@ -98,6 +100,8 @@ public class QueryPropertyComposite extends
 		int recordCount = QueryOptions.getSearchUnitCount(serverInfo);
 		int pageCount = QueryOptions.getPageLimit(serverInfo);
 		int loadSize = QueryOptions.getLobLoadSize(serverInfo);
+		boolean isUseStreamingFetch = QueryOptions.getUseStreamingFetch(serverInfo);
+		int fetchSize = QueryOptions.getFetchSize(serverInfo);
 
 		boolean isKeywordLowerCase = QueryOptions.getKeywordLowercase(serverInfo);
 		boolean isNoAutoUppercaseKeyword = QueryOptions.getNoAutoUppercaseKeyword(serverInfo);
@@ -115,6 +119,8 @@ public class QueryPropertyComposite extends
 		unitCountSpinner.setSelection(recordCount);
 		loadSizeSpinner.setSelection(loadSize);
 		pageUnitCountSpinner.setSelection(pageCount);
+		streamingFetchBtn.setSelection(isUseStreamingFetch);
+		fetchSizeSpinner.setSelection(fetchSize);
 
 		keywordLowerBtn.setSelection(isKeywordLowerCase);
 		keywordLowerBtn.addSelectionListener(new SelectionListener() {
@@ -161,6 +167,8 @@ public class QueryPropertyComposite extends
 		int unitCount = unitCountSpinner.getSelection();
 		int pageUnitCount = pageUnitCountSpinner.getSelection();
 		int loadSize = loadSizeSpinner.getSelection();
+		boolean isUseStreamingFetch = streamingFetchBtn.getSelection();
+		int fetchSize = fetchSizeSpinner.getSelection();
 
 		boolean isKeywordLowercase = keywordLowerBtn.getSelection();
 		boolean isNoAutoUppercaseKeyword = autoNoUppercaseKeywordBtn.getSelection();
@@ -181,6 +189,8 @@ public class QueryPropertyComposite extends
 		QueryOptions.setShowStyle(serverInfo, true);
 		QueryOptions.setUseScientificNotation(serverInfo, isUseScientificNotation);
 		QueryOptions.setLobLoadSize(serverInfo, loadSize);
+		QueryOptions.setUseStreamingFetch(serverInfo, isUseStreamingFetch);
+		QueryOptions.setFetchSize(serverInfo, fetchSize);
 		QueryOptions.setMultiPageConfirm(isShowMultiPageConfirm);
 		QueryOptions.savePref();
 
@@ -257,6 +267,25 @@ public class QueryPropertyComposite extends
 		loadSizeSpinner.setLayoutData(gdPageUnitSpinner);
 		loadSizeSpinner.setIncrement(8);
 
+		final Label fetchSizeLabel = new Label(groupFirst, SWT.NONE);
+		fetchSizeLabel.setText(Messages.lblFetchSize);
+
+		fetchSizeSpinner = new Spinner(groupFirst, SWT.BORDER);
+		fetchSizeSpinner.setMinimum(1);
+		fetchSizeSpinner.setMaximum(100000);
+		final GridData gdFetchSizeSpinner = new GridData(SWT.RIGHT, SWT.CENTER, false, false);
+		gdFetchSizeSpinner.widthHint = 129;
+		fetchSizeSpinner.setLayoutData(gdFetchSizeSpinner);
+		fetchSizeSpinner.setIncrement(100);
+
+		streamingFetchBtn = new Button(groupFirst, SWT.CHECK);
+		streamingFetchBtn.setText(Messages.btnUseStreamingFetch);
+		{
+			final GridData gd = new GridData(GridData.FILL_HORIZONTAL);
+			gd.horizontalSpan = 2;
+			streamingFetchBtn.setLayoutData(gd);
+		}
+
 		multiPageConfirmBtn = new Button(groupFirst, SWT.CHECK);
 		multiPageConfirmBtn.setText(Messages.showMultiPageConfirm);
 		{
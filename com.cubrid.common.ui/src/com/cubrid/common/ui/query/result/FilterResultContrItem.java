@@ -63,6 +63,7 @@ import com.cubrid.common.ui.query.control.QueryExecuter;
 import com.cubrid.common.ui.query.result.QueryResultFilterSetting.MatchType;
 import com.cubrid.common.ui.spi.persist.QueryOptions;
 import com.cubrid.common.ui.spi.table.CellValue;
+import com.cubrid.common.ui.spi.table.ColumnarResultStore;
 import com.cubrid.common.ui.spi.util.CommonUITool;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
 
@@ -407,14 +408,8 @@ public class FilterResultContrItem extends ControlContribution {
 		}
 
 		for (ColumnInfo colInfo : colInfoList) {
-			String columnIndex = colInfo.getIndex();
-			Object colValue = dataMap.get(columnIndex);
-			String colStringValue = null;
-			if (colValue instanceof String) {
-				colStringValue = (String) colValue;
-			} else if (colValue instanceof CellValue) {
-				colStringValue = ((CellValue) colValue).getShowValue();
-			}
+			String colStringValue = ColumnarResultStore.getShowValue(dataMap,
+					colInfo.getIndex());
 			if (isMatch(filterSetting, colStringValue, null)) {
 				return true;
 			}
@@ -86,9 +86,12 @@ public final class QueryOptions {
 	public static final String MULTI_PAGE_CONFIRM = ".multi_page_confirm";
 	public static final String USE_SCIENTIFIC_NOTATION = ".use_scienfitic_notation";
 	public static final String LOB_LOAD_SIZE = ".lob_load_size";
+	public static final String STREAMING_FETCH = ".streaming_fetch";
+	public static final String FETCH_SIZE = ".fetch_size";
 
 	public static final int DEFAULT_MAX_RECORD_LIMIT = 5000;
 	public static final int DEFAULT_MAX_PAGE_LIMIT = 100;
+	public static final int DEFAULT_FETCH_SIZE = 1000;
 
 	public static final int FONT_COLOR_RED = 0;
 	public static final int FONT_COLOR_GREEN = 0;
@@ -1018,6 +1021,55 @@ public final class QueryOptions {
 		pref.putInt(prefix + QueryOptions.LOB_LOAD_SIZE, size);
 	}
 
+	/**
+	 * Get whether the query editor keeps one cursor open and fetches the next
+	 * pages from it instead of re-executing the query per page
+	 * 
+	 * @param serverInfo
+	 * @return <code>true</code> if enabled;<code>false</code>otherwise
+	 */
+	public static boolean getUseStreamingFetch(ServerInfo serverInfo) {
+		String key = getPreKey(serverInfo, QueryOptions.STREAMING_FETCH);
+		return pref.getBoolean(key, true);
+	}
+
+	/**
+	 * Set whether the query editor keeps one cursor open for paging
+	 * 
+	 * @param serverInfo
+	 * @param isUse
+	 */
+	public static void setUseStreamingFetch(ServerInfo serverInfo, boolean isUse) {
+		String prefix = getPrefix(serverInfo);
+		pref.putBoolean(prefix + QueryOptions.STREAMING_FETCH, isUse);
+	}
+
+	/**
+	 * Get the JDBC fetch size used by the query editor
+	 * 
+	 * @param serverInfo
+	 * @return
+	 */
+	public static int getFetchSize(ServerInfo serverInfo) {
+		String key = getPreKey(serverInfo, QueryOptions.FETCH_SIZE);
+		int fetchSize = pref.getInt(key, DEFAULT_FETCH_SIZE);
+		if (fetchSize <= 0) {
+			fetchSize = DEFAULT_FETCH_SIZE;
+		}
+		return fetchSize;
+	}
+
+	/**
+	 * Set the JDBC fetch size used by the query editor
+	 * 
+	 * @param serverInfo
+	 * @param size
+	 */
+	public static void setFetchSize(ServerInfo serverInfo, int size) {
+		String prefix = getPrefix(serverInfo);
+		pref.putInt(prefix + QueryOptions.FETCH_SIZE, size);
+	}
+
 	/**
 	 * 
 	 * Get show confirmation prompt status of this server from preference
@@ -96,11 +96,7 @@ public class CommonTaskJobExec extends
 		}
 
 		for (final ITask task : taskList) {
-			if (task instanceof AbstractUITask) {
-				((AbstractUITask) task).execute(monitor);
-			} else {
-				task.execute();
-			}
+			executeTask(task, monitor);
 			final String msg = task.getErrorMsg();
 			if (msg != null && msg.length() > 0 && !monitor.isCanceled()
 					&& !isCanceled()) {
@@ -139,6 +135,20 @@ public class CommonTaskJobExec extends
 		return Status.OK_STATUS;
 	}
 
+	/**
+	 * Execute a task in the job thread
+	 * 
+	 * @param task the ITask object
+	 * @param monitor the monitor
+	 */
+	protected void executeTask(ITask task, IProgressMonitor monitor) {
+		if (task instanceof AbstractUITask) {
+			((AbstractUITask) task).execute(monitor);
+		} else {
+			task.execute();
+		}
+	}
+
 	/**
 	 * Notification that a job has completed execution, either due to cancel,
 	 * successful completion, or failure. The event status object indicates how
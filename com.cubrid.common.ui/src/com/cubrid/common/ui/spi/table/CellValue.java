@@ -40,7 +40,8 @@ import java.util.Map;
  */
 public class CellValue {
 	private static final String KEY_FILE_CHARSET = "file_charset";
-	private final Map<String, Object> properties = new HashMap<String, Object>();
+	// most of the cells have no property, so the map is created on demand
+	private Map<String, Object> properties;
 	private String showValue;
 	private Object value;
 	private boolean hasLoadAll = true;
@@ -58,15 +59,18 @@ public class CellValue {
 	}
 
 	public Map<String, Object> getProperties() {
+		if (properties == null) {
+			properties = new HashMap<String, Object>();
+		}
 		return properties;
 	}
 
 	public Object getProperty(String name) {
-		return properties.get(name);
+		return properties == null ? null : properties.get(name);
 	}
 
 	public void putProperty(String name, Object obj) {
-		properties.put(name, obj);
+		getProperties().put(name, obj);
 	}
 
 	public String getFileCharset() {
@@ -94,6 +98,16 @@ public class CellValue {
 	}
 
 	public String getStringValue() {
+		return getStringValue(value);
+	}
+
+	/**
+	 * Get the string of a cell value
+	 *
+	 * @param value the cell value
+	 * @return the string or null if the value is null
+	 */
+	public static String getStringValue(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.common.ui.spi.table;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A growable column of query result values stored in primitive arrays.
+ *
+ * The encoding is picked from the first non-null value: integers, longs,
+ * floats, doubles and JDBC date/time values are kept unboxed, strings are
+ * dictionary-encoded until the column holds more than
+ * {@link #DICTIONARY_LIMIT} distinct values, and everything else is kept as
+ * plain objects. A value that does not fit the current encoding converts the
+ * column to plain objects, so {@link #get(int)} always returns a value equal
+ * to, and of the same class as, the one that was stored.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class ColumnVector {
+	public static final int DICTIONARY_LIMIT = 4096;
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Storage encoding of the column
+	 */
+	private enum Encoding {
+		EMPTY, INT, SHORT, LONG, FLOAT, DOUBLE, TIMESTAMP, DATE, TIME, STRING, OBJECT
+	}
+
+	private Encoding encoding = Encoding.EMPTY;
+	private int size;
+	private final BitSet nulls = new BitSet();
+	private int[] ints;
+	private long[] longs;
+	private float[] floats;
+	private double[] doubles;
+	private Object[] objects;
+	private List<String> dictionary;
+	private Map<String, Integer> dictionaryIndex;
+
+	/**
+	 * Append a value to the end of the column.
+	 *
+	 * @param value the value, may be null
+	 */
+	public void add(Object value) {
+		set(size, value);
+	}
+
+	/**
+	 * Set the value of a row. Rows between the current size and the given
+	 * row are filled with null.
+	 *
+	 * @param row the row index
+	 * @param value the value, may be null
+	 */
+	public void set(int row, Object value) {
+		if (row < 0) {
+			throw new IndexOutOfBoundsException(String.valueOf(row));
+		}
+		if (encoding == Encoding.EMPTY && value != null) {
+			encoding = encodingOf(value);
+			allocate(Math.max(INITIAL_CAPACITY, Math.max(size, row + 1)));
+		} else if (value != null && !fits(value)) {
+			convertToObjects();
+		}
+		if (row >= size) {
+			ensureCapacity(row + 1);
+			nulls.set(size, row);
+			size = row + 1;
+		}
+		if (value == null) {
+			nulls.set(row);
+			if (encoding == Encoding.OBJECT) {
+				objects[row] = null;
+			}
+			return;
+		}
+		nulls.clear(row);
+		store(row, value);
+	}
+
+	/**
+	 * Get the value of a row.
+	 *
+	 * @param row the row index
+	 * @return the value or null
+	 */
+	public Object get(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException(String.valueOf(row));
+		}
+		if (nulls.get(row)) {
+			return null;
+		}
+		switch (encoding) {
+		case INT:
+			return Integer.valueOf(ints[row]);
+		case SHORT:
+			return Short.valueOf((short) ints[row]);
+		case LONG:
+			return Long.valueOf(longs[row]);
+		case FLOAT:
+			return Float.valueOf(floats[row]);
+		case DOUBLE:
+			return Double.valueOf(doubles[row]);
+		case TIMESTAMP:
+			return new Timestamp(longs[row]);
+		case DATE:
+			return new Date(longs[row]);
+		case TIME:
+			return new Time(longs[row]);
+		case STRING:
+			return dictionary.get(ints[row]);
+		case OBJECT:
+			return objects[row];
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Return whether the value of a row is null
+	 *
+	 * @param row the row index
+	 * @return boolean
+	 */
+	public boolean isNull(int row) {
+		return row >= size || nulls.get(row);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Return whether the values are kept in primitive arrays or in a
+	 * dictionary instead of as objects.
+	 *
+	 * @return boolean
+	 */
+	public boolean isCompact() {
+		return encoding != Encoding.OBJECT;
+	}
+
+	/**
+	 * Remove all values and release the storage.
+	 */
+	public void clear() {
+		encoding = Encoding.EMPTY;
+		size = 0;
+		nulls.clear();
+		clearStorage();
+	}
+
+	private static Encoding encodingOf(Object value) {
+		Class<?> clazz = value.getClass();
+		if (clazz == Integer.class) {
+			return Encoding.INT;
+		} else if (clazz == Short.class) {
+			return Encoding.SHORT;
+		} else if (clazz == Long.class) {
+			return Encoding.LONG;
+		} else if (clazz == Float.class) {
+			return Encoding.FLOAT;
+		} else if (clazz == Double.class) {
+			return Encoding.DOUBLE;
+		} else if (clazz == Timestamp.class && ((Timestamp) value).getNanos() % 1000000 == 0) {
+			return Encoding.TIMESTAMP;
+		} else if (clazz == Date.class) {
+			return Encoding.DATE;
+		} else if (clazz == Time.class) {
+			return Encoding.TIME;
+		} else if (clazz == String.class) {
+			return Encoding.STRING;
+		}
+		return Encoding.OBJECT;
+	}
+
+	private boolean fits(Object value) {
+		Encoding valueEncoding = encodingOf(value);
+		if (valueEncoding != encoding) {
+			return encoding == Encoding.OBJECT;
+		}
+		if (encoding == Encoding.STRING) {
+			return dictionaryIndex.containsKey(value) || dictionary.size() < DICTIONARY_LIMIT;
+		}
+		return true;
+	}
+
+	private void store(int row, Object value) {
+		switch (encoding) {
+		case INT:
+			ints[row] = ((Integer) value).intValue();
+			break;
+		case SHORT:
+			ints[row] = ((Short) value).shortValue();
+			break;
+		case LONG:
+			longs[row] = ((Long) value).longValue();
+			break;
+		case FLOAT:
+			floats[row] = ((Float) value).floatValue();
+			break;
+		case DOUBLE:
+			doubles[row] = ((Double) value).doubleValue();
+			break;
+		case TIMESTAMP:
+		case DATE:
+		case TIME:
+			longs[row] = ((java.util.Date) value).getTime();
+			break;
+		case STRING:
+			Integer code = dictionaryIndex.get(value);
+			if (code == null) {
+				code = Integer.valueOf(dictionary.size());
+				dictionary.add((String) value);
+				dictionaryIndex.put((String) value, code);
+			}
+			ints[row] = code.intValue();
+			break;
+		default:
+			objects[row] = value;
+			break;
+		}
+	}
+
+	private void allocate(int capacity) {
+		switch (encoding) {
+		case INT:
+		case SHORT:
+			ints = new int[capacity];
+			break;
+		case LONG:
+		case TIMESTAMP:
+		case DATE:
+		case TIME:
+			longs = new long[capacity];
+			break;
+		case FLOAT:
+			floats = new float[capacity];
+			break;
+		case DOUBLE:
+			doubles = new double[capacity];
+			break;
+		case STRING:
+			ints = new int[capacity];
+			dictionary = new ArrayList<String>();
+			dictionaryIndex = new HashMap<String, Integer>();
+			break;
+		default:
+			objects = new Object[capacity];
+			break;
+		}
+	}
+
+	private int capacity() {
+		switch (encoding) {
+		case INT:
+		case SHORT:
+		case STRING:
+			return ints.length;
+		case LONG:
+		case TIMESTAMP:
+		case DATE:
+		case TIME:
+			return longs.length;
+		case FLOAT:
+			return floats.length;
+		case DOUBLE:
+			return doubles.length;
+		case OBJECT:
+			return objects.length;
+		default:
+			return Integer.MAX_VALUE;
+		}
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		int capacity = capacity();
+		if (minCapacity <= capacity) {
+			return;
+		}
+		int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+		if (ints != null) {
+			ints = Arrays.copyOf(ints, newCapacity);
+		}
+		if (longs != null) {
+			longs = Arrays.copyOf(longs, newCapacity);
+		}
+		if (floats != null) {
+			floats = Arrays.copyOf(floats, newCapacity);
+		}
+		if (doubles != null) {
+			doubles = Arrays.copyOf(doubles, newCapacity);
+		}
+		if (objects != null) {
+			objects = Arrays.copyOf(objects, newCapacity);
+		}
+	}
+
+	private void convertToObjects() {
+		Object[] converted = new Object[Math.max(INITIAL_CAPACITY, capacity())];
+		for (int i = 0; i < size; i++) {
+			converted[i] = get(i);
+		}
+		clearStorage();
+		encoding = Encoding.OBJECT;
+		objects = converted;
+	}
+
+	private void clearStorage() {
+		ints = null;
+		longs = null;
+		floats = null;
+		doubles = null;
+		objects = null;
+		dictionary = null;
+		dictionaryIndex = null;
+	}
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.common.ui.spi.table;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Column oriented store of query result rows.
+ *
+ * Cell values are kept in one {@link ColumnVector} per column instead of a
+ * <code>Map&lt;String, CellValue&gt;</code> per row. The display text of a
+ * cell is only kept when it can not be derived from the value, otherwise it
+ * is formatted on demand by the column's {@link IShowValueFormatter}.
+ *
+ * The store is itself a list of row maps, so the result table, sorting,
+ * filtering, editing and exporting code can keep working with rows. A row map
+ * is a light view on the columns which creates its {@link CellValue}s on the
+ * first access. Cells put into a row map are kept as they are and shadow the
+ * column values of that row. Sorting and filtering read the cells through
+ * {@link #getValue(Map, String)} and {@link #getShowValue(Map, String)},
+ * which do not create the cell values of the rows of a store.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class ColumnarResultStore extends
+		AbstractList<Map<String, CellValue>> {
+	private static final int INITIAL_ROW_CAPACITY = 64;
+
+	private final List<String> columnKeys = new ArrayList<String>();
+	private final Map<String, Integer> columnPositions = new HashMap<String, Integer>();
+	private final List<ColumnVector> valueColumns = new ArrayList<ColumnVector>();
+	private final List<ColumnVector> showColumns = new ArrayList<ColumnVector>();
+	private final List<BitSet> explicitShowRows = new ArrayList<BitSet>();
+	private final List<BitSet> partialLoadedRows = new ArrayList<BitSet>();
+	private final List<IShowValueFormatter> formatters = new ArrayList<IShowValueFormatter>();
+	private final Map<Integer, Map<String, CellValue>> overrides = new HashMap<Integer, Map<String, CellValue>>();
+	private int[] order = new int[INITIAL_ROW_CAPACITY];
+	private int rowCount;
+	private int physicalRowCount;
+
+	/**
+	 * Set the formatter of the display text of a column. Without a formatter
+	 * the display text is the string form of the value.
+	 *
+	 * @param columnKey the column key
+	 * @param formatter the formatter or null
+	 */
+	public void setFormatter(String columnKey, IShowValueFormatter formatter) {
+		formatters.set(getColumnPosition(columnKey), formatter);
+	}
+
+	/**
+	 * Allocate a new row. The row is not a member of the list until its row
+	 * map returned by {@link #getRow(int)} is added.
+	 *
+	 * @return the row number
+	 */
+	public int newRow() {
+		return physicalRowCount++;
+	}
+
+	/**
+	 * Set the value of a cell whose display text is formatted on demand
+	 *
+	 * @param row the row number returned by {@link #newRow()}
+	 * @param columnKey the column key
+	 * @param value the value
+	 */
+	public void setValue(int row, String columnKey, Object value) {
+		int pos = getColumnPosition(columnKey);
+		valueColumns.get(pos).set(row, value);
+		explicitShowRows.get(pos).clear(row);
+		partialLoadedRows.get(pos).clear(row);
+	}
+
+	/**
+	 * Set the value and the display text of a cell. The display text is only
+	 * stored if it differs from the one that would be formatted on demand.
+	 *
+	 * @param row the row number returned by {@link #newRow()}
+	 * @param columnKey the column key
+	 * @param value the value
+	 * @param showValue the display text
+	 */
+	public void setValue(int row, String columnKey, Object value, String showValue) {
+		setValue(row, columnKey, value);
+		int pos = getColumnPosition(columnKey);
+		String formatted = format(pos, value);
+		if (showValue == null ? formatted == null : showValue.equals(formatted)) {
+			return;
+		}
+		ColumnVector showColumn = showColumns.get(pos);
+		if (showColumn == null) {
+			showColumn = new ColumnVector();
+			showColumns.set(pos, showColumn);
+		}
+		showColumn.set(row, showValue);
+		explicitShowRows.get(pos).set(row);
+	}
+
+	/**
+	 * Set whether the value of a cell is loaded completely
+	 *
+	 * @param row the row number returned by {@link #newRow()}
+	 * @param columnKey the column key
+	 * @param hasLoadAll whether the value is loaded completely
+	 */
+	public void setHasLoadAll(int row, String columnKey, boolean hasLoadAll) {
+		partialLoadedRows.get(getColumnPosition(columnKey)).set(row, !hasLoadAll);
+	}
+
+	/**
+	 * Get the map of a row
+	 *
+	 * @param row the row number returned by {@link #newRow()}
+	 * @return the row map
+	 */
+	public Map<String, CellValue> getRow(int row) {
+		if (row < 0 || row >= physicalRowCount) {
+			throw new IndexOutOfBoundsException(String.valueOf(row));
+		}
+		return new RowMap(row);
+	}
+
+	/**
+	 * Get the number of the columns that keep their values in primitive
+	 * arrays or dictionaries.
+	 *
+	 * @return the count
+	 */
+	public int getCompactColumnCount() {
+		int count = 0;
+		for (ColumnVector column : valueColumns) {
+			if (column.isCompact()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get the value of a cell of a row map, the cell value is not created if
+	 * the row map is a row of a store
+	 *
+	 * @param rowMap the row map
+	 * @param columnKey the column key
+	 * @return the value or null
+	 */
+	public static Object getValue(Map<String, CellValue> rowMap, String columnKey) {
+		if (rowMap instanceof ColumnarResultStore.RowMap) {
+			return ((ColumnarResultStore.RowMap) rowMap).getCellValue(columnKey, false);
+		}
+		Object cell = rowMap == null ? null : rowMap.get(columnKey);
+		return cell instanceof CellValue ? ((CellValue) cell).getValue() : cell;
+	}
+
+	/**
+	 * Get the display text of a cell of a row map, the cell value is not
+	 * created if the row map is a row of a store
+	 *
+	 * @param rowMap the row map
+	 * @param columnKey the column key
+	 * @return the display text or null
+	 */
+	public static String getShowValue(Map<String, CellValue> rowMap, String columnKey) {
+		if (rowMap instanceof ColumnarResultStore.RowMap) {
+			return (String) ((ColumnarResultStore.RowMap) rowMap).getCellValue(columnKey, true);
+		}
+		Object cell = rowMap == null ? null : rowMap.get(columnKey);
+		if (cell instanceof String) {
+			return (String) cell;
+		}
+		return cell instanceof CellValue ? ((CellValue) cell).getShowValue() : null;
+	}
+
+	public Map<String, CellValue> get(int index) {
+		return new RowMap(order[checkIndex(index, rowCount)]);
+	}
+
+	public int size() {
+		return rowCount;
+	}
+
+	public void add(int index, Map<String, CellValue> rowMap) {
+		checkIndex(index, rowCount + 1);
+		int row = toRow(rowMap);
+		if (rowCount == order.length) {
+			order = Arrays.copyOf(order, rowCount + (rowCount >> 1) + 1);
+		}
+		System.arraycopy(order, index, order, index + 1, rowCount - index);
+		order[index] = row;
+		rowCount++;
+		modCount++;
+	}
+
+	public Map<String, CellValue> set(int index, Map<String, CellValue> rowMap) {
+		checkIndex(index, rowCount);
+		Map<String, CellValue> old = new RowMap(order[index]);
+		order[index] = toRow(rowMap);
+		return old;
+	}
+
+	public Map<String, CellValue> remove(int index) {
+		checkIndex(index, rowCount);
+		Map<String, CellValue> old = new RowMap(order[index]);
+		System.arraycopy(order, index + 1, order, index, rowCount - index - 1);
+		rowCount--;
+		modCount++;
+		return old;
+	}
+
+	public void clear() {
+		columnKeys.clear();
+		columnPositions.clear();
+		valueColumns.clear();
+		showColumns.clear();
+		explicitShowRows.clear();
+		partialLoadedRows.clear();
+		formatters.clear();
+		overrides.clear();
+		order = new int[INITIAL_ROW_CAPACITY];
+		rowCount = 0;
+		physicalRowCount = 0;
+		modCount++;
+	}
+
+	private static int checkIndex(int index, int limit) {
+		if (index < 0 || index >= limit) {
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+		return index;
+	}
+
+	/**
+	 * Get the row number of a row map. A map that is not a row of this store
+	 * is copied into a new row.
+	 *
+	 * @param rowMap the row map
+	 * @return the row number
+	 */
+	private int toRow(Map<String, CellValue> rowMap) {
+		if (rowMap instanceof RowMap && ((RowMap) rowMap).getStore() == this) {
+			return ((RowMap) rowMap).row;
+		}
+		int row = newRow();
+		if (rowMap != null) {
+			overrides.put(Integer.valueOf(row), new HashMap<String, CellValue>(rowMap));
+		}
+		return row;
+	}
+
+	private int getColumnPosition(String columnKey) {
+		Integer pos = columnPositions.get(columnKey);
+		if (pos != null) {
+			return pos.intValue();
+		}
+		pos = Integer.valueOf(columnKeys.size());
+		columnKeys.add(columnKey);
+		columnPositions.put(columnKey, pos);
+		valueColumns.add(new ColumnVector());
+		showColumns.add(null);
+		explicitShowRows.add(new BitSet());
+		partialLoadedRows.add(new BitSet());
+		formatters.add(null);
+		return pos.intValue();
+	}
+
+	private String format(int pos, Object value) {
+		if (value == null) {
+			return null;
+		}
+		IShowValueFormatter formatter = formatters.get(pos);
+		if (formatter != null) {
+			return formatter.format(value);
+		}
+		return value instanceof String ? (String) value : String.valueOf(value);
+	}
+
+	/**
+	 * Create the cell value of a row from the columns
+	 *
+	 * @param pos the column position
+	 * @param row the row number
+	 * @return the cell value
+	 */
+	private CellValue createCellValue(int pos, int row) {
+		Object value = getColumnValue(pos, row);
+		CellValue cellValue = new CellValue(value, getColumnShowValue(pos, row, value));
+		if (partialLoadedRows.get(pos).get(row)) {
+			cellValue.setHasLoadAll(false);
+		}
+		return cellValue;
+	}
+
+	private Object getColumnValue(int pos, int row) {
+		ColumnVector column = valueColumns.get(pos);
+		return row < column.size() ? column.get(row) : null;
+	}
+
+	private String getColumnShowValue(int pos, int row, Object value) {
+		if (explicitShowRows.get(pos).get(row)) {
+			return (String) showColumns.get(pos).get(row);
+		}
+		return format(pos, value);
+	}
+
+	/**
+	 * The map view of a row
+	 *
+	 * @author cubrid
+	 * @version 1.0 - 2026-10-18 created by cubrid
+	 */
+	private final class RowMap extends
+			AbstractMap<String, CellValue> {
+		private final int row;
+		private CellValue[] cells;
+
+		private RowMap(int row) {
+			this.row = row;
+		}
+
+		private ColumnarResultStore getStore() {
+			return ColumnarResultStore.this;
+		}
+
+		private Map<String, CellValue> getOverride() {
+			return overrides.isEmpty() ? null : overrides.get(Integer.valueOf(row));
+		}
+
+		public CellValue get(Object key) {
+			Map<String, CellValue> override = getOverride();
+			if (override != null && override.containsKey(key)) {
+				return override.get(key);
+			}
+			Integer pos = columnPositions.get(key);
+			if (pos == null) {
+				return null;
+			}
+			int index = pos.intValue();
+			if (cells == null || cells.length <= index) {
+				cells = cells == null ? new CellValue[columnKeys.size()] : Arrays.copyOf(
+						cells, columnKeys.size());
+			}
+			if (cells[index] == null) {
+				cells[index] = createCellValue(index, row);
+			}
+			return cells[index];
+		}
+
+		/**
+		 * Get the value or the display text of a cell, a cell which is put
+		 * or created before is used, otherwise it is read from the columns
+		 *
+		 * @param key the column key
+		 * @param isShowValue whether to get the display text
+		 * @return the value or the display text
+		 */
+		private Object getCellValue(String key, boolean isShowValue) {
+			Map<String, CellValue> override = getOverride();
+			CellValue cell = null;
+			if (override != null && override.containsKey(key)) {
+				cell = override.get(key);
+			} else {
+				Integer pos = columnPositions.get(key);
+				if (pos == null) {
+					return null;
+				}
+				int index = pos.intValue();
+				if (cells != null && index < cells.length) {
+					cell = cells[index];
+				}
+				if (cell == null) {
+					Object value = getColumnValue(index, row);
+					return isShowValue ? getColumnShowValue(index, row, value) : value;
+				}
+			}
+			if (cell == null) {
+				return null;
+			}
+			return isShowValue ? cell.getShowValue() : cell.getValue();
+		}
+
+		public boolean containsKey(Object key) {
+			Map<String, CellValue> override = getOverride();
+			return columnPositions.containsKey(key)
+					|| (override != null && override.containsKey(key));
+		}
+
+		public CellValue put(String key, CellValue value) {
+			CellValue old = get(key);
+			Integer rowKey = Integer.valueOf(row);
+			Map<String, CellValue> override = overrides.get(rowKey);
+			if (override == null) {
+				override = new HashMap<String, CellValue>();
+				overrides.put(rowKey, override);
+			}
+			override.put(key, value);
+			return old;
+		}
+
+		public int size() {
+			return keys().size();
+		}
+
+		private Collection<String> keys() {
+			Map<String, CellValue> override = getOverride();
+			if (override == null) {
+				return columnKeys;
+			}
+			Set<String> keys = new LinkedHashSet<String>(columnKeys);
+			keys.addAll(override.keySet());
+			return keys;
+		}
+
+		public Set<Map.Entry<String, CellValue>> entrySet() {
+			return new AbstractSet<Map.Entry<String, CellValue>>() {
+				public Iterator<Map.Entry<String, CellValue>> iterator() {
+					final Iterator<String> it = keys().iterator();
+					return new Iterator<Map.Entry<String, CellValue>>() {
+						public boolean hasNext() {
+							return it.hasNext();
+						}
+
+						public Map.Entry<String, CellValue> next() {
+							if (!it.hasNext()) {
+								throw new NoSuchElementException();
+							}
+							return new RowEntry(it.next());
+						}
+
+						public void remove() {
+							throw new UnsupportedOperationException();
+						}
+					};
+				}
+
+				public int size() {
+					return RowMap.this.size();
+				}
+			};
+		}
+
+		/**
+		 * The entry of a cell, its cell value is created when it is read
+		 */
+		private final class RowEntry implements
+				Map.Entry<String, CellValue> {
+			private final String key;
+
+			private RowEntry(String key) {
+				this.key = key;
+			}
+
+			public String getKey() {
+				return key;
+			}
+
+			public CellValue getValue() {
+				return get(key);
+			}
+
+			public CellValue setValue(CellValue value) {
+				throw new UnsupportedOperationException();
+			}
+
+			public boolean equals(Object obj) {
+				if (!(obj instanceof Map.Entry)) {
+					return false;
+				}
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+				CellValue value = getValue();
+				return key.equals(entry.getKey())
+						&& (value == null ? entry.getValue() == null
+								: value.equals(entry.getValue()));
+			}
+
+			public int hashCode() {
+				CellValue value = getValue();
+				return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+			}
+
+			public String toString() {
+				return key + "=" + getValue();
+			}
+		}
+	}
+}
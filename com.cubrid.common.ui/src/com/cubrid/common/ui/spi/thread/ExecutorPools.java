@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.common.ui.spi.thread;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 
+ * The application wide thread pools. The CPU pool has a thread per processor
+ * for the computing tasks, the I/O pool has more threads for the tasks which
+ * wait for CMS or JDBC. Other named pools can be created by
+ * {@link #getPool(String, int, int)} and they are shared by name.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class ExecutorPools {
+	public static final String CPU_POOL_NAME = "CPU";
+	public static final String IO_POOL_NAME = "IO";
+	private static final int PROCESSOR_COUNT = Runtime.getRuntime().availableProcessors();
+	private static final Map<String, NamedExecutor> POOLS = new LinkedHashMap<String, NamedExecutor>();
+
+	private ExecutorPools() {
+	}
+
+	/**
+	 * 
+	 * Get the pool for the computing tasks
+	 * 
+	 * @return NamedExecutor
+	 */
+	public static NamedExecutor getCpuPool() {
+		return getPool(CPU_POOL_NAME, PROCESSOR_COUNT, PROCESSOR_COUNT * 64);
+	}
+
+	/**
+	 * 
+	 * Get the pool for the tasks which request CMS or JDBC
+	 * 
+	 * @return NamedExecutor
+	 */
+	public static NamedExecutor getIoPool() {
+		return getPool(IO_POOL_NAME, Math.max(16, PROCESSOR_COUNT * 4), 1024);
+	}
+
+	/**
+	 * 
+	 * Get the pool by name, it is created with the thread count and the
+	 * queue capacity if it does not exist
+	 * 
+	 * @param name the pool name
+	 * @param threadCount the max thread count
+	 * @param queueCapacity the max count of the waiting tasks
+	 * @return NamedExecutor
+	 */
+	public static NamedExecutor getPool(String name, int threadCount,
+			int queueCapacity) {
+		synchronized (POOLS) {
+			NamedExecutor pool = POOLS.get(name);
+			if (pool == null) {
+				pool = new NamedExecutor(name, threadCount, queueCapacity);
+				POOLS.put(name, pool);
+			}
+			return pool;
+		}
+	}
+
+	/**
+	 * 
+	 * Get all the created pools, it is used to show their metrics
+	 * 
+	 * @return List<NamedExecutor>
+	 */
+	public static List<NamedExecutor> getPools() {
+		synchronized (POOLS) {
+			return new ArrayList<NamedExecutor>(POOLS.values());
+		}
+	}
+
+	/**
+	 * 
+	 * Shutdown all the pools
+	 * 
+	 */
+	public static void shutdownAll() {
+		synchronized (POOLS) {
+			for (NamedExecutor pool : POOLS.values()) {
+				pool.shutdown();
+			}
+			POOLS.clear();
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.common.ui.spi.thread;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+
+/**
+ * 
+ * A named and bounded thread pool. When all the threads are busy and the queue
+ * is full, the submitting thread runs the task itself, so the submitter is
+ * slowed down instead of getting an exception. The queue depth, the waiting
+ * time and the running time of the tasks are recorded.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class NamedExecutor implements
+		Executor {
+	private static final Logger LOGGER = LogUtil.getLogger(NamedExecutor.class);
+	private static final long NANOS_PER_MILLI = 1000000L;
+
+	private final String name;
+	private final ThreadPoolExecutor executor;
+	private final AtomicLong submittedCount = new AtomicLong();
+	private final AtomicLong completedCount = new AtomicLong();
+	private final AtomicLong callerRunCount = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+	private final AtomicLong totalRunNanos = new AtomicLong();
+
+	public NamedExecutor(final String name, int threadCount, int queueCapacity) {
+		this.name = name;
+		executor = new ThreadPoolExecutor(threadCount, threadCount, 60,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(
+						queueCapacity), new ThreadFactory() {
+					private final AtomicInteger threadNo = new AtomicInteger();
+
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "Thread"
+								+ threadNo.getAndIncrement() + "@" + name);
+						thread.setDaemon(true);
+						return thread;
+					}
+				}, new RejectedExecutionHandler() {
+					public void rejectedExecution(Runnable runnable,
+							ThreadPoolExecutor executor) {
+						callerRunCount.incrementAndGet();
+						runnable.run();
+					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * 
+	 * Execute the runnable object in the pool, or in the current thread if
+	 * the pool is full
+	 * 
+	 * @param runnableObj Runnable
+	 */
+	public void execute(Runnable runnableObj) {
+		submittedCount.incrementAndGet();
+		executor.execute(new MeasuredRunnable(runnableObj, null));
+	}
+
+	/**
+	 * 
+	 * Execute all the runnable objects in the pool and wait until all of them
+	 * are done
+	 * 
+	 * @param runnableObjList List<Runnable>
+	 * @param timeoutMillis the max waiting time, 0 means no limit
+	 * @return false if it is timeout
+	 * @throws InterruptedException the exception
+	 */
+	public boolean executeAll(List<? extends Runnable> runnableObjList,
+			long timeoutMillis) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(runnableObjList.size());
+		for (Runnable runnableObj : runnableObjList) {
+			submittedCount.incrementAndGet();
+			executor.execute(new MeasuredRunnable(runnableObj, latch));
+		}
+		if (timeoutMillis <= 0) {
+			latch.await();
+			return true;
+		}
+		return latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 
+	 * Stop accepting new tasks, the queued tasks are still executed
+	 * 
+	 */
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 
+	 * Get the count of the tasks waiting in the queue
+	 * 
+	 * @return int
+	 */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public long getSubmittedCount() {
+		return submittedCount.get();
+	}
+
+	public long getCompletedCount() {
+		return completedCount.get();
+	}
+
+	/**
+	 * 
+	 * Get the count of the tasks which were run by the submitting thread
+	 * because the pool was full
+	 * 
+	 * @return long
+	 */
+	public long getCallerRunCount() {
+		return callerRunCount.get();
+	}
+
+	/**
+	 * 
+	 * Get the average time between submitting and starting of the tasks
+	 * 
+	 * @return the milliseconds
+	 */
+	public double getAverageWaitMillis() {
+		long count = completedCount.get();
+		return count == 0 ? 0 : (double) totalWaitNanos.get() / count
+				/ NANOS_PER_MILLI;
+	}
+
+	/**
+	 * 
+	 * Get the average running time of the tasks
+	 * 
+	 * @return the milliseconds
+	 */
+	public double getAverageRunMillis() {
+		long count = completedCount.get();
+		return count == 0 ? 0 : (double) totalRunNanos.get() / count
+				/ NANOS_PER_MILLI;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 * @return String
+	 */
+	public String toString() {
+		return name + "[active=" + getActiveCount() + ", queued="
+				+ getQueueDepth() + ", completed=" + getCompletedCount()
+				+ ", callerRuns=" + getCallerRunCount() + ", avgWaitMs="
+				+ getAverageWaitMillis() + ", avgRunMs=" + getAverageRunMillis()
+				+ "]";
+	}
+
+	/**
+	 * 
+	 * Wrap a runnable object to record its waiting and running time
+	 * 
+	 * @author cubrid
+	 * @version 1.0 - 2026-10-18 created by cubrid
+	 */
+	private class MeasuredRunnable implements
+			Runnable {
+		private final Runnable runnableObj;
+		private final CountDownLatch latch;
+		private final long submitTime = System.nanoTime();
+
+		public MeasuredRunnable(Runnable runnableObj, CountDownLatch latch) {
+			this.runnableObj = runnableObj;
+			this.latch = latch;
+		}
+
+		/**
+		 * @see java.lang.Runnable#run()
+		 */
+		public void run() {
+			long startTime = System.nanoTime();
+			try {
+				runnableObj.run();
+			} catch (RuntimeException e) {
+				LOGGER.error("Task failed in " + name, e);
+			} finally {
+				long endTime = System.nanoTime();
+				totalWaitNanos.addAndGet(startTime - submitTime);
+				totalRunNanos.addAndGet(endTime - startTime);
+				completedCount.incrementAndGet();
+				if (latch != null) {
+					latch.countDown();
+				}
+			}
+		}
+	}
+}
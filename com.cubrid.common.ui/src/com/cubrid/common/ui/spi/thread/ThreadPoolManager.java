@@ -37,7 +37,11 @@ import java.util.Vector;
  * 
  * @author pangqiren
  * @version 1.0 - 2010-8-20 created by pangqiren
+ * @deprecated use the shared pools of {@link ExecutorPools}, they apply
+ *             back-pressure instead of throwing
+ *             {@link ThreadCountOutOfBoundsException}
  */
+@Deprecated
 public class ThreadPoolManager {
 
 	private int maxCount = -1;
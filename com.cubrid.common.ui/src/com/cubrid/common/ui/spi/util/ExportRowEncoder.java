@@ -0,0 +1,603 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.common.ui.spi.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+
+import com.cubrid.common.core.util.QuerySyntax;
+import com.cubrid.cubridmanager.core.cubrid.table.model.DBAttrTypeFormatter;
+import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
+import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetMetaDataProxy;
+import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetProxy;
+
+/**
+ * The row encoder of a table export.
+ *
+ * It is compiled once from the result set meta data of the first page: the
+ * way every column is encoded, the <code>INSERT INTO t (cols)</code> prefix
+ * and the big value check are resolved up front. A row is encoded into a
+ * reusable buffer and handed to the writer as one char array, so the row
+ * loop only reads the values. The output is the same as
+ * {@link FieldHandlerUtils#getRsValueForExportSQL},
+ * {@link FieldHandlerUtils#getRsValueForExportOBS} and
+ * {@link ResultSetFetchPlan#getExportValue} for the text formats.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class ExportRowEncoder {
+	/**
+	 * The exported file format
+	 */
+	public enum Format {
+		SQL, OBS, TEXT
+	}
+
+	/**
+	 * Export the LOB value of a column to its own file for the text formats
+	 */
+	public interface ILobExporter {
+		/**
+		 * Export the BLOB value of a column in the current row
+		 *
+		 * @param rs the result set
+		 * @param column the column number starting from 1
+		 * @return the value to write in the row
+		 * @throws SQLException if failed
+		 * @throws IOException if failed
+		 */
+		String exportBlob(CUBRIDResultSetProxy rs, int column) throws SQLException,
+				IOException;
+
+		/**
+		 * Export the CLOB value of a column in the current row
+		 *
+		 * @param rs the result set
+		 * @param column the column number starting from 1
+		 * @return the value to write in the row
+		 * @throws SQLException if failed
+		 * @throws IOException if failed
+		 */
+		String exportClob(CUBRIDResultSetProxy rs, int column) throws SQLException,
+				IOException;
+	}
+
+	private static final int CODE_NULL = 0;
+	private static final int CODE_NUMBER = 1;
+	private static final int CODE_BIT = 2;
+	private static final int CODE_NCHAR = 3;
+	private static final int CODE_STRING = 4;
+	private static final int CODE_DATETIME = 5;
+	private static final int CODE_DATE_TIME = 6;
+	private static final int CODE_COLLECTION = 7;
+
+	/* a buffer grown by a huge row is dropped instead of being kept */
+	private static final int MAX_KEPT_BUFFER_SIZE = 1024 * 1024;
+
+	private final ResultSetFetchPlan plan;
+	private final Format format;
+	private final int[] codes;
+	/* the SQL type of a date/time column or the OBS literal prefix */
+	private final String[] literals;
+	private final boolean[] isUnknownType;
+	/* the last date/time value of a column and its formatted value */
+	private final String[] lastValues;
+	private final String[] lastFormattedValues;
+	private final boolean isBigValueType;
+	private boolean hasBigValue;
+
+	private String insertPrefix;
+	private int rowsPerInsert = 1;
+	private int pendingRows;
+
+	private String columnSeparator;
+	private String surround;
+	private String nullValue;
+	private ILobExporter lobExporter;
+
+	private StringBuilder buffer = new StringBuilder(256);
+	private char[] chars = new char[256];
+
+	private ExportRowEncoder(ResultSetFetchPlan plan, Format format) {
+		this.plan = plan;
+		this.format = format;
+		int columnCount = plan.getColumnCount();
+		codes = new int[columnCount];
+		literals = new String[columnCount];
+		isUnknownType = new boolean[columnCount];
+		lastValues = new String[columnCount];
+		lastFormattedValues = new String[columnCount];
+		boolean isBigValue = false;
+		for (int i = 0; i < columnCount; i++) {
+			String columnType = plan.getColumnType(i + 1);
+			if (format == Format.SQL) {
+				codes[i] = getSQLCode(columnType);
+				if (codes[i] == CODE_DATE_TIME) {
+					literals[i] = getDateTimeType(columnType);
+				}
+			} else if (format == Format.OBS) {
+				codes[i] = getOBSCode(columnType);
+				if (codes[i] == CODE_DATE_TIME || codes[i] == CODE_DATETIME) {
+					literals[i] = " " + columnType.toLowerCase(Locale.getDefault()) + "' ";
+				}
+			}
+			isUnknownType[i] = plan.getKind(i + 1) == ResultSetFetchPlan.ColumnKind.OTHER;
+			isBigValue |= FieldHandlerUtils.isBitValue(columnType, plan.getPrecision(i + 1));
+		}
+		isBigValueType = isBigValue;
+	}
+
+	/**
+	 * Create the encoder of <code>INSERT</code> statements
+	 *
+	 * @param rs the result set
+	 * @param tableName the table name
+	 * @param rowsPerInsert the number of rows in one <code>INSERT</code>
+	 *        statement, the rows are written as
+	 *        <code>VALUES (...),(...)</code> if more than 1
+	 * @return the encoder
+	 * @throws SQLException if failed
+	 */
+	public static ExportRowEncoder createForSQL(CUBRIDResultSetProxy rs, String tableName,
+			int rowsPerInsert) throws SQLException {
+		ExportRowEncoder encoder = new ExportRowEncoder(ResultSetFetchPlan.create(rs), Format.SQL);
+		CUBRIDResultSetMetaDataProxy rsmt = (CUBRIDResultSetMetaDataProxy) rs.getMetaData();
+		StringBuilder insert = new StringBuilder("INSERT INTO ");
+		insert.append(QuerySyntax.escapeKeyword(tableName));
+		insert.append(" (");
+		for (int i = 1; i < rsmt.getColumnCount() + 1; i++) {
+			if (i > 1) {
+				insert.append(", ");
+			}
+			insert.append(QuerySyntax.escapeKeyword(rsmt.getColumnName(i)));
+		}
+		insert.append(") VALUES ");
+		encoder.insertPrefix = insert.toString();
+		encoder.rowsPerInsert = rowsPerInsert < 1 ? 1 : rowsPerInsert;
+		return encoder;
+	}
+
+	/**
+	 * Create the encoder of the CUBRID object (loaddb) format
+	 *
+	 * @param rs the result set
+	 * @return the encoder
+	 * @throws SQLException if failed
+	 */
+	public static ExportRowEncoder createForOBS(CUBRIDResultSetProxy rs) throws SQLException {
+		return new ExportRowEncoder(ResultSetFetchPlan.create(rs), Format.OBS);
+	}
+
+	/**
+	 * Create the encoder of the delimited text formats (CSV and TXT)
+	 *
+	 * @param rs the result set
+	 * @param columnSeparator the column separator
+	 * @param surround the string around every value
+	 * @param nullValue the value of null
+	 * @param lobExporter the exporter of BLOB and CLOB values
+	 * @return the encoder
+	 * @throws SQLException if failed
+	 */
+	public static ExportRowEncoder createForText(CUBRIDResultSetProxy rs,
+			String columnSeparator, String surround, String nullValue,
+			ILobExporter lobExporter) throws SQLException {
+		ExportRowEncoder encoder = new ExportRowEncoder(ResultSetFetchPlan.create(rs), Format.TEXT);
+		encoder.columnSeparator = columnSeparator;
+		encoder.surround = surround;
+		encoder.nullValue = nullValue;
+		encoder.lobExporter = lobExporter;
+		return encoder;
+	}
+
+	/**
+	 * The encoding of a SQL column, in the same order of the checks in
+	 * {@link FieldHandlerUtils#getRsValueForExportSQL}
+	 *
+	 * @param columnType the data type name
+	 * @return the code
+	 */
+	private static int getSQLCode(String columnType) {
+		if (isNumberType(columnType)) {
+			return CODE_NUMBER;
+		} else if (isBitType(columnType)) {
+			return CODE_BIT;
+		} else if (columnType.startsWith(DataType.DATATYPE_NCHAR)) {
+			return CODE_NCHAR;
+		} else if (columnType.equalsIgnoreCase(DataType.DATATYPE_DATETIME)) {
+			return CODE_DATETIME;
+		} else if (columnType.equalsIgnoreCase(DataType.DATATYPE_TIMESTAMP)
+				|| columnType.equalsIgnoreCase(DataType.DATATYPE_DATE)
+				|| columnType.equalsIgnoreCase(DataType.DATATYPE_TIME)) {
+			return CODE_DATE_TIME;
+		} else if (columnType.startsWith(DataType.DATATYPE_CHAR)
+				|| columnType.startsWith(DataType.DATATYPE_VARCHAR)) {
+			return CODE_STRING;
+		} else if (isCollectionType(columnType)) {
+			return CODE_COLLECTION;
+		}
+		return CODE_NULL;
+	}
+
+	/**
+	 * The encoding of an OBS column, in the same order of the checks in
+	 * {@link FieldHandlerUtils#getRsValueForExportOBS}
+	 *
+	 * @param columnType the data type name
+	 * @return the code
+	 */
+	private static int getOBSCode(String columnType) {
+		if (isNumberType(columnType)) {
+			return CODE_NUMBER;
+		} else if (isBitType(columnType)) {
+			return CODE_BIT;
+		} else if (columnType.startsWith(DataType.DATATYPE_NCHAR)) {
+			return CODE_NCHAR;
+		} else if (columnType.startsWith(DataType.DATATYPE_CHAR)
+				|| columnType.startsWith(DataType.DATATYPE_VARCHAR)) {
+			return CODE_STRING;
+		} else if (DataType.DATATYPE_TIME.equals(columnType)
+				|| DataType.DATATYPE_DATE.equals(columnType)
+				|| DataType.DATATYPE_TIMESTAMP.equals(columnType)) {
+			return CODE_DATE_TIME;
+		} else if (DataType.DATATYPE_DATETIME.equals(columnType)) {
+			return CODE_DATETIME;
+		} else if (isCollectionType(columnType)) {
+			return CODE_COLLECTION;
+		}
+		return CODE_NULL;
+	}
+
+	private static String getDateTimeType(String columnType) {
+		if (columnType.equalsIgnoreCase(DataType.DATATYPE_TIMESTAMP)) {
+			return DataType.DATATYPE_TIMESTAMP;
+		} else if (columnType.equalsIgnoreCase(DataType.DATATYPE_DATE)) {
+			return DataType.DATATYPE_DATE;
+		}
+		return DataType.DATATYPE_TIME;
+	}
+
+	private static boolean isNumberType(String columnType) {
+		return DataType.DATATYPE_MONETARY.equals(columnType)
+				|| DataType.DATATYPE_INTEGER.equals(columnType)
+				|| DataType.DATATYPE_TINYINT.equals(columnType)
+				|| DataType.DATATYPE_SMALLINT.equals(columnType)
+				|| DataType.DATATYPE_BIGINT.equals(columnType)
+				|| DataType.DATATYPE_DOUBLE.equals(columnType)
+				|| DataType.DATATYPE_FLOAT.equals(columnType)
+				|| DataType.DATATYPE_REAL.equals(columnType)
+				|| DataType.DATATYPE_NUMERIC.equals(columnType)
+				|| DataType.DATATYPE_DECIMAL.equals(columnType);
+	}
+
+	private static boolean isBitType(String columnType) {
+		return DataType.DATATYPE_BIT.equals(columnType)
+				|| DataType.DATATYPE_BIT_VARYING.equals(columnType);
+	}
+
+	private static boolean isCollectionType(String columnType) {
+		return DataType.DATATYPE_SET.equals(columnType)
+				|| DataType.DATATYPE_MULTISET.equals(columnType)
+				|| DataType.DATATYPE_SEQUENCE.equals(columnType);
+	}
+
+	public Format getFormat() {
+		return format;
+	}
+
+	/**
+	 * Whether the exported rows have a BLOB, CLOB or long BIT value, the same
+	 * as {@link FieldHandlerUtils#isBitValue} on every written cell
+	 *
+	 * @return boolean
+	 */
+	public boolean hasBigValue() {
+		return hasBigValue;
+	}
+
+	/**
+	 * Encode the current row of the result set and write it. The row
+	 * separator of the text formats is not written.
+	 *
+	 * @param rs the result set positioned on a row
+	 * @param writer the writer
+	 * @throws SQLException if failed to read the row, nothing is written
+	 * @throws IOException if failed to write
+	 */
+	public void writeRow(CUBRIDResultSetProxy rs, Writer writer) throws SQLException,
+			IOException {
+		buffer.setLength(0);
+		checkBigValue(rs);
+		if (format == Format.SQL) {
+			encodeSQLRow(rs);
+		} else if (format == Format.OBS) {
+			encodeOBSRow(rs);
+			buffer.append('\n');
+		} else {
+			encodeTextRow(rs);
+		}
+		flushBuffer(writer);
+	}
+
+	/**
+	 * Close the pending multiple rows <code>INSERT</code> statement. It has to
+	 * be called after the last row of the table is written.
+	 *
+	 * @param writer the writer
+	 * @throws IOException if failed to write
+	 */
+	public void finish(Writer writer) throws IOException {
+		if (pendingRows > 0) {
+			writer.write(";\n");
+			pendingRows = 0;
+		}
+	}
+
+	private void checkBigValue(CUBRIDResultSetProxy rs) throws SQLException {
+		if (hasBigValue) {
+			return;
+		}
+		if (isBigValueType) {
+			hasBigValue = true;
+			return;
+		}
+		for (int i = 0; i < isUnknownType.length; i++) {
+			if (isUnknownType[i]) {
+				Object obj = rs.getObject(i + 1);
+				if (obj instanceof Blob || obj instanceof Clob) {
+					hasBigValue = true;
+					return;
+				}
+			}
+		}
+	}
+
+	private void encodeSQLRow(CUBRIDResultSetProxy rs) throws SQLException {
+		if (pendingRows == 0) {
+			buffer.append(insertPrefix);
+		} else {
+			buffer.append(",\n");
+		}
+		buffer.append('(');
+		for (int i = 0; i < codes.length; i++) {
+			if (i > 0) {
+				buffer.append(", ");
+			}
+			encodeSQLValue(rs, i);
+		}
+		buffer.append(')');
+		if (++pendingRows >= rowsPerInsert) {
+			buffer.append(";\n");
+			pendingRows = 0;
+		}
+	}
+
+	private void encodeSQLValue(CUBRIDResultSetProxy rs, int index) throws SQLException {
+		int column = index + 1;
+		String value = null;
+		switch (codes[index]) {
+		case CODE_NUMBER:
+			value = rs.getString(column);
+			if (value == null) {
+				break;
+			}
+			buffer.append(value);
+			return;
+		case CODE_BIT:
+			byte[] bytes = (byte[]) rs.getObject(column);
+			if (bytes == null || (bytes.length > FieldHandlerUtils.BIT_TYPE_MUCH_VALUE_LENGTH
+					&& FieldHandlerUtils.BIT_TYPE_MUCH_VALUE_LENGTH > 0)) {
+				break;
+			}
+			buffer.append("X'").append(DBAttrTypeFormatter.getHexString(bytes)).append('\'');
+			return;
+		case CODE_NCHAR:
+			value = rs.getString(column);
+			if (value == null) {
+				break;
+			}
+			buffer.append('N');
+			appendQuoted(value, '\'');
+			return;
+		case CODE_DATETIME:
+			Timestamp datetime = rs.getTimestamp(column);
+			if (datetime == null) {
+				break;
+			}
+			/* formatting the value in DATETIME_FORMAT and parsing it back is an identity */
+			buffer.append(DataType.DATATYPE_DATETIME).append('\'');
+			buffer.append(FieldHandlerUtils.formatDateTime(datetime)).append('\'');
+			return;
+		case CODE_DATE_TIME:
+			value = rs.getString(column);
+			if (value == null) {
+				break;
+			}
+			if (!value.equals(lastValues[index])) {
+				lastValues[index] = value;
+				lastFormattedValues[index] = DBAttrTypeFormatter.formatValue(literals[index],
+						value, true);
+			}
+			buffer.append(lastFormattedValues[index]);
+			return;
+		case CODE_STRING:
+			value = rs.getString(column);
+			if (value == null) {
+				break;
+			}
+			appendQuoted(value, '\'');
+			return;
+		case CODE_COLLECTION:
+			buffer.append(FieldHandlerUtils.getRsValueForExportSQL(plan.getColumnType(column),
+					rs, column));
+			return;
+		default:
+			break;
+		}
+		buffer.append(DataType.VALUE_NULL);
+	}
+
+	private void encodeOBSRow(CUBRIDResultSetProxy rs) throws SQLException {
+		for (int i = 0; i < codes.length; i++) {
+			int column = i + 1;
+			String value = null;
+			switch (codes[i]) {
+			case CODE_NUMBER:
+				value = rs.getString(column);
+				if (value == null) {
+					break;
+				}
+				buffer.append(' ').append(value);
+				continue;
+			case CODE_BIT:
+				byte[] bytes = (byte[]) rs.getObject(column);
+				if (bytes == null) {
+					break;
+				}
+				buffer.append(" X'").append(DBAttrTypeFormatter.getHexString(bytes)).append('\'');
+				continue;
+			case CODE_NCHAR:
+				value = rs.getString(column);
+				if (value == null) {
+					break;
+				}
+				buffer.append(" N");
+				appendQuoted(value, '\'');
+				continue;
+			case CODE_STRING:
+				value = rs.getString(column);
+				if (value == null) {
+					break;
+				}
+				buffer.append(' ');
+				appendQuoted(value, '\'');
+				continue;
+			case CODE_DATE_TIME:
+				value = rs.getString(column);
+				if (value == null) {
+					break;
+				}
+				buffer.append(literals[i]).append(value).append('\'');
+				continue;
+			case CODE_DATETIME:
+				Timestamp datetime = rs.getTimestamp(column);
+				if (datetime == null) {
+					break;
+				}
+				buffer.append(literals[i]).append(FieldHandlerUtils.formatDateTime(datetime)).append(
+						'\'');
+				continue;
+			case CODE_COLLECTION:
+				buffer.append(FieldHandlerUtils.getRsValueForExportOBS(plan.getColumnType(column),
+						rs, column));
+				continue;
+			default:
+				break;
+			}
+			buffer.append(' ').append(DataType.VALUE_NULL);
+		}
+	}
+
+	private void encodeTextRow(CUBRIDResultSetProxy rs) throws SQLException, IOException {
+		int columnCount = codes.length;
+		for (int column = 1; column <= columnCount; column++) {
+			Object value = null;
+			ResultSetFetchPlan.ColumnKind kind = plan.getKind(column);
+			if (kind == ResultSetFetchPlan.ColumnKind.OTHER) {
+				String columnType = plan.getColumnType(rs, column);
+				if (DataType.DATATYPE_BLOB.equals(columnType)) {
+					kind = ResultSetFetchPlan.ColumnKind.BLOB;
+				} else if (DataType.DATATYPE_CLOB.equals(columnType)) {
+					kind = ResultSetFetchPlan.ColumnKind.CLOB;
+				}
+			}
+			if (kind == ResultSetFetchPlan.ColumnKind.BLOB) {
+				value = lobExporter.exportBlob(rs, column);
+			} else if (kind == ResultSetFetchPlan.ColumnKind.CLOB) {
+				value = lobExporter.exportClob(rs, column);
+			} else {
+				value = plan.getExportValue(rs, column, nullValue);
+			}
+
+			buffer.append(surround);
+			appendEscaped(value.toString(), '"');
+			buffer.append(surround);
+			if (column != columnCount) {
+				buffer.append(columnSeparator);
+			}
+		}
+	}
+
+	/**
+	 * Append a value between two quotes, a quote in the value is doubled
+	 *
+	 * @param value the value
+	 * @param quote the quote
+	 */
+	private void appendQuoted(String value, char quote) {
+		buffer.append(quote);
+		appendEscaped(value, quote);
+		buffer.append(quote);
+	}
+
+	/**
+	 * Append a value with every quote in it doubled
+	 *
+	 * @param value the value
+	 * @param quote the quote
+	 */
+	private void appendEscaped(String value, char quote) {
+		int start = 0;
+		int index = value.indexOf(quote);
+		while (index >= 0) {
+			buffer.append(value, start, index + 1).append(quote);
+			start = index + 1;
+			index = value.indexOf(quote, start);
+		}
+		buffer.append(value, start, value.length());
+	}
+
+	private void flushBuffer(Writer writer) throws IOException {
+		int length = buffer.length();
+		if (chars.length < length) {
+			chars = new char[Math.max(length, chars.length * 2)];
+		}
+		buffer.getChars(0, length, chars, 0);
+		writer.write(chars, 0, length);
+		if (length > MAX_KEPT_BUFFER_SIZE) {
+			buffer = new StringBuilder(256);
+			chars = new char[256];
+		}
+	}
+}
@@ -232,81 +232,12 @@ public final class FieldHandlerUtils {
 	 * @param colNumber column number
 	 * @return the value to be set. String or number.
 	 * @throws SQLException The exception
+	 * @see ResultSetFetchPlan#getExportValue(CUBRIDResultSetProxy, int, String)
 	 */
 	public static Object getRsValueForExport(String colType,
 			CUBRIDResultSetProxy rs, int colNumber, String nullValue) throws SQLException {
-		Object result = null;
-		Object data = rs.getObject(colNumber);
-		if (data == null || DataType.isNullValueForExport(colType, data)) {
-			result = nullValue;
-		} else if (DataType.DATATYPE_INTEGER.equals(colType)
-				|| DataType.DATATYPE_TINYINT.equals(colType)
-				|| DataType.DATATYPE_SMALLINT.equals(colType)
-				|| DataType.DATATYPE_BIGINT.equals(colType)) {
-			result = rs.getLong(colNumber);
-		} else if (DataType.DATATYPE_BIT.equals(colType)
-				|| DataType.DATATYPE_BIT_VARYING.equals(colType)) {
-			byte[] bytes = (byte[]) data;
-			if (bytes.length > BIT_TYPE_MUCH_VALUE_LENGTH
-					&& BIT_TYPE_MUCH_VALUE_LENGTH > 0) {
-				result = DataType.BIT_EXPORT_FORMAT;
-			} else {
-				result = "X'" + DBAttrTypeFormatter.getHexString(bytes) + "'";
-			}
-		} else if (DataType.DATATYPE_DOUBLE.equals(colType)
-				|| DataType.DATATYPE_FLOAT.equals(colType)
-				|| DataType.DATATYPE_REAL.equals(colType)) {
-			result = rs.getDouble(colNumber);
-		} else if (DataType.DATATYPE_NUMERIC.equals(colType)
-				|| DataType.DATATYPE_DECIMAL.equals(colType)
-				|| DataType.DATATYPE_MONETARY.equals(colType)) {
-			result = rs.getBigDecimal(colNumber).toString();
-		} else if (DataType.DATATYPE_DATETIME.equals(colType)) {
-			result = rs.getTimestamp(colNumber);
-		} else if (DataType.DATATYPE_TIMESTAMP.equals(colType)) {
-			result = rs.getTimestamp(colNumber);
-		} else if (DataType.DATATYPE_TIME.equals(colType)) {
-			result = rs.getTime(colNumber);
-		} else if (DataType.DATATYPE_DATE.equals(colType)) {
-			result = rs.getDate(colNumber);
-		} else if (DataType.DATATYPE_CLASS.equals(colType)) {
-			result = DataType.DATATYPE_CLASS;
-		} else if (DataType.DATATYPE_SET.equals(colType)
-				|| DataType.DATATYPE_MULTISET.equals(colType)
-				|| DataType.DATATYPE_SEQUENCE.equals(colType)) {
-			Object[] set = (Object[]) rs.getCollection(colNumber);
-			StringBuffer value = new StringBuffer("{");
-			for (int k = 0; k < set.length; k++) {
-				CUBRIDResultSetMetaDataProxy rsmt = (CUBRIDResultSetMetaDataProxy) rs.getMetaData();
-				String elemType = rsmt.getElementTypeName(colNumber);
-				if (k > 0) {
-					value.append(",");
-				}
-				Object setk = set[k];
-				if (setk == null) {
-					value.append(DataType.VALUE_NULL);
-				} else if (setk.getClass() == CUBRIDOIDProxy.getCUBRIDOIDClass(rs.getJdbcVersion())) {
-					value.append(DataType.VALUE_NULL);
-				} else {
-					if (DataType.DATATYPE_DATETIME.equals(elemType)) {
-						Timestamp datetime = (Timestamp) setk;
-						String datetimeStr = formatDateTime(datetime);
-						value.append(getCVSValueInSet(elemType, datetimeStr));
-					} else {
-						value.append(getCVSValueInSet(elemType, setk.toString()));
-					}
-				}
-			}
-			value.append("}");
-			result = value.toString();
-		} else if (DataType.DATATYPE_BLOB.equals(colType)) {
-			result = DataType.BLOB_EXPORT_FORMAT;
-		} else if (DataType.DATATYPE_CLOB.equals(colType)) {
-			result = DataType.CLOB_EXPORT_FORMAT;
-		} else {
-			result = rs.getString(colNumber);
-		}
-		return result;
+		return ResultSetFetchPlan.getExportValue(ResultSetFetchPlan.getKind(colType), null,
+				rs, colNumber, nullValue);
 	}
 
 	/**
@@ -628,25 +559,6 @@ public final class FieldHandlerUtils {
 		return DateUtil.getDatetimeString(time, FORMAT_DATETIME);
 	}
 
-	/**
-	 * Get CVS Value in Set type
-	 * 
-	 * @param colType String
-	 * @param value String
-	 * @return value
-	 * @throws SQLException if failed
-	 */
-	private static String getCVSValueInSet(String colType, String value) throws SQLException {
-		if (DataType.DATATYPE_CHAR.equals(colType)
-				|| DataType.DATATYPE_VARCHAR.equals(colType)
-				|| DataType.DATATYPE_NCHAR.equals(colType)
-				|| DataType.DATATYPE_NCHAR_VARYING.equals(colType)) {
-			return "\'" + value + "\'";
-		} else {
-			return value;
-		}
-	}
-
 	/**
 	 * 
 	 * Get formated real value from imported content
@@ -0,0 +1,339 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.common.ui.spi.util;
+
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.cubrid.common.core.util.DateUtil;
+import com.cubrid.cubridmanager.core.cubrid.table.model.DBAttrTypeFormatter;
+import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
+import com.cubrid.jdbc.proxy.driver.CUBRIDOIDProxy;
+import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetMetaDataProxy;
+import com.cubrid.jdbc.proxy.driver.CUBRIDResultSetProxy;
+
+/**
+ * The per-column read plan of a result set.
+ *
+ * The column types are resolved once from the result set meta data into a
+ * {@link ColumnKind}, so reading a row is a switch per cell that calls the
+ * typed getter directly instead of comparing the type name against every
+ * data type and calling <code>getObject</code> first.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class ResultSetFetchPlan {
+	/**
+	 * The way to read a column
+	 */
+	public enum ColumnKind {
+		INTEGER, FLOAT, DOUBLE, REAL, NUMERIC, BIT, DATETIME, TIMESTAMP, TIME, DATE,
+		CLASS, COLLECTION, BLOB, CLOB, NCHAR, STRING, OTHER
+	}
+
+	private static final Map<String, ColumnKind> KIND_MAP = new HashMap<String, ColumnKind>();
+	static {
+		KIND_MAP.put(DataType.DATATYPE_INTEGER, ColumnKind.INTEGER);
+		KIND_MAP.put(DataType.DATATYPE_TINYINT, ColumnKind.INTEGER);
+		KIND_MAP.put(DataType.DATATYPE_SMALLINT, ColumnKind.INTEGER);
+		KIND_MAP.put(DataType.DATATYPE_BIGINT, ColumnKind.INTEGER);
+		KIND_MAP.put(DataType.DATATYPE_FLOAT, ColumnKind.FLOAT);
+		KIND_MAP.put(DataType.DATATYPE_DOUBLE, ColumnKind.DOUBLE);
+		KIND_MAP.put(DataType.DATATYPE_REAL, ColumnKind.REAL);
+		KIND_MAP.put(DataType.DATATYPE_NUMERIC, ColumnKind.NUMERIC);
+		KIND_MAP.put(DataType.DATATYPE_DECIMAL, ColumnKind.NUMERIC);
+		KIND_MAP.put(DataType.DATATYPE_MONETARY, ColumnKind.NUMERIC);
+		KIND_MAP.put(DataType.DATATYPE_BIT, ColumnKind.BIT);
+		KIND_MAP.put(DataType.DATATYPE_BIT_VARYING, ColumnKind.BIT);
+		KIND_MAP.put(DataType.DATATYPE_DATETIME, ColumnKind.DATETIME);
+		KIND_MAP.put(DataType.DATATYPE_TIMESTAMP, ColumnKind.TIMESTAMP);
+		KIND_MAP.put(DataType.DATATYPE_TIME, ColumnKind.TIME);
+		KIND_MAP.put(DataType.DATATYPE_DATE, ColumnKind.DATE);
+		KIND_MAP.put(DataType.DATATYPE_CLASS, ColumnKind.CLASS);
+		KIND_MAP.put(DataType.DATATYPE_SET, ColumnKind.COLLECTION);
+		KIND_MAP.put(DataType.DATATYPE_MULTISET, ColumnKind.COLLECTION);
+		KIND_MAP.put(DataType.DATATYPE_SEQUENCE, ColumnKind.COLLECTION);
+		KIND_MAP.put(DataType.DATATYPE_BLOB, ColumnKind.BLOB);
+		KIND_MAP.put(DataType.DATATYPE_CLOB, ColumnKind.CLOB);
+		KIND_MAP.put(DataType.DATATYPE_NCHAR, ColumnKind.NCHAR);
+		KIND_MAP.put(DataType.DATATYPE_NCHAR_VARYING, ColumnKind.NCHAR);
+		KIND_MAP.put(DataType.DATATYPE_CHAR, ColumnKind.STRING);
+		KIND_MAP.put(DataType.DATATYPE_VARCHAR, ColumnKind.STRING);
+		KIND_MAP.put(DataType.DATATYPE_STRING, ColumnKind.STRING);
+	}
+
+	private final String[] columnTypes;
+	private final String[] elementTypes;
+	private final int[] precisions;
+	private final ColumnKind[] kinds;
+
+	private ResultSetFetchPlan(int columnCount) {
+		columnTypes = new String[columnCount];
+		elementTypes = new String[columnCount];
+		precisions = new int[columnCount];
+		kinds = new ColumnKind[columnCount];
+	}
+
+	/**
+	 * Create the plan of a result set from its meta data
+	 *
+	 * @param rs the result set
+	 * @return the plan
+	 * @throws SQLException if failed
+	 */
+	public static ResultSetFetchPlan create(CUBRIDResultSetProxy rs) throws SQLException {
+		CUBRIDResultSetMetaDataProxy rsmt = (CUBRIDResultSetMetaDataProxy) rs.getMetaData();
+		int columnCount = rsmt.getColumnCount();
+		ResultSetFetchPlan plan = new ResultSetFetchPlan(columnCount);
+		for (int i = 0; i < columnCount; i++) {
+			String columnType = rsmt.getColumnTypeName(i + 1);
+			plan.columnTypes[i] = columnType == null ? "" : columnType;
+			plan.precisions[i] = rsmt.getPrecision(i + 1);
+			plan.kinds[i] = getKind(plan.columnTypes[i]);
+			if (plan.kinds[i] == ColumnKind.COLLECTION) {
+				plan.elementTypes[i] = rsmt.getElementTypeName(i + 1);
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Get the kind of a data type name, the name is compared ignoring the
+	 * case
+	 *
+	 * @param columnType the data type name as reported by the result set
+	 * @return the kind, {@link ColumnKind#OTHER} if unknown
+	 */
+	public static ColumnKind getKind(String columnType) {
+		if (columnType == null) {
+			return ColumnKind.OTHER;
+		}
+		ColumnKind kind = KIND_MAP.get(columnType);
+		if (kind == null) {
+			for (Map.Entry<String, ColumnKind> entry : KIND_MAP.entrySet()) {
+				if (entry.getKey().equalsIgnoreCase(columnType)) {
+					kind = entry.getValue();
+					break;
+				}
+			}
+		}
+		return kind == null ? ColumnKind.OTHER : kind;
+	}
+
+	public int getColumnCount() {
+		return kinds.length;
+	}
+
+	/**
+	 * Get the data type name of a column
+	 *
+	 * @param column the column number starting from 1
+	 * @return the data type name
+	 */
+	public String getColumnType(int column) {
+		return columnTypes[column - 1];
+	}
+
+	/**
+	 * Get the data type name of a column in the current row. A column of an
+	 * unknown data type holding a BLOB or CLOB value is reported as BLOB or
+	 * CLOB like {@link FieldHandlerUtils#amendDataTypeByResult}.
+	 *
+	 * @param rs the result set
+	 * @param column the column number starting from 1
+	 * @return the data type name
+	 * @throws SQLException if failed
+	 */
+	public String getColumnType(CUBRIDResultSetProxy rs, int column) throws SQLException {
+		if (kinds[column - 1] != ColumnKind.OTHER) {
+			return columnTypes[column - 1];
+		}
+		Object obj = rs.getObject(column);
+		if (obj instanceof Blob) {
+			return DataType.DATATYPE_BLOB;
+		} else if (obj instanceof Clob) {
+			return DataType.DATATYPE_CLOB;
+		}
+		return columnTypes[column - 1];
+	}
+
+	/**
+	 * Get the precision of a column
+	 *
+	 * @param column the column number starting from 1
+	 * @return the precision
+	 */
+	public int getPrecision(int column) {
+		return precisions[column - 1];
+	}
+
+	/**
+	 * Get the kind of a column
+	 *
+	 * @param column the column number starting from 1
+	 * @return the kind
+	 */
+	public ColumnKind getKind(int column) {
+		return kinds[column - 1];
+	}
+
+	/**
+	 * Get the value of a column in the current row to export, the same as
+	 * {@link FieldHandlerUtils#getRsValueForExport}.
+	 *
+	 * @param rs the result set
+	 * @param column the column number starting from 1
+	 * @param nullValue the value to return for null
+	 * @return the value to export, String, Long, Double or a date/time value
+	 * @throws SQLException if failed
+	 */
+	public Object getExportValue(CUBRIDResultSetProxy rs, int column, String nullValue) throws SQLException {
+		return getExportValue(kinds[column - 1], elementTypes[column - 1], rs, column, nullValue);
+	}
+
+	/**
+	 * Get the value of a column in the current row to export
+	 *
+	 * @param kind the column kind
+	 * @param elementType the element data type of a collection column, it is
+	 *        read from the meta data if null
+	 * @param rs the result set
+	 * @param column the column number starting from 1
+	 * @param nullValue the value to return for null
+	 * @return the value to export
+	 * @throws SQLException if failed
+	 */
+	static Object getExportValue(ColumnKind kind, String elementType, CUBRIDResultSetProxy rs,
+			int column, String nullValue) throws SQLException {
+		switch (kind) {
+		case INTEGER:
+			long longValue = rs.getLong(column);
+			return rs.wasNull() ? nullValue : Long.valueOf(longValue);
+		case FLOAT:
+		case DOUBLE:
+		case REAL:
+			double doubleValue = rs.getDouble(column);
+			return rs.wasNull() ? nullValue : Double.valueOf(doubleValue);
+		case NUMERIC:
+			BigDecimal decimal = rs.getBigDecimal(column);
+			return decimal == null ? nullValue : decimal.toString();
+		case BIT:
+			byte[] bytes = rs.getBytes(column);
+			if (bytes == null) {
+				return nullValue;
+			}
+			if (bytes.length > FieldHandlerUtils.BIT_TYPE_MUCH_VALUE_LENGTH
+					&& FieldHandlerUtils.BIT_TYPE_MUCH_VALUE_LENGTH > 0) {
+				return DataType.BIT_EXPORT_FORMAT;
+			}
+			return "X'" + DBAttrTypeFormatter.getHexString(bytes) + "'";
+		case DATETIME:
+		case TIMESTAMP:
+			return nvl(rs.getTimestamp(column), nullValue);
+		case TIME:
+			return nvl(rs.getTime(column), nullValue);
+		case DATE:
+			return nvl(rs.getDate(column), nullValue);
+		case CLASS:
+			return rs.getObject(column) == null ? nullValue : DataType.DATATYPE_CLASS;
+		case COLLECTION:
+			if (rs.getObject(column) == null) {
+				return nullValue;
+			}
+			if (elementType == null) {
+				elementType = ((CUBRIDResultSetMetaDataProxy) rs.getMetaData()).getElementTypeName(column);
+			}
+			return getCollectionValue((Object[]) rs.getCollection(column), elementType,
+					rs.getJdbcVersion());
+		case BLOB:
+			return rs.getObject(column) == null ? nullValue : DataType.BLOB_EXPORT_FORMAT;
+		case CLOB:
+			return rs.getObject(column) == null ? nullValue : DataType.CLOB_EXPORT_FORMAT;
+		case NCHAR:
+		case STRING:
+			return nvl(rs.getString(column), nullValue);
+		default:
+			Object data = rs.getObject(column);
+			if (data == null) {
+				return nullValue;
+			} else if (data instanceof Blob) {
+				return DataType.BLOB_EXPORT_FORMAT;
+			} else if (data instanceof Clob) {
+				return DataType.CLOB_EXPORT_FORMAT;
+			}
+			return rs.getString(column);
+		}
+	}
+
+	private static Object nvl(Object value, String nullValue) {
+		return value == null ? nullValue : value;
+	}
+
+	/**
+	 * Format the elements of a collection value to export
+	 *
+	 * @param set the elements
+	 * @param elementType the element data type
+	 * @param jdbcVersion the JDBC version
+	 * @return the formatted value
+	 */
+	private static String getCollectionValue(Object[] set, String elementType, String jdbcVersion) {
+		boolean isQuoted = DataType.DATATYPE_CHAR.equals(elementType)
+				|| DataType.DATATYPE_VARCHAR.equals(elementType)
+				|| DataType.DATATYPE_NCHAR.equals(elementType)
+				|| DataType.DATATYPE_NCHAR_VARYING.equals(elementType);
+		boolean isDatetime = DataType.DATATYPE_DATETIME.equals(elementType);
+		Class<?> oidClass = CUBRIDOIDProxy.getCUBRIDOIDClass(jdbcVersion);
+		StringBuffer value = new StringBuffer("{");
+		for (int k = 0; k < set.length; k++) {
+			if (k > 0) {
+				value.append(",");
+			}
+			Object setk = set[k];
+			if (setk == null || setk.getClass() == oidClass) {
+				value.append(DataType.VALUE_NULL);
+				continue;
+			}
+			String elementValue = isDatetime ? DateUtil.getDatetimeString(
+					((Timestamp) setk).getTime(), DateUtil.DATETIME_FORMAT) : setk.toString();
+			if (isQuoted) {
+				value.append("'").append(elementValue).append("'");
+			} else {
+				value.append(elementValue);
+			}
+		}
+		value.append("}");
+		return value.toString();
+	}
+}
@@ -0,0 +1,146 @@
+package com.cubrid.cubridmanager.core.common.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import junit.framework.TestCase;
+
+public class JDBCConnectionPoolTest extends
+		TestCase {
+	private int createCount = 0;
+
+	/**
+	 * The fake connection which records its state
+	 */
+	private static class FakeConnection implements
+			InvocationHandler {
+		private boolean isClosed = false;
+		private boolean isAutoCommit = true;
+		private boolean isValid = true;
+		private int isolation = Connection.TRANSACTION_READ_COMMITTED;
+		private int rollbackCount = 0;
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("isClosed".equals(name)) {
+				return Boolean.valueOf(isClosed);
+			} else if ("close".equals(name)) {
+				isClosed = true;
+			} else if ("getAutoCommit".equals(name)) {
+				return Boolean.valueOf(isAutoCommit);
+			} else if ("setAutoCommit".equals(name)) {
+				isAutoCommit = ((Boolean) args[0]).booleanValue();
+			} else if ("getTransactionIsolation".equals(name)) {
+				return Integer.valueOf(isolation);
+			} else if ("setTransactionIsolation".equals(name)) {
+				isolation = ((Integer) args[0]).intValue();
+			} else if ("rollback".equals(name)) {
+				rollbackCount++;
+			} else if ("createStatement".equals(name)) {
+				return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Statement.class },
+						new InvocationHandler() {
+							public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+								if ("executeQuery".equals(method.getName())) {
+									if (!isValid) {
+										throw new SQLException("connection is broken");
+									}
+									return Proxy.newProxyInstance(getClass().getClassLoader(),
+											new Class<?>[]{ResultSet.class }, this);
+								}
+								return null;
+							}
+						});
+			} else if ("hashCode".equals(name)) {
+				return Integer.valueOf(System.identityHashCode(proxy));
+			} else if ("equals".equals(name)) {
+				return Boolean.valueOf(proxy == args[0]);
+			}
+			return null;
+		}
+	}
+
+	private FakeConnection lastFake;
+
+	private JDBCConnectionPool createPool(int maxIdle, long idleTimeout) {
+		return new JDBCConnectionPool("localhost:33000:demodb:dba", new JDBCConnectionPool.IConnectionFactory() {
+			public Connection createConnection(boolean autoCommit) throws SQLException {
+				createCount++;
+				lastFake = new FakeConnection();
+				lastFake.isAutoCommit = autoCommit;
+				return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+						new Class<?>[]{Connection.class }, lastFake);
+			}
+		}, maxIdle, idleTimeout);
+	}
+
+	public void testReuse() throws Exception {
+		JDBCConnectionPool pool = createPool(2, 60000);
+		Connection conn = pool.borrow(false);
+		FakeConnection fake = lastFake;
+		assertEquals(1, pool.getActiveCount());
+		conn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+		JDBCConnectionPool.returnConnection(conn);
+
+		// rolled back and reset
+		assertEquals(1, fake.rollbackCount);
+		assertTrue(fake.isAutoCommit);
+		assertEquals(Connection.TRANSACTION_READ_COMMITTED, fake.isolation);
+		assertFalse(fake.isClosed);
+		assertEquals(0, pool.getActiveCount());
+		assertEquals(1, pool.getIdleCount());
+
+		Connection conn2 = pool.borrow(true);
+		assertSame(conn, conn2);
+		assertEquals(1, createCount);
+		assertEquals(1, pool.getReuseCount());
+		assertEquals(2, pool.getBorrowCount());
+		JDBCConnectionPool.returnConnection(conn2);
+		assertEquals(1, fake.rollbackCount);
+	}
+
+	public void testMaxIdle() throws Exception {
+		JDBCConnectionPool pool = createPool(2, 60000);
+		Connection[] conns = new Connection[3];
+		for (int i = 0; i < conns.length; i++) {
+			conns[i] = pool.borrow(true);
+		}
+		FakeConnection fake = lastFake;
+		assertEquals(3, createCount);
+		assertEquals(3, pool.getActiveCount());
+		for (int i = 0; i < conns.length; i++) {
+			JDBCConnectionPool.returnConnection(conns[i]);
+		}
+		assertEquals(2, pool.getIdleCount());
+		assertTrue(fake.isClosed);
+	}
+
+	public void testValidationAndEviction() throws Exception {
+		JDBCConnectionPool pool = createPool(2, 0);
+		Connection conn = pool.borrow(true);
+		FakeConnection fake = lastFake;
+		JDBCConnectionPool.returnConnection(conn);
+		pool.evict(false);
+		assertEquals(0, pool.getIdleCount());
+		assertEquals(1, pool.getEvictCount());
+		assertTrue(fake.isClosed);
+
+		pool = createPool(2, 60000);
+		conn = pool.borrow(true);
+		fake = lastFake;
+		JDBCConnectionPool.returnConnection(conn);
+		fake.isClosed = true;
+		Connection conn2 = pool.borrow(true);
+		assertNotSame(conn, conn2);
+		assertEquals(1, pool.getValidationFailCount());
+
+		JDBCConnectionPool.discardConnection(conn2);
+		assertEquals(0, pool.getActiveCount());
+		assertEquals(0, pool.getIdleCount());
+		assertTrue(pool.getStatistics().indexOf("created=2") > 0);
+	}
+}
@@ -97,4 +97,54 @@ public class MyMapTest extends
 		assertTrue(map.toString().endsWith("\n\n"));
 		assertFalse(map.toString().endsWith("\n\n\n"));
 	}
+
+	public void testModifyValues() {
+		String[] sendMSGOrder = new String[]{"task", "token", "dbname",
+				"attribute", "category", };
+		MessageMap map = new MessageMap(sendMSGOrder);
+		map.add("category", "instance");
+		map.add("attribute", "a1");
+		map.add("task", "addconstraint");
+		map.add("attribute", "a2");
+		map.add("extra", "x");
+		assertEquals("a1", map.getValue("attribute"));
+		assertEquals(2, map.getValues("attribute").length);
+		assertNull(map.getValue("token"));
+		assertNull(map.getValues("token"));
+
+		map.addOrModifyValue("attribute", "a3");
+		map.addOrModifyValue("token", "t");
+		assertEquals("task:addconstraint\ntoken:t\nattribute:a1\n"
+				+ "attribute:a3\ncategory:instance\nextra:x\n\n",
+				map.toString());
+
+		map.addOrModifyValues("attribute", new String[]{"b1", "b2", "b3" });
+		assertEquals("b1", map.getValue("attribute"));
+		assertEquals("b3", map.getValues("attribute")[2]);
+		assertEquals("task:addconstraint\ntoken:t\nattribute:b1\n"
+				+ "attribute:b2\nattribute:b3\ncategory:instance\nextra:x\n\n",
+				map.toString());
+
+		map.addOrModifyValues("attribute", null);
+		assertNull(map.getValue("attribute"));
+		assertEquals(4, map.getResponseMessage().size());
+
+		map.clear();
+		assertNull(map.getValue("task"));
+		assertTrue(map.getResponseMessage().isEmpty());
+	}
+
+	public void testLookupResponse() {
+		MessageMap map = new MessageMap();
+		int count = 20000;
+		for (int i = 0; i < count; i++) {
+			map.add("key" + i, "value" + i);
+		}
+		map.add("key0:again");
+		for (int i = 0; i < count; i++) {
+			assertEquals("value" + i, map.getValue("key" + i));
+		}
+		assertEquals("again", map.getValues("key0")[1]);
+		assertEquals("key0:again", map.getResponseMessage().get(count));
+	}
 }
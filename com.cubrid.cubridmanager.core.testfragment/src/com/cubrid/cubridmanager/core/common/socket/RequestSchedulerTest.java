@@ -0,0 +1,99 @@
+package com.cubrid.cubridmanager.core.common.socket;
+
+import java.util.concurrent.TimeoutException;
+
+import junit.framework.TestCase;
+
+public class RequestSchedulerTest extends
+		TestCase {
+	public void testSameHostIsSerialized() throws Exception {
+		RequestScheduler scheduler = RequestScheduler.getInstance();
+		RequestScheduler.Ticket ticket = scheduler.acquire("host-a", 8001, 1000);
+		assertEquals(1, scheduler.getInFlightCount("host-a", 8001));
+		try {
+			scheduler.acquire("host-a", 8001, 100);
+			fail("The second request of the same host must wait.");
+		} catch (TimeoutException e) {
+			assertNotNull(e);
+		}
+		ticket.release();
+		ticket.release();
+		assertEquals(0, scheduler.getInFlightCount("host-a", 8001));
+
+		ticket = scheduler.acquire("host-a", 8001, 100);
+		ticket.release();
+	}
+
+	public void testDifferentHostsAreParallel() throws Exception {
+		RequestScheduler scheduler = RequestScheduler.getInstance();
+		RequestScheduler.Ticket ticketA = scheduler.acquire("host-b", 8001, 1000);
+		RequestScheduler.Ticket ticketB = scheduler.acquire("host-c", 8001, 100);
+		assertEquals(1, scheduler.getInFlightCount("host-b", 8001));
+		assertEquals(1, scheduler.getInFlightCount("host-c", 8001));
+		ticketA.release();
+		ticketB.release();
+	}
+
+	public void testQueuedRequestIsWokenUp() throws Exception {
+		final RequestScheduler scheduler = RequestScheduler.getInstance();
+		RequestScheduler.Ticket ticket = scheduler.acquire("host-d", 8001, 1000);
+		final boolean[] acquired = new boolean[1];
+		Thread thread = new Thread() {
+			public void run() {
+				try {
+					scheduler.acquire("host-d", 8001, 5000).release();
+					acquired[0] = true;
+				} catch (Exception e) {
+					acquired[0] = false;
+				}
+			}
+		};
+		thread.start();
+		while (scheduler.getQueueLength("host-d", 8001) == 0) {
+			Thread.sleep(10);
+		}
+		ticket.release();
+		thread.join(5000);
+		assertTrue(acquired[0]);
+
+		scheduler.removeServer("host-d", 8001);
+		assertEquals(0, scheduler.getQueueLength("host-d", 8001));
+	}
+
+	public void testRemoveServerKeepsLaneInUse() throws Exception {
+		final RequestScheduler scheduler = RequestScheduler.getInstance();
+		RequestScheduler.Ticket ticket = scheduler.acquire("host-e", 8001, 1000);
+		final boolean[] acquired = new boolean[1];
+		Thread thread = new Thread() {
+			public void run() {
+				try {
+					scheduler.acquire("host-e", 8001, 5000).release();
+					acquired[0] = true;
+				} catch (Exception e) {
+					acquired[0] = false;
+				}
+			}
+		};
+		thread.start();
+		while (scheduler.getQueueLength("host-e", 8001) == 0) {
+			Thread.sleep(10);
+		}
+
+		// the lane is held and waited for, a new lane must not be created
+		scheduler.removeServer("host-e", 8001);
+		assertEquals(1, scheduler.getInFlightCount("host-e", 8001));
+		assertEquals(1, scheduler.getQueueLength("host-e", 8001));
+		try {
+			scheduler.acquire("host-e", 8001, 100);
+			fail("The lane removed in use must still serialize the requests.");
+		} catch (TimeoutException e) {
+			assertNotNull(e);
+		}
+
+		ticket.release();
+		thread.join(5000);
+		assertTrue(acquired[0]);
+		scheduler.removeServer("host-e", 8001);
+		assertEquals(0, scheduler.getInFlightCount("host-e", 8001));
+	}
+}
@@ -0,0 +1,81 @@
+package com.cubrid.cubridmanager.core.common.socket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+public class ResponseFrameDecoderTest extends
+		TestCase {
+	public void testSplitMultibyteCharacter() throws Exception {
+		String msg = "task:getloginfo\nstatus:success\nnote:\ud55c\uae00 \u4e2d\u6587\n\n";
+		byte[] bytes = msg.getBytes("UTF-8");
+		ResponseFrameDecoder decoder = new ResponseFrameDecoder("UTF-8", false);
+		decoder.reset();
+		for (int i = 0; i < bytes.length; i++) {
+			boolean isComplete = decoder.decode(bytes, i, 1);
+			assertEquals(i == bytes.length - 1, isComplete);
+		}
+		assertEquals(msg, decoder.getMessage());
+		assertEquals(bytes.length, decoder.getByteCount());
+	}
+
+	public void testSpecialDelimiter() throws Exception {
+		String msg = "task:getdiagdata\nstatus:success\nnote:none\n\ncas_mon:DIAG_DEL:start\ncas_mon:DIAG_DEL:end\nEND__DIAGDATA\n";
+		byte[] bytes = msg.getBytes("UTF-8");
+		ResponseFrameDecoder decoder = new ResponseFrameDecoder("UTF-8", true);
+		decoder.reset();
+		assertFalse(decoder.decode(bytes, 0, 50));
+		assertTrue(decoder.decode(bytes, 50, bytes.length - 50));
+		assertEquals(msg, decoder.getMessage());
+	}
+
+	public void testBlankLineInPayload() throws Exception {
+		String msg = "task:getloginfo\nstatus:success\nnote:none\nopen:log\nline:first\n\nline:third\nclose:log\n\n";
+		byte[] bytes = msg.getBytes("UTF-8");
+		final List<String> lines = new ArrayList<String>();
+		ResponseFrameDecoder decoder = new ResponseFrameDecoder("UTF-8", false);
+		decoder.setLineHandler(new ResponseFrameDecoder.ILineHandler() {
+			public void handleLine(String line) {
+				lines.add(line);
+			}
+		});
+		decoder.reset();
+		// the blank line does not end the frame, it ends with the connection
+		assertFalse(decoder.decode(bytes, 0, bytes.length));
+		assertTrue(decoder.finish());
+		assertEquals(msg, decoder.getMessage());
+		assertEquals(bytes.length, decoder.getByteCount());
+		assertEquals(9, lines.size());
+		assertEquals("line:first", lines.get(4));
+		assertEquals("", lines.get(5));
+		assertEquals("line:third", lines.get(6));
+		assertEquals("close:log", lines.get(7));
+
+		ResponseParser parser = new ResponseParser(false);
+		for (String line : lines) {
+			parser.handleLine(line);
+		}
+		TreeNode log = parser.finish().getChildren().get(0);
+		assertEquals("third", log.getValues("line")[1]);
+		assertEquals("log", log.getValue("close"));
+	}
+
+	public void testBlankLineAcrossChunks() throws Exception {
+		String msg = "task:getloginfo\nstatus:success\nnote:none\nline:first\n\nline:third\n\n";
+		byte[] bytes = msg.getBytes("UTF-8");
+		ResponseFrameDecoder decoder = new ResponseFrameDecoder("UTF-8", false);
+		decoder.reset();
+		int split = msg.indexOf("\n\n") + 1;
+		assertFalse(decoder.decode(bytes, 0, split));
+		assertFalse(decoder.decode(bytes, split, bytes.length - split));
+		assertTrue(decoder.finish());
+		assertEquals(msg, decoder.getMessage());
+
+		// the next frame starts clean, nothing is carried over
+		decoder.reset();
+		assertEquals("", decoder.getMessage());
+		assertTrue(decoder.decode(bytes, msg.length() - 12, 12));
+		assertEquals("line:third\n\n", decoder.getMessage());
+	}
+}
@@ -0,0 +1,193 @@
+package com.cubrid.cubridmanager.core.common.socket;
+
+import junit.framework.TestCase;
+
+import com.cubrid.common.core.util.CipherUtils;
+import com.cubrid.cubridmanager.core.Tool;
+
+public class ResponseParserTest extends
+		TestCase {
+	private static final String RECEIVE_MSG_DIR = "/com/cubrid/cubridmanager/core/receive.msg/";
+
+	private String getMessage(String name) throws Exception {
+		return Tool.getFileContent(getClass().getResource(RECEIVE_MSG_DIR + name).getPath());
+	}
+
+	public void testSameAsSplitParser() throws Exception {
+		String[] names = {"addattribute_receive", "analyzecaslog", "class", "getdiagdata" };
+		for (String name : names) {
+			String msg = getMessage(name);
+			assertEquals(name, parseBySplit(msg, false).toString(), ResponseParser.parse(msg, false).toString());
+		}
+		String msg = getMessage("DIAG_DEL-getdiagdata");
+		assertEquals(parseBySplit(msg, true).toString(), ResponseParser.parse(msg, true).toString());
+
+		// the split parser failed on the leading empty line
+		TreeNode node = ResponseParser.parse(getMessage("dbspaceinfo"), false);
+		assertEquals("dbspaceinfo", node.getValue("task"));
+		assertEquals("success", node.getValue("status"));
+	}
+
+	public void testContinuationAndCipher() {
+		String msg = "task:getloginfo\nstatus:failure\nnote:first line\n second line\n\n"
+				+ "@dbpasswd:" + CipherUtils.encrypt("1234") + "\n@empty:\n\n";
+		TreeNode node = ResponseParser.parse(msg, false);
+		assertEquals("first line second line", node.getValue("note"));
+		assertEquals("1234", node.getValue("dbpasswd"));
+		assertEquals("", node.getValue("@empty"));
+		assertEquals(parseBySplit(msg, false).toString(), node.toString());
+	}
+
+	public void testSpecialMessage() {
+		String msg = "task:startinfo\nstatus:warning\nnote:none\nopen:special\nline1\nline2\nclose:special\n\n";
+		ResponseParser parser = new ResponseParser(false);
+		parser.setCaptureSpecialMessage(true);
+		int start = 0;
+		while (start < msg.length()) {
+			int end = msg.indexOf('\n', start);
+			parser.handleLine(msg.substring(start, end));
+			start = end + 1;
+		}
+		TreeNode node = parser.finish();
+		assertEquals("line1\nline2\n", parser.getSpecialMessage());
+		assertEquals("warning", node.getValue("status"));
+		assertEquals(0, node.childrenSize());
+	}
+
+	public void testEmptyBody() {
+		TreeNode node = ResponseParser.parse("", false);
+		assertNull(node.getValue("task"));
+		assertEquals(0, node.childrenSize());
+		assertNull(node.getParent());
+
+		node = ResponseParser.parse("\n\n", false);
+		assertNull(node.getValue("task"));
+		assertEquals(0, node.childrenSize());
+
+		node = ResponseParser.parse("task:getloginfo\nstatus:success\nnote:\n\n", false);
+		assertEquals("getloginfo", node.getValue("task"));
+		assertEquals("", node.getValue("note"));
+		assertEquals(0, node.childrenSize());
+	}
+
+	public void testNestedBlock() {
+		String msg = "task:getdbspaceinfo\nstatus:success\nopen:dbinfo\ndbname:demodb\n"
+				+ "open:spaceinfo\nspacename:demodb_data\ntotalpage:1000\nclose:spaceinfo\n"
+				+ "start:volume\npath:/home/cubrid\nend:volume\nclose:dbinfo\nopen:owner\nname:dba\nclose:owner\n\n";
+		TreeNode node = ResponseParser.parse(msg, false);
+		assertEquals("success", node.getValue("status"));
+		assertNull(node.getValue("dbname"));
+		assertEquals(2, node.childrenSize());
+
+		TreeNode dbinfo = node.getChildren().get(0);
+		assertSame(node, dbinfo.getParent());
+		assertEquals("dbinfo", dbinfo.getValue("open"));
+		assertEquals("dbinfo", dbinfo.getValue("close"));
+		assertEquals("demodb", dbinfo.getValue("dbname"));
+		assertNull(dbinfo.getValue("spacename"));
+		assertEquals(2, dbinfo.childrenSize());
+
+		TreeNode spaceinfo = dbinfo.getChildren().get(0);
+		assertSame(dbinfo, spaceinfo.getParent());
+		assertEquals("spaceinfo", spaceinfo.getValue("open"));
+		assertEquals("demodb_data", spaceinfo.getValue("spacename"));
+		assertEquals("1000", spaceinfo.getValue("totalpage"));
+		assertEquals(0, spaceinfo.childrenSize());
+
+		TreeNode volume = dbinfo.getChildren().get(1);
+		assertEquals("volume", volume.getValue("start"));
+		assertEquals("volume", volume.getValue("end"));
+		assertEquals("/home/cubrid", volume.getValue("path"));
+
+		TreeNode owner = node.getChildren().get(1);
+		assertSame(node, owner.getParent());
+		assertEquals("dba", owner.getValue("name"));
+		assertEquals(parseBySplit(msg, false).toString(), node.toString());
+	}
+
+	public void testMissingKey() {
+		String msg = "task:getloginfo\nstatus:success\nopen:log\npath:/home/cubrid/log\nclose:log\n\n";
+		TreeNode node = ResponseParser.parse(msg, false);
+		assertNull(node.getValue("note"));
+		assertNull(node.getValues("note"));
+		assertNull(node.getValue("path"));
+		TreeNode log = node.getChildren().get(0);
+		assertNull(log.getValue("owner"));
+		assertNull(log.getValue("status"));
+
+		// the unmatched close stays at the root node
+		node = ResponseParser.parse("task:getloginfo\nclose:log\nstatus:success\n\n", false);
+		assertEquals("log", node.getValue("close"));
+		assertEquals("success", node.getValue("status"));
+		assertEquals(0, node.childrenSize());
+	}
+
+	/**
+	 * Compare with the split based parser on a large message
+	 */
+	public void testLargeMessage() throws Exception {
+		StringBuilder sb = new StringBuilder("task:getloginfo\nstatus:success\nnote:none\n");
+		for (int i = 0; i < 20000; i++) {
+			sb.append("open:log\npath:/home/cubrid/CUBRID/log/server/demodb_").append(i).append(
+					".err\nowner:cubrid\nsize:").append(i * 31).append(
+					"\nlastupdate:2013-01-01\nclose:log\n");
+		}
+		sb.append("\n");
+		String msg = sb.toString();
+		assertEquals(parseBySplit(msg, false).toString(), ResponseParser.parse(msg, false).toString());
+	}
+
+	/**
+	 * The split based parser, it was used by MessageUtil.parseResponse before.
+	 */
+	private static TreeNode parseBySplit(String response, boolean bUsingSpecialDelimiter) {
+		String[] toks = response.split("\n");
+		TreeNode root = new TreeNode();
+		TreeNode node = root;
+		int maxIndex = toks.length;
+		if (bUsingSpecialDelimiter && (toks[maxIndex - 1].equals("END__DIAGDATA"))) {
+			maxIndex--;
+		}
+		for (int i = 0; i < maxIndex; i++) {
+			StringBuilder tokBuffer = new StringBuilder();
+			tokBuffer.append(toks[i]);
+			while (i + 1 < maxIndex && -1 == toks[i + 1].indexOf(":")) {
+				tokBuffer.append(toks[i + 1]);
+				i++;
+			}
+			String tokStr = tokBuffer.toString();
+			if (tokStr.startsWith("@")) {
+				String[] entry = tokStr.split(":");
+				if (entry != null && entry.length >= 2) {
+					String key = entry[0];
+					String value = tokStr.substring(tokStr.indexOf(":") + 1);
+					tokStr = key.replace("@", "") + ":";
+					tokStr += CipherUtils.decrypt(value);
+				}
+			}
+			if (tokStr.startsWith("cas_mon:DIAG_DEL:start") || tokStr.startsWith("open:")
+					|| tokStr.startsWith("start:")) {
+				TreeNode newnode = new TreeNode();
+				node.addChild(newnode);
+				node = newnode;
+				addMsgItem(node, tokStr, bUsingSpecialDelimiter);
+			} else if (tokStr.startsWith("cas_mon:DIAG_DEL:end") || tokStr.startsWith("close:")
+					|| tokStr.startsWith("end:")) {
+				addMsgItem(node, tokStr, bUsingSpecialDelimiter);
+				node = node.getParent();
+			} else {
+				addMsgItem(node, tokStr, bUsingSpecialDelimiter);
+			}
+		}
+		return root;
+	}
+
+	private static void addMsgItem(TreeNode node, String msgitem, boolean bUsingSpecialDelimiter) {
+		int index = bUsingSpecialDelimiter ? msgitem.indexOf(":DIAG_DEL:") : -1;
+		if (index >= 0) {
+			node.add(msgitem.substring(0, index), msgitem.substring(index + 10));
+		} else {
+			node.add(msgitem);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.cubrid.cubridmanager.core.common.socket;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import com.cubrid.common.core.util.StringUtil;
+import com.cubrid.cubridmanager.core.Tool;
+import com.cubrid.cubridmanager.core.cubrid.dbspace.model.DbSpaceInfo;
+import com.cubrid.cubridmanager.core.cubrid.dbspace.model.DbSpaceInfoList;
+
+public class TreeNodeBinderTest extends
+		TestCase {
+	private static final String RECEIVE_MSG_DIR = "/com/cubrid/cubridmanager/core/receive.msg/";
+
+	public static class Item {
+		private final StringBuilder dump = new StringBuilder();
+
+		public void setName(String name) {
+			dump.append("name=").append(name).append(";");
+		}
+
+		public void setSize(int size) {
+			dump.append("size=").append(size).append(";");
+		}
+
+		public void setRatio(double ratio) {
+			dump.append("ratio=").append(ratio).append(";");
+		}
+
+		public void setActive(boolean active) {
+			dump.append("active=").append(active).append(";");
+		}
+
+		public void setPath(String path) {
+			dump.append("path=").append(path).append(";");
+		}
+
+		public void addVolume(Item volume) {
+			dump.append("volume=[").append(volume).append("];");
+		}
+
+		public String toString() {
+			return dump.toString();
+		}
+	}
+
+	public static class Items {
+		private final StringBuilder dump = new StringBuilder();
+
+		public void setDbname(String dbname) {
+			dump.append("dbname=").append(dbname).append(";");
+		}
+
+		public void setPagesize(int pagesize) {
+			dump.append("pagesize=").append(pagesize).append(";");
+		}
+
+		public void setTags(String[] tags) {
+			dump.append("tags=").append(Arrays.asList(tags)).append(";");
+		}
+
+		public void addNote(String note) {
+			dump.append("note=").append(note).append(";");
+		}
+
+		public void addItem(Item item) {
+			dump.append("item=[").append(item).append("];");
+		}
+
+		public void addProperty(Map<String, String> property) {
+			dump.append("property=").append(property).append(";");
+		}
+
+		public String toString() {
+			return dump.toString();
+		}
+	}
+
+	private static String getMessage(int count) {
+		StringBuilder sb = new StringBuilder("task:items\nstatus:success\ndbname:demodb\npagesize:16384\n");
+		sb.append("tags:a\ntags:b\nnote:first\nnote:second\n");
+		for (int i = 0; i < count; i++) {
+			sb.append("open:item\nname:item_").append(i).append("\nsize:").append(i * 31).append(
+					"\nratio:").append(i % 100).append(".5\nactive:").append(i % 2 == 0 ? "y" : "n").append(
+					"\npath:/home/cubrid/databases/demodb_").append(i).append("\nclose:item\n");
+		}
+		sb.append("open:property\nkey:value\nclose:property\n\n");
+		return sb.toString();
+	}
+
+	public void testSameAsReflection() throws Exception {
+		TreeNode node = ResponseParser.parse(getMessage(10), false);
+		Items expected = new Items();
+		setFieldValueByReflection(node, expected);
+		Items actual = new Items();
+		SocketTask.setFieldValue(node, actual);
+		assertEquals(expected.toString(), actual.toString());
+		assertTrue(actual.toString().contains("item=[name=item_9;"));
+		assertTrue(actual.toString().contains("tags=[a, b];"));
+		assertTrue(actual.toString().contains("property={key=value};"));
+
+		String msg = Tool.getFileContent(getClass().getResource(RECEIVE_MSG_DIR + "dbspaceinfo").getPath());
+		node = ResponseParser.parse(msg, false);
+		DbSpaceInfoList expectedList = new DbSpaceInfoList();
+		setFieldValueByReflection(node, expectedList);
+		DbSpaceInfoList actualList = new DbSpaceInfoList();
+		SocketTask.setFieldValue(node, actualList);
+		assertEquals(expectedList.getDbname(), actualList.getDbname());
+		assertEquals(expectedList.getPagesize(), actualList.getPagesize());
+		assertEquals(expectedList.getSpaceInfo().size(), actualList.getSpaceInfo().size());
+		assertFalse(actualList.getSpaceInfo().isEmpty());
+		for (int i = 0; i < actualList.getSpaceInfo().size(); i++) {
+			DbSpaceInfo expectedInfo = expectedList.getSpaceInfo().get(i);
+			DbSpaceInfo actualInfo = actualList.getSpaceInfo().get(i);
+			assertEquals(expectedInfo.getSpacename(), actualInfo.getSpacename());
+			assertEquals(expectedInfo.getLocation(), actualInfo.getLocation());
+			assertEquals(expectedInfo.getTotalpage(), actualInfo.getTotalpage());
+			assertEquals(expectedInfo.getFreepage(), actualInfo.getFreepage());
+		}
+	}
+
+	public void testEmptyBody() {
+		Items items = new Items();
+		SocketTask.setFieldValue(ResponseParser.parse("", false), items);
+		assertEquals("", items.toString());
+
+		items = new Items();
+		SocketTask.setFieldValue(ResponseParser.parse("task:items\nstatus:success\n\n", false), items);
+		assertEquals("", items.toString());
+
+		items = new Items();
+		SocketTask.setFieldValue(ResponseParser.parse("task:items\nopen:item\nclose:item\n\n", false), items);
+		assertEquals("item=[];", items.toString());
+	}
+
+	public void testNestedBlock() {
+		String msg = "task:items\nstatus:success\nopen:item\nname:a\nopen:volume\npath:/v1\nclose:volume\n"
+				+ "open:volume\npath:/v2\nclose:volume\nclose:item\nopen:item\nname:b\nclose:item\n\n";
+		TreeNode node = ResponseParser.parse(msg, false);
+		Items items = new Items();
+		SocketTask.setFieldValue(node, items);
+		String dump = items.toString();
+		int second = dump.indexOf("item=[name=b;]");
+		assertTrue(dump, dump.startsWith("item=["));
+		assertTrue(dump, second > 0);
+		String first = dump.substring(0, second);
+		assertTrue(first, first.contains("name=a;"));
+		assertTrue(first, first.contains("volume=[path=/v1;];volume=[path=/v2;];"));
+		// the volumes are bound to the item only
+		assertFalse(dump.substring(second).contains("volume="));
+
+		Items expected = new Items();
+		setFieldValueByReflection(node, expected);
+		assertEquals(expected.toString(), dump);
+	}
+
+	public void testMissingKey() {
+		String msg = "task:items\nstatus:success\ndbname:demodb\nopen:item\nname:a\nclose:item\n"
+				+ "open:unknown\nname:b\nclose:unknown\n\n";
+		Items items = new Items();
+		SocketTask.setFieldValue(ResponseParser.parse(msg, false), items);
+		String dump = items.toString();
+		assertTrue(dump, dump.contains("dbname=demodb;"));
+		assertTrue(dump, dump.contains("item=[name=a;];"));
+		assertFalse(dump, dump.contains("pagesize="));
+		assertFalse(dump, dump.contains("tags="));
+		assertFalse(dump, dump.contains("note="));
+		assertFalse(dump, dump.contains("name=b;"));
+		assertEquals("dbname=demodb;".length() + "item=[name=a;];".length(), dump.length());
+	}
+
+	public void testLargeMessage() {
+		TreeNode node = ResponseParser.parse(getMessage(2000), false);
+		Items expected = new Items();
+		setFieldValueByReflection(node, expected);
+		Items actual = new Items();
+		SocketTask.setFieldValue(node, actual);
+		assertEquals(expected.toString(), actual.toString());
+		assertTrue(actual.toString().contains("item=[name=item_1999;"));
+	}
+
+	/**
+	 * The reflection based binding, it was used by SocketTask.setFieldValue
+	 * before.
+	 */
+	private static void setFieldValueByReflection(TreeNode node, Object targetObject) {
+		Method[] methods = targetObject.getClass().getMethods();
+		for (Method m : methods) {
+			String methodname = m.getName();
+			Class<?>[] parameters = m.getParameterTypes();
+			String field = methodname.substring(3);
+			if (methodname.startsWith("set") && parameters.length == 1) {
+				String value = node.getValue(field.toLowerCase(Locale.getDefault()));
+				String[] values = node.getValues(field.toLowerCase(Locale.getDefault()));
+				if (value != null && values.length == 1) {
+					invoke(m, parameters[0], targetObject, value);
+				}
+				if (values != null && values.length > 1) {
+					invoke(m, parameters[0], targetObject, values);
+				}
+			} else if (methodname.startsWith("add") && parameters.length == 1) {
+				String[] values = node.getValues(field.toLowerCase(Locale.getDefault()));
+				if (values == null) {
+					List<TreeNode> children = node.getChildren();
+					if (null == children) {
+						continue;
+					}
+					for (TreeNode n : children) {
+						String nodeName = n.getValue("open");
+						if (nodeName == null || nodeName.trim().length() <= 0) {
+							nodeName = n.getValue("start");
+						}
+						if (field.equalsIgnoreCase(nodeName)) {
+							try {
+								Class<?> clazz = parameters[0];
+								Object o;
+								if (clazz == Map.class) {
+									o = n.getValueByMap();
+								} else {
+									o = clazz.newInstance();
+									setFieldValueByReflection(n, o);
+								}
+								m.invoke(targetObject, o);
+							} catch (Exception e) {
+								// ignore
+							}
+						}
+					}
+				} else {
+					for (String value : values) {
+						invoke(m, parameters[0], targetObject, value);
+					}
+				}
+			}
+		}
+	}
+
+	private static void invoke(Method method, Class<?> parameters, Object targetObject, Object value) {
+		List<Object> args = new ArrayList<Object>();
+		if (parameters == String.class && value instanceof String) {
+			args.add(value);
+		} else if (parameters == int.class) {
+			args.add(StringUtil.str2Int((String) value));
+		} else if (parameters == boolean.class) {
+			args.add(StringUtil.strYN2Boolean((String) value));
+		} else if (parameters == double.class) {
+			args.add(StringUtil.str2Double((String) value));
+		} else if (parameters == String[].class && value instanceof String[]) {
+			args.add(value);
+		}
+		if (args.isEmpty()) {
+			return;
+		}
+		try {
+			method.invoke(targetObject, args.get(0));
+		} catch (Exception e) {
+			// ignore
+		}
+	}
+}
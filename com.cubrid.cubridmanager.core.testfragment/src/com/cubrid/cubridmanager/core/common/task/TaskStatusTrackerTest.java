@@ -0,0 +1,177 @@
+package com.cubrid.cubridmanager.core.common.task;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import com.cubrid.cubridmanager.core.common.ServerManager;
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+
+public class TaskStatusTrackerTest extends
+		TestCase {
+	private ServerSocket serverSocket;
+	private ServerInfo serverInfo;
+	private final Map<String, Integer> pollCountMap = new HashMap<String, Integer>();
+	private int connectionCount = 0;
+
+	protected void setUp() throws Exception {
+		serverSocket = new ServerSocket(0);
+		Thread thread = new Thread(new Runnable() {
+			public void run() {
+				serve();
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+
+		serverInfo = new ServerInfo();
+		serverInfo.setHostAddress("127.0.0.1");
+		serverInfo.setHostMonPort(serverSocket.getLocalPort());
+		serverInfo.setHostJSPort(serverSocket.getLocalPort());
+		serverInfo.setUserName("admin");
+		serverInfo.setConnected(true);
+		ServerManager.getInstance().addServer("127.0.0.1", serverSocket.getLocalPort(), "admin", serverInfo);
+	}
+
+	protected void tearDown() throws Exception {
+		ServerManager.getInstance().removeServer("127.0.0.1", serverSocket.getLocalPort(), "admin");
+		serverSocket.close();
+	}
+
+	/**
+	 * The fake CUBRID Manager server, the task whose uuid starts with "done" is
+	 * successful from the third status request, other tasks never finish. The
+	 * connection is kept like the real server, so the status requests of a
+	 * task key use the same connection. Other requests are answered with the
+	 * database name as the uuid.
+	 */
+	private void serve() {
+		while (!serverSocket.isClosed()) {
+			try {
+				final Socket socket = serverSocket.accept();
+				synchronized (pollCountMap) {
+					connectionCount++;
+				}
+				Thread thread = new Thread(new Runnable() {
+					public void run() {
+						serveConnection(socket);
+					}
+				});
+				thread.setDaemon(true);
+				thread.start();
+			} catch (Exception e) {
+				return;
+			}
+		}
+	}
+
+	private void serveConnection(Socket socket) {
+		try {
+			InputStream in = socket.getInputStream();
+			OutputStream out = socket.getOutputStream();
+			while (true) {
+				StringBuilder request = new StringBuilder();
+				while (request.indexOf("\n\n") < 0) {
+					int ch = in.read();
+					if (ch < 0) {
+						socket.close();
+						return;
+					}
+					request.append((char) ch);
+				}
+				int index = request.indexOf("uuid:");
+				if (index < 0) {
+					index = request.indexOf("dbname:");
+					String dbName = request.substring(index + 7, request.indexOf("\n", index));
+					out.write(("task:compactdb\nstatus:success\nnote:none\nuuid:" + dbName + "\n\n").getBytes("UTF-8"));
+					out.flush();
+					continue;
+				}
+				String uuid = request.substring(index + 5, request.indexOf("\n", index));
+				int count;
+				synchronized (pollCountMap) {
+					Integer old = pollCountMap.get(uuid);
+					count = old == null ? 1 : old.intValue() + 1;
+					pollCountMap.put(uuid, Integer.valueOf(count));
+				}
+				String status = uuid.startsWith("done") && count >= 3 ? "success" : "failure";
+				out.write(("task:gettaskstatus\nstatus:" + status + "\nnote:none\n\n").getBytes("UTF-8"));
+				out.flush();
+			}
+		} catch (Exception e) {
+			return;
+		}
+	}
+
+	public void testTrack() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		TaskStatusTracker tracker = TaskStatusTracker.getInstance();
+		long start = System.currentTimeMillis();
+		TaskStatusFuture slow = tracker.track(serverInfo, "running", 60000, null);
+		TaskStatusFuture done = tracker.track(serverInfo, "done", 60000, new ITaskStatusListener() {
+			public void taskDone(TaskStatusFuture future) {
+				latch.countDown();
+			}
+		});
+		assertTrue(tracker.getPendingCount() >= 2);
+
+		assertTrue(done.get(10, TimeUnit.SECONDS).booleanValue());
+		assertTrue(latch.await(1, TimeUnit.SECONDS));
+		assertEquals(3, done.getPollCount());
+		// 200ms + 400ms + 800ms instead of 3 times of 5 seconds
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		assertTrue(done.getTaskStatusTask().isSuccess());
+		// one connection for each task key
+		synchronized (pollCountMap) {
+			assertEquals(2, connectionCount);
+		}
+
+		assertFalse(slow.isDone());
+		assertTrue(slow.cancel(true));
+		assertTrue(slow.isCancelled());
+		assertFalse(slow.cancel(true));
+	}
+
+	public void testWaitTaskStatus() throws Exception {
+		CommonUpdateTask task = new CommonUpdateTask(CommonTaskName.COMPACT_DATABASE_TASK_NANE, serverInfo,
+				CommonSendMsg.getCompactDbSendMsg());
+		task.setDbName("done-compact");
+		task.setWaitTaskStatus(false);
+		task.execute();
+		TaskStatusFuture future = task.getTaskStatusFuture();
+		assertNotNull(future);
+		assertFalse(future.isDone());
+
+		task.waitTaskStatus(new NullProgressMonitor());
+		assertTrue(future.isDone());
+		assertTrue(future.get().booleanValue());
+		assertNull(task.getErrorMsg());
+
+		task = new CommonUpdateTask(CommonTaskName.COMPACT_DATABASE_TASK_NANE, serverInfo,
+				CommonSendMsg.getCompactDbSendMsg());
+		task.setDbName("running-compact");
+		task.setWaitTaskStatus(false);
+		task.execute();
+		IProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		task.waitTaskStatus(monitor);
+		assertTrue(task.getTaskStatusFuture().isCancelled());
+	}
+
+	public void testTimeout() throws Exception {
+		TaskStatusFuture future = TaskStatusTracker.getInstance().track(serverInfo, "timeout", 1000, null);
+		assertFalse(future.get(10, TimeUnit.SECONDS).booleanValue());
+		assertNotNull(future.getTaskStatusTask().getErrorMsg());
+		assertTrue(future.getPollCount() >= 2);
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search Solution. 
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted provided that the following conditions are met: 
+ *
+ * - Redistributions of source code must retain the above copyright notice, 
+ *   this list of conditions and the following disclaimer. 
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, 
+ *   this list of conditions and the following disclaimer in the documentation 
+ *   and/or other materials provided with the distribution. 
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors 
+ *   may be used to endorse or promote products derived from this software without 
+ *   specific prior written permission. 
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, 
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, 
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY 
+ * OF SUCH DAMAGE. 
+ *
+ */
+package com.cubrid.cubridmanager.core.logs.index;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.logs.model.LogContentInfo;
+
+/**
+ * Test LogIndex and LogIndexer
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogIndexTest extends
+		TestCase {
+
+	private static final String FILE = "localhost:8001:/log/server.err";
+	private File dir;
+	private LogIndex index;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		dir = new File(System.getProperty("java.io.tmpdir"), "logindex"
+				+ System.nanoTime());
+		index = new LogIndex(dir);
+	}
+
+	protected void tearDown() throws Exception {
+		index.close();
+		File[] files = dir.listFiles();
+		for (int i = 0; files != null && i < files.length; i++) {
+			files[i].delete();
+		}
+		dir.delete();
+		super.tearDown();
+	}
+
+	private LogQuery query(String text, String severity) {
+		LogQuery query = new LogQuery();
+		query.setText(text);
+		query.setSeverity(severity);
+		return query;
+	}
+
+	public void testParser() {
+		LogLineParser parser = new LogLineParser();
+		parser.parse("Time: 10/18/26 12:00:00.123 - ERROR *** ERROR CODE = -111, Tran = 1, EID = 2");
+		assertEquals("ERROR", parser.getSeverity());
+		assertTrue(parser.getTime() > 0);
+		long time = parser.getTime();
+		parser.parse("Lock timeout on the table");
+		assertEquals("ERROR", parser.getSeverity());
+		assertEquals(time, parser.getTime());
+		parser.parse("Time: 10/18/26 12:00:01.000 - FATAL ERROR *** ERROR CODE = -2");
+		assertEquals("FATAL ERROR", parser.getSeverity());
+		assertEquals(time + 877, parser.getTime());
+		parser.parse("10/18 12:00:00.123 (1) execute select * from t");
+		assertEquals(LogLineParser.SEVERITY_NONE, parser.getSeverity());
+
+		List<String> terms = LogLineParser.tokenize("ERROR CODE = -111, Code");
+		assertEquals(3, terms.size());
+		assertEquals("error", terms.get(0));
+		assertEquals("111", terms.get(2));
+		terms = LogLineParser.tokenize("Tran = 1234567, EID = 42");
+		assertEquals(3, terms.size());
+		assertFalse(terms.contains("1234567"));
+		assertTrue(LogLineParser.tokenize("Tran = 1234567", true).contains("1234567"));
+	}
+
+	public void testSearch() throws IOException {
+		index.beginFile(FILE, 4);
+		index.addLine(FILE, "Time: 10/17/26 12:00:00.000 - ERROR *** ERROR CODE = -111, Tran = 1");
+		index.addLine(FILE, "Lock timeout on the table athlete");
+		index.addLine(FILE, "Time: 10/18/26 12:00:00.000 - WARNING *** ERROR CODE = -72, Tran = 2");
+		index.addLine(FILE, "Lock escalation on the table game");
+		assertEquals(0, index.search(query("lock", null)).getMatchCount());
+		index.commit();
+
+		LogSearchResult result = index.search(query("LOCK table", null));
+		assertEquals(2, result.getMatchCount());
+		assertEquals(4, result.getHitList().get(0).getLineNo());
+		assertEquals("WARNING", result.getHitList().get(0).getSeverity());
+		assertEquals(Integer.valueOf(1), result.getSeverityCountMap().get("ERROR"));
+		assertEquals(2, result.getDayCountMap().size());
+
+		result = index.search(query("lock", "ERROR"));
+		assertEquals(1, result.getMatchCount());
+		assertEquals("Lock timeout on the table athlete",
+				result.getHitList().get(0).getText());
+		assertEquals(1, index.search(query("-111", null)).getMatchCount());
+		assertEquals(0, index.search(query("lock deadlock", null)).getMatchCount());
+
+		LogQuery query = query("", "WARNING");
+		query.setFromTime(result.getHitList().get(0).getTime() + 1);
+		assertEquals(2, index.search(query).getMatchCount());
+		query.setSeverity(null);
+		assertFalse(query.hasIndexedTerm());
+		assertEquals(0, index.search(query).getMatchCount());
+		query.setSeverity("WARNING");
+		query.setFileKeyPrefix("otherhost:");
+		assertEquals(0, index.search(query).getMatchCount());
+	}
+
+	public void testNumberTerms() throws IOException {
+		index.beginFile(FILE, 3);
+		index.addLine(FILE, "10/18 12:00:00.000 (1) execute select 1 bind 1234567");
+		index.addLine(FILE, "10/18 12:00:01.000 (2) execute select 2 bind 7654321");
+		index.addLine(FILE, "10/18 12:00:02.000 (3) execute select 3 bind 12345678");
+		index.commit();
+		assertEquals(3, index.search(query("bind", null)).getMatchCount());
+		LogSearchResult result = index.search(query("bind 1234567", null));
+		assertEquals(1, result.getMatchCount());
+		assertEquals(1, result.getHitList().get(0).getLineNo());
+		assertFalse(query("1234567", null).hasIndexedTerm());
+		assertEquals(0, index.search(query("1234567", null)).getMatchCount());
+	}
+
+	public void testDictionaryBlocks() throws IOException {
+		index.beginFile(FILE, 1000);
+		for (int i = 0; i < 1000; i++) {
+			index.addLine(FILE, "word" + i + " shared");
+		}
+		index.commit();
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(1, index.search(query("word" + i, null)).getMatchCount());
+		}
+		assertEquals(0, index.search(query("word1000", null)).getMatchCount());
+		assertEquals(0, index.search(query("aaa", null)).getMatchCount());
+		assertEquals(0, index.search(query("zzz", null)).getMatchCount());
+		assertEquals(1000, index.search(query("shared", null)).getMatchCount());
+	}
+
+	public void testManySeverities() throws IOException {
+		index.beginFile(FILE, 200);
+		for (int i = 0; i < 200; i++) {
+			index.addLine(FILE, "Time: 10/18/26 12:00:00.000 - " + severity(i)
+					+ " *** marker");
+		}
+		index.commit();
+		LogSearchResult result = index.search(query("marker", null));
+		assertEquals(200, result.getMatchCount());
+		for (int i = 0; i < 200; i++) {
+			assertEquals(Integer.valueOf(1),
+					result.getSeverityCountMap().get(severity(i)));
+		}
+		result = index.search(query("marker", severity(150)));
+		assertEquals(1, result.getMatchCount());
+		assertEquals(151, result.getHitList().get(0).getLineNo());
+		assertEquals(severity(150), result.getHitList().get(0).getSeverity());
+	}
+
+	private static String severity(int no) {
+		return "SEV " + (char) ('A' + no / 26) + (char) ('A' + no % 26);
+	}
+
+	public void testStateBackup() throws IOException {
+		index.beginFile(FILE, 2);
+		index.addLine(FILE, "first");
+		index.commit();
+		File stateFile = new File(dir, "index.properties");
+		File backupFile = new File(dir, "index.properties.bak");
+		File oldStateFile = new File(dir, "old.properties");
+		copy(stateFile, oldStateFile);
+		index.addLine(FILE, "second");
+		index.commit();
+		assertFalse(backupFile.exists());
+		index.close();
+		// the save stopped after the old state file is renamed to the backup
+		assertTrue(stateFile.delete());
+		assertTrue(oldStateFile.renameTo(backupFile));
+
+		index = new LogIndex(dir);
+		assertEquals(1, index.getIndexedLineCount(FILE));
+		assertEquals(1, index.search(query("first", null)).getMatchCount());
+		assertEquals(0, index.search(query("second", null)).getMatchCount());
+		index.addLine(FILE, "second");
+		index.commit();
+		assertTrue(stateFile.exists());
+		assertFalse(backupFile.exists());
+		assertEquals(1, index.search(query("second", null)).getMatchCount());
+	}
+
+	private static void copy(File from, File to) throws IOException {
+		InputStream in = new FileInputStream(from);
+		OutputStream out = new FileOutputStream(to);
+		try {
+			byte[] buffer = new byte[4096];
+			int len;
+			while ((len = in.read(buffer)) != -1) {
+				out.write(buffer, 0, len);
+			}
+		} finally {
+			in.close();
+			out.close();
+		}
+	}
+
+	public void testIncrementalAndReset() throws IOException {
+		index.beginFile(FILE, 2);
+		index.addLine(FILE, "Time: 10/18/26 12:00:00.000 - ERROR *** ERROR CODE = -111");
+		index.addLine(FILE, "first");
+		index.commit();
+		index.addLine(FILE, "not committed");
+		index.close();
+
+		index = new LogIndex(dir);
+		assertEquals(2, index.getIndexedLineCount(FILE));
+		assertEquals(0, index.search(query("committed", null)).getMatchCount());
+		assertFalse(index.beginFile(FILE, 3));
+		index.addLine(FILE, "second");
+		index.commit();
+		LogSearchResult result = index.search(query("second", "ERROR"));
+		assertEquals(1, result.getMatchCount());
+		assertEquals(3, result.getHitList().get(0).getLineNo());
+
+		assertTrue(index.beginFile(FILE, 1));
+		index.addLine(FILE, "first again");
+		index.commit();
+		result = index.search(query("first", null));
+		assertEquals(1, result.getMatchCount());
+		assertEquals("first again", result.getHitList().get(0).getText());
+
+		index.removeFile(FILE);
+		assertEquals(0, index.search(query("first", null)).getMatchCount());
+		assertTrue(index.getFileKeyList().isEmpty());
+	}
+
+	public void testMergeSegments() throws IOException {
+		index.beginFile(FILE, 100);
+		for (int i = 1; i <= 100; i++) {
+			index.addLine(FILE, "line" + (i % 10) + " common");
+			if (i % 5 == 0) {
+				index.commit();
+			}
+		}
+		File[] segments = dir.listFiles();
+		int segmentCount = 0;
+		for (int i = 0; i < segments.length; i++) {
+			if (segments[i].getName().startsWith("seg-")) {
+				segmentCount++;
+			}
+		}
+		assertTrue(segmentCount <= 11);
+		assertEquals(100, index.search(query("common", null)).getMatchCount());
+		assertEquals(10, index.search(query("line3", null)).getMatchCount());
+		index.close();
+		index = new LogIndex(dir);
+		assertEquals(10, index.search(query("line3 common", null)).getMatchCount());
+	}
+
+	public void testIndexer() throws IOException {
+		ServerInfo serverInfo = new ServerInfo();
+		serverInfo.setHostAddress("localhost");
+		serverInfo.setHostMonPort(8001);
+		final List<String> file = new ArrayList<String>();
+		final List<long[]> requests = new ArrayList<long[]>();
+		LogIndexer indexer = new LogIndexer(index, serverInfo, null) {
+			protected LogContentInfo fetch(String path, long from, long to) {
+				requests.add(new long[]{from, to });
+				if (file.isEmpty()) {
+					return null;
+				}
+				LogContentInfo content = new LogContentInfo();
+				long end = Math.min(to, file.size());
+				content.setStart(Long.toString(from));
+				content.setEnd(Long.toString(end));
+				content.setTotal(Integer.toString(file.size()));
+				for (long i = from; i <= end; i++) {
+					content.addLine(file.get((int) i - 1));
+				}
+				return content;
+			}
+		};
+		for (int i = 1; i <= LogIndexer.FETCH_LINES + 10; i++) {
+			file.add("line " + i);
+		}
+		assertEquals(LogIndexer.FETCH_LINES + 10, indexer.index("/log/server.err"));
+		assertEquals(2, requests.size());
+
+		requests.clear();
+		file.add("appended 42");
+		assertEquals(1, indexer.index("/log/server.err"));
+		assertEquals(1, requests.size());
+		assertEquals(LogIndexer.FETCH_LINES + 10, requests.get(0)[0]);
+		assertEquals(0, indexer.index("/log/server.err"));
+
+		file.clear();
+		file.add("rotated 42");
+		assertEquals(1, indexer.index("/log/server.err"));
+		LogQuery query = query("42", null);
+		query.setFileKeyPrefix("localhost:8001:");
+		LogSearchResult result = index.search(query);
+		assertEquals(1, result.getMatchCount());
+		assertEquals("rotated 42", result.getHitList().get(0).getText());
+	}
+}
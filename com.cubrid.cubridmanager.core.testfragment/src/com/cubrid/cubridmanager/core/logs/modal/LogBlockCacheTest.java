@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search Solution. 
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted provided that the following conditions are met: 
+ *
+ * - Redistributions of source code must retain the above copyright notice, 
+ *   this list of conditions and the following disclaimer. 
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, 
+ *   this list of conditions and the following disclaimer in the documentation 
+ *   and/or other materials provided with the distribution. 
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors 
+ *   may be used to endorse or promote products derived from this software without 
+ *   specific prior written permission. 
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, 
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, 
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY 
+ * OF SUCH DAMAGE. 
+ *
+ */
+package com.cubrid.cubridmanager.core.logs.modal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import com.cubrid.cubridmanager.core.logs.model.LogBlockCache;
+
+/**
+ * Test LogBlockCache
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogBlockCacheTest extends
+		TestCase {
+
+	private static final int BS = LogBlockCache.BLOCK_SIZE;
+	private static final String FILE = LogBlockCache.getFileKey("localhost",
+			8001, "/log/server.err");
+
+	private List<String> lines(long from, long to) {
+		List<String> list = new ArrayList<String>();
+		for (long i = from; i <= to; i++) {
+			list.add("line" + i);
+		}
+		return list;
+	}
+
+	public void testBlockNo() {
+		assertEquals(0, LogBlockCache.getBlockNo(1));
+		assertEquals(0, LogBlockCache.getBlockNo(BS));
+		assertEquals(1, LogBlockCache.getBlockNo(BS + 1));
+		assertEquals(BS + 1, LogBlockCache.getBlockStart(1));
+	}
+
+	public void testGetLines() {
+		LogBlockCache cache = new LogBlockCache(10);
+		long total = BS * 2 + 10;
+		cache.putLines(FILE, "utf-8", 1, lines(1, total), total);
+		assertEquals(total, cache.getTotal(FILE));
+		assertNotNull(cache.getBlock(FILE, "utf-8", 2));
+		assertNull(cache.getBlock(FILE, "euc-kr", 0));
+
+		List<String> page = cache.getLines(FILE, "utf-8", BS - 49, BS + 50);
+		assertEquals(100, page.size());
+		assertEquals("line" + (BS - 49), page.get(0));
+		assertEquals("line" + (BS + 50), page.get(99));
+
+		page = cache.getLines(FILE, "utf-8", total - 5, total);
+		assertEquals(6, page.size());
+		assertEquals("line" + total, page.get(5));
+		// beyond the cached tail
+		assertNull(cache.getLines(FILE, "utf-8", total - 5, total + 1));
+	}
+
+	public void testIncompleteBlockIgnored() {
+		LogBlockCache cache = new LogBlockCache(10);
+		cache.putLines(FILE, "utf-8", 1, lines(1, BS + 10), BS * 3);
+		assertNotNull(cache.getBlock(FILE, "utf-8", 0));
+		assertNull(cache.getBlock(FILE, "utf-8", 1));
+		// not aligned to a block
+		cache.putLines(FILE, "utf-8", 2, lines(2, BS + 1), BS * 3);
+		assertNull(cache.getBlock(FILE, "utf-8", 1));
+	}
+
+	public void testGrowAndShrink() {
+		LogBlockCache cache = new LogBlockCache(10);
+		long total = BS + 10;
+		cache.putLines(FILE, "utf-8", 1, lines(1, total), total);
+		assertNotNull(cache.getBlock(FILE, "utf-8", 1));
+
+		// appended, the partial tail block is stale
+		cache.updateTotal(FILE, total + 5);
+		assertNotNull(cache.getBlock(FILE, "utf-8", 0));
+		assertNull(cache.getBlock(FILE, "utf-8", 1));
+
+		// reset, all blocks are stale
+		cache.updateTotal(FILE, 3);
+		assertNull(cache.getBlock(FILE, "utf-8", 0));
+		assertEquals(3, cache.getTotal(FILE));
+
+		cache.invalidate(FILE);
+		assertEquals(-1, cache.getTotal(FILE));
+	}
+
+	public void testEvict() {
+		LogBlockCache cache = new LogBlockCache(2);
+		long total = BS * 3;
+		cache.putLines(FILE, "utf-8", 1, lines(1, total), total);
+		assertNull(cache.getBlock(FILE, "utf-8", 0));
+		assertNotNull(cache.getBlock(FILE, "utf-8", 1));
+		assertNotNull(cache.getBlock(FILE, "utf-8", 2));
+	}
+}
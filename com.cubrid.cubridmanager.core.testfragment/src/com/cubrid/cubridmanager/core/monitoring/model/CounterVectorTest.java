@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search Solution. 
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted provided that the following conditions are met: 
+ *
+ * - Redistributions of source code must retain the above copyright notice, 
+ *   this list of conditions and the following disclaimer. 
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, 
+ *   this list of conditions and the following disclaimer in the documentation 
+ *   and/or other materials provided with the distribution. 
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors 
+ *   may be used to endorse or promote products derived from this software without 
+ *   specific prior written permission. 
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, 
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, 
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY 
+ * OF SUCH DAMAGE. 
+ *
+ */
+package com.cubrid.cubridmanager.core.monitoring.model;
+
+import junit.framework.TestCase;
+
+/**
+ * Test CounterVector
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class CounterVectorTest extends
+		TestCase {
+
+	public void testText() {
+		CounterVector vec = new CounterVector(3, 2);
+		assertEquals(3, vec.size());
+		assertEquals("0", vec.getText(0));
+
+		vec.setText(0, "9876543210");
+		assertEquals(9876543210L, vec.get(0));
+		assertEquals("9876543210", vec.getText(0));
+
+		// out of int range for an int counter
+		vec.setText(2, "9876543210");
+		assertFalse(vec.isNumber(2));
+		assertEquals(0, vec.get(2));
+		assertEquals("9876543210", vec.getText(2));
+
+		vec.setText(1, null);
+		assertNull(vec.getText(1));
+		vec.set(1, 5);
+		assertEquals("5", vec.getText(1));
+	}
+
+	public void testCopy() {
+		CounterVector vec = new CounterVector(2);
+		vec.set(0, 1);
+		vec.set(1, 2);
+		CounterVector clone = new CounterVector(vec);
+		assertEquals(1, clone.get(0));
+		vec.set(0, 3);
+		assertEquals(1, clone.get(0));
+		clone.copyFrom(vec);
+		assertEquals(3, clone.get(0));
+		clone.set(1, 7);
+		vec.copy(1, clone);
+		assertEquals(7, vec.get(1));
+	}
+
+	public void testDelta() {
+		CounterVector vecA = new CounterVector(2, 1);
+		CounterVector vecB = new CounterVector(2, 1);
+		CounterVector vecC = new CounterVector(2, 1);
+		CounterVector delta = new CounterVector(2, 1);
+
+		vecA.set(0, 10);
+		vecB.set(0, 4);
+		delta.setDelta(0, vecA, vecB);
+		assertEquals(6, delta.get(0));
+
+		vecB.setText(0, "abc");
+		delta.setDelta(0, vecA, vecB);
+		assertEquals(0, delta.get(0));
+
+		// the counter was reset, use the last delta
+		vecA.set(0, 2);
+		vecB.set(0, 10);
+		vecC.set(0, 7);
+		delta.setDelta(0, vecA, vecB, vecC);
+		assertEquals(3, delta.get(0));
+		assertEquals(13, vecA.get(0));
+
+		// the int counter overflowed
+		vecA.set(1, Integer.MIN_VALUE + 4);
+		vecB.set(1, Integer.MAX_VALUE - 5);
+		delta.setDelta(1, vecA, vecB, vecC);
+		assertEquals(9, delta.get(1));
+
+		vecA.set(0, 30);
+		vecB.set(0, 10);
+		delta.setRate(0, vecA, vecB, vecC, 2.0f);
+		assertEquals(10, delta.get(0));
+	}
+}
@@ -54,6 +54,8 @@ public class Messages extends
 	public static String error_noInitSocket;
 	public static String error_invalidToken;
 	public static String error_invalidRequest;
+	public static String error_requestQueueTimeout;
+	public static String error_taskStatusTimeout;
 	// message related
 	public static String error_messageFormat;
 	// other
@@ -33,7 +33,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
+import com.cubrid.cubridmanager.core.common.jdbc.JDBCConnectionPool;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.common.socket.HttpConnectionPool;
+import com.cubrid.cubridmanager.core.common.socket.RequestScheduler;
 
 /**
  * This class is responsible to manage all CUBRID Manager server
@@ -103,6 +106,8 @@ public final class ServerManager {
 		synchronized (this) {
 			setConnected(hostAddress, port, userName, false);
 			serverInfos.remove(hostAddress + ":" + port + ":" + userName);
+			RequestScheduler.getInstance().removeServer(hostAddress, port);
+			HttpConnectionPool.removePool(hostAddress, port);
 		}
 	}
 
@@ -136,6 +141,7 @@ public final class ServerManager {
 				}
 			}
 		}
+		JDBCConnectionPool.closeIdleConnections();
 	}
 
 	public HashMap<String, ServerInfo> getAllServerInfos(){
@@ -0,0 +1,566 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.common.core.util.QueryUtil;
+import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
+import com.cubrid.cubridmanager.core.cubrid.user.model.DbUserInfo;
+
+/**
+ * The pool of the JDBC connections of a database, the connections are pooled
+ * by broker address, database, user, password, charset, JDBC attributes and
+ * driver version.
+ *
+ * <li>At most {@link #DEFAULT_MAX_IDLE} idle connections are kept in a pool,
+ * a borrow never blocks and opens a new connection when no idle one is left
+ * <li>An idle connection is closed after {@link #DEFAULT_IDLE_TIMEOUT_MSEC}
+ * <li>A connection which was idle longer than
+ * {@link #VALIDATION_INTERVAL_MSEC} is validated by a query when borrowed
+ * <li>A returned connection is rolled back if it is not autocommit, and its
+ * autocommit and transaction isolation are reset
+ *
+ * Connections of shard brokers are not pooled.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class JDBCConnectionPool {
+	private static final Logger LOGGER = LogUtil.getLogger(JDBCConnectionPool.class);
+	public static final int DEFAULT_MAX_IDLE = 4;
+	public static final long DEFAULT_IDLE_TIMEOUT_MSEC = 60000;
+	public static final long VALIDATION_INTERVAL_MSEC = 5000;
+	private static final String VALIDATION_SQL = "SELECT 1 FROM db_root";
+
+	private static final Map<String, JDBCConnectionPool> POOL_MAP = new HashMap<String, JDBCConnectionPool>();
+	// the pool of every borrowed connection, it does not prevent a leaked
+	// connection from being collected
+	private static final Map<Connection, BorrowedConnection> OWNER_MAP = new WeakHashMap<Connection, BorrowedConnection>();
+	private static ScheduledExecutorService evictor;
+
+	private final String name;
+	private final IConnectionFactory factory;
+	private final int maxIdle;
+	private final long idleTimeout;
+	private final LinkedList<IdleConnection> idleList = new LinkedList<IdleConnection>();
+
+	private boolean isRemoved = false;
+	private int activeCount = 0;
+	private long borrowCount = 0;
+	private long createCount = 0;
+	private long reuseCount = 0;
+	private long validationFailCount = 0;
+	private long evictCount = 0;
+
+	/**
+	 * The factory of the new connections of a pool
+	 */
+	interface IConnectionFactory {
+		/**
+		 * Open a new connection
+		 *
+		 * @param autoCommit boolean Whether is autoCommit
+		 * @return Connection The new connection
+		 * @throws SQLException if the connection is failed
+		 */
+		Connection createConnection(boolean autoCommit) throws SQLException;
+	}
+
+	/**
+	 * The pool of the borrowed connection and its initial transaction
+	 * isolation
+	 */
+	private static final class BorrowedConnection {
+		private final JDBCConnectionPool pool;
+		private final int isolation;
+
+		private BorrowedConnection(JDBCConnectionPool pool, int isolation) {
+			this.pool = pool;
+			this.isolation = isolation;
+		}
+	}
+
+	/**
+	 * The idle connection, its initial transaction isolation and the time it
+	 * was returned
+	 */
+	private static final class IdleConnection {
+		private final Connection connection;
+		private final int isolation;
+		private final long idleTime;
+
+		private IdleConnection(Connection connection, int isolation,
+				long idleTime) {
+			this.connection = connection;
+			this.isolation = isolation;
+			this.idleTime = idleTime;
+		}
+	}
+
+	JDBCConnectionPool(String name, IConnectionFactory factory, int maxIdle,
+			long idleTimeout) {
+		this.name = name;
+		this.factory = factory;
+		this.maxIdle = maxIdle;
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Borrow a connection of the database, it should be given back by
+	 * {@link #returnConnection(Connection)}, or be closed.
+	 *
+	 * @param dbInfo DatabaseInfo The database
+	 * @param autoCommit boolean Whether is autoCommit
+	 * @return Connection The connection
+	 * @throws SQLException if no connection can be opened
+	 */
+	public static Connection borrowConnection(DatabaseInfo dbInfo,
+			boolean autoCommit) throws SQLException {
+		if (dbInfo == null || dbInfo.getServerInfo() == null) {
+			throw new IllegalArgumentException();
+		}
+		if (dbInfo.isShard()) {
+			return JDBCConnectionManager.getConnection(dbInfo, autoCommit);
+		}
+		return getPool(dbInfo).borrow(autoCommit);
+	}
+
+	/**
+	 * Give back the connection borrowed by
+	 * {@link #borrowConnection(DatabaseInfo, boolean)}, a connection which
+	 * is not pooled is closed.
+	 *
+	 * @param connection Connection The connection
+	 */
+	public static void returnConnection(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		BorrowedConnection borrowed;
+		synchronized (OWNER_MAP) {
+			borrowed = OWNER_MAP.remove(connection);
+		}
+		if (borrowed == null) {
+			QueryUtil.freeQuery(connection);
+		} else {
+			borrowed.pool.giveBack(connection, borrowed.isolation);
+		}
+	}
+
+	/**
+	 * Close the borrowed connection instead of giving it back, for example
+	 * when its statement is canceled
+	 *
+	 * @param connection Connection The connection
+	 */
+	public static void discardConnection(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		BorrowedConnection borrowed;
+		synchronized (OWNER_MAP) {
+			borrowed = OWNER_MAP.remove(connection);
+		}
+		if (borrowed != null) {
+			borrowed.pool.release();
+		}
+		QueryUtil.freeQuery(connection);
+	}
+
+	/**
+	 * Get the pool of the database
+	 *
+	 * @param dbInfo DatabaseInfo The database
+	 * @return JDBCConnectionPool The pool
+	 */
+	public static JDBCConnectionPool getPool(final DatabaseInfo dbInfo) {
+		DbUserInfo userInfo = dbInfo.getAuthLoginedDbUserInfo();
+		final String brokerIP = dbInfo.getBrokerIP();
+		final String brokerPort = dbInfo.getBrokerPort();
+		final String dbName = dbInfo.getDbName();
+		final String userName = userInfo.getName();
+		final String password = userInfo.getNoEncryptPassword();
+		final String charset = dbInfo.getCharSet();
+		final String jdbcAttrs = dbInfo.getJdbcAttrs();
+		final String driverVersion = dbInfo.getServerInfo().getJdbcDriverVersion();
+		String key = brokerIP + ":" + brokerPort + ":" + dbName + ":"
+				+ userName + ":" + password + ":" + charset + ":" + jdbcAttrs
+				+ ":" + driverVersion;
+		synchronized (POOL_MAP) {
+			JDBCConnectionPool pool = POOL_MAP.get(key);
+			if (pool == null) {
+				String name = brokerIP + ":" + brokerPort + ":" + dbName + ":"
+						+ userName;
+				pool = new JDBCConnectionPool(name, new IConnectionFactory() {
+					public Connection createConnection(boolean autoCommit) throws SQLException {
+						return JDBCConnectionManager.getConnection(brokerIP,
+								brokerPort, dbName, userName, password,
+								charset, jdbcAttrs, driverVersion, autoCommit,
+								false);
+					}
+				}, DEFAULT_MAX_IDLE, DEFAULT_IDLE_TIMEOUT_MSEC);
+				POOL_MAP.put(key, pool);
+				startEvictor();
+			}
+			return pool;
+		}
+	}
+
+	/**
+	 * Start the thread which closes the timed out idle connections
+	 */
+	private static void startEvictor() {
+		if (evictor != null) {
+			return;
+		}
+		evictor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable,
+						"JDBC connection pool evictor");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		long period = DEFAULT_IDLE_TIMEOUT_MSEC / 2;
+		evictor.scheduleWithFixedDelay(new Runnable() {
+			public void run() {
+				evictIdleConnections();
+			}
+		}, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Close the timed out idle connections of all pools, and remove the pools
+	 * which have no connection
+	 */
+	public static void evictIdleConnections() {
+		List<JDBCConnectionPool> pools;
+		synchronized (POOL_MAP) {
+			pools = new ArrayList<JDBCConnectionPool>(POOL_MAP.values());
+		}
+		for (JDBCConnectionPool pool : pools) {
+			pool.evict(false);
+		}
+		synchronized (POOL_MAP) {
+			for (Iterator<JDBCConnectionPool> it = POOL_MAP.values().iterator(); it.hasNext();) {
+				if (it.next().markRemovedIfEmpty()) {
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Close the idle connections of all pools, for example when the
+	 * databases are disconnected
+	 */
+	public static void closeIdleConnections() {
+		List<JDBCConnectionPool> pools;
+		synchronized (POOL_MAP) {
+			pools = new ArrayList<JDBCConnectionPool>(POOL_MAP.values());
+		}
+		for (JDBCConnectionPool pool : pools) {
+			pool.evict(true);
+		}
+	}
+
+	/**
+	 * Close the idle connections of a database, for example when it is
+	 * logged out
+	 *
+	 * @param brokerIP String The broker address
+	 * @param brokerPort String The broker port
+	 * @param dbName String The database name
+	 */
+	public static void closeIdleConnections(String brokerIP,
+			String brokerPort, String dbName) {
+		String prefix = brokerIP + ":" + brokerPort + ":" + dbName + ":";
+		List<JDBCConnectionPool> pools = new ArrayList<JDBCConnectionPool>();
+		synchronized (POOL_MAP) {
+			for (JDBCConnectionPool pool : POOL_MAP.values()) {
+				if (pool.name.startsWith(prefix)) {
+					pools.add(pool);
+				}
+			}
+		}
+		for (JDBCConnectionPool pool : pools) {
+			pool.evict(true);
+		}
+	}
+
+	/**
+	 * Get the statistics of all pools for logging
+	 *
+	 * @return String The statistics
+	 */
+	public static String getAllStatistics() {
+		StringBuilder sb = new StringBuilder();
+		synchronized (POOL_MAP) {
+			for (JDBCConnectionPool pool : POOL_MAP.values()) {
+				sb.append(pool.getStatistics()).append("\n");
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Borrow an idle connection, or open a new one
+	 *
+	 * @param autoCommit boolean Whether is autoCommit
+	 * @return Connection The connection
+	 * @throws SQLException if no connection can be opened
+	 */
+	Connection borrow(boolean autoCommit) throws SQLException {
+		synchronized (this) {
+			borrowCount++;
+			activeCount++;
+		}
+		while (true) {
+			IdleConnection idle;
+			synchronized (this) {
+				idle = idleList.pollFirst();
+			}
+			if (idle == null) {
+				break;
+			}
+			if (validate(idle)) {
+				try {
+					idle.connection.setAutoCommit(autoCommit);
+					synchronized (this) {
+						reuseCount++;
+					}
+					register(idle.connection, idle.isolation);
+					return idle.connection;
+				} catch (SQLException e) {
+					LOGGER.debug(e.getMessage(), e);
+				}
+			}
+			synchronized (this) {
+				validationFailCount++;
+			}
+			QueryUtil.freeQuery(idle.connection);
+		}
+
+		Connection connection;
+		int isolation;
+		try {
+			connection = factory.createConnection(autoCommit);
+			isolation = connection.getTransactionIsolation();
+		} catch (SQLException e) {
+			release();
+			throw e;
+		} catch (RuntimeException e) {
+			release();
+			throw e;
+		}
+		synchronized (this) {
+			createCount++;
+		}
+		register(connection, isolation);
+		return connection;
+	}
+
+	/**
+	 * Remember the pool and the initial transaction isolation of the borrowed
+	 * connection
+	 *
+	 * @param connection Connection The connection
+	 * @param isolation int The initial transaction isolation
+	 */
+	private void register(Connection connection, int isolation) {
+		synchronized (OWNER_MAP) {
+			OWNER_MAP.put(connection, new BorrowedConnection(this, isolation));
+		}
+	}
+
+	/**
+	 * Check whether the idle connection is still usable
+	 *
+	 * @param idle IdleConnection The idle connection
+	 * @return boolean Whether it is usable
+	 */
+	private boolean validate(IdleConnection idle) {
+		Statement stmt = null;
+		ResultSet rs = null;
+		try {
+			if (idle.connection.isClosed()) {
+				return false;
+			}
+			if (System.currentTimeMillis() - idle.idleTime < VALIDATION_INTERVAL_MSEC) {
+				return true;
+			}
+			stmt = idle.connection.createStatement();
+			rs = stmt.executeQuery(VALIDATION_SQL);
+			return true;
+		} catch (SQLException e) {
+			LOGGER.debug(e.getMessage(), e);
+			return false;
+		} finally {
+			QueryUtil.freeQuery(stmt, rs);
+		}
+	}
+
+	/**
+	 * Reset the returned connection and keep it as idle, close it when the
+	 * pool is full or it can not be reset
+	 *
+	 * @param connection Connection The connection
+	 * @param isolation int The initial transaction isolation
+	 */
+	void giveBack(Connection connection, int isolation) {
+		release();
+		try {
+			if (connection.isClosed()) {
+				return;
+			}
+			if (!connection.getAutoCommit()) {
+				connection.rollback();
+				connection.setAutoCommit(true);
+			}
+			if (connection.getTransactionIsolation() != isolation) {
+				connection.setTransactionIsolation(isolation);
+			}
+		} catch (SQLException e) {
+			LOGGER.debug(e.getMessage(), e);
+			QueryUtil.freeQuery(connection);
+			return;
+		}
+		synchronized (this) {
+			if (!isRemoved && idleList.size() < maxIdle) {
+				idleList.addFirst(new IdleConnection(connection, isolation,
+						System.currentTimeMillis()));
+				return;
+			}
+		}
+		QueryUtil.freeQuery(connection);
+	}
+
+	/**
+	 * The borrowed connection is given back or discarded
+	 */
+	private synchronized void release() {
+		if (activeCount > 0) {
+			activeCount--;
+		}
+	}
+
+	/**
+	 * Close the idle connections
+	 *
+	 * @param isAll boolean Whether to close all or only the timed out ones
+	 */
+	void evict(boolean isAll) {
+		List<IdleConnection> closeList = new ArrayList<IdleConnection>();
+		synchronized (this) {
+			long now = System.currentTimeMillis();
+			for (Iterator<IdleConnection> it = idleList.iterator(); it.hasNext();) {
+				IdleConnection idle = it.next();
+				if (isAll || now - idle.idleTime >= idleTimeout) {
+					it.remove();
+					closeList.add(idle);
+				}
+			}
+			evictCount += closeList.size();
+		}
+		for (IdleConnection idle : closeList) {
+			QueryUtil.freeQuery(idle.connection);
+		}
+	}
+
+	/**
+	 * Mark this pool as removed if it has no connection, a connection
+	 * borrowed from a removed pool is closed when it is given back
+	 *
+	 * @return boolean Whether it is marked as removed
+	 */
+	private synchronized boolean markRemovedIfEmpty() {
+		if (idleList.isEmpty() && activeCount == 0) {
+			isRemoved = true;
+		}
+		return isRemoved;
+	}
+
+	public synchronized int getIdleCount() {
+		return idleList.size();
+	}
+
+	public synchronized int getActiveCount() {
+		return activeCount;
+	}
+
+	public synchronized long getBorrowCount() {
+		return borrowCount;
+	}
+
+	public synchronized long getCreateCount() {
+		return createCount;
+	}
+
+	public synchronized long getReuseCount() {
+		return reuseCount;
+	}
+
+	public synchronized long getValidationFailCount() {
+		return validationFailCount;
+	}
+
+	public synchronized long getEvictCount() {
+		return evictCount;
+	}
+
+	/**
+	 * Get the statistics of this pool, the password is not included
+	 *
+	 * @return String The statistics
+	 */
+	public synchronized String getStatistics() {
+		return "pool=" + name + ", active=" + activeCount + ", idle="
+				+ idleList.size() + ", borrowed=" + borrowCount + ", created="
+				+ createCount + ", reused=" + reuseCount
+				+ ", validation failed=" + validationFailCount + ", evicted="
+				+ evictCount;
+	}
+}
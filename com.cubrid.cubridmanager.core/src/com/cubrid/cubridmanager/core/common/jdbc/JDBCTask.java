@@ -67,7 +67,7 @@ public class JDBCTask extends AbstractTask {
 		this.databaseInfo = dbInfo;
 		this.taskName = taskName;
 		try {
-			connection = JDBCConnectionManager.getConnection(dbInfo, isAutoCommit);
+			connection = JDBCConnectionPool.borrowConnection(dbInfo, isAutoCommit);
 		} catch (Exception e) {
 			errorMsg = e.getLocalizedMessage();
 		}
@@ -105,7 +105,9 @@ public class JDBCTask extends AbstractTask {
 		if (isSharedConnection) {
 			QueryUtil.freeQuery(stmt, rs);
 		} else {
-			QueryUtil.freeQuery(connection, stmt, rs);
+			// the canceled connection is not given back to the pool
+			QueryUtil.freeQuery(stmt, rs);
+			JDBCConnectionPool.discardConnection(connection);
 		}
 	}
 
@@ -116,7 +118,8 @@ public class JDBCTask extends AbstractTask {
 		if (isSharedConnection) {
 			QueryUtil.freeQuery(stmt, rs);
 		} else {
-			QueryUtil.freeQuery(connection, stmt, rs);
+			QueryUtil.freeQuery(stmt, rs);
+			JDBCConnectionPool.returnConnection(connection);
 			connection = null;
 		}
 		stmt = null;
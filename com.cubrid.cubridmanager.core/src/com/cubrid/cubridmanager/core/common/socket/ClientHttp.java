@@ -28,22 +28,16 @@
 package com.cubrid.cubridmanager.core.common.socket;
 
 import java.io.BufferedReader;
-import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.net.URL;
-import java.net.UnknownHostException;
-import java.security.SecureRandom;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeoutException;
 
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
@@ -53,9 +47,10 @@ import com.cubrid.cubridmanager.core.common.ServerManager;
 
 /**
  * To provide HTTP service for upper layer, send message, receive message and
- * parse message for upper layer to use. <li>Create a HTTP connection to send
- * request and parse response <li>Handle with the exception <li>If multiple
- * threads access this concurrently,it must be synchronized externally
+ * parse message for upper layer to use. <li>Lease a keep-alive HTTPS
+ * connection from {@link HttpConnectionPool} to send request and parse response <li>Handle with the exception <li>If multiple
+ * threads access this concurrently,it must be synchronized externally <li>The
+ * requests of the same server are queued by {@link RequestScheduler}
  *
  * @author Tobi
  * @version 1.0
@@ -65,7 +60,8 @@ import com.cubrid.cubridmanager.core.common.ServerManager;
 public class ClientHttp extends AbstractManagerClient {
 	private static final Logger LOGGER = LogUtil.getLogger(ClientHttp.class);
 	private static final String METHOD = "/cm_api";
-	private HttpsURLConnection conn;
+	private volatile HttpPost post;
+	private HttpConnectionPool pool;
 	private String requestUrl;
 	private int timeout = 300000;
 
@@ -100,50 +96,19 @@ public class ClientHttp extends AbstractManagerClient {
 	}
 
 	/**
-	 * Set up a http client
+	 * Set up a http request, the connection is leased from the connection pool
+	 * of this server when the request is executed.
 	 *
-	 * @throws UnknownHostException a possible exception
-	 * @throws IOException a possible exception
+	 * @throws GeneralSecurityException a possible exception
 	 */
-	private void setUpConnection() {
+	private void setUpConnection() throws GeneralSecurityException {
 		tearDownConnection();
 
 		this.requestUrl = "https://" + hostAddress + ":" + port + METHOD;
-
-		// support https
-		try {
-			X509TrustManager tm = new X509TrustManager() {
-				public void checkClientTrusted(X509Certificate[] xcs, String string) throws CertificateException {
-				}
-
-				public void checkServerTrusted(X509Certificate[] xcs, String string) throws CertificateException {
-				}
-
-				public X509Certificate[] getAcceptedIssuers() {
-					return new X509Certificate[0];
-				}
-			};
-			SSLContext ctx = SSLContext.getInstance("TLS");
-			ctx.init(null, new TrustManager[]{tm}, new SecureRandom());
-
-			HttpsURLConnection.setDefaultSSLSocketFactory(ctx.getSocketFactory());
-			HttpsURLConnection.setDefaultHostnameVerifier(new HostnameVerifier() {
-				public boolean verify(String hostname, SSLSession session) {
-					return true;
-				}
-			});
-
-			URL url = new URL(requestUrl);
-			conn = (HttpsURLConnection) url.openConnection();
-			conn.setRequestMethod("POST");
-			conn.setConnectTimeout(timeout);
-			conn.setDoInput(true);
-			conn.setDoOutput(true);
-			conn.setRequestProperty("Content-Type", "application/json");
-		} catch (Exception e) {
-			LOGGER.error("Make to support HTTPS failed.", e);
-		}
-
+		this.pool = HttpConnectionPool.getPool(hostAddress, port);
+		post = new HttpPost(requestUrl);
+		HttpConnectionParams.setConnectionTimeout(post.getParams(), timeout);
+		post.setHeader("Content-Type", "application/json");
 	}
 
 	/**
@@ -158,61 +123,60 @@ public class ClientHttp extends AbstractManagerClient {
 			LOGGER.debug("\n<sentMsg>\n" + message + "\n</sentMsg>\n");
 		}
 
-		this.setUpConnection();
-
-		OutputStreamWriter out = null;
 		BufferedReader br = null;
+		boolean isReleased = false;
+		RequestScheduler.Ticket ticket = null;
 		try {
-			// New CMS does not support concurrent.
-			// TODO Separated by db
-			synchronized (ClientHttp.class) {
-				conn.connect();
+			this.setUpConnection();
 
-				/*TOOLS-3562*/
-				if (StringUtil.isEmpty(requestCharsetName)) {
-					out = new OutputStreamWriter(conn.getOutputStream());
-				} else {
-					out = new OutputStreamWriter(conn.getOutputStream(),
-							requestCharsetName);
-				}
-				out.write(message);
-				out.flush();
-				out.close();
+			// New CMS does not support concurrent, the requests are serialized
+			// per server instead of globally.
+			ticket = RequestScheduler.getInstance().acquire(hostAddress, port,
+					timeout);
 
-				int responseCode = conn.getResponseCode();
-				if (responseCode >= 400) {
-					/*TOOLS-3562*/
-					if (StringUtil.isEmpty(responseCharsetName)) {
-						br = new BufferedReader(new InputStreamReader(
-								conn.getErrorStream()));
-					} else {
-						br = new BufferedReader(new InputStreamReader(
-								conn.getErrorStream(), responseCharsetName));
-					}
+			/*TOOLS-3562*/
+			if (StringUtil.isEmpty(requestCharsetName)) {
+				post.setEntity(new ByteArrayEntity(message.getBytes()));
+			} else {
+				post.setEntity(new ByteArrayEntity(message.getBytes(requestCharsetName)));
+			}
+			HttpResponse httpResponse = pool.getHttpClient().execute(post);
+			HttpEntity entity = httpResponse.getEntity();
+
+			int responseCode = httpResponse.getStatusLine().getStatusCode();
+			statusCode = responseCode;
+			StringBuilder sb = new StringBuilder();
+			if (entity != null) {
+				/*TOOLS-3562*/
+				if (StringUtil.isEmpty(responseCharsetName)) {
+					br = new BufferedReader(new InputStreamReader(entity.getContent()));
 				} else {
-					/*TOOLS-3562*/
-					if (StringUtil.isEmpty(responseCharsetName)) {
-						br = new BufferedReader(new InputStreamReader(
-								conn.getInputStream()));
-					} else {
-						br = new BufferedReader(new InputStreamReader(
-								conn.getInputStream(), responseCharsetName));
-					}
+					br = new BufferedReader(new InputStreamReader(entity.getContent(),
+							responseCharsetName));
 				}
-				StringBuilder sb = new StringBuilder();
 				String line;
 				while ((line = br.readLine()) != null) {
 					sb.append(line + "\n");
 				}
+				// give the connection back to the pool
 				br.close();
-				//CMS will return 200, when build connection successfully
-				if (responseCode == 200) {
-					responsedMsg = sb.toString();
-					checkParsedMsg(responsedMsg);
-				} else {
-					errorMsg = sb.toString();
-				}
+				EntityUtils.consume(entity);
+			}
+			isReleased = true;
+			//CMS will return 200, when build connection successfully
+			if (responseCode == 200) {
+				responsedMsg = sb.toString();
+				checkParsedMsg(responsedMsg);
+			} else {
+				errorMsg = sb.toString();
 			}
+		} catch (TimeoutException e) {
+			LOGGER.error("Waiting for the request queue of " + e.getMessage() + " timed out.");
+			errorMsg = Messages.error_requestQueueTimeout;
+		} catch (InterruptedException e) {
+			LOGGER.error(e.getMessage(), e);
+			Thread.currentThread().interrupt();
+			errorMsg = Messages.error_requestQueueTimeout;
 		} catch (Exception e) {
 			LOGGER.error(e.getMessage(), e);
 			if (e.getMessage() != null && (e.getMessage().startsWith("peer not authenticated")
@@ -224,6 +188,14 @@ public class ClientHttp extends AbstractManagerClient {
 			}
 			super.canConnect = false;
 			ServerManager.getInstance().setConnected(hostAddress, port, userName, false);
+		} finally {
+			if (!isReleased) {
+				tearDownConnection();
+			}
+			post = null;
+			if (ticket != null) {
+				ticket.release();
+			}
 		}
 		// TODO Add identifiable error message in the above code.
 
@@ -264,9 +236,11 @@ public class ClientHttp extends AbstractManagerClient {
 	 * Tear down the socket connection
 	 */
 	public void tearDownConnection() {
-		if (null != conn) {
-			this.conn.disconnect();
-			this.conn = null;
+		// abort the running request, the idle connection is kept in the pool
+		HttpPost running = post;
+		if (null != running) {
+			running.abort();
+			post = null;
 		}
 	}
 
@@ -276,8 +250,9 @@ public class ClientHttp extends AbstractManagerClient {
 	 * @param timeout
 	 */
 	public void setTimeout(int timeout) {
-		if (null != conn) {
-			conn.setConnectTimeout(timeout);
+		HttpPost running = post;
+		if (null != running) {
+			HttpConnectionParams.setConnectionTimeout(running.getParams(), timeout);
 		}
 		this.timeout = timeout;
 	}
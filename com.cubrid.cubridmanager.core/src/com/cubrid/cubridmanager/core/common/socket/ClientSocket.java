@@ -70,6 +70,9 @@ public class ClientSocket extends AbstractManagerClient {
 
 	private BufferedInputStream socketInputStream;
 	private BufferedWriter socketWriter;
+	private final byte[] readBuffer = new byte[8192];
+	private ResponseFrameDecoder frameDecoder;
+	private ResponseParser responseParser;
 
 	private Socket socket;
 	/**
@@ -228,28 +231,43 @@ public class ClientSocket extends AbstractManagerClient {
 		responsedMsg = null;
 		errorMsg = null;
 		warningMsg = null;
-		StringBuffer strBuffer = new StringBuffer();
-		int len;
-		byte tmp[] = new byte[2048];
-		while (!isStopRead && socketInputStream != null && (len = socketInputStream.read(tmp)) != -1) {
-			if (responseCharsetName == null) {
-				strBuffer.append(new String(tmp, 0, len));
-			} else {
-				strBuffer.append(new String(tmp, 0, len, responseCharsetName));
-			}
-			if (strBuffer.indexOf("\n\n") == strBuffer.length() - 2) {
-				break;
-			}
+		if (frameDecoder == null) {
+			frameDecoder = new ResponseFrameDecoder(responseCharsetName, isUsingSpecialDelimiter);
+			responseParser = new ResponseParser(isUsingSpecialDelimiter);
+			responseParser.setCaptureSpecialMessage(true);
+			frameDecoder.setLineHandler(responseParser);
+		}
+		// the connection may be torn down by another thread while reading
+		ResponseFrameDecoder decoder = frameDecoder;
+		ResponseParser parser = responseParser;
+		// the lines are parsed as soon as they are decoded, the whole message
+		// is only kept for debugging
+		boolean isKeepMessage = LOGGER.isDebugEnabled();
+		decoder.setKeepMessage(isKeepMessage);
+		parser.reset();
+		int len = 0;
+		boolean isComplete = false;
+		decoder.reset();
+		while (!isComplete && !isStopRead && socketInputStream != null
+				&& (len = socketInputStream.read(readBuffer)) != -1) {
+			isComplete = decoder.decode(readBuffer, 0, len);
+		}
+		if (len == -1) {
+			// the frame with a blank line in it ends with the connection
+			isComplete = decoder.finish();
 		}
 
-		responsedMsg = strBuffer.toString();
-		long endTime = System.currentTimeMillis();
-
-		LOGGER.debug("\n<responsedMsg>\n{}\n</responsedMsg>\n\n<spendTime>{}ms</spendTime>\n", 
-				responsedMsg,
-				String.valueOf(endTime - startTime));
+		if (isKeepMessage) {
+			responsedMsg = decoder.getMessage();
+			long endTime = System.currentTimeMillis();
+			LOGGER.debug("\n<responsedMsg>\n{}\n</responsedMsg>\n\n<spendTime>{}ms</spendTime>\n", 
+					responsedMsg,
+					String.valueOf(endTime - startTime));
+		}
 
-		checkParsedMsg(responsedMsg);
+		if (isComplete) {
+			checkParsedMsg(decoder.getByteCount(), parser);
+		}
 	}
 
 	/**
@@ -316,42 +334,36 @@ public class ClientSocket extends AbstractManagerClient {
 	}
 
 	/**
-	 * Check response message format, construct tree structure
+	 * Check response message format, get the parsed tree structure
 	 * 
-	 * @param buf
-	 *            String The message to be check
+	 * @param byteCount
+	 *            long The byte count of the message
+	 * @param parser
+	 *            ResponseParser The parser which has parsed the message
 	 */
-	private void checkParsedMsg(String buf) {
-		String newBuf = buf;
-		if ((isUsingSpecialDelimiter && buf.indexOf("\nEND__DIAGDATA\n") >= 0)
-				|| (!isUsingSpecialDelimiter && buf.indexOf("\n\n") >= 0)) {
-			if (buf.length() <= 16) {
-				errorMsg = Messages.error_messageFormat;
-				return;
-			}
-			int idx = buf.indexOf("open:special");
-			if (idx >= 0) {
-				String spmsg = buf.substring(idx + 13);
-				spmsg = spmsg.substring(0, spmsg.length() - 15);
-				warningMsg = spmsg;
-				newBuf = buf.substring(0, idx) + "\n";
-			}
+	private void checkParsedMsg(long byteCount, ResponseParser parser) {
+		if (byteCount <= 16) {
+			errorMsg = Messages.error_messageFormat;
+			return;
+		}
+		response = parser.finish();
+		String spmsg = parser.getSpecialMessage();
+		if (spmsg != null) {
+			warningMsg = spmsg;
+		}
 
-			response = MessageUtil.parseResponse(newBuf, isUsingSpecialDelimiter);
-
-			String task = response.getValue("task");
-			String status = response.getValue("status");
-			String note = response.getValue("note");
-			if (task == null || status == null || note == null) {
-				errorMsg = Messages.error_messageFormat;
-			} else if (status.trim().equals("failure")) { // fail
-				errorMsg = note.replaceAll("<end>", "\n");
-			} else if (status.trim().equals("warning")) { // warning
-				warningMsg = note;
-			} else if (status.trim().equals("success")) { // success
-				errorMsg = null;
-				warningMsg = null;
-			}
+		String task = response.getValue("task");
+		String status = response.getValue("status");
+		String note = response.getValue("note");
+		if (task == null || status == null || note == null) {
+			errorMsg = Messages.error_messageFormat;
+		} else if (status.trim().equals("failure")) { // fail
+			errorMsg = note.replaceAll("<end>", "\n");
+		} else if (status.trim().equals("warning")) { // warning
+			warningMsg = note;
+		} else if (status.trim().equals("success")) { // success
+			errorMsg = null;
+			warningMsg = null;
 		}
 	}
 
@@ -384,6 +396,8 @@ public class ClientSocket extends AbstractManagerClient {
 		} catch (Exception e) {
 		} finally {
 			socket = null;
+			frameDecoder = null;
+			responseParser = null;
 		}
 	}
 
@@ -395,6 +409,10 @@ public class ClientSocket extends AbstractManagerClient {
 	 *            boolean Whether using the special delimiter
 	 */
 	public void setUsingSpecialDelimiter(boolean usingSpecialDelimiter) {
+		if (this.isUsingSpecialDelimiter != usingSpecialDelimiter) {
+			frameDecoder = null;
+			responseParser = null;
+		}
 		this.isUsingSpecialDelimiter = usingSpecialDelimiter;
 	}
 
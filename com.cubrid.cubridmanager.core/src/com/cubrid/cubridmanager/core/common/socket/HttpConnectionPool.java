@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.socket;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+
+/**
+ * The keep-alive HTTPS connection pool of a CUBRID Manager server (V2
+ * interface). The SSL context is created only once and the persistent HTTP/1.1
+ * connections are reused by all the requests to the same server, so a TLS
+ * handshake is only needed when a new connection is opened. The connections
+ * which are idle for more than {@link #IDLE_TIMEOUT_MSEC} are closed.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class HttpConnectionPool {
+	private static final Logger LOGGER = LogUtil.getLogger(HttpConnectionPool.class);
+	public static final long IDLE_TIMEOUT_MSEC = 60000;
+	public static final int MAX_CONNECTIONS_PER_SERVER = 4;
+
+	private static final Map<String, HttpConnectionPool> POOLS = new HashMap<String, HttpConnectionPool>();
+	private static SSLContext sslContext;
+
+	private final String hostAddress;
+	private final int port;
+	private final PoolingClientConnectionManager connectionManager;
+	private final DefaultHttpClient httpClient;
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong handshakeCount = new AtomicLong();
+
+	/**
+	 * Get the connection pool of the server, create it if it does not exist.
+	 *
+	 * @param hostAddress String host address
+	 * @param port int host port
+	 * @return HttpConnectionPool
+	 * @throws GeneralSecurityException if the SSL context can not be created
+	 */
+	public static HttpConnectionPool getPool(String hostAddress, int port) throws GeneralSecurityException {
+		String key = hostAddress + ":" + port;
+		synchronized (POOLS) {
+			HttpConnectionPool pool = POOLS.get(key);
+			if (pool == null) {
+				pool = new HttpConnectionPool(hostAddress, port, getSSLContext());
+				POOLS.put(key, pool);
+			}
+			return pool;
+		}
+	}
+
+	/**
+	 * Shut down the connection pool of the server, it is called when the server
+	 * is removed.
+	 *
+	 * @param hostAddress String host address
+	 * @param port int host port
+	 */
+	public static void removePool(String hostAddress, int port) {
+		HttpConnectionPool pool;
+		synchronized (POOLS) {
+			pool = POOLS.remove(hostAddress + ":" + port);
+		}
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Close the idle connections of all the servers.
+	 */
+	public static void evictIdleConnections() {
+		List<HttpConnectionPool> pools;
+		synchronized (POOLS) {
+			pools = new ArrayList<HttpConnectionPool>(POOLS.values());
+		}
+		for (HttpConnectionPool pool : pools) {
+			pool.closeIdleConnections();
+		}
+	}
+
+	/**
+	 * The SSL context trusts all the certificates since CUBRID Manager server
+	 * uses a self-signed certificate, it is shared by all the servers.
+	 *
+	 * @return SSLContext
+	 * @throws GeneralSecurityException a possible exception
+	 */
+	private static synchronized SSLContext getSSLContext() throws GeneralSecurityException {
+		if (sslContext == null) {
+			X509TrustManager tm = new X509TrustManager() {
+				public void checkClientTrusted(X509Certificate[] xcs, String string) throws CertificateException {
+				}
+
+				public void checkServerTrusted(X509Certificate[] xcs, String string) throws CertificateException {
+				}
+
+				public X509Certificate[] getAcceptedIssuers() {
+					return new X509Certificate[0];
+				}
+			};
+			SSLContext ctx = SSLContext.getInstance("TLS");
+			ctx.init(null, new TrustManager[]{tm}, new SecureRandom());
+			sslContext = ctx;
+		}
+		return sslContext;
+	}
+
+	private HttpConnectionPool(String hostAddress, int port, SSLContext ctx) {
+		this.hostAddress = hostAddress;
+		this.port = port;
+		SchemeRegistry registry = new SchemeRegistry();
+		registry.register(new Scheme("https", port, new CountingSSLSocketFactory(ctx)));
+		connectionManager = new PoolingClientConnectionManager(registry);
+		connectionManager.setMaxTotal(MAX_CONNECTIONS_PER_SERVER);
+		connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_SERVER);
+		httpClient = new DefaultHttpClient(connectionManager);
+	}
+
+	/**
+	 * Get the HTTP client which leases the connections from this pool. The
+	 * response entity must be consumed to give the connection back.
+	 *
+	 * @return DefaultHttpClient
+	 */
+	public DefaultHttpClient getHttpClient() {
+		requestCount.incrementAndGet();
+		closeIdleConnections();
+		return httpClient;
+	}
+
+	/**
+	 * Close the expired connections and the connections which are idle for
+	 * more than {@link #IDLE_TIMEOUT_MSEC}.
+	 */
+	public void closeIdleConnections() {
+		connectionManager.closeExpiredConnections();
+		connectionManager.closeIdleConnections(IDLE_TIMEOUT_MSEC, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Close all the connections of this pool.
+	 */
+	public void shutdown() {
+		LOGGER.debug("Shut down the connection pool of {}:{}, {}", new Object[]{hostAddress,
+				String.valueOf(port), getStatistics() });
+		connectionManager.shutdown();
+	}
+
+	/**
+	 * Get the count of requests sent through this pool.
+	 *
+	 * @return long
+	 */
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * Get the count of TLS handshakes, that is the count of opened connections.
+	 *
+	 * @return long
+	 */
+	public long getHandshakeCount() {
+		return handshakeCount.get();
+	}
+
+	/**
+	 * Get the count of TLS handshakes avoided by reusing the connections.
+	 *
+	 * @return long
+	 */
+	public long getHandshakesAvoided() {
+		return Math.max(0, requestCount.get() - handshakeCount.get());
+	}
+
+	/**
+	 * Get the statistics of this pool
+	 *
+	 * @return String
+	 */
+	public String getStatistics() {
+		PoolStats stats = connectionManager.getTotalStats();
+		return "requests=" + getRequestCount() + ", handshakes=" + getHandshakeCount()
+				+ ", handshakesAvoided=" + getHandshakesAvoided() + ", leased="
+				+ stats.getLeased() + ", available=" + stats.getAvailable()
+				+ ", pending=" + stats.getPending();
+	}
+
+	/**
+	 * The SSL socket factory counts the opened connections.
+	 */
+	private final class CountingSSLSocketFactory extends
+			SSLSocketFactory {
+		private CountingSSLSocketFactory(SSLContext ctx) {
+			super(ctx, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+		}
+
+		public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress,
+				InetSocketAddress localAddress, HttpParams params) throws IOException,
+				UnknownHostException, ConnectTimeoutException {
+			handshakeCount.incrementAndGet();
+			return super.connectSocket(socket, remoteAddress, localAddress, params);
+		}
+	}
+}
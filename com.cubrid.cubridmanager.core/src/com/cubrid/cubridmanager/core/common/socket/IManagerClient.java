@@ -76,7 +76,8 @@ public interface IManagerClient {
 	TreeNode getResponse();
 
 	/**
-	 * Return the original response message
+	 * Return the original response message, the socket client only keeps it
+	 * when the debug log is enabled since the response is parsed line by line.
 	 * 
 	 * @return String
 	 */
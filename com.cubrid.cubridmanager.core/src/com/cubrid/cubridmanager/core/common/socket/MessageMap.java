@@ -28,6 +28,8 @@
 package com.cubrid.cubridmanager.core.common.socket;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -38,13 +40,19 @@ import java.util.TreeMap;
  * it is sent message information,the sent message is ordered by order array.
  * when it is response message information,the orders array is useless.
  * 
+ * Besides the ordered message list, the values of every key are indexed by
+ * key so that looking up a key does not scan the whole message.
+ * 
  * @author moulinwang
  * @version 1.0 - 2009-6-4 created by moulinwang
  */
 public class MessageMap {
 	private final List<String> infoStoreList = new ArrayList<String>(10);
+	private final Map<String, List<String>> valueIndexMap = new HashMap<String, List<String>>();
 	private String[] orders = null;
 	private String[][] groups = null;
+	private Map<String, Integer> orderIndexMap = null;
+	private Map<String, String[]> groupIndexMap = null;
 
 	/**
 	 * When it store response message,this constructor will be used for TreeNode
@@ -68,11 +76,10 @@ public class MessageMap {
 	 * @return int The order in the key string
 	 */
 	private int getLocation(String key) {
-		if (orders != null) {
-			for (int i = 0; i < orders.length; i++) {
-				if (key.equals(orders[i])) {
-					return i;
-				}
+		if (orderIndexMap != null) {
+			Integer location = orderIndexMap.get(key);
+			if (location != null) {
+				return location.intValue();
 			}
 		}
 		return -1;
@@ -85,14 +92,8 @@ public class MessageMap {
 	 * @return String The first value of the key string
 	 */
 	public String getValue(String key) {
-		for (String str : infoStoreList) {
-			int index = str.indexOf(":");
-			String strkey = str.substring(0, index);
-			if (strkey.equals(key)) {
-				return str.substring(index + 1);
-			}
-		}
-		return null;
+		List<String> list = valueIndexMap.get(key);
+		return list == null ? null : list.get(0);
 	}
 
 	/**
@@ -102,20 +103,11 @@ public class MessageMap {
 	 * @return String[] The all values of the key string stored in array
 	 */
 	public String[] getValues(String key) {
-		List<String> list = new ArrayList<String>();
-		for (String str : infoStoreList) {
-			int index = str.indexOf(":");
-			String strkey = str.substring(0, index);
-			if (strkey.equals(key)) {
-				list.add(str.substring(index + 1));
-			}
-		}
-		int size = list.size();
-		if (size == 0) {
+		List<String> list = valueIndexMap.get(key);
+		if (list == null) {
 			return null;
-		} else {
-			return list.toArray(new String[size]);
 		}
+		return list.toArray(new String[list.size()]);
 	}
 
 	/**
@@ -182,6 +174,7 @@ public class MessageMap {
 	 * @param value String The value string
 	 */
 	public void add(String key, String value) {
+		indexValue(key, value);
 		int loc = getLocation(key);
 		if (loc == -1) {
 			infoStoreList.add(key + ":" + value);
@@ -205,6 +198,23 @@ public class MessageMap {
 		infoStoreList.add(key + ":" + value);
 	}
 
+	/**
+	 * Append the value to the index of the key. The values of one key always
+	 * keep the same relative order as in the message list, because a new item
+	 * is never inserted before an existing item of the same key.
+	 * 
+	 * @param key String The key string
+	 * @param value String The value string
+	 */
+	private void indexValue(String key, String value) {
+		List<String> list = valueIndexMap.get(key);
+		if (list == null) {
+			list = new ArrayList<String>(1);
+			valueIndexMap.put(key, list);
+		}
+		list.add(value);
+	}
+
 	/**
 	 * Get key value of the below string format(key:value)
 	 * 
@@ -229,15 +239,16 @@ public class MessageMap {
 		if (value == null) {
 			return;
 		}
-		for (int i = infoStoreList.size() - 1; i >= 0; i--) {
-			String tmpkey = getKey(infoStoreList.get(i));
-			if (tmpkey.equals(key)) {
-				infoStoreList.remove(i);
-				infoStoreList.add(i, key + ":" + value);
-				return;
-			}
+		List<String> list = valueIndexMap.get(key);
+		if (list == null) {
+			add(key, value);
+			return;
 		}
-		add(key, value);
+		// modify the last item of this key
+		int last = list.size() - 1;
+		int i = infoStoreList.lastIndexOf(key + ":" + list.get(last));
+		infoStoreList.set(i, key + ":" + value);
+		list.set(last, value);
 	}
 
 	/**
@@ -249,10 +260,12 @@ public class MessageMap {
 	 */
 	public void addOrModifyValues(String key, String[] values) {
 		// remove old item
-		for (int i = infoStoreList.size() - 1; i >= 0; i--) {
-			String tmpkey = getKey(infoStoreList.get(i));
-			if (tmpkey.equals(key)) {
-				infoStoreList.remove(i);
+		if (valueIndexMap.remove(key) != null) {
+			for (int i = infoStoreList.size() - 1; i >= 0; i--) {
+				String tmpkey = getKey(infoStoreList.get(i));
+				if (tmpkey.equals(key)) {
+					infoStoreList.remove(i);
+				}
 			}
 		}
 		if (values == null || values.length == 0) {
@@ -270,17 +283,11 @@ public class MessageMap {
 	 * @return String[] The group value
 	 */
 	private String[] getGroupByKey(String key) {
-		if (this.groups == null) {
+		if (groupIndexMap == null) {
 			return new String[0];
 		}
-		for (String[] group : groups) {
-			for (String groupkey : group) {
-				if (groupkey.equals(key)) {
-					return group;
-				}
-			}
-		}
-		return new String[0];
+		String[] group = groupIndexMap.get(key);
+		return group == null ? new String[0] : group;
 	}
 
 	/**
@@ -360,6 +367,7 @@ public class MessageMap {
 	 */
 	public void clear() {
 		infoStoreList.clear();
+		valueIndexMap.clear();
 	}
 
 	/**
@@ -392,10 +400,18 @@ public class MessageMap {
 		}
 		this.orders = new String[orderList.size()];
 		this.orders = orderList.toArray(this.orders);
+		this.orderIndexMap = new HashMap<String, Integer>();
+		for (int i = this.orders.length - 1; i >= 0; i--) {
+			orderIndexMap.put(this.orders[i], Integer.valueOf(i));
+		}
 		if (!groupList.isEmpty()) {
 			this.groups = new String[groupList.size()][];
-			for (int i = 0; i < groupList.size(); i++) {
+			this.groupIndexMap = new HashMap<String, String[]>();
+			for (int i = groupList.size() - 1; i >= 0; i--) {
 				this.groups[i] = groupList.get(i);
+				for (String groupkey : this.groups[i]) {
+					groupIndexMap.put(groupkey, this.groups[i]);
+				}
 			}
 		}
 	}
@@ -404,9 +420,9 @@ public class MessageMap {
 	 * 
 	 * Get response messages
 	 * 
-	 * @return List<String> The instance of infoStoreList
+	 * @return List<String> The read-only view of infoStoreList
 	 */
 	public List<String> getResponseMessage() {
-		return infoStoreList;
+		return Collections.unmodifiableList(infoStoreList);
 	}
 }
\ No newline at end of file
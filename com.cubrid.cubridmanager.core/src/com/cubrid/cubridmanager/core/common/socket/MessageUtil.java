@@ -36,7 +36,6 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONValue;
 
-import com.cubrid.common.core.util.CipherUtils;
 
 /**
  * <p>
@@ -73,51 +72,7 @@ public final class MessageUtil {
 	 * @return {@link TreeNode}
 	 */
 	public static TreeNode parseResponse(String response, boolean bUsingSpecialDelimiter) {
-		String[] toks = response.split("\n");
-
-		TreeNode root = new TreeNode();
-		TreeNode node = root;
-		int maxIndex = toks.length;
-		if (bUsingSpecialDelimiter && (toks[maxIndex - 1].equals("END__DIAGDATA"))) {
-			// remove the last unneeded line
-			maxIndex--;
-		}
-		for (int i = 0; i < maxIndex; i++) {
-			StringBuilder tokBuffer = new StringBuilder();
-			tokBuffer.append(toks[i]);
-			// append next line if it does not contain char ':'
-			while (i + 1 < maxIndex && -1 == toks[i + 1].indexOf(":")) {
-				// failure's note  message and others
-				tokBuffer.append(toks[i + 1]);
-				i++;
-			}
-			// decrypt the message
-			String tokStr = tokBuffer.toString();
-			if (tokStr.startsWith("@")) {
-				String[] entry = tokStr.split(":");
-				if (entry != null && entry.length >= 2) {
-					String key = entry[0];
-					String value = tokStr.substring(tokStr.indexOf(":") + 1);
-					tokStr = key.replace("@", "") + ":";
-					tokStr += CipherUtils.decrypt(value);
-				}
-			}
-
-			if (tokStr.startsWith("cas_mon:DIAG_DEL:start") || tokStr.startsWith("open:")
-					|| tokStr.startsWith("start:")) {
-				TreeNode newnode = new TreeNode();
-				node.addChild(newnode);
-				node = newnode;
-				addMsgItem(node, tokStr, bUsingSpecialDelimiter);
-			} else if (tokStr.startsWith("cas_mon:DIAG_DEL:end") || tokStr.startsWith("close:")
-					|| tokStr.startsWith("end:")) {
-				addMsgItem(node, tokStr, bUsingSpecialDelimiter);
-				node = node.getParent();
-			} else {
-				addMsgItem(node, tokStr, bUsingSpecialDelimiter);
-			}
-		}
-		return root;
+		return ResponseParser.parse(response, bUsingSpecialDelimiter);
 	}
 
 	/**
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.socket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Schedule the requests sent to CUBRID Manager servers. Every server has its own
+ * request lane with a bounded in-flight limit, so a slow request on one host
+ * never blocks the requests of the other hosts. Waiting requests are queued in
+ * FIFO order and give up after the given timeout.
+ *
+ * <pre>
+ * RequestScheduler.Ticket ticket = RequestScheduler.getInstance().acquire(host, port, timeout);
+ * try {
+ * 	// send request and read response
+ * } finally {
+ * 	ticket.release();
+ * }
+ * </pre>
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class RequestScheduler {
+	/**
+	 * The CMS V2 interface can not handle concurrent requests, so only one
+	 * request of a server is in flight by default.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT_PER_HOST = 1;
+
+	private static final RequestScheduler instance = new RequestScheduler();
+
+	private final Map<String, Lane> lanes = new HashMap<String, Lane>();
+	private int maxInFlightPerHost = DEFAULT_MAX_IN_FLIGHT_PER_HOST;
+
+	public static RequestScheduler getInstance() {
+		return instance;
+	}
+
+	private RequestScheduler() {
+	}
+
+	/**
+	 * Wait for a free slot of the server.
+	 *
+	 * @param hostAddress String host address
+	 * @param port int host port
+	 * @param timeout long the max milliseconds to wait, 0 or less means wait
+	 *        forever
+	 * @return Ticket which must be released after the request is finished
+	 * @throws TimeoutException if no slot is free in the given time
+	 * @throws InterruptedException if the waiting thread is interrupted
+	 */
+	public Ticket acquire(String hostAddress, int port, long timeout) throws TimeoutException,
+			InterruptedException {
+		String hostKey = hostAddress + ":" + port;
+		// the lane is referenced until the ticket is released, so it is not
+		// removed by removeServer while this request waits for it
+		Lane lane = useLane(hostKey);
+		boolean isAcquired = false;
+		try {
+			isAcquired = lane.acquire(timeout);
+		} finally {
+			if (!isAcquired) {
+				unuseLane(lane);
+			}
+		}
+		if (!isAcquired) {
+			throw new TimeoutException(hostKey);
+		}
+		return new Ticket(lane);
+	}
+
+	/**
+	 * Get the number of requests which are waiting for the server.
+	 *
+	 * @param hostAddress String host address
+	 * @param port int host port
+	 * @return int
+	 */
+	public int getQueueLength(String hostAddress, int port) {
+		Lane lane;
+		synchronized (lanes) {
+			lane = lanes.get(hostAddress + ":" + port);
+		}
+		return lane == null ? 0 : lane.semaphore.getQueueLength();
+	}
+
+	/**
+	 * Get the number of requests which are in flight on the server.
+	 *
+	 * @param hostAddress String host address
+	 * @param port int host port
+	 * @return int
+	 */
+	public int getInFlightCount(String hostAddress, int port) {
+		Lane lane;
+		synchronized (lanes) {
+			lane = lanes.get(hostAddress + ":" + port);
+		}
+		return lane == null ? 0 : lane.permits - lane.semaphore.availablePermits();
+	}
+
+	public int getMaxInFlightPerHost() {
+		return maxInFlightPerHost;
+	}
+
+	/**
+	 * Set the max in-flight requests per server, it takes effect for the
+	 * servers which have not been requested yet.
+	 *
+	 * @param maxInFlightPerHost int
+	 */
+	public void setMaxInFlightPerHost(int maxInFlightPerHost) {
+		this.maxInFlightPerHost = Math.max(1, maxInFlightPerHost);
+	}
+
+	/**
+	 * Remove the lane of the server if no request holds or waits for it, it
+	 * is called when the server is disconnected.
+	 *
+	 * @param hostAddress String host address
+	 * @param port int host port
+	 */
+	public void removeServer(String hostAddress, int port) {
+		String hostKey = hostAddress + ":" + port;
+		synchronized (lanes) {
+			Lane lane = lanes.get(hostKey);
+			if (lane != null && lane.users == 0) {
+				lanes.remove(hostKey);
+			}
+		}
+	}
+
+	/**
+	 * Get or create the lane and add a reference to it
+	 *
+	 * @param key String
+	 * @return Lane
+	 */
+	private Lane useLane(String key) {
+		synchronized (lanes) {
+			Lane lane = lanes.get(key);
+			if (lane == null) {
+				lane = new Lane(maxInFlightPerHost);
+				lanes.put(key, lane);
+			}
+			lane.users++;
+			return lane;
+		}
+	}
+
+	/**
+	 * Remove a reference of the lane
+	 *
+	 * @param lane Lane
+	 */
+	private void unuseLane(Lane lane) {
+		synchronized (lanes) {
+			lane.users--;
+		}
+	}
+
+	/**
+	 * A FIFO queue with a bounded number of in-flight requests.
+	 */
+	private static final class Lane {
+		private final int permits;
+		private final Semaphore semaphore;
+		// the requests holding or waiting for this lane, guarded by lanes
+		private int users = 0;
+
+		private Lane(int permits) {
+			this.permits = permits;
+			this.semaphore = new Semaphore(permits, true);
+		}
+
+		private boolean acquire(long timeout) throws InterruptedException {
+			if (timeout <= 0) {
+				semaphore.acquire();
+				return true;
+			}
+			return semaphore.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * The slot of an in-flight request.
+	 */
+	public static final class Ticket {
+		private Lane lane;
+
+		private Ticket(Lane lane) {
+			this.lane = lane;
+		}
+
+		/**
+		 * Release the slot, it can be called more than once.
+		 */
+		public synchronized void release() {
+			if (lane != null) {
+				lane.semaphore.release();
+				instance.unuseLane(lane);
+				lane = null;
+			}
+		}
+	}
+}
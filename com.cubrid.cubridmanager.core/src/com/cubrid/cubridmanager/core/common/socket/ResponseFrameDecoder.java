@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.socket;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Incremental decoder of the response frames of CUBRID Manager server (V1
+ * interface). The bytes read from the socket are fed chunk by chunk; only the
+ * new bytes are scanned for the frame delimiter ("\n\n", or "\nEND__DIAGDATA\n"
+ * when the special delimiter is used), and they are decoded by a streaming
+ * {@link CharsetDecoder}, so the multibyte characters split at the chunk
+ * boundaries are decoded correctly. Each decoded line can be handed to a
+ * {@link ILineHandler} as soon as it is complete.
+ *
+ * <p>
+ * The frame ends like the server sends it: when a chunk ends with the first
+ * delimiter of the frame. A delimiter inside the frame, such as a blank line
+ * in a log, is part of the payload, and then the frame is read until the
+ * server closes the connection.
+ *
+ * <pre>
+ * decoder.reset();
+ * while (!decoder.isComplete() &amp;&amp; (len = in.read(buf)) != -1) {
+ * 	decoder.decode(buf, 0, len);
+ * }
+ * if (len == -1) {
+ * 	decoder.finish();
+ * }
+ * String message = decoder.getMessage();
+ * </pre>
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class ResponseFrameDecoder {
+	public static final String DELIMITER = "\n\n";
+	public static final String SPECIAL_DELIMITER = "\nEND__DIAGDATA\n";
+
+	private final CharsetDecoder charsetDecoder;
+	private final byte[] delimiter;
+	private final int[] failure;
+	private final CharBuffer charBuffer = CharBuffer.allocate(2048);
+	private ByteBuffer pendingBytes = ByteBuffer.allocate(16);
+	private int matched = 0;
+	private boolean isDelimiterSeen = false;
+	private boolean isComplete = false;
+	private long byteCount = 0;
+
+	private boolean isKeepMessage = true;
+	private final StringBuilder message = new StringBuilder();
+	private ILineHandler lineHandler = null;
+	private final StringBuilder line = new StringBuilder();
+
+	/**
+	 * Receive the decoded lines of the frame one by one
+	 */
+	public interface ILineHandler {
+		/**
+		 * Handle a line without the line separator
+		 *
+		 * @param line String
+		 */
+		void handleLine(String line);
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param charsetName the charset of the response, it can be null
+	 * @param isUsingSpecialDelimiter whether the frame ends with the special
+	 *        delimiter
+	 */
+	public ResponseFrameDecoder(String charsetName, boolean isUsingSpecialDelimiter) {
+		Charset charset = charsetName == null ? Charset.defaultCharset() : Charset.forName(charsetName);
+		this.charsetDecoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(
+				CodingErrorAction.REPLACE);
+		// the delimiters are ASCII, they are the same bytes in all the
+		// charsets used by CUBRID Manager server
+		String str = isUsingSpecialDelimiter ? SPECIAL_DELIMITER : DELIMITER;
+		this.delimiter = new byte[str.length()];
+		for (int i = 0; i < delimiter.length; i++) {
+			delimiter[i] = (byte) str.charAt(i);
+		}
+		this.failure = new int[delimiter.length];
+		for (int i = 1, k = 0; i < delimiter.length; i++) {
+			while (k > 0 && delimiter[i] != delimiter[k]) {
+				k = failure[k - 1];
+			}
+			if (delimiter[i] == delimiter[k]) {
+				k++;
+			}
+			failure[i] = k;
+		}
+	}
+
+	/**
+	 * Decode a chunk of bytes. The frame is complete when the chunk ends with
+	 * the first delimiter of the frame.
+	 *
+	 * @param bytes byte[]
+	 * @param offset int
+	 * @param length int
+	 * @return boolean whether the frame is complete
+	 */
+	public boolean decode(byte[] bytes, int offset, int length) {
+		if (isComplete) {
+			return true;
+		}
+		int end = offset + length;
+		for (int i = offset; i < end && !isDelimiterSeen; i++) {
+			byte b = bytes[i];
+			while (matched > 0 && b != delimiter[matched]) {
+				matched = failure[matched - 1];
+			}
+			if (b == delimiter[matched]) {
+				matched++;
+			}
+			if (matched == delimiter.length) {
+				if (i == end - 1) {
+					isComplete = true;
+				} else {
+					isDelimiterSeen = true;
+				}
+			}
+		}
+		byteCount += length;
+		decodeBytes(bytes, offset, length, isComplete);
+		return isComplete;
+	}
+
+	/**
+	 * Finish the frame when the server closed the connection. The frame is
+	 * complete if it has the delimiter.
+	 *
+	 * @return boolean whether the frame is complete
+	 */
+	public boolean finish() {
+		if (isComplete) {
+			return true;
+		}
+		decodeBytes(new byte[0], 0, 0, true);
+		if (lineHandler != null && line.length() > 0) {
+			lineHandler.handleLine(line.toString());
+			line.setLength(0);
+		}
+		isComplete = isDelimiterSeen;
+		return isComplete;
+	}
+
+	/**
+	 * Prepare for decoding the next frame
+	 */
+	public void reset() {
+		charsetDecoder.reset();
+		pendingBytes.clear();
+		charBuffer.clear();
+		message.setLength(0);
+		line.setLength(0);
+		matched = 0;
+		isDelimiterSeen = false;
+		isComplete = false;
+		byteCount = 0;
+	}
+
+	/**
+	 * Return whether the frame is complete
+	 *
+	 * @return boolean
+	 */
+	public boolean isComplete() {
+		return isComplete;
+	}
+
+	/**
+	 * Get the decoded message including the delimiter; it is empty when the
+	 * message is not kept.
+	 *
+	 * @return String
+	 */
+	public String getMessage() {
+		return message.toString();
+	}
+
+	/**
+	 * Get the byte count of the frame
+	 *
+	 * @return long
+	 */
+	public long getByteCount() {
+		return byteCount;
+	}
+
+	/**
+	 * Set whether to keep the whole decoded message, it can be disabled when
+	 * the lines are handled by the line handler.
+	 *
+	 * @param isKeepMessage boolean
+	 */
+	public void setKeepMessage(boolean isKeepMessage) {
+		this.isKeepMessage = isKeepMessage;
+	}
+
+	public void setLineHandler(ILineHandler lineHandler) {
+		this.lineHandler = lineHandler;
+	}
+
+	/**
+	 * Decode the bytes, the incomplete multibyte character at the end is kept
+	 * in the pending buffer until the next chunk arrives.
+	 *
+	 * @param bytes byte[]
+	 * @param offset int
+	 * @param length int
+	 * @param isEnd whether it is the last chunk of the frame
+	 */
+	private void decodeBytes(byte[] bytes, int offset, int length, boolean isEnd) {
+		ByteBuffer in;
+		if (pendingBytes.position() > 0) {
+			if (pendingBytes.remaining() < length) {
+				ByteBuffer newBuffer = ByteBuffer.allocate(pendingBytes.position() + length);
+				pendingBytes.flip();
+				newBuffer.put(pendingBytes);
+				pendingBytes = newBuffer;
+			}
+			pendingBytes.put(bytes, offset, length);
+			pendingBytes.flip();
+			in = pendingBytes;
+		} else {
+			in = ByteBuffer.wrap(bytes, offset, length);
+		}
+
+		while (true) {
+			boolean isOverflow = charsetDecoder.decode(in, charBuffer, isEnd).isOverflow();
+			flushChars();
+			if (!isOverflow) {
+				break;
+			}
+		}
+		if (isEnd) {
+			while (charsetDecoder.flush(charBuffer).isOverflow()) {
+				flushChars();
+			}
+			flushChars();
+		}
+
+		if (in == pendingBytes) {
+			pendingBytes.compact();
+		} else {
+			pendingBytes.clear();
+			if (pendingBytes.capacity() < in.remaining()) {
+				pendingBytes = ByteBuffer.allocate(in.remaining());
+			}
+			pendingBytes.put(in);
+		}
+	}
+
+	/**
+	 * Move the decoded characters to the message and the line handler
+	 */
+	private void flushChars() {
+		charBuffer.flip();
+		if (isKeepMessage) {
+			message.append(charBuffer);
+		}
+		if (lineHandler != null) {
+			while (charBuffer.hasRemaining()) {
+				char c = charBuffer.get();
+				if (c == '\n') {
+					lineHandler.handleLine(line.toString());
+					line.setLength(0);
+				} else {
+					line.append(c);
+				}
+			}
+		}
+		charBuffer.clear();
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.socket;
+
+import com.cubrid.common.core.util.CipherUtils;
+
+/**
+ * Single-pass parser of the response message of CUBRID Manager server (V1
+ * interface). The lines are pulled one by one, either from a whole message by
+ * {@link #parse(String, boolean)} or from the {@link ResponseFrameDecoder} as
+ * soon as they are decoded, and the message items are added into the
+ * {@link TreeNode} tree directly without an intermediate line array.
+ *
+ * <li>A line without ':' is the continuation of the previous item
+ * <li>The key starting with '@' has an encrypted value
+ * <li>open:, start: and cas_mon:DIAG_DEL:start begin a child node, close:, end:
+ * and cas_mon:DIAG_DEL:end end it
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class ResponseParser implements
+		ResponseFrameDecoder.ILineHandler {
+	private static final String DIAG_DELIMITER = ":DIAG_DEL:";
+	private static final String DIAG_END_LINE = "END__DIAGDATA";
+	private static final String SPECIAL_OPEN_LINE = "open:special";
+	private static final String SPECIAL_CLOSE_LINE = "close:special";
+
+	private final boolean isUsingSpecialDelimiter;
+	private boolean isCaptureSpecialMessage = false;
+
+	private TreeNode root;
+	private TreeNode node;
+	private String pendingLine;
+	private StringBuilder pendingBuilder;
+	private boolean isEnd;
+	private boolean isInSpecial;
+	private StringBuilder specialMessage;
+
+	/**
+	 * The constructor
+	 *
+	 * @param isUsingSpecialDelimiter whether the message uses the special
+	 *        delimiter
+	 */
+	public ResponseParser(boolean isUsingSpecialDelimiter) {
+		this.isUsingSpecialDelimiter = isUsingSpecialDelimiter;
+		reset();
+	}
+
+	/**
+	 * Parse the whole response message into tree structure.
+	 *
+	 * @param response String The response string
+	 * @param isUsingSpecialDelimiter boolean Whether using the special
+	 *        delimiter
+	 * @return {@link TreeNode}
+	 */
+	public static TreeNode parse(String response, boolean isUsingSpecialDelimiter) {
+		ResponseParser parser = new ResponseParser(isUsingSpecialDelimiter);
+		int length = response.length();
+		int start = 0;
+		while (start < length) {
+			int end = response.indexOf('\n', start);
+			if (end < 0) {
+				end = length;
+			}
+			parser.handleLine(response.substring(start, end));
+			start = end + 1;
+		}
+		return parser.finish();
+	}
+
+	/**
+	 * Prepare for parsing the next message
+	 */
+	public void reset() {
+		root = new TreeNode();
+		node = root;
+		pendingLine = null;
+		pendingBuilder = null;
+		isEnd = false;
+		isInSpecial = false;
+		specialMessage = null;
+	}
+
+	/**
+	 * Set whether to take the lines between open:special and close:special as
+	 * the special (warning) message instead of the message items; the lines
+	 * after close:special are ignored.
+	 *
+	 * @param isCaptureSpecialMessage boolean
+	 */
+	public void setCaptureSpecialMessage(boolean isCaptureSpecialMessage) {
+		this.isCaptureSpecialMessage = isCaptureSpecialMessage;
+	}
+
+	/**
+	 * Get the special message, it is null if there is not a special message.
+	 *
+	 * @return String
+	 */
+	public String getSpecialMessage() {
+		return specialMessage == null ? null : specialMessage.toString();
+	}
+
+	/**
+	 * Handle a line of the message
+	 *
+	 * @param line String a line without the line separator
+	 */
+	public void handleLine(String line) {
+		if (isEnd) {
+			return;
+		}
+		if (isInSpecial) {
+			if (line.equals(SPECIAL_CLOSE_LINE)) {
+				isEnd = true;
+			} else {
+				specialMessage.append(line).append('\n');
+			}
+			return;
+		}
+		if (isUsingSpecialDelimiter && line.equals(DIAG_END_LINE)) {
+			flushPending();
+			isEnd = true;
+			return;
+		}
+		if (isCaptureSpecialMessage && line.startsWith(SPECIAL_OPEN_LINE)) {
+			flushPending();
+			isInSpecial = true;
+			specialMessage = new StringBuilder();
+			return;
+		}
+		if (line.indexOf(':') < 0) {
+			// failure's note message and others
+			if (pendingBuilder != null) {
+				pendingBuilder.append(line);
+			} else if (pendingLine != null) {
+				if (line.length() > 0) {
+					pendingBuilder = new StringBuilder(pendingLine.length() + line.length() + 16);
+					pendingBuilder.append(pendingLine).append(line);
+					pendingLine = null;
+				}
+			} else if (line.length() > 0) {
+				pendingLine = line;
+			}
+			return;
+		}
+		flushPending();
+		pendingLine = line;
+	}
+
+	/**
+	 * Finish parsing and return the root node
+	 *
+	 * @return TreeNode
+	 */
+	public TreeNode finish() {
+		flushPending();
+		return root;
+	}
+
+	private void flushPending() {
+		String token;
+		if (pendingBuilder != null) {
+			token = pendingBuilder.toString();
+		} else {
+			token = pendingLine;
+		}
+		pendingLine = null;
+		pendingBuilder = null;
+		if (token != null) {
+			addToken(token);
+		}
+	}
+
+	/**
+	 * Add a message item into the tree
+	 *
+	 * @param token String the message item
+	 */
+	private void addToken(String token) {
+		int index = token.indexOf(':');
+		if (index < 0) {
+			return;
+		}
+		String key = token.substring(0, index);
+		String value = token.substring(index + 1);
+
+		// decrypt the message
+		boolean isDecrypted = false;
+		if (key.startsWith("@") && hasValue(value)) {
+			key = key.replace("@", "");
+			value = CipherUtils.decrypt(value);
+			isDecrypted = true;
+		}
+
+		boolean isOpen = "open".equals(key) || "start".equals(key)
+				|| ("cas_mon".equals(key) && value.startsWith("DIAG_DEL:start"));
+		boolean isClose = !isOpen
+				&& ("close".equals(key) || "end".equals(key) || ("cas_mon".equals(key) && value.startsWith("DIAG_DEL:end")));
+
+		if (isUsingSpecialDelimiter) {
+			String item = isDecrypted ? key + ":" + value : token;
+			int diagIndex = item.indexOf(DIAG_DELIMITER);
+			if (diagIndex >= 0) {
+				key = item.substring(0, diagIndex);
+				value = item.substring(diagIndex + DIAG_DELIMITER.length());
+			}
+		}
+
+		if (isOpen) {
+			TreeNode newnode = new TreeNode();
+			node.addChild(newnode);
+			node = newnode;
+			node.add(key, value);
+		} else if (isClose) {
+			node.add(key, value);
+			if (node.getParent() != null) {
+				node = node.getParent();
+			}
+		} else {
+			node.add(key, value);
+		}
+	}
+
+	/**
+	 * Return whether the encrypted value is not empty, the value only
+	 * consisting of ':' is not encrypted.
+	 *
+	 * @param value String
+	 * @return boolean
+	 */
+	private static boolean hasValue(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) != ':') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -27,22 +27,24 @@
  */
 package com.cubrid.cubridmanager.core.common.socket;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
 
 import org.slf4j.Logger;
 
 import com.cubrid.common.core.task.AbstractTask;
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.core.util.StringUtil;
-import com.cubrid.common.core.util.ThreadUtil;
 import com.cubrid.cubridmanager.core.Messages;
 import com.cubrid.cubridmanager.core.common.ServerManager;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
 import com.cubrid.cubridmanager.core.common.task.GetTaskStatusTask;
+import com.cubrid.cubridmanager.core.common.task.TaskStatusFuture;
+import com.cubrid.cubridmanager.core.common.task.TaskStatusTracker;
 
 /**
  * 
@@ -61,6 +63,7 @@ public abstract class SocketTask extends AbstractTask {
 	protected static final Logger LOGGER = LogUtil.getLogger(SocketTask.class);
 	public static final int SOCKET_IO_TIMEOUT_MSEC = 10000;
 	public static final String CIPHER_CHARACTER = "@";
+	private static final long TASK_STATUS_CHECK_MSEC = 200;
 	protected MessageMap sendedMsgMap;
 	protected ServerInfo serverInfo;
 	protected boolean isCancel = false;
@@ -76,6 +79,9 @@ public abstract class SocketTask extends AbstractTask {
 	//for unit test,add it
 	private TreeNode responseNode = null;
 	private GetTaskStatusTask getTaskStatusTask;
+	private TaskStatusFuture taskStatusFuture;
+	// whether execute() waits until the asynchronous task is done
+	private boolean isWaitTaskStatus = true;
 
 	/**
 	 * 
@@ -192,22 +198,56 @@ public abstract class SocketTask extends AbstractTask {
 	}
 
 	/**
-	 * If the response contains a key: taskKey, it shows that the operation is still in
-	 * progress, we wait 300s. If it is still no result, the operation failed.
+	 * If the response contains a key: taskKey, it shows that the operation is
+	 * still in progress, the task status is tracked by
+	 * {@link TaskStatusTracker} up to 300s. If it is still no result, the
+	 * operation failed. When isWaitTaskStatus is false, it returns at once and
+	 * the result is got by {@link #getTaskStatusFuture()}.
 	 */
 	private void afterExecute() {
 		String taskKey = this.getTaskKey();
 		if (null == taskKey || "".equals(taskKey.trim())) {
 			return;
 		}
-		getTaskStatusTask = new GetTaskStatusTask(this.getServerInfo(), taskKey);
-		int total = 60;
-		int count = 0;
-		getTaskStatusTask.setNeedMultiSend(true);
-		do {
-			getTaskStatusTask.execute();
-			ThreadUtil.sleep(5000);
-		} while (count++ < total && !getTaskStatusTask.isSuccess());
+		taskStatusFuture = TaskStatusTracker.getInstance().track(
+				this.getServerInfo(), taskKey);
+		getTaskStatusTask = taskStatusFuture.getTaskStatusTask();
+		if (isWaitTaskStatus) {
+			waitTaskStatus(null);
+		}
+	}
+
+	/**
+	 * Wait until the asynchronous task of the last execution is done and take
+	 * its error message. The waiting stops when the monitor is canceled, the
+	 * task is still running on the server then. It does nothing when the
+	 * response has no task key.
+	 * 
+	 * @param monitor IProgressMonitor It can be null
+	 */
+	public void waitTaskStatus(IProgressMonitor monitor) {
+		if (taskStatusFuture == null) {
+			return;
+		}
+		try {
+			while (!taskStatusFuture.isDone()) {
+				if (monitor != null && monitor.isCanceled()) {
+					taskStatusFuture.cancel(true);
+					break;
+				}
+				try {
+					taskStatusFuture.get(TASK_STATUS_CHECK_MSEC,
+							TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					// check the monitor again
+				}
+			}
+		} catch (InterruptedException e) {
+			taskStatusFuture.cancel(true);
+			Thread.currentThread().interrupt();
+		} catch (CancellationException e) {
+			LOGGER.debug("The task status tracking is canceled.");
+		}
 		String msgtmp = getTaskStatusTask.getErrorMsg();
 		this.setErrorMsg(msgtmp);
 	}
@@ -251,48 +291,9 @@ public abstract class SocketTask extends AbstractTask {
 	}
 
 	/**
-	 * Invoke the given method and parameter in order to set value
-	 * 
-	 * @param method Method The given method
-	 * @param parameters The given method
-	 * @param targetObject Object The given target object
-	 * @param value Object The given value
-	 */
-	private static void invokeMethod4SetValue(Method method,
-			Class<?> parameters, Object targetObject, Object value) {
-		try {
-
-			if (parameters == String.class) {
-				method.invoke(targetObject, value);
-			} else if (parameters == int.class) {
-				method.invoke(targetObject, StringUtil.str2Int((String) value));
-			} else if (parameters == boolean.class) {
-				method.invoke(targetObject,
-						StringUtil.strYN2Boolean((String) value));
-			} else if (parameters == double.class) {
-				method.invoke(targetObject,
-						StringUtil.str2Double((String) value));
-			} else if (parameters == byte.class) {
-				method.invoke(targetObject, StringUtil.str2Int((String) value));
-			} else if (parameters == String[].class) {
-				method.invoke(targetObject, value);
-			}
-
-			// Just record below log for debug
-		} catch (IllegalArgumentException e) { // error argument
-			// type
-			LOGGER.error(e.getMessage(), e);
-		} catch (IllegalAccessException e) { // no access right
-			LOGGER.error(e.getMessage(), e);
-		} catch (InvocationTargetException e) { // error invoke
-			// method
-			// exception
-			LOGGER.error(e.getTargetException().getMessage(), e);
-		}
-	}
-
-	/**
-	 * Set a target object's fields' value by a Tree node object
+	 * Set a target object's fields' value by a Tree node object. The setXxx
+	 * and addXxx methods of the target class are resolved once and cached by
+	 * {@link TreeNodeBinder}.
 	 * 
 	 * @param node TreeNode The tree node
 	 * @param targetObject Object The target object,generally it is a plain Java
@@ -302,67 +303,8 @@ public abstract class SocketTask extends AbstractTask {
 		if (node == null || targetObject == null) {
 			return;
 		}
-		Method[] methods = targetObject.getClass().getMethods();
-		for (Method m : methods) {
-			String methodname = m.getName();
-			Class<?>[] parameters = m.getParameterTypes();
-			String field = methodname.substring(3).toString();
-			if (methodname.startsWith("set") && parameters != null
-					&& parameters.length == 1) {
-				String value = node.getValue(field.toLowerCase(Locale.getDefault()));
-				String[] values = node.getValues(field.toLowerCase(Locale.getDefault()));
-				if (value != null && values.length == 1) {
-					invokeMethod4SetValue(m, parameters[0], targetObject, value);
-				}
-				if (values != null && values.length > 1) {
-					invokeMethod4SetValue(m, parameters[0], targetObject,
-							values);
-				}
-			} else if (methodname.startsWith("add") && parameters != null
-					&& parameters.length == 1) {
-				String[] values = node.getValues(field.toLowerCase(Locale.getDefault()));
-				if (values == null) {
-					List<TreeNode> children = node.getChildren();
-					if (null != children) {
-						for (TreeNode n : children) {
-							String nodeName = n.getValue("open");
-							if (nodeName == null
-									|| nodeName.trim().length() <= 0) {
-								nodeName = n.getValue("start");
-							}
-							if (field.equalsIgnoreCase(nodeName)) {
-								try {
-									Class<?> clazz = parameters[0];
-									Object o;
-									if (clazz == Map.class) {
-										o = n.getValueByMap();
-									} else {
-										o = clazz.newInstance();
-										setFieldValue(n, o);
-									}
-									m.invoke(targetObject, o);
-								} catch (InstantiationException e) {
-									LOGGER.error(e.getMessage(), e);
-								} catch (IllegalAccessException e) {
-									LOGGER.error(e.getMessage(), e);
-								} catch (IllegalArgumentException e) {
-									LOGGER.error(e.getMessage(), e);
-								} catch (InvocationTargetException e) {
-									LOGGER.error(e.getMessage(), e);
-								}
-
-							}
-						}
-					}
-				} else {
-					for (String value : values) {
-						invokeMethod4SetValue(m, parameters[0], targetObject,
-								value);
-					}
-				}
-			}
-
-		}
+		TreeNodeBinder.getBinder(targetObject.getClass()).bind(node,
+				targetObject);
 	}
 
 	/**
@@ -391,6 +333,9 @@ public abstract class SocketTask extends AbstractTask {
 			clientService.stopRead();
 			clientService.tearDownConnection();
 		}
+		if (taskStatusFuture != null) {
+			taskStatusFuture.cancel(true);
+		}
 		if (getTaskStatusTask != null) {
 			getTaskStatusTask.cancel();
 		}
@@ -694,4 +639,33 @@ public abstract class SocketTask extends AbstractTask {
 	public void setTaskAsync() {
 		this.setMsgItem("taskType", "async");
 	}
+
+	/**
+	 * Get whether execute() waits until the asynchronous task is done
+	 * 
+	 * @return boolean
+	 */
+	public boolean isWaitTaskStatus() {
+		return isWaitTaskStatus;
+	}
+
+	/**
+	 * Set whether execute() waits until the asynchronous task is done. When it
+	 * is false, call {@link #waitTaskStatus(IProgressMonitor)} or add a
+	 * listener to {@link #getTaskStatusFuture()} to be notified.
+	 * 
+	 * @param isWaitTaskStatus boolean
+	 */
+	public void setWaitTaskStatus(boolean isWaitTaskStatus) {
+		this.isWaitTaskStatus = isWaitTaskStatus;
+	}
+
+	/**
+	 * Get the pending result of the asynchronous task of the last execution
+	 * 
+	 * @return TaskStatusFuture null if the response has no task key
+	 */
+	public TaskStatusFuture getTaskStatusFuture() {
+		return taskStatusFuture;
+	}
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.socket;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.common.core.util.StringUtil;
+
+/**
+ * Binds the values of a {@link TreeNode} to the setXxx and addXxx methods of a
+ * plain Java bean. The binding methods of a bean class, their lower case keys
+ * and the value converters of their parameter types are resolved only once per
+ * class and cached, so binding a response only does the map lookups and the
+ * method invocations.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+final class TreeNodeBinder {
+	private static final Logger LOGGER = LogUtil.getLogger(TreeNodeBinder.class);
+	private static final ConcurrentMap<Class<?>, TreeNodeBinder> BINDER_CACHE = new ConcurrentHashMap<Class<?>, TreeNodeBinder>();
+
+	private final Property[] properties;
+
+	private TreeNodeBinder(Class<?> clazz) {
+		List<Property> list = new ArrayList<Property>();
+		for (Method method : clazz.getMethods()) {
+			String methodName = method.getName();
+			Class<?>[] parameters = method.getParameterTypes();
+			if (parameters.length != 1) {
+				continue;
+			}
+			boolean isSetter = methodName.startsWith("set");
+			if (isSetter || methodName.startsWith("add")) {
+				list.add(new Property(method, methodName.substring(3),
+						parameters[0], isSetter));
+			}
+		}
+		properties = list.toArray(new Property[list.size()]);
+	}
+
+	/**
+	 * Get the cached binder of the class, create it when it is not cached yet
+	 *
+	 * @param clazz Class<?> The bean class
+	 * @return TreeNodeBinder The binder
+	 */
+	public static TreeNodeBinder getBinder(Class<?> clazz) {
+		TreeNodeBinder binder = BINDER_CACHE.get(clazz);
+		if (binder == null) {
+			binder = new TreeNodeBinder(clazz);
+			TreeNodeBinder old = BINDER_CACHE.putIfAbsent(clazz, binder);
+			if (old != null) {
+				binder = old;
+			}
+		}
+		return binder;
+	}
+
+	/**
+	 * Set the values of the tree node to the target object.
+	 *
+	 * <li>setXxx(value) takes the single value of key xxx, and String[]
+	 * parameter takes the values of key xxx when there are more than one
+	 * <li>addXxx(value) is invoked with every value of key xxx, or when there is
+	 * no such key, with the bean bound from every child node named xxx
+	 *
+	 * @param node TreeNode The tree node
+	 * @param targetObject Object The target object
+	 */
+	public void bind(TreeNode node, Object targetObject) {
+		String[] childNames = null;
+		for (Property property : properties) {
+			String[] values = node.getValues(property.key);
+			if (property.isSetter) {
+				if (values == null) {
+					continue;
+				}
+				if (values.length == 1) {
+					if (property.converter != ValueConverter.STRING_ARRAY) {
+						property.setValue(targetObject, values[0]);
+					}
+				} else if (property.converter == ValueConverter.STRING_ARRAY) {
+					property.invoke(targetObject, values);
+				}
+			} else if (values != null) {
+				for (String value : values) {
+					property.setValue(targetObject, value);
+				}
+			} else {
+				List<TreeNode> children = node.getChildren();
+				if (children == null || children.isEmpty()) {
+					continue;
+				}
+				if (childNames == null) {
+					childNames = getChildNames(children);
+				}
+				for (int i = 0; i < childNames.length; i++) {
+					if (property.field.equalsIgnoreCase(childNames[i])) {
+						property.addChild(targetObject, children.get(i));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the names of the child nodes, it is the value of open or start key
+	 *
+	 * @param children List<TreeNode> The child nodes
+	 * @return String[] The names
+	 */
+	private static String[] getChildNames(List<TreeNode> children) {
+		String[] names = new String[children.size()];
+		for (int i = 0; i < names.length; i++) {
+			TreeNode child = children.get(i);
+			String nodeName = child.getValue("open");
+			if (nodeName == null || nodeName.trim().length() <= 0) {
+				nodeName = child.getValue("start");
+			}
+			names[i] = nodeName;
+		}
+		return names;
+	}
+
+	/**
+	 * The converter from the message value to the parameter type
+	 */
+	private enum ValueConverter {
+		STRING {
+			public Object convert(String value) {
+				return value;
+			}
+		},
+		INT {
+			public Object convert(String value) {
+				return Integer.valueOf(StringUtil.str2Int(value));
+			}
+		},
+		BOOLEAN {
+			public Object convert(String value) {
+				return Boolean.valueOf(StringUtil.strYN2Boolean(value));
+			}
+		},
+		DOUBLE {
+			public Object convert(String value) {
+				return Double.valueOf(StringUtil.str2Double(value));
+			}
+		},
+		BYTE {
+			public Object convert(String value) {
+				return Byte.valueOf((byte) StringUtil.str2Int(value));
+			}
+		},
+		STRING_ARRAY {
+			public Object convert(String value) {
+				return null;
+			}
+		},
+		NONE {
+			public Object convert(String value) {
+				return null;
+			}
+		};
+
+		/**
+		 * Convert the message value, return null when it can not be converted
+		 *
+		 * @param value String The message value
+		 * @return Object The parameter value
+		 */
+		public abstract Object convert(String value);
+
+		/**
+		 * Get the converter of the parameter type
+		 *
+		 * @param type Class<?> The parameter type
+		 * @return ValueConverter The converter
+		 */
+		public static ValueConverter forType(Class<?> type) {
+			if (type == String.class) {
+				return STRING;
+			} else if (type == int.class) {
+				return INT;
+			} else if (type == boolean.class) {
+				return BOOLEAN;
+			} else if (type == double.class) {
+				return DOUBLE;
+			} else if (type == byte.class) {
+				return BYTE;
+			} else if (type == String[].class) {
+				return STRING_ARRAY;
+			}
+			return NONE;
+		}
+	}
+
+	/**
+	 * A setXxx or addXxx method of the bean class
+	 */
+	private static final class Property {
+		private final Method method;
+		private final String field;
+		private final String key;
+		private final Class<?> parameterType;
+		private final ValueConverter converter;
+		private final boolean isSetter;
+
+		private Property(Method method, String field, Class<?> parameterType,
+				boolean isSetter) {
+			this.method = method;
+			this.field = field;
+			this.key = field.toLowerCase(Locale.getDefault());
+			this.parameterType = parameterType;
+			this.converter = ValueConverter.forType(parameterType);
+			this.isSetter = isSetter;
+		}
+
+		/**
+		 * Convert the value and invoke the method
+		 *
+		 * @param targetObject Object The target object
+		 * @param value String The message value
+		 */
+		private void setValue(Object targetObject, String value) {
+			Object arg = converter.convert(value);
+			if (arg != null) {
+				invoke(targetObject, arg);
+			}
+		}
+
+		/**
+		 * Create the bean of the parameter type from the child node and invoke
+		 * the method
+		 *
+		 * @param targetObject Object The target object
+		 * @param child TreeNode The child node
+		 */
+		private void addChild(Object targetObject, TreeNode child) {
+			Object arg;
+			if (parameterType == Map.class) {
+				arg = child.getValueByMap();
+			} else {
+				try {
+					arg = parameterType.newInstance();
+				} catch (InstantiationException e) {
+					LOGGER.error(e.getMessage(), e);
+					return;
+				} catch (IllegalAccessException e) {
+					LOGGER.error(e.getMessage(), e);
+					return;
+				}
+				getBinder(parameterType).bind(child, arg);
+			}
+			invoke(targetObject, arg);
+		}
+
+		/**
+		 * Invoke the method with the argument
+		 *
+		 * @param targetObject Object The target object
+		 * @param arg Object The argument
+		 */
+		private void invoke(Object targetObject, Object arg) {
+			try {
+				method.invoke(targetObject, arg);
+			} catch (IllegalArgumentException e) {
+				LOGGER.error(e.getMessage(), e);
+			} catch (IllegalAccessException e) {
+				LOGGER.error(e.getMessage(), e);
+			} catch (InvocationTargetException e) {
+				LOGGER.error(e.getTargetException().getMessage(), e);
+			}
+		}
+	}
+}
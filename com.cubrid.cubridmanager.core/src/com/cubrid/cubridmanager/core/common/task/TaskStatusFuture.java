@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.cubridmanager.core.Messages;
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+
+/**
+ * The pending result of an asynchronous task of CUBRID Manager server, which
+ * is identified by the task key (uuid) in the response. The value is whether
+ * the server reported the task as successful. The status is polled by
+ * {@link TaskStatusTracker}, the interval begins short and grows up to the
+ * maximum interval.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class TaskStatusFuture implements
+		Future<Boolean> {
+	private static final Logger LOGGER = LogUtil.getLogger(TaskStatusFuture.class);
+
+	private final ServerInfo serverInfo;
+	private final String taskKey;
+	private final GetTaskStatusTask getTaskStatusTask;
+	private final long deadline;
+	private final CountDownLatch doneLatch = new CountDownLatch(1);
+	private final List<ITaskStatusListener> listenerList = new ArrayList<ITaskStatusListener>();
+
+	private long interval;
+	private long nextPollTime;
+	private volatile int pollCount = 0;
+	private volatile boolean isDone = false;
+	private volatile boolean isCancelled = false;
+	private volatile boolean isSuccess = false;
+
+	TaskStatusFuture(ServerInfo serverInfo, String taskKey, long timeout) {
+		this.serverInfo = serverInfo;
+		this.taskKey = taskKey;
+		this.getTaskStatusTask = new GetTaskStatusTask(serverInfo, taskKey);
+		// all the polls of the task key use the same socket, it is closed
+		// when this future is done
+		this.getTaskStatusTask.setNeedMultiSend(true);
+		long now = System.currentTimeMillis();
+		this.deadline = now + timeout;
+		this.interval = TaskStatusTracker.INITIAL_INTERVAL_MSEC;
+		this.nextPollTime = now + interval;
+	}
+
+	/**
+	 * Poll the task status once, and complete this future when the task
+	 * succeeded or timed out
+	 */
+	void poll() {
+		if (isDone) {
+			return;
+		}
+		pollCount++;
+		getTaskStatusTask.execute();
+		if (getTaskStatusTask.isSuccess()) {
+			complete(true);
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (now >= deadline) {
+			if (getTaskStatusTask.getErrorMsg() == null) {
+				getTaskStatusTask.setErrorMsg(Messages.error_taskStatusTimeout);
+			}
+			complete(false);
+			return;
+		}
+		interval = Math.min(interval * 2, TaskStatusTracker.MAX_INTERVAL_MSEC);
+		nextPollTime = Math.min(now + interval, deadline);
+	}
+
+	/**
+	 * Complete this future and notify the listeners
+	 *
+	 * @param isSuccess boolean Whether the task is successful
+	 */
+	private void complete(boolean isSuccess) {
+		List<ITaskStatusListener> listeners;
+		synchronized (this) {
+			if (isDone) {
+				return;
+			}
+			this.isSuccess = isSuccess;
+			this.isDone = true;
+			listeners = new ArrayList<ITaskStatusListener>(listenerList);
+			listenerList.clear();
+		}
+		getTaskStatusTask.finish();
+		doneLatch.countDown();
+		for (ITaskStatusListener listener : listeners) {
+			notifyListener(listener);
+		}
+	}
+
+	/**
+	 * Notify the listener that this task is done
+	 *
+	 * @param listener ITaskStatusListener The listener
+	 */
+	private void notifyListener(ITaskStatusListener listener) {
+		try {
+			listener.taskDone(this);
+		} catch (Exception e) {
+			LOGGER.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Add the listener, it is notified at once if this task is already done
+	 *
+	 * @param listener ITaskStatusListener The listener
+	 */
+	public void addListener(ITaskStatusListener listener) {
+		synchronized (this) {
+			if (!isDone) {
+				listenerList.add(listener);
+				return;
+			}
+		}
+		notifyListener(listener);
+	}
+
+	/**
+	 * Remove the listener
+	 *
+	 * @param listener ITaskStatusListener The listener
+	 */
+	public synchronized void removeListener(ITaskStatusListener listener) {
+		listenerList.remove(listener);
+	}
+
+	/**
+	 * Stop tracking this task, it does not stop the task on the server.
+	 *
+	 * @param mayInterruptIfRunning boolean The running status request is
+	 *        always stopped
+	 * @return boolean false if this task is already done
+	 */
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		synchronized (this) {
+			if (isDone) {
+				return false;
+			}
+			isCancelled = true;
+		}
+		getTaskStatusTask.cancel();
+		complete(false);
+		return true;
+	}
+
+	public boolean isCancelled() {
+		return isCancelled;
+	}
+
+	public boolean isDone() {
+		return isDone;
+	}
+
+	/**
+	 * Wait until the task is done
+	 *
+	 * @return Boolean Whether the task is successful
+	 * @throws InterruptedException if the current thread is interrupted
+	 */
+	public Boolean get() throws InterruptedException {
+		doneLatch.await();
+		return getResult();
+	}
+
+	/**
+	 * Wait until the task is done or the timeout elapsed
+	 *
+	 * @param timeout long The time to wait
+	 * @param unit TimeUnit The time unit
+	 * @return Boolean Whether the task is successful
+	 * @throws InterruptedException if the current thread is interrupted
+	 * @throws TimeoutException if the task is not done in time
+	 */
+	public Boolean get(long timeout, TimeUnit unit) throws InterruptedException,
+			TimeoutException {
+		if (!doneLatch.await(timeout, unit)) {
+			throw new TimeoutException();
+		}
+		return getResult();
+	}
+
+	private Boolean getResult() {
+		if (isCancelled) {
+			throw new CancellationException();
+		}
+		return Boolean.valueOf(isSuccess);
+	}
+
+	/**
+	 * Get the task which gets the status, its response, error message and
+	 * status code are the ones of the last status request
+	 *
+	 * @return GetTaskStatusTask The task
+	 */
+	public GetTaskStatusTask getTaskStatusTask() {
+		return getTaskStatusTask;
+	}
+
+	public ServerInfo getServerInfo() {
+		return serverInfo;
+	}
+
+	public String getTaskKey() {
+		return taskKey;
+	}
+
+	public int getPollCount() {
+		return pollCount;
+	}
+
+	long getNextPollTime() {
+		return nextPollTime;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.common.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+
+/**
+ * Tracks the asynchronous tasks of CUBRID Manager server by their task keys.
+ * All the outstanding task keys of a server are polled by one poller, which
+ * requests the status of every due task key in one round and then sleeps until
+ * the next task key is due. Every poller has its own thread, so a slow or
+ * unreachable server does not delay the status of the other servers. The poll
+ * interval of a task key begins with {@link #INITIAL_INTERVAL_MSEC} and
+ * doubles up to {@link #MAX_INTERVAL_MSEC}, so a short task is reported soon
+ * and a long task does not flood the server.
+ *
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class TaskStatusTracker {
+	private static final Logger LOGGER = LogUtil.getLogger(TaskStatusTracker.class);
+	public static final long DEFAULT_TIMEOUT_MSEC = 300000;
+	public static final long INITIAL_INTERVAL_MSEC = 200;
+	public static final long MAX_INTERVAL_MSEC = 5000;
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+	private static TaskStatusTracker instance;
+
+	private final Map<String, HostPoller> pollerMap = new HashMap<String, HostPoller>();
+
+	private TaskStatusTracker() {
+	}
+
+	/**
+	 * Return the only instance
+	 *
+	 * @return TaskStatusTracker
+	 */
+	public static synchronized TaskStatusTracker getInstance() {
+		if (instance == null) {
+			instance = new TaskStatusTracker();
+		}
+		return instance;
+	}
+
+	/**
+	 * Track the task with the default timeout
+	 *
+	 * @param serverInfo ServerInfo The server which runs the task
+	 * @param taskKey String The task key
+	 * @return TaskStatusFuture The pending result
+	 */
+	public TaskStatusFuture track(ServerInfo serverInfo, String taskKey) {
+		return track(serverInfo, taskKey, DEFAULT_TIMEOUT_MSEC, null);
+	}
+
+	/**
+	 * Track the task
+	 *
+	 * @param serverInfo ServerInfo The server which runs the task
+	 * @param taskKey String The task key
+	 * @param timeout long The milliseconds to wait for the task
+	 * @param listener ITaskStatusListener The listener notified when the task
+	 *        is done, it can be null
+	 * @return TaskStatusFuture The pending result
+	 */
+	public TaskStatusFuture track(ServerInfo serverInfo, String taskKey,
+			long timeout, ITaskStatusListener listener) {
+		TaskStatusFuture future = new TaskStatusFuture(serverInfo, taskKey,
+				timeout);
+		if (listener != null) {
+			future.addListener(listener);
+		}
+		String key = serverInfo.getHostAddress() + ":"
+				+ serverInfo.getHostMonPort();
+		synchronized (this) {
+			HostPoller poller = pollerMap.get(key);
+			if (poller == null) {
+				poller = new HostPoller(key);
+				pollerMap.put(key, poller);
+			}
+			poller.add(future);
+		}
+		return future;
+	}
+
+	/**
+	 * Get the count of the task keys which are being tracked
+	 *
+	 * @return int The count
+	 */
+	public synchronized int getPendingCount() {
+		int count = 0;
+		for (HostPoller poller : pollerMap.values()) {
+			count += poller.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Remove the poller when it has no task key
+	 *
+	 * @param poller HostPoller The poller
+	 * @return boolean Whether it is removed
+	 */
+	private synchronized boolean removeIfIdle(HostPoller poller) {
+		synchronized (poller) {
+			if (poller.size() > 0) {
+				return false;
+			}
+			pollerMap.remove(poller.key);
+			poller.scheduler.shutdown();
+			return true;
+		}
+	}
+
+	/**
+	 * The poller of the task keys of a server, it is scheduled once for the
+	 * earliest due task key on its own thread, which ends when the poller is
+	 * removed.
+	 */
+	private final class HostPoller implements
+			Runnable {
+		private final String key;
+		private final List<TaskStatusFuture> futureList = new ArrayList<TaskStatusFuture>();
+		private final ScheduledExecutorService scheduler;
+		private ScheduledFuture<?> scheduledFuture;
+		private long scheduledTime;
+		private boolean isRunning = false;
+
+		private HostPoller(final String key) {
+			this.key = key;
+			this.scheduler = new ScheduledThreadPoolExecutor(1,
+					new ThreadFactory() {
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable,
+									"CUBRID Manager task status tracker-"
+											+ THREAD_COUNT.incrementAndGet()
+											+ " (" + key + ")");
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+		}
+
+		private synchronized int size() {
+			return futureList.size();
+		}
+
+		private synchronized void add(TaskStatusFuture future) {
+			futureList.add(future);
+			if (!isRunning) {
+				schedule(future.getNextPollTime());
+			}
+		}
+
+		/**
+		 * Schedule this poller if it is not scheduled before the time
+		 *
+		 * @param time long The time to run
+		 */
+		private void schedule(long time) {
+			if (scheduledFuture != null) {
+				if (scheduledTime <= time) {
+					return;
+				}
+				scheduledFuture.cancel(false);
+			}
+			scheduledTime = time;
+			long delay = Math.max(0, time - System.currentTimeMillis());
+			scheduledFuture = scheduler.schedule(this, delay,
+					TimeUnit.MILLISECONDS);
+		}
+
+		public void run() {
+			List<TaskStatusFuture> dueList = new ArrayList<TaskStatusFuture>();
+			synchronized (this) {
+				isRunning = true;
+				scheduledFuture = null;
+				long now = System.currentTimeMillis();
+				for (TaskStatusFuture future : futureList) {
+					if (!future.isDone() && future.getNextPollTime() <= now) {
+						dueList.add(future);
+					}
+				}
+			}
+			for (TaskStatusFuture future : dueList) {
+				try {
+					future.poll();
+				} catch (Exception e) {
+					LOGGER.error(e.getMessage(), e);
+				}
+			}
+			synchronized (this) {
+				isRunning = false;
+				long next = Long.MAX_VALUE;
+				for (Iterator<TaskStatusFuture> it = futureList.iterator(); it.hasNext();) {
+					TaskStatusFuture future = it.next();
+					if (future.isDone()) {
+						it.remove();
+					} else {
+						next = Math.min(next, future.getNextPollTime());
+					}
+				}
+				if (!futureList.isEmpty()) {
+					schedule(next);
+					return;
+				}
+			}
+			removeIfIdle(this);
+		}
+	}
+}
@@ -43,6 +43,7 @@ import com.cubrid.common.core.util.QueryUtil;
 import com.cubrid.common.core.util.StringUtil;
 import com.cubrid.cubridmanager.core.broker.model.BrokerInfo;
 import com.cubrid.cubridmanager.core.common.jdbc.JDBCConnectionManager;
+import com.cubrid.cubridmanager.core.common.jdbc.JDBCConnectionPool;
 import com.cubrid.cubridmanager.core.common.model.ConfConstants;
 import com.cubrid.cubridmanager.core.common.model.DbRunningType;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
@@ -285,6 +286,9 @@ public class DatabaseInfo implements IDatabaseSpec {
 	 */
 	public void setLogined(boolean isLogined) {
 		this.isLogined = isLogined;
+		if (!isLogined) {
+			JDBCConnectionPool.closeIdleConnections(brokerIP, brokerPort, dbName);
+		}
 		clear();
 	}
 
@@ -27,6 +27,7 @@
  */
 package com.cubrid.cubridmanager.core.cubrid.table.task;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -39,6 +40,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.slf4j.Logger;
@@ -58,6 +67,7 @@ import com.cubrid.common.core.util.QuerySyntax;
 import com.cubrid.common.core.util.QueryUtil;
 import com.cubrid.common.core.util.StringUtil;
 import com.cubrid.cubridmanager.core.Messages;
+import com.cubrid.cubridmanager.core.common.jdbc.JDBCConnectionPool;
 import com.cubrid.cubridmanager.core.common.jdbc.JDBCTask;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.cubridmanager.core.cubrid.table.model.DataType;
@@ -74,6 +84,12 @@ public class GetAllSchemaTask extends
 
 	private static final String VIRTUAL_NORMAL = "normal";
 	private static final String VIRTUAL_VIEW = "view";
+	// the max count of the helper threads which load the foreign keys
+	private static final int FK_LOADER_THREAD_COUNT = 3;
+	// a helper thread is used for each this count of tables
+	private static final int FK_TABLES_PER_THREAD = 20;
+	// the count of the tables whose partition expressions are probed by one query
+	private static final int EXPR_PROBE_BATCH_SIZE = 50;
 	private Map<String, SchemaInfo> schemas = null;
 	private Map<String, SchemaComment> comments = null;
 	/*Is load collation information*/
@@ -103,6 +119,7 @@ public class GetAllSchemaTask extends
 	 */
 	public void execute() {
 		boolean isAutocommit = false;
+		long start = System.currentTimeMillis();
 
 		try {
 			if (errorMsg != null && errorMsg.trim().length() > 0) {
@@ -171,6 +188,10 @@ public class GetAllSchemaTask extends
 			}
 
 			finish();
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Loaded " + (schemas == null ? 0 : schemas.size())
+						+ " schemas in " + (System.currentTimeMillis() - start) + "ms.");
+			}
 		}
 	}
 
@@ -186,7 +207,8 @@ public class GetAllSchemaTask extends
 				+ " ORDER BY class_name";
 		stmt = connection.createStatement();
 		rs = stmt.executeQuery(sql);
-		String exprDataType = null;
+		Map<String, String> exprMap = new HashMap<String, String>();
+		List<PartitionInfo> partitionList = new ArrayList<PartitionInfo>();
 		while (rs.next()) {
 			String className = rs.getString("class_name");
 			String partitionName = rs.getString("partition_name");
@@ -236,14 +258,89 @@ public class GetAllSchemaTask extends
 				schemaInfo.setPartitionList(result);
 			}
 
-			if (exprDataType == null && partitionExpr != null
+			if (!exprMap.containsKey(className) && partitionExpr != null
 					&& partitionExpr.trim().length() > 0) {
-				exprDataType = getExprDataType(className, partitionExpr);
+				exprMap.put(className, partitionExpr);
 			}
 
-			partitionItem.setPartitionExprType(exprDataType);
+			partitionList.add(partitionItem);
 			result.add(partitionItem);
 		}
+		QueryUtil.freeQuery(stmt, rs);
+		stmt = null;
+		rs = null;
+
+		Map<String, String> exprDataTypeMap = getExprDataTypes(exprMap);
+		for (PartitionInfo partitionItem : partitionList) {
+			partitionItem.setPartitionExprType(exprDataTypeMap.get(partitionItem.getClassName()));
+		}
+	}
+
+	/**
+	 *
+	 * Get the data types of the partition expressions of the tables. The
+	 * expressions of {@link #EXPR_PROBE_BATCH_SIZE} tables are probed by one
+	 * query with scalar sub-queries, and the tables of a failed batch are
+	 * probed one by one.
+	 *
+	 * @param exprMap The partition expression of every partitioned table
+	 * @return The data type of the partition expression of every table
+	 */
+	private Map<String, String> getExprDataTypes(Map<String, String> exprMap) {
+		Map<String, String> result = new HashMap<String, String>();
+		List<String> tableNames = new ArrayList<String>(exprMap.keySet());
+		for (int start = 0; start < tableNames.size(); start += EXPR_PROBE_BATCH_SIZE) {
+			List<String> batch = tableNames.subList(start,
+					Math.min(start + EXPR_PROBE_BATCH_SIZE, tableNames.size()));
+			if (batch.size() > 1 && getExprDataTypes(batch, exprMap, result)) {
+				continue;
+			}
+			for (String tableName : batch) {
+				result.put(tableName, getExprDataType(tableName, exprMap.get(tableName)));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 *
+	 * Get the data types of the partition expressions of the tables by one
+	 * query
+	 *
+	 * @param tableNames The table names
+	 * @param exprMap The partition expression of every partitioned table
+	 * @param result The map which the data types are put into
+	 * @return Whether the query is successful
+	 */
+	private boolean getExprDataTypes(List<String> tableNames, Map<String, String> exprMap,
+			Map<String, String> result) {
+		StringBuilder sql = new StringBuilder("SELECT ");
+		for (int i = 0; i < tableNames.size(); i++) {
+			String tableName = tableNames.get(i);
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append("(SELECT ").append(exprMap.get(tableName)).append(" FROM ").append(
+					QuerySyntax.escapeKeyword(tableName)).append(" WHERE ROWNUM = 1)");
+		}
+		sql.append(" FROM db_root");
+
+		Statement stmt = null;
+		ResultSet rs = null;
+		try {
+			stmt = connection.createStatement();
+			rs = stmt.executeQuery(sql.toString());
+			ResultSetMetaData rsmt = rs.getMetaData();
+			for (int i = 0; i < tableNames.size(); i++) {
+				result.put(tableNames.get(i), rsmt.getColumnTypeName(i + 1));
+			}
+			return true;
+		} catch (SQLException e) {
+			LOGGER.debug("Failed to probe the partition expressions by one query.", e);
+			return false;
+		} finally {
+			QueryUtil.freeQuery(stmt, rs);
+		}
 	}
 
 	/**
@@ -488,8 +585,8 @@ public class GetAllSchemaTask extends
 	private Map<String, Map<String, String>> getForeignKeyInfo() throws SQLException {
 		Statement metaStmt = null;
 		ResultSet metaRs = null;
+		List<String> tableNamesContainedFK = new ArrayList<String>();
 		try {
-			List<String> tableNamesContainedFK = new ArrayList<String>();
 			String sql = "SELECT class_name"
 					+ " FROM db_index"
 					+ " WHERE is_foreign_key='YES'"
@@ -503,12 +600,100 @@ public class GetAllSchemaTask extends
 			while (metaRs.next()) {
 				tableNamesContainedFK.add(metaRs.getString("class_name"));
 			}
+		} finally {
 			QueryUtil.freeQuery(metaStmt, metaRs);
+		}
+
+		long start = System.currentTimeMillis();
+		Map<String, Map<String, String>> result = new ConcurrentHashMap<String, Map<String, String>>();
+		ConcurrentLinkedQueue<String> tableQueue = new ConcurrentLinkedQueue<String>(tableNamesContainedFK);
+		int helperCount = Math.min(FK_LOADER_THREAD_COUNT, tableNamesContainedFK.size() / FK_TABLES_PER_THREAD);
+		if (databaseInfo.isShard() || helperCount <= 0) {
+			getImportedKeys(connection, tableQueue, result);
+		} else {
+			getImportedKeysInParallel(tableQueue, result, helperCount);
+		}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Loaded the foreign keys of " + tableNamesContainedFK.size() + " tables in "
+					+ (System.currentTimeMillis() - start) + "ms.");
+		}
+		return result;
+	}
 
-			Map<String, Map<String, String>> result = new HashMap<String, Map<String, String>>();
+	/**
+	 * Retrieves the foreign keys of the queued tables by this connection and
+	 * the connections of the helper threads. The helper connections are
+	 * borrowed from {@link JDBCConnectionPool}, if a helper can not get a
+	 * connection, the other threads go on with the queue.
+	 *
+	 * @param tableQueue the queue of the table names
+	 * @param result the map which the foreign keys are put into
+	 * @param helperCount the count of the helper threads
+	 * @throws SQLException the SQLException
+	 */
+	private void getImportedKeysInParallel(final ConcurrentLinkedQueue<String> tableQueue,
+			final Map<String, Map<String, String>> result, int helperCount) throws SQLException {
+		ExecutorService executor = Executors.newFixedThreadPool(helperCount);
+		List<Future<Object>> futures = new ArrayList<Future<Object>>();
+		try {
+			for (int i = 0; i < helperCount; i++) {
+				futures.add(executor.submit(new Callable<Object>() {
+					public Object call() throws SQLException {
+						Connection helperConnection;
+						try {
+							helperConnection = JDBCConnectionPool.borrowConnection(databaseInfo, true);
+						} catch (SQLException e) {
+							LOGGER.warn("Failed to get a connection to load the foreign keys.", e);
+							return null;
+						}
+						try {
+							getImportedKeys(helperConnection, tableQueue, result);
+						} finally {
+							JDBCConnectionPool.returnConnection(helperConnection);
+						}
+						return null;
+					}
+				}));
+			}
+			getImportedKeys(connection, tableQueue, result);
+			for (Future<Object> future : futures) {
+				try {
+					future.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new SQLException(e.getMessage(), e);
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof SQLException) {
+						throw (SQLException) e.getCause();
+					}
+					throw new SQLException(e.getCause().getMessage(), e.getCause());
+				}
+			}
+		} finally {
+			tableQueue.clear();
+			executor.shutdown();
+		}
+	}
 
-			for (String className : tableNamesContainedFK) {
-				metaRs = connection.getMetaData().getImportedKeys("", "", className);
+	/**
+	 * Retrieves the foreign keys of the queued tables by the connection until
+	 * the queue is empty
+	 *
+	 * @param conn the connection
+	 * @param tableQueue the queue of the table names
+	 * @param result the map which the foreign keys are put into
+	 * @throws SQLException the SQLException
+	 */
+	private void getImportedKeys(Connection conn, Queue<String> tableQueue,
+			Map<String, Map<String, String>> result) throws SQLException {
+		String className;
+		while ((className = tableQueue.poll()) != null) {
+			if (isCancel || (monitor != null && monitor.isCanceled())) {
+				return;
+			}
+			ResultSet metaRs = null;
+			try {
+				metaRs = conn.getMetaData().getImportedKeys("", "", className);
 				while (metaRs.next()) {
 					String fkColName = metaRs.getString("FKCOLUMN_NAME");
 					String key = className + "." + fkColName;
@@ -529,12 +714,9 @@ public class GetAllSchemaTask extends
 					fkInfo.put("DEFERRABILITY", metaRs.getString("DEFERRABILITY"));
 					result.put(key, fkInfo);
 				}
+			} finally {
 				QueryUtil.freeQuery(metaRs);
 			}
-
-			return result;
-		} finally {
-			QueryUtil.freeQuery(metaStmt, metaRs);
 		}
 	}
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.index;
+
+/**
+ * 
+ * A log line which matches a search of {@link LogIndex}
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogHit {
+
+	private final String fileKey;
+	private final long lineNo;
+	private final long time;
+	private final String severity;
+	private final String text;
+
+	/**
+	 * The constructor
+	 * 
+	 * @param fileKey the key of the log file
+	 * @param lineNo the line number, it begins from 1
+	 * @param time the time of the log entry
+	 * @param severity the severity of the log entry
+	 * @param text the text of the line
+	 */
+	public LogHit(String fileKey, long lineNo, long time, String severity,
+			String text) {
+		this.fileKey = fileKey;
+		this.lineNo = lineNo;
+		this.time = time;
+		this.severity = severity;
+		this.text = text;
+	}
+
+	public String getFileKey() {
+		return fileKey;
+	}
+
+	public long getLineNo() {
+		return lineNo;
+	}
+
+	public long getTime() {
+		return time;
+	}
+
+	public String getSeverity() {
+		return severity;
+	}
+
+	public String getText() {
+		return text;
+	}
+}
@@ -0,0 +1,965 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.common.core.util.StringUtil;
+
+/**
+ * 
+ * A local full text index of the log lines. Every line is a document whose
+ * terms ({@link LogLineParser#tokenize(String)}) and severity are written into
+ * the postings of a segment file at each commit, and whose file, line number,
+ * time and severity are kept in a fixed size record, so the facets are
+ * filtered without reading the text. The small segments are merged when there
+ * are more than {@link #MAX_SEGMENT_COUNT} of them.
+ * 
+ * The indexed line count of every file is saved with the commit, so a file
+ * is indexed again only from its first new line. The state file is never
+ * missing: the old one is kept as a backup until the new one is in place.
+ * When a file is shorter than its indexed line count (reset or rotated) it
+ * gets a new file id and the documents of the old id are ignored.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogIndex {
+
+	private static final Logger LOGGER = LogUtil.getLogger(LogIndex.class);
+	public static final int MAX_TERM_LENGTH = 64;
+	public static final int MAX_NUMBER_TERM_LENGTH = 5;
+	public static final int MAX_TEXT_LENGTH = 4096;
+	private static final int MAX_SEGMENT_COUNT = 10;
+	private static final int MAX_PENDING_POSTINGS = 2000000;
+	private static final int META_SIZE = 29;
+	private static final int META_PAGE_DOCS = 2048;
+	private static final int SEGMENT_MAGIC = 0x4C474958;
+	private static final int DICT_SAMPLE_INTERVAL = 64;
+	private static final String SEVERITY_TERM_PREFIX = "@";
+	private static final String STATE_FILE = "index.properties";
+	private static final String BACKUP_FILE = "index.properties.bak";
+	private static final String META_FILE = "docs.meta";
+	private static final String TEXT_FILE = "docs.text";
+
+	private final File dir;
+	private final Properties stateProps = new Properties();
+	private final Map<String, FileState> fileStateMap = new HashMap<String, FileState>();
+	private final Map<Integer, String> liveFileMap = new HashMap<Integer, String>();
+	private final List<String> severityList = new ArrayList<String>();
+	private final List<Segment> segmentList = new ArrayList<Segment>();
+	private final Map<String, Postings> pendingMap = new HashMap<String, Postings>();
+	private int pendingPostingCount = 0;
+	private int committedDocCount = 0;
+	private int docCount = 0;
+	private long textLength = 0;
+	private int nextFileId = 1;
+	private int nextSegmentNo = 1;
+	private DataOutputStream metaOut;
+	private DataOutputStream textOut;
+	private RandomAccessFile metaReader;
+	private RandomAccessFile textReader;
+	private int metaPageNo = -1;
+	private byte[] metaPage;
+
+	/**
+	 * Open the index in the directory, it is created if it does not exist
+	 * 
+	 * @param dir the index directory
+	 * @throws IOException if the index files can not be read
+	 */
+	public LogIndex(File dir) throws IOException {
+		this.dir = dir;
+		if (!dir.exists() && !dir.mkdirs()) {
+			throw new IOException("Can not create the directory " + dir);
+		}
+		load();
+	}
+
+	/**
+	 * Load the committed state and drop the data which is not committed
+	 * 
+	 * @throws IOException
+	 */
+	private void load() throws IOException {
+		File stateFile = new File(dir, STATE_FILE);
+		if (!stateFile.exists()) {
+			// the last save stopped before the new state file was renamed
+			stateFile = new File(dir, BACKUP_FILE);
+		}
+		if (stateFile.exists()) {
+			InputStream in = new FileInputStream(stateFile);
+			try {
+				stateProps.load(in);
+			} finally {
+				in.close();
+			}
+		}
+		committedDocCount = StringUtil.intValue(stateProps.getProperty("docCount"), 0);
+		docCount = committedDocCount;
+		textLength = StringUtil.longValue(stateProps.getProperty("textLength"), 0);
+		nextFileId = StringUtil.intValue(stateProps.getProperty("nextFileId"), 1);
+		nextSegmentNo = StringUtil.intValue(stateProps.getProperty("nextSegmentNo"), 1);
+		for (String severity : split(stateProps.getProperty("severities"))) {
+			severityList.add(severity.equals("-") ? LogLineParser.SEVERITY_NONE
+					: severity);
+		}
+		for (Object key : stateProps.keySet()) {
+			String name = (String) key;
+			if (name.startsWith("file.") && name.endsWith(".key")) {
+				String prefix = name.substring(0, name.length() - 3);
+				FileState state = new FileState();
+				state.id = StringUtil.intValue(prefix.substring(5, prefix.length() - 1), 0);
+				state.lines = StringUtil.longValue(stateProps.getProperty(prefix + "lines"), 0);
+				state.time = StringUtil.longValue(stateProps.getProperty(prefix + "time"), 0);
+				state.severity = stateProps.getProperty(prefix + "severity", "");
+				String fileKey = stateProps.getProperty(name);
+				fileStateMap.put(fileKey, state);
+				liveFileMap.put(Integer.valueOf(state.id), fileKey);
+			}
+		}
+
+		List<String> segmentNames = split(stateProps.getProperty("segments"));
+		File[] files = dir.listFiles();
+		for (int i = 0; files != null && i < files.length; i++) {
+			String name = files[i].getName();
+			if (name.startsWith("seg-") && !segmentNames.contains(name)
+					&& !files[i].delete()) {
+				LOGGER.warn("Can not delete the segment " + files[i]);
+			}
+		}
+		for (String name : segmentNames) {
+			segmentList.add(new Segment(new File(dir, name)));
+		}
+
+		truncate(new File(dir, META_FILE), (long) committedDocCount * META_SIZE);
+		truncate(new File(dir, TEXT_FILE), textLength);
+		metaOut = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(new File(dir, META_FILE), true)));
+		textOut = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(new File(dir, TEXT_FILE), true)));
+	}
+
+	/**
+	 * Truncate the file to the committed length
+	 * 
+	 * @param file the file
+	 * @param length the committed length
+	 * @throws IOException
+	 */
+	private static void truncate(File file, long length) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			if (raf.length() != length) {
+				raf.setLength(length);
+			}
+		} finally {
+			raf.close();
+		}
+	}
+
+	/**
+	 * Split a comma separated list
+	 * 
+	 * @param value the list
+	 * @return List<String>
+	 */
+	private static List<String> split(String value) {
+		List<String> list = new ArrayList<String>();
+		if (value != null && value.length() > 0) {
+			list.addAll(Arrays.asList(value.split(",")));
+		}
+		return list;
+	}
+
+	/**
+	 * Get the indexed line count of the file
+	 * 
+	 * @param fileKey the file key
+	 * @return long
+	 */
+	public synchronized long getIndexedLineCount(String fileKey) {
+		FileState state = fileStateMap.get(fileKey);
+		return state == null ? 0 : state.lines;
+	}
+
+	/**
+	 * Get the keys of the indexed files
+	 * 
+	 * @return the sorted keys
+	 */
+	public synchronized List<String> getFileKeyList() {
+		return new ArrayList<String>(new TreeSet<String>(fileStateMap.keySet()));
+	}
+
+	/**
+	 * Get the count of the committed lines of all the files, including the
+	 * lines of the removed and the reset files
+	 * 
+	 * @return int
+	 */
+	public synchronized int getDocCount() {
+		return committedDocCount;
+	}
+
+	/**
+	 * Begin to index the new lines of the file. If the file is shorter than
+	 * its indexed lines it is indexed again from the first line.
+	 * 
+	 * @param fileKey the file key
+	 * @param total the current total line count of the file
+	 * @return true if the file is indexed again from the first line
+	 */
+	public synchronized boolean beginFile(String fileKey, long total) {
+		FileState state = fileStateMap.get(fileKey);
+		if (state != null && total >= state.lines) {
+			return false;
+		}
+		boolean isReset = state != null;
+		if (isReset) {
+			liveFileMap.remove(Integer.valueOf(state.id));
+		}
+		state = new FileState();
+		state.id = nextFileId++;
+		fileStateMap.put(fileKey, state);
+		liveFileMap.put(Integer.valueOf(state.id), fileKey);
+		return isReset;
+	}
+
+	/**
+	 * Remove the file from the index and commit, its documents are ignored by
+	 * the search
+	 * 
+	 * @param fileKey the file key
+	 * @throws IOException
+	 */
+	public synchronized void removeFile(String fileKey) throws IOException {
+		FileState state = fileStateMap.remove(fileKey);
+		if (state != null) {
+			liveFileMap.remove(Integer.valueOf(state.id));
+			commit();
+		}
+	}
+
+	/**
+	 * Add the next line of the file, {@link #beginFile(String, long)} must be
+	 * called before it. The line is searchable after {@link #commit()}.
+	 * 
+	 * @param fileKey the file key
+	 * @param line the line text
+	 * @throws IOException
+	 */
+	public synchronized void addLine(String fileKey, String line) throws IOException {
+		FileState state = fileStateMap.get(fileKey);
+		if (state == null) {
+			throw new IllegalStateException("The file is not begun: " + fileKey);
+		}
+		String text = line == null ? "" : line;
+		if (text.length() > MAX_TEXT_LENGTH) {
+			text = text.substring(0, MAX_TEXT_LENGTH);
+		}
+		LogLineParser parser = new LogLineParser();
+		parser.setState(state.time, state.severity);
+		parser.parse(text);
+		state.time = parser.getTime();
+		state.severity = parser.getSeverity();
+		state.lines++;
+
+		int docId = docCount++;
+		metaOut.writeInt(state.id);
+		metaOut.writeLong(state.lines);
+		metaOut.writeLong(state.time);
+		metaOut.writeByte(getSeverityNo(state.severity));
+		metaOut.writeLong(textLength);
+		byte[] bytes = text.getBytes("UTF-8");
+		textOut.writeInt(bytes.length);
+		textOut.write(bytes);
+		textLength += 4 + bytes.length;
+
+		List<String> terms = LogLineParser.tokenize(text);
+		if (state.severity.length() > 0) {
+			terms.add(SEVERITY_TERM_PREFIX + state.severity);
+		}
+		for (String term : terms) {
+			Postings postings = pendingMap.get(term);
+			if (postings == null) {
+				postings = new Postings();
+				pendingMap.put(term, postings);
+			}
+			postings.add(docId);
+		}
+		pendingPostingCount += terms.size();
+		if (pendingPostingCount > MAX_PENDING_POSTINGS) {
+			commit();
+		}
+	}
+
+	/**
+	 * Get the number of the severity, a new severity is added to the list
+	 * 
+	 * @param severity the severity
+	 * @return int
+	 */
+	private int getSeverityNo(String severity) {
+		int no = severityList.indexOf(severity);
+		if (no < 0) {
+			severityList.add(severity);
+			no = severityList.size() - 1;
+		}
+		return no;
+	}
+
+	/**
+	 * Write the pending postings into a new segment and save the state, the
+	 * added lines become searchable
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void commit() throws IOException {
+		metaOut.flush();
+		textOut.flush();
+		if (!pendingMap.isEmpty()) {
+			Map<String, Postings> sortedMap = new TreeMap<String, Postings>(pendingMap);
+			File file = new File(dir, "seg-" + (nextSegmentNo++) + ".dat");
+			Segment.write(file, sortedMap);
+			segmentList.add(new Segment(file));
+			pendingMap.clear();
+			pendingPostingCount = 0;
+		}
+		committedDocCount = docCount;
+		metaPageNo = -1;
+		saveState();
+		if (segmentList.size() > MAX_SEGMENT_COUNT) {
+			mergeSegments();
+		}
+	}
+
+	/**
+	 * Merge the small segments at the end of the list into one, or all the
+	 * segments if they are larger than the first one
+	 * 
+	 * @throws IOException
+	 */
+	private void mergeSegments() throws IOException {
+		long tailLength = 0;
+		for (int i = 1; i < segmentList.size(); i++) {
+			tailLength += segmentList.get(i).file.length();
+		}
+		int from = tailLength < segmentList.get(0).file.length() ? 1 : 0;
+		List<Segment> mergedList = new ArrayList<Segment>(segmentList.subList(
+				from, segmentList.size()));
+		Map<String, Postings> sortedMap = new TreeMap<String, Postings>();
+		for (Segment segment : mergedList) {
+			segment.readAllPostings(sortedMap);
+		}
+		File file = new File(dir, "seg-" + (nextSegmentNo++) + ".dat");
+		Segment.write(file, sortedMap);
+		segmentList.removeAll(mergedList);
+		segmentList.add(new Segment(file));
+		saveState();
+		for (Segment segment : mergedList) {
+			segment.close();
+			if (!segment.file.delete()) {
+				LOGGER.warn("Can not delete the segment " + segment.file);
+			}
+		}
+	}
+
+	/**
+	 * Save the committed state, it is written into a temporary file first and
+	 * the old state file is renamed to the backup file before it is replaced,
+	 * so {@link #load()} finds the old or the new state after a crash
+	 * 
+	 * @throws IOException
+	 */
+	private void saveState() throws IOException {
+		stateProps.clear();
+		stateProps.setProperty("docCount", Integer.toString(committedDocCount));
+		stateProps.setProperty("textLength", Long.toString(textLength));
+		stateProps.setProperty("nextFileId", Integer.toString(nextFileId));
+		stateProps.setProperty("nextSegmentNo", Integer.toString(nextSegmentNo));
+		StringBuffer severities = new StringBuffer();
+		for (String severity : severityList) {
+			severities.append(severities.length() > 0 ? "," : "").append(
+					severity.length() == 0 ? "-" : severity);
+		}
+		stateProps.setProperty("severities", severities.toString());
+		StringBuffer segments = new StringBuffer();
+		for (Segment segment : segmentList) {
+			segments.append(segments.length() > 0 ? "," : "").append(
+					segment.file.getName());
+		}
+		stateProps.setProperty("segments", segments.toString());
+		for (Map.Entry<String, FileState> entry : fileStateMap.entrySet()) {
+			FileState state = entry.getValue();
+			String prefix = "file." + state.id + ".";
+			stateProps.setProperty(prefix + "key", entry.getKey());
+			stateProps.setProperty(prefix + "lines", Long.toString(state.lines));
+			stateProps.setProperty(prefix + "time", Long.toString(state.time));
+			stateProps.setProperty(prefix + "severity", state.severity);
+		}
+
+		File tempFile = new File(dir, STATE_FILE + ".tmp");
+		OutputStream out = new FileOutputStream(tempFile);
+		try {
+			stateProps.store(out, null);
+		} finally {
+			out.close();
+		}
+		File stateFile = new File(dir, STATE_FILE);
+		File backupFile = new File(dir, BACKUP_FILE);
+		if (stateFile.exists()) {
+			if (backupFile.exists() && !backupFile.delete()) {
+				throw new IOException("Can not delete the file " + backupFile);
+			}
+			if (!stateFile.renameTo(backupFile)) {
+				throw new IOException("Can not rename the file " + stateFile);
+			}
+		}
+		if (!tempFile.renameTo(stateFile)) {
+			throw new IOException("Can not rename the file " + tempFile);
+		}
+		if (!backupFile.delete()) {
+			LOGGER.warn("Can not delete the file " + backupFile);
+		}
+	}
+
+	/**
+	 * Search the committed lines, the newest hits are returned first. The
+	 * query must have an indexed term or a severity
+	 * ({@link LogQuery#hasIndexedTerm()}), otherwise nothing is matched
+	 * instead of reading all the lines. The terms which are not indexed are
+	 * checked in the text of the matched lines.
+	 * 
+	 * @param query the query
+	 * @return LogSearchResult
+	 * @throws IOException
+	 */
+	public synchronized LogSearchResult search(LogQuery query) throws IOException {
+		LogSearchResult result = new LogSearchResult();
+		List<String> terms = new ArrayList<String>();
+		List<String> checkedTerms = new ArrayList<String>();
+		for (String term : LogLineParser.tokenize(query.getText(), true)) {
+			if (LogLineParser.isIndexed(term)) {
+				terms.add(term);
+			} else {
+				checkedTerms.add(term);
+			}
+		}
+		String severity = query.getSeverity();
+		if (severity != null && severity.length() > 0) {
+			terms.add(SEVERITY_TERM_PREFIX + severity);
+		}
+		if (terms.isEmpty()) {
+			return result;
+		}
+		Postings candidates = null;
+		for (String term : terms) {
+			Postings postings = new Postings();
+			for (Segment segment : segmentList) {
+				segment.readPostings(term, postings);
+			}
+			candidates = candidates == null ? postings : candidates.intersect(postings);
+			if (candidates.size == 0) {
+				return result;
+			}
+		}
+
+		long[] meta = new long[5];
+		for (int i = candidates.size - 1; i >= 0; i--) {
+			int docId = candidates.ids[i];
+			if (docId >= committedDocCount) {
+				continue;
+			}
+			readMeta(docId, meta);
+			String fileKey = liveFileMap.get(Integer.valueOf((int) meta[0]));
+			String docSeverity = severityList.get((int) meta[3]);
+			if (fileKey == null
+					|| meta[2] < query.getFromTime()
+					|| meta[2] > query.getToTime()
+					|| (severity != null && !severity.equals(docSeverity))
+					|| (query.getFileKeyPrefix() != null && !fileKey.startsWith(query.getFileKeyPrefix()))) {
+				continue;
+			}
+			String text = null;
+			if (!checkedTerms.isEmpty()) {
+				text = readText(meta[4]);
+				if (!LogLineParser.tokenize(text, true).containsAll(checkedTerms)) {
+					continue;
+				}
+			}
+			result.count(meta[2], docSeverity);
+			if (result.getHitList().size() < query.getLimit()) {
+				result.addHit(new LogHit(fileKey, meta[1], meta[2],
+						docSeverity, text == null ? readText(meta[4]) : text));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Read the record of the document through a page of the records
+	 * 
+	 * @param docId the document id
+	 * @param meta the file id, the line number, the time, the severity number
+	 *        and the text offset
+	 * @throws IOException
+	 */
+	private void readMeta(int docId, long[] meta) throws IOException {
+		int pageNo = docId / META_PAGE_DOCS;
+		if (pageNo != metaPageNo) {
+			if (metaReader == null) {
+				metaReader = new RandomAccessFile(new File(dir, META_FILE), "r");
+			}
+			int pageDocs = Math.min(META_PAGE_DOCS, committedDocCount - pageNo
+					* META_PAGE_DOCS);
+			metaPage = new byte[pageDocs * META_SIZE];
+			metaReader.seek((long) pageNo * META_PAGE_DOCS * META_SIZE);
+			metaReader.readFully(metaPage);
+			metaPageNo = pageNo;
+		}
+		int pos = (docId % META_PAGE_DOCS) * META_SIZE;
+		meta[0] = readNumber(metaPage, pos, 4);
+		meta[1] = readNumber(metaPage, pos + 4, 8);
+		meta[2] = readNumber(metaPage, pos + 12, 8);
+		meta[3] = metaPage[pos + 20] & 0xFF;
+		meta[4] = readNumber(metaPage, pos + 21, 8);
+	}
+
+	/**
+	 * Read a big endian number which is written by DataOutputStream
+	 * 
+	 * @param bytes the bytes
+	 * @param pos the position of the number
+	 * @param length the length of the number
+	 * @return long
+	 */
+	private static long readNumber(byte[] bytes, int pos, int length) {
+		long value = 0;
+		for (int i = 0; i < length; i++) {
+			value = (value << 8) | (bytes[pos + i] & 0xFF);
+		}
+		return length == 4 ? (int) value : value;
+	}
+
+	/**
+	 * Read the text of a document
+	 * 
+	 * @param offset the text offset of the document
+	 * @return String
+	 * @throws IOException
+	 */
+	private String readText(long offset) throws IOException {
+		if (textReader == null) {
+			textReader = new RandomAccessFile(new File(dir, TEXT_FILE), "r");
+		}
+		textReader.seek(offset);
+		byte[] bytes = new byte[textReader.readInt()];
+		textReader.readFully(bytes);
+		return new String(bytes, "UTF-8");
+	}
+
+	/**
+	 * Close the index, the lines which are not committed are discarded
+	 */
+	public synchronized void close() {
+		closeQuietly(metaOut);
+		closeQuietly(textOut);
+		closeQuietly(metaReader);
+		closeQuietly(textReader);
+		metaReader = null;
+		textReader = null;
+		metaPageNo = -1;
+		for (Segment segment : segmentList) {
+			segment.close();
+		}
+	}
+
+	/**
+	 * Close the stream and log the error
+	 * 
+	 * @param closeable the stream
+	 */
+	private static void closeQuietly(Closeable closeable) {
+		if (closeable == null) {
+			return;
+		}
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			LOGGER.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 
+	 * The indexed state of a file
+	 * 
+	 * @author cubrid
+	 * @version 1.0 - 2026-10-18 created by cubrid
+	 */
+	private static class FileState {
+		private int id;
+		private long lines;
+		private long time;
+		private String severity = LogLineParser.SEVERITY_NONE;
+	}
+
+	/**
+	 * 
+	 * The sorted document ids of a term
+	 * 
+	 * @author cubrid
+	 * @version 1.0 - 2026-10-18 created by cubrid
+	 */
+	private static class Postings {
+		private int[] ids = new int[4];
+		private int size = 0;
+
+		private void add(int docId) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = docId;
+		}
+
+		private Postings intersect(Postings other) {
+			Postings result = new Postings();
+			int i = 0;
+			int j = 0;
+			while (i < size && j < other.size) {
+				if (ids[i] < other.ids[j]) {
+					i++;
+				} else if (ids[i] > other.ids[j]) {
+					j++;
+				} else {
+					result.add(ids[i]);
+					i++;
+					j++;
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * 
+	 * An immutable segment file. The postings of every term are written as the
+	 * variable length deltas of the document ids, followed by the term
+	 * dictionary and the offset of the dictionary. Only every
+	 * {@link #DICT_SAMPLE_INTERVAL}th term of the dictionary is kept in the
+	 * memory with its offset, a term is looked up in the block of the
+	 * dictionary which begins at the nearest sampled term, and the postings
+	 * are read on demand.
+	 * 
+	 * @author cubrid
+	 * @version 1.0 - 2026-10-18 created by cubrid
+	 */
+	private static class Segment {
+		private final File file;
+		private final long dictOffset;
+		private final long dictEnd;
+		private final String[] sampleTerms;
+		private final long[] sampleOffsets;
+		private RandomAccessFile reader;
+
+		private Segment(File file) throws IOException {
+			this.file = file;
+			RandomAccessFile raf = new RandomAccessFile(file, "r");
+			try {
+				if (raf.readInt() != SEGMENT_MAGIC) {
+					throw new IOException("Invalid segment " + file);
+				}
+				dictEnd = raf.length() - 8;
+				raf.seek(dictEnd);
+				dictOffset = raf.readLong();
+			} finally {
+				raf.close();
+			}
+			List<String> termList = new ArrayList<String>();
+			List<Long> offsetList = new ArrayList<Long>();
+			DataInputStream in = openDictionary(file, dictOffset);
+			try {
+				int termCount = in.readInt();
+				long offset = dictOffset + 4;
+				for (int i = 0; i < termCount; i++) {
+					byte[] bytes = new byte[in.readUnsignedShort()];
+					in.readFully(bytes);
+					in.readLong();
+					in.readLong();
+					if (i % DICT_SAMPLE_INTERVAL == 0) {
+						termList.add(decodeTerm(bytes, 0, bytes.length));
+						offsetList.add(Long.valueOf(offset));
+					}
+					offset += 2 + bytes.length + 16;
+				}
+			} finally {
+				in.close();
+			}
+			sampleTerms = termList.toArray(new String[termList.size()]);
+			sampleOffsets = new long[offsetList.size()];
+			for (int i = 0; i < sampleOffsets.length; i++) {
+				sampleOffsets[i] = offsetList.get(i).longValue();
+			}
+		}
+
+		/**
+		 * Open the dictionary of the segment file, it begins with the term
+		 * count
+		 * 
+		 * @param file the segment file
+		 * @param dictOffset the offset of the dictionary
+		 * @return DataInputStream
+		 * @throws IOException
+		 */
+		private static DataInputStream openDictionary(File file, long dictOffset) throws IOException {
+			FileInputStream fin = new FileInputStream(file);
+			try {
+				long skipped = 0;
+				while (skipped < dictOffset) {
+					long n = fin.skip(dictOffset - skipped);
+					if (n <= 0) {
+						throw new IOException("Invalid segment " + file);
+					}
+					skipped += n;
+				}
+			} catch (IOException e) {
+				fin.close();
+				throw e;
+			}
+			return new DataInputStream(new BufferedInputStream(fin));
+		}
+
+		/**
+		 * Decode a term which is written by DataOutputStream.writeUTF. The
+		 * terms have neither the null characters nor the surrogates, so the
+		 * modified UTF-8 is the same as UTF-8.
+		 * 
+		 * @param bytes the bytes
+		 * @param pos the position of the term
+		 * @param length the byte length of the term
+		 * @return String
+		 * @throws IOException
+		 */
+		private static String decodeTerm(byte[] bytes, int pos, int length) throws IOException {
+			return new String(bytes, pos, length, "UTF-8");
+		}
+
+		/**
+		 * Write the postings into a new segment file
+		 * 
+		 * @param file the segment file
+		 * @param sortedMap the postings sorted by the term
+		 * @throws IOException
+		 */
+		private static void write(File file, Map<String, Postings> sortedMap) throws IOException {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+					new FileOutputStream(file)));
+			try {
+				out.writeInt(SEGMENT_MAGIC);
+				long offset = 4;
+				List<long[]> entryList = new ArrayList<long[]>();
+				ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+				for (Postings postings : sortedMap.values()) {
+					buffer.reset();
+					int last = 0;
+					for (int i = 0; i < postings.size; i++) {
+						writeVarInt(buffer, postings.ids[i] - last);
+						last = postings.ids[i];
+					}
+					buffer.writeTo(out);
+					entryList.add(new long[]{offset, buffer.size(), postings.size });
+					offset += buffer.size();
+				}
+				out.writeInt(sortedMap.size());
+				Iterator<long[]> entryIt = entryList.iterator();
+				for (String term : sortedMap.keySet()) {
+					long[] entry = entryIt.next();
+					out.writeUTF(term);
+					out.writeLong(entry[0]);
+					out.writeInt((int) entry[1]);
+					out.writeInt((int) entry[2]);
+				}
+				out.writeLong(offset);
+			} finally {
+				out.close();
+			}
+		}
+
+		private static void writeVarInt(ByteArrayOutputStream out, int value) {
+			int remain = value;
+			while ((remain & ~0x7F) != 0) {
+				out.write((remain & 0x7F) | 0x80);
+				remain >>>= 7;
+			}
+			out.write(remain);
+		}
+
+		/**
+		 * Find the dictionary entry of the term in the block of the nearest
+		 * sampled term
+		 * 
+		 * @param term the term
+		 * @return the offset, the byte length and the count of the postings,
+		 *         or null if the term is not in this segment
+		 * @throws IOException
+		 */
+		private long[] findEntry(String term) throws IOException {
+			int index = Arrays.binarySearch(sampleTerms, term);
+			int blockNo = index >= 0 ? index : -index - 2;
+			if (blockNo < 0) {
+				return null;
+			}
+			long blockEnd = blockNo + 1 < sampleOffsets.length ? sampleOffsets[blockNo + 1]
+					: dictEnd;
+			byte[] block = new byte[(int) (blockEnd - sampleOffsets[blockNo])];
+			if (reader == null) {
+				reader = new RandomAccessFile(file, "r");
+			}
+			reader.seek(sampleOffsets[blockNo]);
+			reader.readFully(block);
+			int pos = 0;
+			while (pos < block.length) {
+				int length = (int) readNumber(block, pos, 2);
+				int compare = decodeTerm(block, pos + 2, length).compareTo(term);
+				pos += 2 + length;
+				if (compare == 0) {
+					return new long[]{readNumber(block, pos, 8),
+							readNumber(block, pos + 8, 4),
+							readNumber(block, pos + 12, 4) };
+				}
+				if (compare > 0) {
+					return null;
+				}
+				pos += 16;
+			}
+			return null;
+		}
+
+		/**
+		 * Read the postings of the term and append them
+		 * 
+		 * @param term the term
+		 * @param postings the postings to append to
+		 * @throws IOException
+		 */
+		private void readPostings(String term, Postings postings) throws IOException {
+			long[] entry = findEntry(term);
+			if (entry != null) {
+				readPostings(entry, postings);
+			}
+		}
+
+		/**
+		 * Read the postings of all the terms and append them, the segments
+		 * are read in their order so the document ids stay sorted
+		 * 
+		 * @param sortedMap the postings by the term to append to
+		 * @throws IOException
+		 */
+		private void readAllPostings(Map<String, Postings> sortedMap) throws IOException {
+			DataInputStream in = openDictionary(file, dictOffset);
+			try {
+				int termCount = in.readInt();
+				for (int i = 0; i < termCount; i++) {
+					String term = in.readUTF();
+					long[] entry = new long[]{in.readLong(), in.readInt(),
+							in.readInt() };
+					Postings postings = sortedMap.get(term);
+					if (postings == null) {
+						postings = new Postings();
+						sortedMap.put(term, postings);
+					}
+					readPostings(entry, postings);
+				}
+			} finally {
+				in.close();
+			}
+		}
+
+		/**
+		 * Read the postings of a dictionary entry and append them
+		 * 
+		 * @param entry the offset, the byte length and the count of the
+		 *        postings
+		 * @param postings the postings to append to
+		 * @throws IOException
+		 */
+		private void readPostings(long[] entry, Postings postings) throws IOException {
+			if (reader == null) {
+				reader = new RandomAccessFile(file, "r");
+			}
+			byte[] bytes = new byte[(int) entry[1]];
+			reader.seek(entry[0]);
+			reader.readFully(bytes);
+			int docId = 0;
+			int pos = 0;
+			for (int i = 0; i < entry[2]; i++) {
+				int value = 0;
+				int shift = 0;
+				int b;
+				do {
+					b = bytes[pos++];
+					value |= (b & 0x7F) << shift;
+					shift += 7;
+				} while ((b & 0x80) != 0);
+				docId += value;
+				postings.add(docId);
+			}
+		}
+
+		private void close() {
+			closeQuietly(reader);
+			reader = null;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.index;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.common.core.util.StringUtil;
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.logs.model.LogBlockCache;
+import com.cubrid.cubridmanager.core.logs.model.LogContentInfo;
+import com.cubrid.cubridmanager.core.logs.task.GetLogListTask;
+
+/**
+ * 
+ * Index the remote log files into {@link LogIndex}. The lines after the
+ * indexed line count of a file are read by {@link GetLogListTask} in the
+ * chunks of {@link #FETCH_LINES} lines, so only the appended lines are
+ * transferred when a file is indexed again.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogIndexer {
+
+	private static final Logger LOGGER = LogUtil.getLogger(LogIndexer.class);
+	public static final int FETCH_LINES = 5000;
+
+	private final LogIndex index;
+	private final ServerInfo serverInfo;
+	private final String charsetName;
+	private volatile boolean isCanceled = false;
+	private String errorMsg = null;
+
+	/**
+	 * The constructor
+	 * 
+	 * @param index the index
+	 * @param serverInfo the server of the log files
+	 * @param charsetName the charset of the log files, null is the default
+	 *        charset
+	 */
+	public LogIndexer(LogIndex index, ServerInfo serverInfo, String charsetName) {
+		this.index = index;
+		this.serverInfo = serverInfo;
+		this.charsetName = charsetName;
+	}
+
+	/**
+	 * Get the key of the log file in the index
+	 * 
+	 * @param path the log file path
+	 * @return String
+	 */
+	public String getFileKey(String path) {
+		return LogBlockCache.getFileKey(serverInfo.getHostAddress(),
+				serverInfo.getHostMonPort(), path);
+	}
+
+	/**
+	 * Index the new lines of the log file and commit them
+	 * 
+	 * @param path the log file path
+	 * @return the count of the indexed lines, or -1 if it failed
+	 */
+	public long index(String path) {
+		errorMsg = null;
+		String fileKey = getFileKey(path);
+		long count = 0;
+		try {
+			boolean isBegun = false;
+			while (!isCanceled) {
+				long from = index.getIndexedLineCount(fileKey) + 1;
+				// the last indexed line is read again, so the range is valid
+				// when nothing is appended
+				long fetchFrom = Math.max(1, from - 1);
+				LogContentInfo content = fetch(path, fetchFrom, from
+						+ FETCH_LINES - 1);
+				if (errorMsg != null) {
+					break;
+				}
+				long total = content == null ? 0 : StringUtil.longValue(
+						content.getTotal(), 0);
+				if (!isBegun) {
+					isBegun = true;
+					if (index.beginFile(fileKey, total)) {
+						continue;
+					}
+				}
+				List<String> lines = content == null ? null : content.getLine();
+				int skip = (int) (from - fetchFrom);
+				if (lines == null || lines.size() <= skip
+						|| StringUtil.longValue(content.getStart(), fetchFrom) != fetchFrom) {
+					break;
+				}
+				for (String line : lines.subList(skip, lines.size())) {
+					index.addLine(fileKey, line);
+				}
+				count += lines.size() - skip;
+				if (fetchFrom + lines.size() > total) {
+					break;
+				}
+			}
+			index.commit();
+		} catch (IOException e) {
+			LOGGER.error(e.getMessage(), e);
+			errorMsg = e.getMessage();
+		}
+		return errorMsg == null ? count : -1;
+	}
+
+	/**
+	 * Read the lines of the log file
+	 * 
+	 * @param path the log file path
+	 * @param from the first line number
+	 * @param to the last line number
+	 * @return the lines, or null if the file is empty or it failed
+	 */
+	protected LogContentInfo fetch(String path, long from, long to) {
+		GetLogListTask task = charsetName == null ? new GetLogListTask(
+				serverInfo) : new GetLogListTask(serverInfo, charsetName);
+		task.setPath(path);
+		task.setStart(Long.toString(from));
+		task.setEnd(Long.toString(to));
+		task.execute();
+		if (task.getErrorMsg() != null && task.getErrorMsg().trim().length() > 0) {
+			errorMsg = task.getErrorMsg();
+			return null;
+		}
+		return task.getLogContent();
+	}
+
+	/**
+	 * Get the error message of the last indexing
+	 * 
+	 * @return the message or null if it succeeded
+	 */
+	public String getErrorMsg() {
+		return errorMsg;
+	}
+
+	/**
+	 * Cancel the indexing, the lines which are indexed are committed
+	 */
+	public void cancel() {
+		isCanceled = true;
+	}
+
+	public boolean isCanceled() {
+		return isCanceled;
+	}
+}
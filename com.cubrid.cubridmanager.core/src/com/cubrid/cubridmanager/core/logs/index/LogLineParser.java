@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.index;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 
+ * The parser of the log lines which are indexed by {@link LogIndex}. It finds
+ * the time and the severity in the header lines of the server error logs
+ * ("Time: 10/18/26 12:00:00.123 - ERROR *** ERROR CODE = -111 ...") and the
+ * time in the broker SQL logs ("10/18 12:00:00.123 (1) execute ..."). The
+ * following lines of a multiple line entry get the time and the severity of
+ * their header line, so the parser keeps the state of one file.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class LogLineParser {
+
+	public static final String SEVERITY_NONE = "";
+	private static final long ONE_DAY = 24L * 60 * 60 * 1000;
+	private static final Pattern ERROR_LOG_PATTERN = Pattern.compile("^Time: (\\d{2}/\\d{2}/\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3}) - ([A-Z][A-Z ]*?) \\*\\*\\*");
+	private static final Pattern SQL_LOG_PATTERN = Pattern.compile("^(\\d{2}/\\d{2}(/\\d{2})? \\d{2}:\\d{2}:\\d{2}\\.\\d{3}) ");
+
+	private final SimpleDateFormat fullFormat = new SimpleDateFormat(
+			"MM/dd/yy HH:mm:ss.SSS", Locale.US);
+	private final SimpleDateFormat shortFormat = new SimpleDateFormat(
+			"yyyy/MM/dd HH:mm:ss.SSS", Locale.US);
+	private long time = 0;
+	private String severity = SEVERITY_NONE;
+
+	/**
+	 * Parse a line and update the time and the severity of the current entry
+	 * 
+	 * @param line the log line
+	 */
+	public void parse(String line) {
+		if (line == null) {
+			return;
+		}
+		Matcher matcher = ERROR_LOG_PATTERN.matcher(line);
+		if (matcher.find()) {
+			time = parseTime(matcher.group(1), true);
+			severity = matcher.group(2).trim();
+			return;
+		}
+		matcher = SQL_LOG_PATTERN.matcher(line);
+		if (matcher.find()) {
+			time = parseTime(matcher.group(1), matcher.group(2) != null);
+			severity = SEVERITY_NONE;
+		}
+	}
+
+	/**
+	 * Parse the time of a log line, the SQL log time has no year and gets the
+	 * latest year which is not in the future
+	 * 
+	 * @param text the time text
+	 * @param hasYear whether the text contains the year
+	 * @return the time in milliseconds or 0 if it is invalid
+	 */
+	private long parseTime(String text, boolean hasYear) {
+		try {
+			if (hasYear) {
+				return fullFormat.parse(text).getTime();
+			}
+			Calendar now = Calendar.getInstance();
+			int year = now.get(Calendar.YEAR);
+			long value = shortFormat.parse(year + "/" + text).getTime();
+			if (value > now.getTimeInMillis() + ONE_DAY) {
+				value = shortFormat.parse((year - 1) + "/" + text).getTime();
+			}
+			return value;
+		} catch (ParseException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Get the time of the current entry
+	 * 
+	 * @return the time in milliseconds or 0 if it is unknown
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * Get the severity of the current entry
+	 * 
+	 * @return the severity such as "ERROR" or {@link #SEVERITY_NONE}
+	 */
+	public String getSeverity() {
+		return severity;
+	}
+
+	/**
+	 * Restore the state which is saved by the last indexing of the file
+	 * 
+	 * @param time the time of the current entry
+	 * @param severity the severity of the current entry
+	 */
+	public void setState(long time, String severity) {
+		this.time = time;
+		this.severity = severity == null ? SEVERITY_NONE : severity;
+	}
+
+	/**
+	 * Split the text into the distinct lower case terms which are indexed. A
+	 * term is a run of the letters, the digits and the underscores, so
+	 * "ERROR CODE = -111" gives "error", "code" and "111". The numbers of more
+	 * than {@link LogIndex#MAX_NUMBER_TERM_LENGTH} digits such as the
+	 * transaction ids and the bind values are not indexed, otherwise every
+	 * line adds new terms to the dictionary.
+	 * 
+	 * @param text the text
+	 * @return the terms in the order of their first appearance
+	 */
+	public static List<String> tokenize(String text) {
+		return tokenize(text, false);
+	}
+
+	/**
+	 * Split the text into the distinct lower case terms
+	 * 
+	 * @param text the text
+	 * @param isAll whether the terms which are not indexed are included
+	 * @return the terms in the order of their first appearance
+	 */
+	public static List<String> tokenize(String text, boolean isAll) {
+		Set<String> terms = new LinkedHashSet<String>();
+		if (text == null) {
+			return new ArrayList<String>(terms);
+		}
+		int begin = -1;
+		boolean isNumber = true;
+		int length = text.length();
+		for (int i = 0; i <= length; i++) {
+			char ch = i < length ? text.charAt(i) : ' ';
+			boolean isTermChar = Character.isLetterOrDigit(ch) || ch == '_';
+			if (isTermChar) {
+				if (begin < 0) {
+					begin = i;
+					isNumber = true;
+				}
+				isNumber = isNumber && ch >= '0' && ch <= '9';
+			} else if (begin >= 0) {
+				if (isAll || isIndexed(i - begin, isNumber)) {
+					terms.add(text.substring(begin, i).toLowerCase(Locale.US));
+				}
+				begin = -1;
+			}
+		}
+		return new ArrayList<String>(terms);
+	}
+
+	/**
+	 * Return whether the term is indexed
+	 * 
+	 * @param term the lower case term
+	 * @return boolean
+	 */
+	public static boolean isIndexed(String term) {
+		boolean isNumber = true;
+		for (int i = 0; i < term.length() && isNumber; i++) {
+			isNumber = term.charAt(i) >= '0' && term.charAt(i) <= '9';
+		}
+		return isIndexed(term.length(), isNumber);
+	}
+
+	private static boolean isIndexed(int length, boolean isNumber) {
+		return length <= (isNumber ? LogIndex.MAX_NUMBER_TERM_LENGTH
+				: LogIndex.MAX_TERM_LENGTH);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.index;
+
+/**
+ * 
+ * The conditions of a search of {@link LogIndex}. The lines must contain all
+ * the terms of the text and match the severity, the time range and the file
+ * key prefix if they are set.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogQuery {
+
+	private String text = "";
+	private String severity = null;
+	private long fromTime = 0;
+	private long toTime = Long.MAX_VALUE;
+	private String fileKeyPrefix = null;
+	private int limit = 1000;
+
+	public String getText() {
+		return text;
+	}
+
+	public void setText(String text) {
+		this.text = text == null ? "" : text;
+	}
+
+	public String getSeverity() {
+		return severity;
+	}
+
+	/**
+	 * Set the severity, null means all the severities
+	 * 
+	 * @param severity String
+	 */
+	public void setSeverity(String severity) {
+		this.severity = severity;
+	}
+
+	public long getFromTime() {
+		return fromTime;
+	}
+
+	public void setFromTime(long fromTime) {
+		this.fromTime = fromTime;
+	}
+
+	public long getToTime() {
+		return toTime;
+	}
+
+	public void setToTime(long toTime) {
+		this.toTime = toTime;
+	}
+
+	public String getFileKeyPrefix() {
+		return fileKeyPrefix;
+	}
+
+	/**
+	 * Set the prefix of the file keys, such as "host:port:" for the files of
+	 * one host, null means all the files
+	 * 
+	 * @param fileKeyPrefix String
+	 */
+	public void setFileKeyPrefix(String fileKeyPrefix) {
+		this.fileKeyPrefix = fileKeyPrefix;
+	}
+
+	/**
+	 * Return whether the query has a term which is indexed or a severity, a
+	 * query without them is not searched because it reads all the lines
+	 * 
+	 * @return boolean
+	 */
+	public boolean hasIndexedTerm() {
+		return !LogLineParser.tokenize(text).isEmpty()
+				|| (severity != null && severity.length() > 0);
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Set the max count of the returned hits
+	 * 
+	 * @param limit int
+	 */
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+}
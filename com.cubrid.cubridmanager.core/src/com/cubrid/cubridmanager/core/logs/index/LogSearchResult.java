@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.index;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 
+ * The result of a search of {@link LogIndex}, the newest hits and the count
+ * of all the matched lines by the severity and by the day
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogSearchResult {
+
+	private final List<LogHit> hitList = new ArrayList<LogHit>();
+	private final Map<String, Integer> severityCountMap = new TreeMap<String, Integer>();
+	private final Map<String, Integer> dayCountMap = new TreeMap<String, Integer>();
+	private final SimpleDateFormat dayFormat = new SimpleDateFormat("yyyy-MM-dd");
+	private int matchCount = 0;
+	private long dayStart = 0;
+	private long dayEnd = 0;
+	private String dayKey = "";
+
+	/**
+	 * Add a matched line to the facets
+	 * 
+	 * @param time the time of the line
+	 * @param severity the severity of the line
+	 */
+	void count(long time, String severity) {
+		matchCount++;
+		increase(severityCountMap, severity);
+		increase(dayCountMap, getDayKey(time));
+	}
+
+	/**
+	 * Get the day of the time, the last day is reused because the hits are
+	 * mostly in the time order
+	 * 
+	 * @param time the time
+	 * @return the day (yyyy-MM-dd) or "" if the time is unknown
+	 */
+	private String getDayKey(long time) {
+		if (time <= 0) {
+			return "";
+		}
+		if (time < dayStart || time >= dayEnd) {
+			Calendar calendar = Calendar.getInstance();
+			calendar.setTimeInMillis(time);
+			calendar.set(Calendar.HOUR_OF_DAY, 0);
+			calendar.set(Calendar.MINUTE, 0);
+			calendar.set(Calendar.SECOND, 0);
+			calendar.set(Calendar.MILLISECOND, 0);
+			dayStart = calendar.getTimeInMillis();
+			calendar.add(Calendar.DAY_OF_MONTH, 1);
+			dayEnd = calendar.getTimeInMillis();
+			dayKey = dayFormat.format(new Date(time));
+		}
+		return dayKey;
+	}
+
+	/**
+	 * Increase the count of the key
+	 * 
+	 * @param map the count map
+	 * @param key the key
+	 */
+	private static void increase(Map<String, Integer> map, String key) {
+		Integer count = map.get(key);
+		map.put(key, Integer.valueOf(count == null ? 1 : count.intValue() + 1));
+	}
+
+	/**
+	 * Add a hit
+	 * 
+	 * @param hit LogHit
+	 */
+	void addHit(LogHit hit) {
+		hitList.add(hit);
+	}
+
+	/**
+	 * Get the hits, the newest is the first
+	 * 
+	 * @return List<LogHit>
+	 */
+	public List<LogHit> getHitList() {
+		return hitList;
+	}
+
+	/**
+	 * Get the count of all the matched lines, it may be more than the count
+	 * of the hits
+	 * 
+	 * @return int
+	 */
+	public int getMatchCount() {
+		return matchCount;
+	}
+
+	/**
+	 * Get the count of the matched lines by the severity
+	 * 
+	 * @return Map<String, Integer>
+	 */
+	public Map<String, Integer> getSeverityCountMap() {
+		return severityCountMap;
+	}
+
+	/**
+	 * Get the count of the matched lines by the day (yyyy-MM-dd)
+	 * 
+	 * @return Map<String, Integer>
+	 */
+	public Map<String, Integer> getDayCountMap() {
+		return dayCountMap;
+	}
+}
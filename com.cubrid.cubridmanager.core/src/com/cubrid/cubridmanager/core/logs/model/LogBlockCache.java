@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 
+ * The client cache of the remote log lines. The lines are cached by blocks of
+ * {@link #BLOCK_SIZE} lines keyed by the host, the path, the charset and the
+ * block number, and the least recently used blocks are evicted. The log files
+ * are only appended, so when the total line count of a file grows only its
+ * last partial block is dropped, when it shrinks (reset or rotated) all its
+ * blocks are dropped.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class LogBlockCache {
+
+	public static final int BLOCK_SIZE = 500;
+	private static final int DEFAULT_MAX_BLOCKS = 128;
+	private static LogBlockCache instance = new LogBlockCache(DEFAULT_MAX_BLOCKS);
+
+	private final Map<String, List<String>> blockMap;
+	private final Map<String, Long> totalMap = new HashMap<String, Long>();
+
+	/**
+	 * The constructor
+	 * 
+	 * @param maxBlocks the max count of the cached blocks
+	 */
+	public LogBlockCache(final int maxBlocks) {
+		blockMap = new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(
+					Map.Entry<String, List<String>> eldest) {
+				return size() > maxBlocks;
+			}
+		};
+	}
+
+	/**
+	 * Get the instance which is shared by all the log editors
+	 * 
+	 * @return LogBlockCache
+	 */
+	public static LogBlockCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Get the key of a remote log file
+	 * 
+	 * @param host the host address
+	 * @param port the monitor port
+	 * @param path the log file path
+	 * @return String
+	 */
+	public static String getFileKey(String host, int port, String path) {
+		return host + ":" + port + ":" + path;
+	}
+
+	/**
+	 * Get the number of the block which contains the line
+	 * 
+	 * @param line the line number, it begins from 1
+	 * @return long
+	 */
+	public static long getBlockNo(long line) {
+		return line < 1 ? 0 : (line - 1) / BLOCK_SIZE;
+	}
+
+	/**
+	 * Get the first line number of the block
+	 * 
+	 * @param blockNo the block number
+	 * @return long
+	 */
+	public static long getBlockStart(long blockNo) {
+		return blockNo * BLOCK_SIZE + 1;
+	}
+
+	/**
+	 * Get the last known total line count of the file
+	 * 
+	 * @param fileKey the file key
+	 * @return the total or -1 if it is unknown
+	 */
+	public synchronized long getTotal(String fileKey) {
+		Long total = totalMap.get(fileKey);
+		return total == null ? -1 : total.longValue();
+	}
+
+	/**
+	 * Update the total line count of the file and drop the blocks which are
+	 * stale by the change
+	 * 
+	 * @param fileKey the file key
+	 * @param total the current total line count
+	 */
+	public synchronized void updateTotal(String fileKey, long total) {
+		Long oldTotal = totalMap.get(fileKey);
+		if (oldTotal != null && oldTotal.longValue() != total) {
+			if (total < oldTotal.longValue()) {
+				invalidate(fileKey);
+			} else if (oldTotal.longValue() % BLOCK_SIZE != 0) {
+				removeBlocks(fileKey, getBlockNo(oldTotal.longValue()));
+			}
+		}
+		totalMap.put(fileKey, Long.valueOf(total));
+	}
+
+	/**
+	 * Put the lines which begin from a block start into the cache, the
+	 * incomplete block at the end is ignored unless it is the last block of
+	 * the file
+	 * 
+	 * @param fileKey the file key
+	 * @param charset the charset which decoded the lines
+	 * @param startLine the line number of the first line
+	 * @param lines the lines
+	 * @param total the total line count of the file in the response
+	 */
+	public synchronized void putLines(String fileKey, String charset,
+			long startLine, List<String> lines, long total) {
+		updateTotal(fileKey, total);
+		if (lines == null || startLine < 1
+				|| (startLine - 1) % BLOCK_SIZE != 0) {
+			return;
+		}
+		long blockNo = getBlockNo(startLine);
+		for (int from = 0; from < lines.size(); from += BLOCK_SIZE, blockNo++) {
+			int to = Math.min(from + BLOCK_SIZE, lines.size());
+			long lastLine = getBlockStart(blockNo) + to - from - 1;
+			if (to - from < BLOCK_SIZE && lastLine != total) {
+				break;
+			}
+			blockMap.put(getBlockKey(fileKey, charset, blockNo),
+					new ArrayList<String>(lines.subList(from, to)));
+		}
+	}
+
+	/**
+	 * Get the cached block
+	 * 
+	 * @param fileKey the file key
+	 * @param charset the charset
+	 * @param blockNo the block number
+	 * @return the lines or null if it is not cached
+	 */
+	public synchronized List<String> getBlock(String fileKey, String charset,
+			long blockNo) {
+		return blockMap.get(getBlockKey(fileKey, charset, blockNo));
+	}
+
+	/**
+	 * Get the lines from the cached blocks
+	 * 
+	 * @param fileKey the file key
+	 * @param charset the charset
+	 * @param start the first line number
+	 * @param end the last line number
+	 * @return the lines or null if any block is not cached
+	 */
+	public synchronized List<String> getLines(String fileKey, String charset,
+			long start, long end) {
+		List<String> lines = new ArrayList<String>();
+		if (start < 1 || start > end) {
+			return lines;
+		}
+		for (long blockNo = getBlockNo(start); blockNo <= getBlockNo(end); blockNo++) {
+			List<String> block = getBlock(fileKey, charset, blockNo);
+			if (block == null) {
+				return null;
+			}
+			long blockStart = getBlockStart(blockNo);
+			int from = (int) (Math.max(start, blockStart) - blockStart);
+			int to = (int) (Math.min(end, blockStart + BLOCK_SIZE - 1)
+					- blockStart + 1);
+			if (to > block.size()) {
+				return null;
+			}
+			lines.addAll(block.subList(from, to));
+		}
+		return lines;
+	}
+
+	/**
+	 * Drop all the blocks of the file
+	 * 
+	 * @param fileKey the file key
+	 */
+	public synchronized void invalidate(String fileKey) {
+		String prefix = fileKey + "\n";
+		Iterator<String> it = blockMap.keySet().iterator();
+		while (it.hasNext()) {
+			if (it.next().startsWith(prefix)) {
+				it.remove();
+			}
+		}
+		totalMap.remove(fileKey);
+	}
+
+	/**
+	 * Drop all the blocks
+	 */
+	public synchronized void clear() {
+		blockMap.clear();
+		totalMap.clear();
+	}
+
+	/**
+	 * Drop the blocks of the block number in all the charsets
+	 * 
+	 * @param fileKey the file key
+	 * @param blockNo the block number
+	 */
+	private void removeBlocks(String fileKey, long blockNo) {
+		String prefix = fileKey + "\n";
+		String suffix = "\n" + blockNo;
+		Iterator<String> it = blockMap.keySet().iterator();
+		while (it.hasNext()) {
+			String key = it.next();
+			if (key.startsWith(prefix) && key.endsWith(suffix)) {
+				it.remove();
+			}
+		}
+	}
+
+	private static String getBlockKey(String fileKey, String charset,
+			long blockNo) {
+		return fileKey + "\n" + charset + "\n" + blockNo;
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.core.logs.task;
+
+import java.util.List;
+
+import com.cubrid.common.core.util.StringUtil;
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.logs.model.LogBlockCache;
+import com.cubrid.cubridmanager.core.logs.model.LogContentInfo;
+
+/**
+ * 
+ * A "viewlog" task which reads the lines through {@link LogBlockCache}. Only
+ * the missing blocks are requested, in one request for the adjacent ones, and
+ * the next block in the reading direction is read ahead with them. In the
+ * follow tail mode only the last block and the appended lines are requested.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class GetCachedLogListTask extends
+		GetLogListTask {
+
+	private final LogBlockCache cache = LogBlockCache.getInstance();
+	private final String charsetName;
+	private String path = "";
+	private long start = 1;
+	private long end = 100;
+	private int direction = 0;
+	private boolean isFollowTail = false;
+	private int pageSize = 100;
+	private LogContentInfo logContent;
+
+	/**
+	 * The constructor
+	 * 
+	 * @param serverInfo
+	 */
+	public GetCachedLogListTask(ServerInfo serverInfo) {
+		super(serverInfo);
+		this.charsetName = "";
+	}
+
+	/**
+	 * The constructor
+	 * 
+	 * @param serverInfo
+	 * @param charsetName
+	 */
+	public GetCachedLogListTask(ServerInfo serverInfo, String charsetName) {
+		super(serverInfo, charsetName);
+		this.charsetName = charsetName == null ? "" : charsetName;
+	}
+
+	/**
+	 * set path
+	 * 
+	 * @param param String
+	 */
+	public void setPath(String param) {
+		this.path = param;
+		super.setPath(param);
+	}
+
+	/**
+	 * set start
+	 * 
+	 * @param param String
+	 */
+	public void setStart(String param) {
+		this.start = StringUtil.longValue(param, 1);
+	}
+
+	/**
+	 * set end
+	 * 
+	 * @param param String
+	 */
+	public void setEnd(String param) {
+		this.end = StringUtil.longValue(param, start);
+	}
+
+	/**
+	 * Set the reading direction, the next block in the direction is read
+	 * ahead
+	 * 
+	 * @param direction 1 is forward, -1 is backward and 0 is no read ahead
+	 */
+	public void setDirection(int direction) {
+		this.direction = direction;
+	}
+
+	/**
+	 * Set whether to read the last page of the log, only the appended lines
+	 * are requested
+	 * 
+	 * @param isFollowTail boolean
+	 */
+	public void setFollowTail(boolean isFollowTail) {
+		this.isFollowTail = isFollowTail;
+	}
+
+	/**
+	 * Set the line count of the last page in the follow tail mode
+	 * 
+	 * @param pageSize int
+	 */
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Get the key of the log file in the cache
+	 * 
+	 * @return String
+	 */
+	public String getFileKey() {
+		return LogBlockCache.getFileKey(serverInfo.getHostAddress(),
+				serverInfo.getHostMonPort(), path);
+	}
+
+	/**
+	 * Read the lines from the cache and request the missing blocks
+	 */
+	public void execute() {
+		logContent = null;
+		String fileKey = getFileKey();
+		if (isFollowTail) {
+			long total = cache.getTotal(fileKey);
+			long from = total > 0 ? LogBlockCache.getBlockStart(LogBlockCache.getBlockNo(total))
+					: 1;
+			if (!fetch(fileKey, from, from + LogBlockCache.BLOCK_SIZE - 1)) {
+				return;
+			}
+			end = cache.getTotal(fileKey);
+			start = Math.max(1, end - pageSize + 1);
+		}
+
+		long total = cache.getTotal(fileKey);
+		long lastLine = total < 0 ? end : Math.min(end, total);
+		long firstBlock = LogBlockCache.getBlockNo(start);
+		long lastBlock = LogBlockCache.getBlockNo(lastLine);
+		if (direction > 0
+				&& (total < 0 || LogBlockCache.getBlockStart(lastBlock + 1) <= total)) {
+			lastBlock++;
+		} else if (direction < 0 && firstBlock > 0) {
+			firstBlock--;
+		}
+		long missingFrom = -1;
+		for (long blockNo = firstBlock; blockNo <= lastBlock + 1; blockNo++) {
+			boolean isMissing = blockNo <= lastBlock
+					&& cache.getBlock(fileKey, charsetName, blockNo) == null;
+			if (isMissing && missingFrom < 0) {
+				missingFrom = blockNo;
+			} else if (!isMissing && missingFrom >= 0) {
+				if (!fetch(fileKey, LogBlockCache.getBlockStart(missingFrom),
+						LogBlockCache.getBlockStart(blockNo) - 1)) {
+					return;
+				}
+				missingFrom = -1;
+			}
+		}
+
+		total = cache.getTotal(fileKey);
+		if (total <= 0) {
+			return;
+		}
+		end = Math.min(end, total);
+		if (start > end) {
+			start = end;
+		}
+		List<String> lines = cache.getLines(fileKey, charsetName, start, end);
+		if (lines == null) {
+			// the blocks are evicted by other editors, read the page directly
+			super.setStart(Long.toString(start));
+			super.setEnd(Long.toString(end));
+			super.execute();
+			logContent = super.getLogContent();
+			return;
+		}
+		logContent = new LogContentInfo();
+		logContent.setPath(path);
+		logContent.setTotal(Long.toString(total));
+		logContent.setStart(Long.toString(start));
+		logContent.setEnd(Long.toString(end));
+		for (String line : lines) {
+			logContent.addLine(line);
+		}
+	}
+
+	/**
+	 * Request the lines and put them into the cache
+	 * 
+	 * @param fileKey the file key
+	 * @param from the first line number
+	 * @param to the last line number
+	 * @return false if the request failed
+	 */
+	private boolean fetch(String fileKey, long from, long to) {
+		super.setStart(Long.toString(from));
+		super.setEnd(Long.toString(to));
+		super.execute();
+		if (getErrorMsg() != null && getErrorMsg().trim().length() > 0) {
+			return false;
+		}
+		LogContentInfo content = super.getLogContent();
+		if (content == null) {
+			cache.updateTotal(fileKey, 0);
+			return true;
+		}
+		long responseStart = StringUtil.longValue(content.getStart(), from);
+		cache.putLines(fileKey, charsetName, responseStart, content.getLine(),
+				StringUtil.longValue(content.getTotal(), 0));
+		return true;
+	}
+
+	/**
+	 * get result from the cache.
+	 * 
+	 * @return LogContentInfo
+	 */
+	public LogContentInfo getLogContent() {
+		if (getErrorMsg() != null && getErrorMsg().trim().length() > 0) {
+			return null;
+		}
+		return logContent;
+	}
+}
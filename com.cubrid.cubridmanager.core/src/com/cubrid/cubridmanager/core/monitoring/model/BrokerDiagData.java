@@ -29,15 +29,10 @@
  */
 package com.cubrid.cubridmanager.core.monitoring.model;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeMap;
 
-import org.slf4j.Logger;
-
-import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.cubridmanager.core.common.model.IModel;
 
 /**
@@ -49,19 +44,10 @@ import com.cubrid.cubridmanager.core.common.model.IModel;
  */
 public class BrokerDiagData implements
 		IModel {
-	private static final Logger LOGGER = LogUtil.getLogger(DiagStatusResult.class);
 	private String status;
 	private String note;
 	private String bname;
-	private String cas_mon_req;
-	private String cas_mon_act_session;
-	private String cas_mon_session;
-	private String cas_mon_active;
-	private String cas_mon_tran;
-	private String cas_mon_query;
-	private String cas_mon_long_query;
-	private String cas_mon_long_tran;
-	private String cas_mon_error_query;
+	private final CounterVector counters;
 	private final TreeMap<IDiagPara, String> diagStatusResultMap;
 	private List<BrokerDiagData> subBrokerDiagList;
 
@@ -73,30 +59,14 @@ public class BrokerDiagData implements
 	}
 
 	public BrokerDiagData() {
-		cas_mon_req = "0";
-		cas_mon_tran = "0";
-		cas_mon_act_session = "0";
-		cas_mon_session = "0";
-		cas_mon_active = "0";
-		cas_mon_query = "0";
-		cas_mon_long_query = "0";
-		cas_mon_long_tran = "0";
-		cas_mon_error_query = "0";
+		counters = new CounterVector(BrokerDiagEnum.values().length);
 		diagStatusResultMap = new TreeMap<IDiagPara, String>();
 		subBrokerDiagList = new ArrayList<BrokerDiagData>();
 		putVauleInMap();
 	}
 
 	public BrokerDiagData(BrokerDiagData clone) {
-		cas_mon_req = clone.cas_mon_req;
-		cas_mon_tran = clone.cas_mon_tran;
-		cas_mon_act_session = clone.cas_mon_act_session;
-		cas_mon_session = clone.cas_mon_session;
-		cas_mon_active = clone.cas_mon_active;
-		cas_mon_query = clone.cas_mon_query;
-		cas_mon_long_query = clone.cas_mon_long_query;
-		cas_mon_long_tran = clone.cas_mon_long_tran;
-		cas_mon_error_query = clone.cas_mon_error_query;
+		counters = new CounterVector(clone.counters);
 		subBrokerDiagList = clone.getBrokerList();
 		diagStatusResultMap = new TreeMap<IDiagPara, String>();
 		putVauleInMap();
@@ -108,15 +78,7 @@ public class BrokerDiagData implements
 	 * @param clone BrokerDiagData
 	 */
 	public void copyFrom(BrokerDiagData clone) {
-		cas_mon_req = clone.cas_mon_req;
-		cas_mon_tran = clone.cas_mon_tran;
-		cas_mon_act_session = clone.cas_mon_act_session;
-		cas_mon_session = clone.cas_mon_session;
-		cas_mon_active = clone.cas_mon_active;
-		cas_mon_query = clone.cas_mon_query;
-		cas_mon_long_query = clone.cas_mon_long_query;
-		cas_mon_long_tran = clone.cas_mon_long_tran;
-		cas_mon_error_query = clone.cas_mon_error_query;
+		counters.copyFrom(clone.counters);
 		subBrokerDiagList = clone.getBrokerList();
 		putVauleInMap();
 	}
@@ -128,18 +90,14 @@ public class BrokerDiagData implements
 	 * @param dsrB BrokerDiagData
 	 */
 	public void getDelta(BrokerDiagData dsrA, BrokerDiagData dsrB) {
-		cas_mon_req = getDeltaLong(dsrA.cas_mon_req, dsrB.cas_mon_req);
-		cas_mon_query = getDeltaLong(dsrA.cas_mon_query, dsrB.cas_mon_query);
-		cas_mon_tran = getDeltaLong(dsrA.cas_mon_tran, dsrB.cas_mon_tran);
-		cas_mon_act_session = dsrA.cas_mon_act_session;
-		cas_mon_session = dsrA.cas_mon_session;
-		cas_mon_active = dsrA.cas_mon_active;
-		cas_mon_long_query = getDeltaLong(dsrA.cas_mon_long_query,
-				dsrB.cas_mon_long_query);
-		cas_mon_long_tran = getDeltaLong(dsrA.cas_mon_long_tran,
-				dsrB.cas_mon_long_tran);
-		cas_mon_error_query = getDeltaLong(dsrA.cas_mon_error_query,
-				dsrB.cas_mon_error_query);
+		for (BrokerDiagEnum diag : BrokerDiagEnum.values()) {
+			int index = diag.ordinal();
+			if (isGauge(diag)) {
+				counters.copy(index, dsrA.counters);
+			} else {
+				counters.setDelta(index, dsrA.counters, dsrB.counters);
+			}
+		}
 		putVauleInMap();
 	}
 
@@ -153,26 +111,15 @@ public class BrokerDiagData implements
 	 */
 	public void getDelta(BrokerDiagData dsrA, BrokerDiagData dsrB,
 			BrokerDiagData dsrC) {
-		cas_mon_req = getDeltaLong(dsrA, "Cas_mon_req", dsrA.cas_mon_req,
-				dsrB.cas_mon_req, dsrC.cas_mon_req);
-		cas_mon_query = getDeltaLong(dsrA, "Cas_mon_query", dsrA.cas_mon_query,
-				dsrB.cas_mon_query, dsrC.cas_mon_query);
-		cas_mon_tran = getDeltaLong(dsrA, "Cas_mon_tran", dsrA.cas_mon_tran,
-				dsrB.cas_mon_tran, dsrC.cas_mon_tran);
-
-		cas_mon_act_session = dsrA.cas_mon_act_session;
-		cas_mon_session = dsrA.cas_mon_session;
-		cas_mon_active = dsrA.cas_mon_active;
-
-		cas_mon_long_query = getDeltaLong(dsrA, "Cas_mon_long_query",
-				dsrA.cas_mon_long_query, dsrB.cas_mon_long_query,
-				dsrC.cas_mon_long_query);
-		cas_mon_long_tran = getDeltaLong(dsrA, "Cas_mon_long_tran",
-				dsrA.cas_mon_long_tran, dsrB.cas_mon_long_tran,
-				dsrC.cas_mon_long_tran);
-		cas_mon_error_query = getDeltaLong(dsrA, "Cas_mon_error_query",
-				dsrA.cas_mon_error_query, dsrB.cas_mon_error_query,
-				dsrC.cas_mon_error_query);
+		for (BrokerDiagEnum diag : BrokerDiagEnum.values()) {
+			int index = diag.ordinal();
+			if (isGauge(diag)) {
+				counters.copy(index, dsrA.counters);
+			} else {
+				counters.setDelta(index, dsrA.counters, dsrB.counters,
+						dsrC.counters);
+			}
+		}
 		putVauleInMap();
 	}
 
@@ -189,167 +136,58 @@ public class BrokerDiagData implements
 
 	public void getDelta(BrokerDiagData dsrA, BrokerDiagData dsrB,
 			BrokerDiagData dsrC, float inter) {
-		cas_mon_req = getDeltaLong(dsrA, "Cas_mon_req", dsrA.cas_mon_req,
-				dsrB.cas_mon_req, dsrC.cas_mon_req, inter);
-		cas_mon_query = getDeltaLong(dsrA, "Cas_mon_query", dsrA.cas_mon_query,
-				dsrB.cas_mon_query, dsrC.cas_mon_query, inter);
-		cas_mon_tran = getDeltaLong(dsrA, "Cas_mon_tran", dsrA.cas_mon_tran,
-				dsrB.cas_mon_tran, dsrC.cas_mon_tran, inter);
-
-		cas_mon_act_session = dsrA.cas_mon_act_session;
-		cas_mon_session = dsrA.cas_mon_session;
-		cas_mon_active = dsrA.cas_mon_active;
-
-		cas_mon_long_query = getDeltaLong(dsrA, "Cas_mon_long_query",
-				dsrA.cas_mon_long_query, dsrB.cas_mon_long_query,
-				dsrC.cas_mon_long_query, inter);
-		cas_mon_long_tran = getDeltaLong(dsrA, "Cas_mon_long_tran",
-				dsrA.cas_mon_long_tran, dsrB.cas_mon_long_tran,
-				dsrC.cas_mon_long_tran, inter);
-		cas_mon_error_query = getDeltaLong(dsrA, "Cas_mon_error_query",
-				dsrA.cas_mon_error_query, dsrB.cas_mon_error_query,
-				dsrC.cas_mon_error_query, inter);
+		for (BrokerDiagEnum diag : BrokerDiagEnum.values()) {
+			int index = diag.ordinal();
+			if (isGauge(diag)) {
+				counters.copy(index, dsrA.counters);
+			} else {
+				counters.setRate(index, dsrA.counters, dsrB.counters,
+						dsrC.counters, inter);
+			}
+		}
 		putVauleInMap();
 	}
 
 	/**
-	 * Put the new value of fields to map
+	 * Whether the diagnose value is a current value but not an accumulated
+	 * count
 	 * 
+	 * @param diag BrokerDiagEnum
+	 * @return true: the value is not a delta
 	 */
-	private void putVauleInMap() {
-		diagStatusResultMap.put(BrokerDiagEnum.RPS, cas_mon_req);
-		diagStatusResultMap.put(BrokerDiagEnum.TPS, cas_mon_tran);
-		diagStatusResultMap.put(BrokerDiagEnum.ACTIVE_SESSION,
-				cas_mon_act_session);
-		diagStatusResultMap.put(BrokerDiagEnum.SESSION, cas_mon_session);
-		diagStatusResultMap.put(BrokerDiagEnum.ACTIVE, cas_mon_active);
-		diagStatusResultMap.put(BrokerDiagEnum.QPS, cas_mon_query);
-		diagStatusResultMap.put(BrokerDiagEnum.LONG_Q, cas_mon_long_query);
-		diagStatusResultMap.put(BrokerDiagEnum.LONG_T, cas_mon_long_tran);
-		diagStatusResultMap.put(BrokerDiagEnum.ERR_Q, cas_mon_error_query);
+	private static boolean isGauge(BrokerDiagEnum diag) {
+		return diag == BrokerDiagEnum.ACTIVE_SESSION
+				|| diag == BrokerDiagEnum.SESSION
+				|| diag == BrokerDiagEnum.ACTIVE;
 	}
 
 	/**
-	 * Get the long value from given the strings which should be a field of a
-	 * instance of the same type
+	 * Put the new value of fields to map
 	 * 
-	 * @param fieldA the field of a object
-	 * @param fieldB the field of a object
-	 * @return the difference between fieldA and fieldB in value
-	 */
-	private String getDeltaLong(String fieldA, String fieldB) {
-		String result = "";
-		try {
-			result = String.valueOf(Long.parseLong(fieldA)
-					- Long.parseLong(fieldB));
-		} catch (NumberFormatException ee) {
-			result = "0";
+	 */
+	private void putVauleInMap() {
+		for (BrokerDiagEnum diag : BrokerDiagEnum.values()) {
+			diagStatusResultMap.put(diag, counters.getText(diag.ordinal()));
 		}
-		return result;
 	}
 
 	/**
-	 * Get the long value from given the strings which should be a field of a
-	 * instance of the same type
+	 * Get the counters indexed by the ordinal of BrokerDiagEnum
 	 * 
-	 * @param fieldA the field of a object
-	 * @param fieldB the field of a object
-	 * @param fieldC the field of a object
-	 * @param object the object of this type
-	 * @param fieldName the field name but the initial character should be
-	 *        capital
-	 * @return a field of this object
-	 */
-	private String getDeltaLong(BrokerDiagData object, String fieldName,
-			String fieldA, String fieldB, String fieldC) {
-		String result = "";
-		try {
-			if (Long.parseLong(fieldA) < 0 && Long.parseLong(fieldB) > 0) {
-				long partA = Long.MAX_VALUE - Long.parseLong(fieldB);
-				long partB = Long.parseLong(fieldA) - Long.MIN_VALUE;
-				result = String.valueOf(partA + partB);
-			} else {
-				result = String.valueOf(Long.parseLong(fieldA)
-						- Long.parseLong(fieldB));
-				if (Long.parseLong(result) < 0) {
-					result = String.valueOf(Long.parseLong(fieldB)
-							- Long.parseLong(fieldC));
-					long aValue = Long.parseLong(fieldB)
-							+ Long.parseLong(result);
-					Class<?> cc = BrokerDiagData.class;
-					Method mm = cc.getMethod("set" + fieldName,
-							new Class[]{String.class });
-					mm.invoke(object, Long.toString(aValue));
-				}
-			}
-
-		} catch (NumberFormatException ee) {
-			result = "0";
-		} catch (SecurityException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalArgumentException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalAccessException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (NoSuchMethodException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (InvocationTargetException ex) {
-			LOGGER.error(ex.getMessage());
-		}
-		return result;
+	 * @return the counters
+	 */
+	public CounterVector getCounters() {
+		return counters;
 	}
 
 	/**
-	 * Get the long value from given the strings which should be a field of a
-	 * instance of the same type
+	 * Get the value of the diagnose
 	 * 
-	 * @param object a field of this object
-	 * @param fieldName the field name but the initial character should be
-	 *        capital
-	 * @param fieldA the field of a object
-	 * @param fieldB the field of a object
-	 * @param fieldC the field of a object
-	 * @param inter float
-	 * @return String
-	 */
-	private String getDeltaLong(BrokerDiagData object, String fieldName,
-			String fieldA, String fieldB, String fieldC, float inter) {
-		String result = "";
-		try {
-			long temp = 0;
-			if (Long.parseLong(fieldA) < 0 && Long.parseLong(fieldB) > 0) {
-				long partA = Long.MAX_VALUE - Long.parseLong(fieldB);
-				long partB = Long.parseLong(fieldA) - Long.MIN_VALUE;
-				temp = partA + partB;
-			} else {
-				temp = Long.parseLong(fieldA) - Long.parseLong(fieldB);
-				if (temp < 0) {
-					temp = Long.parseLong(fieldB) - Long.parseLong(fieldC);
-					long aValue = (Long.parseLong(fieldB) + temp);
-					Class<?> cc = BrokerDiagData.class;
-					Method mm = cc.getMethod("set" + fieldName,
-							new Class[]{String.class });
-					mm.invoke(object, Long.toString(aValue));
-				}
-			}
-			LOGGER.debug(fieldName + "(before divided by interval) = " + temp);
-			temp = (long) (temp / inter);
-			result = String.valueOf(temp);
-			LOGGER.debug(fieldName + "(after divided by interval) = " + result);
-		} catch (NumberFormatException ee) {
-			result = "0";
-		} catch (SecurityException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (NoSuchMethodException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalArgumentException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalAccessException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (InvocationTargetException ex) {
-			LOGGER.error(ex.getMessage());
-		}
-		return result;
+	 * @param diag BrokerDiagEnum
+	 * @return the value, zero if it is not a number
+	 */
+	public long getValue(BrokerDiagEnum diag) {
+		return counters.get(diag.ordinal());
 	}
 
 	/**
@@ -409,14 +247,14 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_req
 	 */
 	public String getCas_mon_req() {
-		return cas_mon_req;
+		return counters.getText(BrokerDiagEnum.RPS.ordinal());
 	}
 
 	/**
 	 * @param casMonReq the cas_mon_req to set
 	 */
 	public void setCas_mon_req(String casMonReq) {
-		cas_mon_req = casMonReq;
+		counters.setText(BrokerDiagEnum.RPS.ordinal(), casMonReq);
 	}
 
 	/**
@@ -425,14 +263,15 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_act_session
 	 */
 	public String getCas_mon_act_session() {
-		return cas_mon_act_session;
+		return counters.getText(BrokerDiagEnum.ACTIVE_SESSION.ordinal());
 	}
 
 	/**
 	 * @param casMonActSession the cas_mon_act_session to set
 	 */
 	public void setCas_mon_act_session(String casMonActSession) {
-		cas_mon_act_session = casMonActSession;
+		counters.setText(BrokerDiagEnum.ACTIVE_SESSION.ordinal(),
+				casMonActSession);
 	}
 
 	/**
@@ -441,14 +280,14 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_tran
 	 */
 	public String getCas_mon_tran() {
-		return cas_mon_tran;
+		return counters.getText(BrokerDiagEnum.TPS.ordinal());
 	}
 
 	/**
 	 * @param casMonTran the cas_mon_tran to set
 	 */
 	public void setCas_mon_tran(String casMonTran) {
-		cas_mon_tran = casMonTran;
+		counters.setText(BrokerDiagEnum.TPS.ordinal(), casMonTran);
 	}
 
 	/**
@@ -457,14 +296,14 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_query
 	 */
 	public String getCas_mon_query() {
-		return cas_mon_query;
+		return counters.getText(BrokerDiagEnum.QPS.ordinal());
 	}
 
 	/**
 	 * @param casMonQuery the cas_mon_query to set
 	 */
 	public void setCas_mon_query(String casMonQuery) {
-		cas_mon_query = casMonQuery;
+		counters.setText(BrokerDiagEnum.QPS.ordinal(), casMonQuery);
 	}
 
 	/**
@@ -473,14 +312,14 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_long_query
 	 */
 	public String getCas_mon_long_query() {
-		return cas_mon_long_query;
+		return counters.getText(BrokerDiagEnum.LONG_Q.ordinal());
 	}
 
 	/**
 	 * @param casMonLongQuery the cas_mon_long_query to set
 	 */
 	public void setCas_mon_long_query(String casMonLongQuery) {
-		cas_mon_long_query = casMonLongQuery;
+		counters.setText(BrokerDiagEnum.LONG_Q.ordinal(), casMonLongQuery);
 	}
 
 	/**
@@ -489,7 +328,7 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_long_tran
 	 */
 	public String getCas_mon_long_tran() {
-		return cas_mon_long_tran;
+		return counters.getText(BrokerDiagEnum.LONG_T.ordinal());
 	}
 
 	/**
@@ -497,7 +336,7 @@ public class BrokerDiagData implements
 	 * @param casMonLongTran the cas_mon_long_tran to set
 	 */
 	public void setCas_mon_long_tran(String casMonLongTran) {
-		cas_mon_long_tran = casMonLongTran;
+		counters.setText(BrokerDiagEnum.LONG_T.ordinal(), casMonLongTran);
 	}
 
 	/**
@@ -506,14 +345,14 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_error_query
 	 */
 	public String getCas_mon_error_query() {
-		return cas_mon_error_query;
+		return counters.getText(BrokerDiagEnum.ERR_Q.ordinal());
 	}
 
 	/**
 	 * @param casMonErrorQuery the cas_mon_error_query to set
 	 */
 	public void setCas_mon_error_query(String casMonErrorQuery) {
-		cas_mon_error_query = casMonErrorQuery;
+		counters.setText(BrokerDiagEnum.ERR_Q.ordinal(), casMonErrorQuery);
 	}
 
 	/**
@@ -522,14 +361,14 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_session
 	 */
 	public String getCas_mon_session() {
-		return cas_mon_session;
+		return counters.getText(BrokerDiagEnum.SESSION.ordinal());
 	}
 
 	/**
 	 * @param casMonSession the cas_mon_session to set
 	 */
 	public void setCas_mon_session(String casMonSession) {
-		cas_mon_session = casMonSession;
+		counters.setText(BrokerDiagEnum.SESSION.ordinal(), casMonSession);
 	}
 
 	/**
@@ -538,14 +377,14 @@ public class BrokerDiagData implements
 	 * @return the cas_mon_active
 	 */
 	public String getCas_mon_active() {
-		return cas_mon_active;
+		return counters.getText(BrokerDiagEnum.ACTIVE.ordinal());
 	}
 
 	/**
 	 * @param casMonActive the cas_mon_active to set
 	 */
 	public void setCas_mon_active(String casMonActive) {
-		cas_mon_active = casMonActive;
+		counters.setText(BrokerDiagEnum.ACTIVE.ordinal(), casMonActive);
 	}
 
 	/**
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search Solution.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmanager.core.monitoring.model;
+
+/**
+ * A vector of monitoring counters indexed by the ordinal of the diagnose
+ * enumeration. The values are kept as long and the delta and rate between
+ * the samples are computed without parsing or allocation. The text of a
+ * value is kept as a view for the String getters of the models, it is the
+ * original text if the value was set from a text.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class CounterVector {
+	private final long[] values;
+	private final String[] texts;
+	private final boolean[] numbers;
+	private final boolean[] intRanges;
+
+	/**
+	 * Create the vector with all the values zero
+	 * 
+	 * @param size the count of counters
+	 * @param intIndexes the indexes of the counters in int range
+	 */
+	public CounterVector(int size, int... intIndexes) {
+		values = new long[size];
+		texts = new String[size];
+		numbers = new boolean[size];
+		intRanges = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			numbers[i] = true;
+		}
+		for (int index : intIndexes) {
+			intRanges[index] = true;
+		}
+	}
+
+	public CounterVector(CounterVector clone) {
+		values = clone.values.clone();
+		texts = clone.texts.clone();
+		numbers = clone.numbers.clone();
+		intRanges = clone.intRanges;
+	}
+
+	/**
+	 * Get the clone value from the given vector
+	 * 
+	 * @param clone CounterVector
+	 */
+	public void copyFrom(CounterVector clone) {
+		System.arraycopy(clone.values, 0, values, 0, values.length);
+		System.arraycopy(clone.texts, 0, texts, 0, texts.length);
+		System.arraycopy(clone.numbers, 0, numbers, 0, numbers.length);
+	}
+
+	/**
+	 * Get the count of counters
+	 * 
+	 * @return the size
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Get the value, it is zero if the text is not a number
+	 * 
+	 * @param index the index of counter
+	 * @return the value
+	 */
+	public long get(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Whether the value is a number
+	 * 
+	 * @param index the index of counter
+	 * @return true: the value is a number
+	 */
+	public boolean isNumber(int index) {
+		return numbers[index];
+	}
+
+	/**
+	 * Set the value
+	 * 
+	 * @param index the index of counter
+	 * @param value the value
+	 */
+	public void set(int index, long value) {
+		values[index] = value;
+		texts[index] = null;
+		numbers[index] = true;
+	}
+
+	/**
+	 * Get the text of value
+	 * 
+	 * @param index the index of counter
+	 * @return the text
+	 */
+	public String getText(int index) {
+		if (texts[index] == null && numbers[index]) {
+			texts[index] = String.valueOf(values[index]);
+		}
+		return texts[index];
+	}
+
+	/**
+	 * Set the value from the text, the text is parsed only once here
+	 * 
+	 * @param index the index of counter
+	 * @param text the text
+	 */
+	public void setText(int index, String text) {
+		texts[index] = text;
+		try {
+			values[index] = intRanges[index] ? Integer.parseInt(text)
+					: Long.parseLong(text);
+			numbers[index] = true;
+		} catch (NumberFormatException ex) {
+			values[index] = 0;
+			numbers[index] = false;
+		}
+	}
+
+	/**
+	 * Copy the value from the same counter of the other vector
+	 * 
+	 * @param index the index of counter
+	 * @param from the other vector
+	 */
+	public void copy(int index, CounterVector from) {
+		values[index] = from.values[index];
+		texts[index] = from.texts[index];
+		numbers[index] = from.numbers[index];
+	}
+
+	/**
+	 * Set the value to the difference between two samples, it is zero if one
+	 * of them is not a number
+	 * 
+	 * @param index the index of counter
+	 * @param vecA the latest sample
+	 * @param vecB the previous sample
+	 */
+	public void setDelta(int index, CounterVector vecA, CounterVector vecB) {
+		if (!vecA.numbers[index] || !vecB.numbers[index]) {
+			set(index, 0);
+			return;
+		}
+		long delta = vecA.values[index] - vecB.values[index];
+		set(index, intRanges[index] ? (int) delta : delta);
+	}
+
+	/**
+	 * Set the value to the difference between the latest two samples. If the
+	 * counter is wrapped around, the difference is got over the maximum
+	 * value. If the counter is reset, the previous difference is used and the
+	 * latest sample is fixed as the previous sample plus it.
+	 * 
+	 * @param index the index of counter
+	 * @param vecA the latest sample
+	 * @param vecB the previous sample
+	 * @param vecC the sample before the previous sample
+	 */
+	public void setDelta(int index, CounterVector vecA, CounterVector vecB,
+			CounterVector vecC) {
+		if (computeDelta(index, vecA, vecB, vecC)) {
+			numbers[index] = true;
+			texts[index] = null;
+		} else {
+			set(index, 0);
+		}
+	}
+
+	/**
+	 * Set the value to the difference between the latest two samples divided
+	 * by the interval, the difference is got as
+	 * {@link #setDelta(int, CounterVector, CounterVector, CounterVector)}
+	 * 
+	 * @param index the index of counter
+	 * @param vecA the latest sample
+	 * @param vecB the previous sample
+	 * @param vecC the sample before the previous sample
+	 * @param inter the interval between the latest two samples in second
+	 */
+	public void setRate(int index, CounterVector vecA, CounterVector vecB,
+			CounterVector vecC, float inter) {
+		if (computeDelta(index, vecA, vecB, vecC)) {
+			set(index, intRanges[index] ? (int) (values[index] / inter)
+					: (long) (values[index] / inter));
+		} else {
+			set(index, 0);
+		}
+	}
+
+	/**
+	 * Compute the difference between the latest two samples into the value
+	 * 
+	 * @param index the index of counter
+	 * @param vecA the latest sample
+	 * @param vecB the previous sample
+	 * @param vecC the sample before the previous sample
+	 * @return false if the samples are not numbers
+	 */
+	private boolean computeDelta(int index, CounterVector vecA,
+			CounterVector vecB, CounterVector vecC) {
+		if (!vecA.numbers[index] || !vecB.numbers[index]) {
+			return false;
+		}
+		boolean isInt = intRanges[index];
+		long valueA = vecA.values[index];
+		long valueB = vecB.values[index];
+		if (valueA < 0 && valueB > 0) {
+			long max = isInt ? Integer.MAX_VALUE : Long.MAX_VALUE;
+			long min = isInt ? Integer.MIN_VALUE : Long.MIN_VALUE;
+			long delta = (max - valueB) + (valueA - min);
+			values[index] = isInt ? (int) delta : delta;
+			return true;
+		}
+		long delta = isInt ? (int) (valueA - valueB) : valueA - valueB;
+		if (delta < 0) {
+			if (!vecC.numbers[index]) {
+				return false;
+			}
+			delta = valueB - vecC.values[index];
+			delta = isInt ? (int) delta : delta;
+			long fixed = valueB + delta;
+			vecA.set(index, isInt ? (int) fixed : fixed);
+		}
+		values[index] = delta;
+		return true;
+	}
+}
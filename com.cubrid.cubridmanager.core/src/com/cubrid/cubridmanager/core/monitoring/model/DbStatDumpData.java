@@ -29,13 +29,8 @@
  */
 package com.cubrid.cubridmanager.core.monitoring.model;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.TreeMap;
 
-import org.slf4j.Logger;
-
-import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.cubridmanager.core.common.model.IModel;
 
 /**
@@ -46,62 +41,10 @@ import com.cubrid.cubridmanager.core.common.model.IModel;
  */
 public class DbStatDumpData implements
 		IModel {
-	private static final Logger LOGGER = LogUtil.getLogger(DiagStatusResult.class);
 	private String status;
 	private String note;
 	private String dbname;
-	private String num_file_removes;
-	private String num_file_creates;
-	private String num_file_ioreads;
-	private String num_file_iowrites;
-	private String num_file_iosynches;
-
-	private String num_data_page_fetches;
-	private String num_data_page_dirties;
-	private String num_data_page_ioreads;
-	private String num_data_page_iowrites;
-
-	private String num_log_page_ioreads;
-	private String num_log_page_iowrites;
-	private String num_log_append_records;
-	private String num_log_archives;
-	private String num_log_checkpoints;
-
-	private String num_page_locks_acquired;
-	private String num_object_locks_acquired;
-	private String num_page_locks_converted;
-	private String num_object_locks_converted;
-	private String num_page_locks_re_requested;
-	private String num_object_locks_re_requested;
-	private String num_page_locks_waits;
-	private String num_object_locks_waits;
-
-	private String num_tran_commits;
-	private String num_tran_rollbacks;
-	private String num_tran_savepoints;
-	private String num_tran_start_topops;
-	private String num_tran_end_topops;
-	private String num_tran_interrupts;
-
-	private String num_btree_inserts;
-	private String num_btree_deletes;
-	private String num_btree_updates;
-
-	private String num_query_selects;
-	private String num_query_inserts;
-	private String num_query_deletes;
-	private String num_query_updates;
-	private String num_query_sscans;
-	private String num_query_iscans;
-	private String num_query_lscans;
-	private String num_query_setscans;
-	private String num_query_methscans;
-	private String num_query_nljoins;
-	private String num_query_mjoins;
-	private String num_query_objfetches;
-
-	private String num_network_requests;
-	private String data_page_buffer_hit_ratio;
+	private final CounterVector counters;
 
 	private TreeMap<IDiagPara, String> diagStatusResultMap;
 
@@ -113,117 +56,15 @@ public class DbStatDumpData implements
 	}
 
 	public DbStatDumpData() {
-		num_file_removes = "0";
-		num_file_creates = "0";
-		num_file_ioreads = "0";
-		num_file_iowrites = "0";
-		num_file_iosynches = "0";
-
-		num_data_page_fetches = "0";
-		num_data_page_dirties = "0";
-		num_data_page_ioreads = "0";
-		num_data_page_iowrites = "0";
-
-		num_log_page_ioreads = "0";
-		num_log_page_iowrites = "0";
-		num_log_append_records = "0";
-		num_log_archives = "0";
-		num_log_checkpoints = "0";
-
-		num_page_locks_acquired = "0";
-		num_object_locks_acquired = "0";
-		num_page_locks_converted = "0";
-		num_object_locks_converted = "0";
-		num_page_locks_re_requested = "0";
-		num_object_locks_re_requested = "0";
-		num_page_locks_waits = "0";
-		num_object_locks_waits = "0";
-
-		num_tran_commits = "0";
-		num_tran_rollbacks = "0";
-		num_tran_savepoints = "0";
-		num_tran_start_topops = "0";
-		num_tran_end_topops = "0";
-		num_tran_interrupts = "0";
-
-		num_btree_inserts = "0";
-		num_btree_deletes = "0";
-		num_btree_updates = "0";
-
-		num_query_selects = "0";
-		num_query_inserts = "0";
-		num_query_deletes = "0";
-		num_query_updates = "0";
-		num_query_sscans = "0";
-		num_query_iscans = "0";
-		num_query_lscans = "0";
-		num_query_setscans = "0";
-		num_query_methscans = "0";
-		num_query_nljoins = "0";
-		num_query_mjoins = "0";
-		num_query_objfetches = "0";
-
-		num_network_requests = "0";
-		data_page_buffer_hit_ratio = "0";
-
+		counters = new CounterVector(DbStatDumpEnum.values().length);
 		diagStatusResultMap = new TreeMap<IDiagPara, String>();
 		putVauleInMap();
 	}
 
 	public DbStatDumpData(DbStatDumpData clone) {
 		super();
-		num_file_removes = clone.num_file_removes;
-		num_file_creates = clone.num_file_creates;
-		num_file_ioreads = clone.num_file_ioreads;
-		num_file_iowrites = clone.num_file_iowrites;
-		num_file_iosynches = clone.num_file_iosynches;
-
-		num_data_page_fetches = clone.num_data_page_fetches;
-		num_data_page_dirties = clone.num_data_page_dirties;
-		num_data_page_ioreads = clone.num_data_page_ioreads;
-		num_data_page_iowrites = clone.num_data_page_iowrites;
-
-		num_log_page_ioreads = clone.num_log_page_ioreads;
-		num_log_page_iowrites = clone.num_log_page_iowrites;
-		num_log_append_records = clone.num_log_append_records;
-		num_log_archives = clone.num_log_archives;
-		num_log_checkpoints = clone.num_log_checkpoints;
-
-		num_page_locks_acquired = clone.num_page_locks_acquired;
-		num_object_locks_acquired = clone.num_object_locks_acquired;
-		num_page_locks_converted = clone.num_page_locks_converted;
-		num_object_locks_converted = clone.num_object_locks_converted;
-		num_page_locks_re_requested = clone.num_page_locks_re_requested;
-		num_object_locks_re_requested = clone.num_object_locks_re_requested;
-		num_page_locks_waits = clone.num_page_locks_waits;
-		num_object_locks_waits = clone.num_object_locks_waits;
-
-		num_tran_commits = clone.num_tran_commits;
-		num_tran_rollbacks = clone.num_tran_rollbacks;
-		num_tran_savepoints = clone.num_tran_savepoints;
-		num_tran_start_topops = clone.num_tran_start_topops;
-		num_tran_end_topops = clone.num_tran_end_topops;
-		num_tran_interrupts = clone.num_tran_interrupts;
-
-		num_btree_inserts = clone.num_btree_inserts;
-		num_btree_deletes = clone.num_btree_deletes;
-		num_btree_updates = clone.num_btree_updates;
-
-		num_query_selects = clone.num_query_selects;
-		num_query_inserts = clone.num_query_inserts;
-		num_query_deletes = clone.num_query_deletes;
-		num_query_updates = clone.num_query_updates;
-		num_query_sscans = clone.num_query_sscans;
-		num_query_iscans = clone.num_query_iscans;
-		num_query_lscans = clone.num_query_lscans;
-		num_query_setscans = clone.num_query_setscans;
-		num_query_methscans = clone.num_query_methscans;
-		num_query_nljoins = clone.num_query_nljoins;
-		num_query_mjoins = clone.num_query_mjoins;
-		num_query_objfetches = clone.num_query_objfetches;
-
-		num_network_requests = clone.num_network_requests;
-		data_page_buffer_hit_ratio = clone.data_page_buffer_hit_ratio;
+		counters = new CounterVector(clone.counters);
+		diagStatusResultMap = new TreeMap<IDiagPara, String>();
 	}
 
 	/**
@@ -232,58 +73,7 @@ public class DbStatDumpData implements
 	 * @param clone DiagStatusResult
 	 */
 	public void copy_from(DbStatDumpData clone) {
-		num_file_removes = clone.num_file_removes;
-		num_file_creates = clone.num_file_creates;
-		num_file_ioreads = clone.num_file_ioreads;
-		num_file_iowrites = clone.num_file_iowrites;
-		num_file_iosynches = clone.num_file_iosynches;
-
-		num_data_page_fetches = clone.num_data_page_fetches;
-		num_data_page_dirties = clone.num_data_page_dirties;
-		num_data_page_ioreads = clone.num_data_page_ioreads;
-		num_data_page_iowrites = clone.num_data_page_iowrites;
-
-		num_log_page_ioreads = clone.num_log_page_ioreads;
-		num_log_page_iowrites = clone.num_log_page_iowrites;
-		num_log_append_records = clone.num_log_append_records;
-		num_log_archives = clone.num_log_archives;
-		num_log_checkpoints = clone.num_log_checkpoints;
-
-		num_page_locks_acquired = clone.num_page_locks_acquired;
-		num_object_locks_acquired = clone.num_object_locks_acquired;
-		num_page_locks_converted = clone.num_page_locks_converted;
-		num_object_locks_converted = clone.num_object_locks_converted;
-		num_page_locks_re_requested = clone.num_page_locks_re_requested;
-		num_object_locks_re_requested = clone.num_object_locks_re_requested;
-		num_page_locks_waits = clone.num_page_locks_waits;
-		num_object_locks_waits = clone.num_object_locks_waits;
-
-		num_tran_commits = clone.num_tran_commits;
-		num_tran_rollbacks = clone.num_tran_rollbacks;
-		num_tran_savepoints = clone.num_tran_savepoints;
-		num_tran_start_topops = clone.num_tran_start_topops;
-		num_tran_end_topops = clone.num_tran_end_topops;
-		num_tran_interrupts = clone.num_tran_interrupts;
-
-		num_btree_inserts = clone.num_btree_inserts;
-		num_btree_deletes = clone.num_btree_deletes;
-		num_btree_updates = clone.num_btree_updates;
-
-		num_query_selects = clone.num_query_selects;
-		num_query_inserts = clone.num_query_inserts;
-		num_query_deletes = clone.num_query_deletes;
-		num_query_updates = clone.num_query_updates;
-		num_query_sscans = clone.num_query_sscans;
-		num_query_iscans = clone.num_query_iscans;
-		num_query_lscans = clone.num_query_lscans;
-		num_query_setscans = clone.num_query_setscans;
-		num_query_methscans = clone.num_query_methscans;
-		num_query_nljoins = clone.num_query_nljoins;
-		num_query_mjoins = clone.num_query_mjoins;
-		num_query_objfetches = clone.num_query_objfetches;
-
-		num_network_requests = clone.num_network_requests;
-		data_page_buffer_hit_ratio = clone.data_page_buffer_hit_ratio;
+		counters.copyFrom(clone.counters);
 	}
 
 	/**
@@ -293,106 +83,14 @@ public class DbStatDumpData implements
 	 * @param dsrB DbStatDumpData
 	 */
 	public void getDelta(DbStatDumpData dsrA, DbStatDumpData dsrB) {
-
-		num_file_removes = getDeltaLong(dsrA.num_file_removes,
-				dsrB.num_file_removes);
-		num_file_creates = getDeltaLong(dsrA.num_file_creates,
-				dsrB.num_file_creates);
-		num_file_ioreads = getDeltaLong(dsrA.num_file_ioreads,
-				dsrB.num_file_ioreads);
-		num_file_iowrites = getDeltaLong(dsrA.num_file_iowrites,
-				dsrB.num_file_iowrites);
-		num_file_iosynches = getDeltaLong(dsrA.num_file_iosynches,
-				dsrB.num_file_iosynches);
-
-		num_data_page_fetches = getDeltaLong(dsrA.num_data_page_fetches,
-				dsrB.num_data_page_fetches);
-		num_data_page_dirties = getDeltaLong(dsrA.num_data_page_dirties,
-				dsrB.num_data_page_dirties);
-		num_data_page_ioreads = getDeltaLong(dsrA.num_data_page_ioreads,
-				dsrB.num_data_page_ioreads);
-		num_data_page_iowrites = getDeltaLong(dsrA.num_data_page_iowrites,
-				dsrB.num_data_page_iowrites);
-
-		num_log_page_ioreads = getDeltaLong(dsrA.num_log_page_ioreads,
-				dsrB.num_log_page_ioreads);
-		num_log_page_iowrites = getDeltaLong(dsrA.num_log_page_iowrites,
-				dsrB.num_log_page_iowrites);
-		num_log_append_records = getDeltaLong(dsrA.num_log_append_records,
-				dsrB.num_log_append_records);
-		num_log_archives = getDeltaLong(dsrA.num_log_archives,
-				dsrB.num_log_archives);
-		num_log_checkpoints = getDeltaLong(dsrA.num_log_checkpoints,
-				dsrB.num_log_checkpoints);
-
-		num_page_locks_acquired = getDeltaLong(dsrA.num_page_locks_acquired,
-				dsrB.num_page_locks_acquired);
-		num_object_locks_acquired = getDeltaLong(
-				dsrA.num_object_locks_acquired, dsrB.num_object_locks_acquired);
-		num_page_locks_converted = getDeltaLong(dsrA.num_page_locks_converted,
-				dsrB.num_page_locks_converted);
-		num_object_locks_converted = getDeltaLong(
-				dsrA.num_object_locks_converted,
-				dsrB.num_object_locks_converted);
-		num_page_locks_re_requested = getDeltaLong(
-				dsrA.num_page_locks_re_requested,
-				dsrB.num_page_locks_re_requested);
-		num_object_locks_re_requested = getDeltaLong(
-				dsrA.num_object_locks_re_requested,
-				dsrB.num_object_locks_re_requested);
-		num_page_locks_waits = getDeltaLong(dsrA.num_page_locks_waits,
-				dsrB.num_file_removes);
-		num_object_locks_waits = getDeltaLong(dsrA.num_object_locks_waits,
-				dsrB.num_object_locks_waits);
-
-		num_tran_commits = getDeltaLong(dsrA.num_tran_commits,
-				dsrB.num_tran_commits);
-		num_tran_rollbacks = getDeltaLong(dsrA.num_tran_rollbacks,
-				dsrB.num_tran_rollbacks);
-		num_tran_savepoints = getDeltaLong(dsrA.num_tran_savepoints,
-				dsrB.num_tran_savepoints);
-		num_tran_start_topops = getDeltaLong(dsrA.num_tran_start_topops,
-				dsrB.num_tran_start_topops);
-		num_tran_end_topops = getDeltaLong(dsrA.num_tran_end_topops,
-				dsrB.num_tran_end_topops);
-		num_tran_interrupts = getDeltaLong(dsrA.num_tran_interrupts,
-				dsrB.num_tran_interrupts);
-
-		num_btree_inserts = getDeltaLong(dsrA.num_btree_inserts,
-				dsrB.num_btree_inserts);
-		num_btree_deletes = getDeltaLong(dsrA.num_btree_deletes,
-				dsrB.num_btree_deletes);
-		num_btree_updates = getDeltaLong(dsrA.num_btree_updates,
-				dsrB.num_btree_updates);
-
-		num_query_selects = getDeltaLong(dsrA.num_query_selects,
-				dsrB.num_query_selects);
-		num_query_inserts = getDeltaLong(dsrA.num_query_inserts,
-				dsrB.num_query_inserts);
-		num_query_deletes = getDeltaLong(dsrA.num_query_deletes,
-				dsrB.num_query_deletes);
-		num_query_updates = getDeltaLong(dsrA.num_query_updates,
-				dsrB.num_query_updates);
-		num_query_sscans = getDeltaLong(dsrA.num_query_sscans,
-				dsrB.num_query_sscans);
-		num_query_iscans = getDeltaLong(dsrA.num_query_iscans,
-				dsrB.num_query_iscans);
-		num_query_lscans = getDeltaLong(dsrA.num_query_lscans,
-				dsrB.num_query_lscans);
-		num_query_setscans = getDeltaLong(dsrA.num_query_setscans,
-				dsrB.num_query_setscans);
-		num_query_methscans = getDeltaLong(dsrA.num_query_methscans,
-				dsrB.num_query_methscans);
-		num_query_nljoins = getDeltaLong(dsrA.num_query_nljoins,
-				dsrB.num_query_nljoins);
-		num_query_mjoins = getDeltaLong(dsrA.num_query_mjoins,
-				dsrB.num_query_mjoins);
-		num_query_objfetches = getDeltaLong(dsrA.num_query_objfetches,
-				dsrB.num_query_objfetches);
-
-		num_network_requests = getDeltaLong(dsrA.num_network_requests,
-				dsrB.num_network_requests);
-		data_page_buffer_hit_ratio = dsrA.data_page_buffer_hit_ratio;
+		for (DbStatDumpEnum diag : DbStatDumpEnum.values()) {
+			int index = diag.ordinal();
+			if (diag == DbStatDumpEnum.data_page_buffer_hit_ratio) {
+				counters.copy(index, dsrA.counters);
+			} else {
+				counters.setDelta(index, dsrA.counters, dsrB.counters);
+			}
+		}
 		putVauleInMap();
 	}
 
@@ -406,154 +104,15 @@ public class DbStatDumpData implements
 	 */
 	public void getDelta(DbStatDumpData dsrA, DbStatDumpData dsrB,
 			DbStatDumpData dsrC) {
-
-		num_file_removes = getDeltaLong(dsrA, "Num_file_opens",
-				dsrA.num_file_removes, dsrB.num_file_removes,
-				dsrC.num_file_removes);
-		num_file_creates = getDeltaLong(dsrA, "Num_file_creates",
-				dsrA.num_file_creates, dsrB.num_file_creates,
-				dsrC.num_file_creates);
-		num_file_ioreads = getDeltaLong(dsrA, "Num_file_ioreads",
-				dsrA.num_file_ioreads, dsrB.num_file_ioreads,
-				dsrC.num_file_ioreads);
-		num_file_iowrites = getDeltaLong(dsrA, "Num_file_iowrites",
-				dsrA.num_file_iowrites, dsrB.num_file_iowrites,
-				dsrC.num_file_iowrites);
-		num_file_iosynches = getDeltaLong(dsrA, "Num_file_iosynches",
-				dsrA.num_file_iosynches, dsrB.num_file_iosynches,
-				dsrC.num_file_iosynches);
-
-		num_data_page_fetches = getDeltaLong(dsrA, "Num_data_page_fetches",
-				dsrA.num_data_page_fetches, dsrB.num_data_page_fetches,
-				dsrC.num_data_page_fetches);
-		num_data_page_dirties = getDeltaLong(dsrA, "Num_data_page_dirties",
-				dsrA.num_data_page_dirties, dsrB.num_data_page_dirties,
-				dsrC.num_data_page_dirties);
-		num_data_page_ioreads = getDeltaLong(dsrA, "Num_data_page_ioreads",
-				dsrA.num_data_page_ioreads, dsrB.num_data_page_ioreads,
-				dsrC.num_data_page_ioreads);
-		num_data_page_iowrites = getDeltaLong(dsrA, "Num_data_page_iowrites",
-				dsrA.num_data_page_iowrites, dsrB.num_data_page_iowrites,
-				dsrC.num_data_page_iowrites);
-
-		num_log_page_ioreads = getDeltaLong(dsrA, "Num_log_page_ioreads",
-				dsrA.num_log_page_ioreads, dsrB.num_log_page_ioreads,
-				dsrC.num_log_page_ioreads);
-		num_log_page_iowrites = getDeltaLong(dsrA, "Num_log_page_iowrites",
-				dsrA.num_log_page_iowrites, dsrB.num_log_page_iowrites,
-				dsrC.num_log_page_iowrites);
-		num_log_append_records = getDeltaLong(dsrA, "Num_log_append_records",
-				dsrA.num_log_append_records, dsrB.num_log_append_records,
-				dsrC.num_log_append_records);
-		num_log_archives = getDeltaLong(dsrA, "Num_log_archives",
-				dsrA.num_log_archives, dsrB.num_log_archives,
-				dsrC.num_log_archives);
-		num_log_checkpoints = getDeltaLong(dsrA, "Num_log_checkpoints",
-				dsrA.num_log_checkpoints, dsrB.num_log_checkpoints,
-				dsrC.num_log_checkpoints);
-
-		num_page_locks_acquired = getDeltaLong(dsrA, "Num_page_locks_acquired",
-				dsrA.num_page_locks_acquired, dsrB.num_page_locks_acquired,
-				dsrC.num_page_locks_acquired);
-		num_object_locks_acquired = getDeltaLong(dsrA,
-				"Num_object_locks_acquired", dsrA.num_object_locks_acquired,
-				dsrB.num_object_locks_acquired, dsrC.num_object_locks_acquired);
-		num_page_locks_converted = getDeltaLong(dsrA,
-				"Num_page_locks_converted", dsrA.num_page_locks_converted,
-				dsrB.num_page_locks_converted, dsrC.num_page_locks_converted);
-		num_object_locks_converted = getDeltaLong(dsrA,
-				"Num_object_locks_converted", dsrA.num_object_locks_converted,
-				dsrB.num_object_locks_converted,
-				dsrC.num_object_locks_converted);
-		num_page_locks_re_requested = getDeltaLong(dsrA,
-				"Num_page_locks_re_requested",
-				dsrA.num_page_locks_re_requested,
-				dsrB.num_page_locks_re_requested,
-				dsrC.num_page_locks_re_requested);
-		num_object_locks_re_requested = getDeltaLong(dsrA,
-				"Num_object_locks_re_requested",
-				dsrA.num_object_locks_re_requested,
-				dsrB.num_object_locks_re_requested,
-				dsrC.num_object_locks_re_requested);
-		num_page_locks_waits = getDeltaLong(dsrA, "Num_page_locks_waits",
-				dsrA.num_page_locks_waits, dsrB.num_page_locks_waits,
-				dsrC.num_page_locks_waits);
-		num_object_locks_waits = getDeltaLong(dsrA, "Num_object_locks_waits",
-				dsrA.num_object_locks_waits, dsrB.num_object_locks_waits,
-				dsrC.num_object_locks_waits);
-
-		num_tran_commits = getDeltaLong(dsrA, "Num_tran_commits",
-				dsrA.num_tran_commits, dsrB.num_tran_commits,
-				dsrC.num_tran_commits);
-		num_tran_rollbacks = getDeltaLong(dsrA, "Num_tran_rollbacks",
-				dsrA.num_tran_rollbacks, dsrB.num_tran_rollbacks,
-				dsrC.num_tran_rollbacks);
-		num_tran_savepoints = getDeltaLong(dsrA, "Num_tran_savepoints",
-				dsrA.num_tran_savepoints, dsrB.num_tran_savepoints,
-				dsrC.num_tran_savepoints);
-		num_tran_start_topops = getDeltaLong(dsrA, "Num_tran_start_topops",
-				dsrA.num_tran_start_topops, dsrB.num_tran_start_topops,
-				dsrC.num_tran_start_topops);
-		num_tran_end_topops = getDeltaLong(dsrA, "Num_tran_end_topops",
-				dsrA.num_tran_end_topops, dsrB.num_tran_end_topops,
-				dsrC.num_tran_end_topops);
-		num_tran_interrupts = getDeltaLong(dsrA, "Num_tran_interrupts",
-				dsrA.num_tran_interrupts, dsrB.num_tran_interrupts,
-				dsrC.num_tran_interrupts);
-		num_btree_inserts = getDeltaLong(dsrA, "Num_btree_inserts",
-				dsrA.num_btree_inserts, dsrB.num_btree_inserts,
-				dsrC.num_btree_inserts);
-
-		num_btree_deletes = getDeltaLong(dsrA, "Num_btree_deletes",
-				dsrA.num_btree_deletes, dsrB.num_btree_deletes,
-				dsrC.num_btree_deletes);
-		num_btree_updates = getDeltaLong(dsrA, "Num_btree_updates",
-				dsrA.num_btree_updates, dsrB.num_btree_updates,
-				dsrC.num_btree_updates);
-
-		num_query_selects = getDeltaLong(dsrA, "Num_query_selects",
-				dsrA.num_query_selects, dsrB.num_query_selects,
-				dsrC.num_query_selects);
-		num_query_inserts = getDeltaLong(dsrA, "Num_query_inserts",
-				dsrA.num_query_inserts, dsrB.num_query_inserts,
-				dsrC.num_query_inserts);
-		num_query_deletes = getDeltaLong(dsrA, "Num_query_deletes",
-				dsrA.num_query_deletes, dsrB.num_query_deletes,
-				dsrC.num_query_deletes);
-		num_query_updates = getDeltaLong(dsrA, "Num_query_updates",
-				dsrA.num_query_updates, dsrB.num_query_updates,
-				dsrB.num_query_updates);
-		num_query_sscans = getDeltaLong(dsrA, "Num_query_sscans",
-				dsrA.num_query_sscans, dsrB.num_query_sscans,
-				dsrC.num_query_sscans);
-		num_query_iscans = getDeltaLong(dsrA, "Num_query_iscans",
-				dsrA.num_query_iscans, dsrB.num_query_iscans,
-				dsrC.num_query_iscans);
-		num_query_lscans = getDeltaLong(dsrA, "Num_query_lscans",
-				dsrA.num_query_lscans, dsrB.num_query_lscans,
-				dsrC.num_query_lscans);
-		num_query_setscans = getDeltaLong(dsrA, "Num_query_setscans",
-				dsrA.num_query_setscans, dsrB.num_query_setscans,
-				dsrC.num_query_setscans);
-		num_query_methscans = getDeltaLong(dsrA, "Num_query_methscans",
-				dsrA.num_query_methscans, dsrB.num_query_methscans,
-				dsrC.num_query_methscans);
-		num_query_nljoins = getDeltaLong(dsrA, "Num_query_nljoins",
-				dsrA.num_query_nljoins, dsrB.num_query_nljoins,
-				dsrC.num_query_nljoins);
-		num_query_mjoins = getDeltaLong(dsrA, "Num_query_mjoins",
-				dsrA.num_query_mjoins, dsrB.num_query_mjoins,
-				dsrC.num_query_mjoins);
-		num_query_objfetches = getDeltaLong(dsrA, "Num_query_objfetches",
-				dsrA.num_query_objfetches, dsrB.num_query_objfetches,
-				dsrC.num_query_objfetches);
-
-		num_network_requests = getDeltaLong(dsrA, "Num_network_requests",
-				dsrA.num_network_requests, dsrB.num_network_requests,
-				dsrC.num_network_requests);
-
-		data_page_buffer_hit_ratio = dsrA.data_page_buffer_hit_ratio;
-
+		for (DbStatDumpEnum diag : DbStatDumpEnum.values()) {
+			int index = diag.ordinal();
+			if (diag == DbStatDumpEnum.data_page_buffer_hit_ratio) {
+				counters.copy(index, dsrA.counters);
+			} else {
+				counters.setDelta(index, dsrA.counters, dsrB.counters,
+						dsrC.counters);
+			}
+		}
 		putVauleInMap();
 	}
 
@@ -570,157 +129,15 @@ public class DbStatDumpData implements
 
 	public void getDelta(DbStatDumpData dsrA, DbStatDumpData dsrB,
 			DbStatDumpData dsrC, float inter) {
-
-		num_file_removes = getDeltaLong(dsrA, "Num_file_opens",
-				dsrA.num_file_removes, dsrB.num_file_removes,
-				dsrC.num_file_removes, inter);
-		num_file_creates = getDeltaLong(dsrA, "Num_file_creates",
-				dsrA.num_file_creates, dsrB.num_file_creates,
-				dsrC.num_file_creates, inter);
-		num_file_ioreads = getDeltaLong(dsrA, "Num_file_ioreads",
-				dsrA.num_file_ioreads, dsrB.num_file_ioreads,
-				dsrC.num_file_ioreads, inter);
-		num_file_iowrites = getDeltaLong(dsrA, "Num_file_iowrites",
-				dsrA.num_file_iowrites, dsrB.num_file_iowrites,
-				dsrC.num_file_iowrites, inter);
-		num_file_iosynches = getDeltaLong(dsrA, "Num_file_iosynches",
-				dsrA.num_file_iosynches, dsrB.num_file_iosynches,
-				dsrC.num_file_iosynches, inter);
-
-		num_data_page_fetches = getDeltaLong(dsrA, "Num_data_page_fetches",
-				dsrA.num_data_page_fetches, dsrB.num_data_page_fetches,
-				dsrC.num_data_page_fetches, inter);
-		num_data_page_dirties = getDeltaLong(dsrA, "Num_data_page_dirties",
-				dsrA.num_data_page_dirties, dsrB.num_data_page_dirties,
-				dsrC.num_data_page_dirties, inter);
-		num_data_page_ioreads = getDeltaLong(dsrA, "Num_data_page_ioreads",
-				dsrA.num_data_page_ioreads, dsrB.num_data_page_ioreads,
-				dsrC.num_data_page_ioreads, inter);
-		num_data_page_iowrites = getDeltaLong(dsrA, "Num_data_page_iowrites",
-				dsrA.num_data_page_iowrites, dsrB.num_data_page_iowrites,
-				dsrC.num_data_page_iowrites, inter);
-
-		num_log_page_ioreads = getDeltaLong(dsrA, "Num_log_page_ioreads",
-				dsrA.num_log_page_ioreads, dsrB.num_log_page_ioreads,
-				dsrC.num_log_page_ioreads, inter);
-		num_log_page_iowrites = getDeltaLong(dsrA, "Num_log_page_iowrites",
-				dsrA.num_log_page_iowrites, dsrB.num_log_page_iowrites,
-				dsrC.num_log_page_iowrites, inter);
-		num_log_append_records = getDeltaLong(dsrA, "Num_log_append_records",
-				dsrA.num_log_append_records, dsrB.num_log_append_records,
-				dsrC.num_log_append_records, inter);
-		num_log_archives = getDeltaLong(dsrA, "Num_log_archives",
-				dsrA.num_log_archives, dsrB.num_log_archives,
-				dsrC.num_log_archives, inter);
-		num_log_checkpoints = getDeltaLong(dsrA, "Num_log_checkpoints",
-				dsrA.num_log_checkpoints, dsrB.num_log_checkpoints,
-				dsrC.num_log_checkpoints, inter);
-
-		num_page_locks_acquired = getDeltaLong(dsrA, "Num_page_locks_acquired",
-				dsrA.num_page_locks_acquired, dsrB.num_page_locks_acquired,
-				dsrC.num_page_locks_acquired, inter);
-		num_object_locks_acquired = getDeltaLong(dsrA,
-				"Num_object_locks_acquired", dsrA.num_object_locks_acquired,
-				dsrB.num_object_locks_acquired, dsrC.num_object_locks_acquired,
-				inter);
-		num_page_locks_converted = getDeltaLong(dsrA,
-				"Num_page_locks_converted", dsrA.num_page_locks_converted,
-				dsrB.num_page_locks_converted, dsrC.num_page_locks_converted,
-				inter);
-		num_object_locks_converted = getDeltaLong(dsrA,
-				"Num_object_locks_converted", dsrA.num_object_locks_converted,
-				dsrB.num_object_locks_converted,
-				dsrC.num_object_locks_converted, inter);
-		num_page_locks_re_requested = getDeltaLong(dsrA,
-				"Num_page_locks_re_requested",
-				dsrA.num_page_locks_re_requested,
-				dsrB.num_page_locks_re_requested,
-				dsrC.num_page_locks_re_requested, inter);
-		num_object_locks_re_requested = getDeltaLong(dsrA,
-				"Num_object_locks_re_requested",
-				dsrA.num_object_locks_re_requested,
-				dsrB.num_object_locks_re_requested,
-				dsrC.num_object_locks_re_requested, inter);
-		num_page_locks_waits = getDeltaLong(dsrA, "Num_page_locks_waits",
-				dsrA.num_page_locks_waits, dsrB.num_page_locks_waits,
-				dsrC.num_page_locks_waits, inter);
-		num_object_locks_waits = getDeltaLong(dsrA, "Num_object_locks_waits",
-				dsrA.num_object_locks_waits, dsrB.num_object_locks_waits,
-				dsrC.num_object_locks_waits, inter);
-
-		num_tran_commits = getDeltaLong(dsrA, "Num_tran_commits",
-				dsrA.num_tran_commits, dsrB.num_tran_commits,
-				dsrC.num_tran_commits, inter);
-		num_tran_rollbacks = getDeltaLong(dsrA, "Num_tran_rollbacks",
-				dsrA.num_tran_rollbacks, dsrB.num_tran_rollbacks,
-				dsrC.num_tran_rollbacks, inter);
-		num_tran_savepoints = getDeltaLong(dsrA, "Num_tran_savepoints",
-				dsrA.num_tran_savepoints, dsrB.num_tran_savepoints,
-				dsrC.num_tran_savepoints, inter);
-		num_tran_start_topops = getDeltaLong(dsrA, "Num_tran_start_topops",
-				dsrA.num_tran_start_topops, dsrB.num_tran_start_topops,
-				dsrC.num_tran_start_topops, inter);
-		num_tran_end_topops = getDeltaLong(dsrA, "Num_tran_end_topops",
-				dsrA.num_tran_end_topops, dsrB.num_tran_end_topops,
-				dsrC.num_tran_end_topops, inter);
-		num_tran_interrupts = getDeltaLong(dsrA, "Num_tran_interrupts",
-				dsrA.num_tran_interrupts, dsrB.num_tran_interrupts,
-				dsrC.num_tran_interrupts, inter);
-		num_btree_inserts = getDeltaLong(dsrA, "Num_btree_inserts",
-				dsrA.num_btree_inserts, dsrB.num_btree_inserts,
-				dsrC.num_btree_inserts, inter);
-
-		num_btree_deletes = getDeltaLong(dsrA, "Num_btree_deletes",
-				dsrA.num_btree_deletes, dsrB.num_btree_deletes,
-				dsrC.num_btree_deletes, inter);
-		num_btree_updates = getDeltaLong(dsrA, "Num_btree_updates",
-				dsrA.num_btree_updates, dsrB.num_btree_updates,
-				dsrC.num_btree_updates, inter);
-		num_network_requests = getDeltaLong(dsrA, "Num_network_requests",
-				dsrA.num_network_requests, dsrB.num_network_requests,
-				dsrC.num_network_requests, inter);
-
-		num_query_selects = getDeltaLong(dsrA, "Num_query_selects",
-				dsrA.num_query_selects, dsrB.num_query_selects,
-				dsrC.num_query_selects, inter);
-		num_query_inserts = getDeltaLong(dsrA, "Num_query_inserts",
-				dsrA.num_query_inserts, dsrB.num_query_inserts,
-				dsrC.num_query_inserts, inter);
-		num_query_deletes = getDeltaLong(dsrA, "Num_query_deletes",
-				dsrA.num_query_deletes, dsrB.num_query_deletes,
-				dsrC.num_query_deletes, inter);
-		num_query_updates = getDeltaLong(dsrA, "Num_query_updates",
-				dsrA.num_query_updates, dsrB.num_query_updates,
-				dsrB.num_query_updates, inter);
-		num_query_sscans = getDeltaLong(dsrA, "Num_query_sscans",
-				dsrA.num_query_sscans, dsrB.num_query_sscans,
-				dsrC.num_query_sscans, inter);
-		num_query_iscans = getDeltaLong(dsrA, "Num_query_iscans",
-				dsrA.num_query_iscans, dsrB.num_query_iscans,
-				dsrC.num_query_iscans, inter);
-		num_query_lscans = getDeltaLong(dsrA, "Num_query_lscans",
-				dsrA.num_query_lscans, dsrB.num_query_lscans,
-				dsrC.num_query_lscans, inter);
-		num_query_setscans = getDeltaLong(dsrA, "Num_query_setscans",
-				dsrA.num_query_setscans, dsrB.num_query_setscans,
-				dsrC.num_query_setscans, inter);
-		num_query_methscans = getDeltaLong(dsrA, "Num_query_methscans",
-				dsrA.num_query_methscans, dsrB.num_query_methscans,
-				dsrC.num_query_methscans, inter);
-		num_query_nljoins = getDeltaLong(dsrA, "Num_query_nljoins",
-				dsrA.num_query_nljoins, dsrB.num_query_nljoins,
-				dsrC.num_query_nljoins, inter);
-		num_query_mjoins = getDeltaLong(dsrA, "Num_query_mjoins",
-				dsrA.num_query_mjoins, dsrB.num_query_mjoins,
-				dsrC.num_query_mjoins, inter);
-		num_query_objfetches = getDeltaLong(dsrA, "Num_query_objfetches",
-				dsrA.num_query_objfetches, dsrB.num_query_objfetches,
-				dsrC.num_query_objfetches, inter);
-
-		num_network_requests = getDeltaLong(dsrA, "Num_network_requests",
-				dsrA.num_network_requests, dsrB.num_network_requests,
-				dsrC.num_network_requests, inter);
-		data_page_buffer_hit_ratio = dsrA.data_page_buffer_hit_ratio;
+		for (DbStatDumpEnum diag : DbStatDumpEnum.values()) {
+			int index = diag.ordinal();
+			if (diag == DbStatDumpEnum.data_page_buffer_hit_ratio) {
+				counters.copy(index, dsrA.counters);
+			} else {
+				counters.setRate(index, dsrA.counters, dsrB.counters,
+						dsrC.counters, inter);
+			}
+		}
 		putVauleInMap();
 	}
 
@@ -729,228 +146,28 @@ public class DbStatDumpData implements
 	 * 
 	 */
 	private void putVauleInMap() {
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_file_removes,
-				num_file_removes);
-		diagStatusResultMap.put(DbStatDumpEnum.num_file_creates,
-				num_file_creates);
-		diagStatusResultMap.put(DbStatDumpEnum.num_file_ioreads,
-				num_file_ioreads);
-		diagStatusResultMap.put(DbStatDumpEnum.num_file_iowrites,
-				num_file_iowrites);
-		diagStatusResultMap.put(DbStatDumpEnum.num_file_iosynches,
-				num_file_iosynches);
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_data_page_fetches,
-				num_data_page_fetches);
-		diagStatusResultMap.put(DbStatDumpEnum.num_data_page_dirties,
-				num_data_page_dirties);
-		diagStatusResultMap.put(DbStatDumpEnum.num_data_page_ioreads,
-				num_data_page_ioreads);
-		diagStatusResultMap.put(DbStatDumpEnum.num_data_page_iowrites,
-				num_data_page_iowrites);
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_log_page_ioreads,
-				num_log_page_ioreads);
-		diagStatusResultMap.put(DbStatDumpEnum.num_log_page_iowrites,
-				num_log_page_iowrites);
-		diagStatusResultMap.put(DbStatDumpEnum.num_log_append_records,
-				num_log_append_records);
-		diagStatusResultMap.put(DbStatDumpEnum.num_log_archives,
-				num_log_archives);
-		diagStatusResultMap.put(DbStatDumpEnum.num_log_checkpoints,
-				num_log_checkpoints);
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_page_locks_acquired,
-				num_page_locks_acquired);
-		diagStatusResultMap.put(DbStatDumpEnum.num_object_locks_acquired,
-				num_object_locks_acquired);
-		diagStatusResultMap.put(DbStatDumpEnum.num_page_locks_converted,
-				num_page_locks_converted);
-		diagStatusResultMap.put(DbStatDumpEnum.num_object_locks_converted,
-				num_object_locks_converted);
-		diagStatusResultMap.put(DbStatDumpEnum.num_page_locks_re_requested,
-				num_page_locks_re_requested);
-		diagStatusResultMap.put(DbStatDumpEnum.num_object_locks_re_requested,
-				num_object_locks_re_requested);
-		diagStatusResultMap.put(DbStatDumpEnum.num_page_locks_waits,
-				num_page_locks_waits);
-		diagStatusResultMap.put(DbStatDumpEnum.num_object_locks_waits,
-				num_object_locks_waits);
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_tran_commits,
-				num_tran_commits);
-		diagStatusResultMap.put(DbStatDumpEnum.num_tran_rollbacks,
-				num_tran_rollbacks);
-		diagStatusResultMap.put(DbStatDumpEnum.num_tran_savepoints,
-				num_tran_savepoints);
-		diagStatusResultMap.put(DbStatDumpEnum.num_tran_start_topops,
-				num_tran_start_topops);
-		diagStatusResultMap.put(DbStatDumpEnum.num_tran_end_topops,
-				num_tran_end_topops);
-		diagStatusResultMap.put(DbStatDumpEnum.num_tran_interrupts,
-				num_tran_interrupts);
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_btree_inserts,
-				num_btree_inserts);
-		diagStatusResultMap.put(DbStatDumpEnum.num_btree_deletes,
-				num_btree_deletes);
-		diagStatusResultMap.put(DbStatDumpEnum.num_btree_updates,
-				num_btree_updates);
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_selects,
-				num_query_selects);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_inserts,
-				num_query_inserts);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_deletes,
-				num_query_deletes);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_updates,
-				num_query_updates);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_sscans,
-				num_query_sscans);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_iscans,
-				num_query_iscans);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_lscans,
-				num_query_lscans);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_setscans,
-				num_query_setscans);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_methscans,
-				num_query_methscans);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_nljoins,
-				num_query_nljoins);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_mjoins,
-				num_query_mjoins);
-		diagStatusResultMap.put(DbStatDumpEnum.num_query_objfetches,
-				num_query_objfetches);
-
-		diagStatusResultMap.put(DbStatDumpEnum.num_network_requests,
-				num_network_requests);
-		diagStatusResultMap.put(DbStatDumpEnum.data_page_buffer_hit_ratio,
-				data_page_buffer_hit_ratio);
-
-	}
-
-	/**
-	 * Get the long value from given the strings which should be a field of a
-	 * instance of the same type
-	 * 
-	 * @param fieldA the field of a object
-	 * @param fieldB the field of a object
-	 * @return the difference between fieldA and fieldB in value
-	 */
-	private String getDeltaLong(String fieldA, String fieldB) {
-		String result = "";
-		try {
-			result = String.valueOf(Long.parseLong(fieldA)
-					- Long.parseLong(fieldB));
-		} catch (NumberFormatException ee) {
-			result = "0";
+		for (DbStatDumpEnum diag : DbStatDumpEnum.values()) {
+			diagStatusResultMap.put(diag, counters.getText(diag.ordinal()));
 		}
-		return result;
 	}
 
 	/**
-	 * Get the long value from given the strings which should be a field of a
-	 * instance of the same type
+	 * Get the counters indexed by the ordinal of DbStatDumpEnum
 	 * 
-	 * @param fieldA the field of a object
-	 * @param fieldB the field of a object
-	 * @param fieldC the field of a object
-	 * @param object the object of this type
-	 * @param fieldName the field name but the initial character should be
-	 *        capital
-	 * @return a field of this object
-	 */
-	private String getDeltaLong(DbStatDumpData object, String fieldName,
-			String fieldA, String fieldB, String fieldC) {
-		String result = "";
-		try {
-			if (Long.parseLong(fieldA) < 0 && Long.parseLong(fieldB) > 0) {
-				long partA = Long.MAX_VALUE - Long.parseLong(fieldB);
-				long partB = Long.parseLong(fieldA) - Long.MIN_VALUE;
-				result = String.valueOf(partA + partB);
-			} else {
-				result = String.valueOf(Long.parseLong(fieldA)
-						- Long.parseLong(fieldB));
-				if (Long.parseLong(result) < 0) {
-					result = String.valueOf(Long.parseLong(fieldB)
-							- Long.parseLong(fieldC));
-					long aValue = Long.parseLong(fieldB)
-							+ Long.parseLong(result);
-					Class<?> cc = DbStatDumpData.class;
-					Method mm = cc.getMethod("set" + fieldName,
-							new Class[]{String.class });
-					mm.invoke(object, Long.toString(aValue));
-				}
-			}
-
-		} catch (NumberFormatException ee) {
-			result = "0";
-		} catch (SecurityException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalArgumentException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalAccessException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (NoSuchMethodException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (InvocationTargetException ex) {
-			LOGGER.error(ex.getMessage());
-		}
-		return result;
+	 * @return the counters
+	 */
+	public CounterVector getCounters() {
+		return counters;
 	}
 
 	/**
-	 * Get the long value from given the strings which should be a field of a
-	 * instance of the same type
+	 * Get the value of the diagnose
 	 * 
-	 * @param object a field of this object
-	 * @param fieldName the field name but the initial character should be
-	 *        capital
-	 * @param fieldA the field of a object
-	 * @param fieldB the field of a object
-	 * @param fieldC the field of a object
-	 * @param inter float
-	 * @return String
-	 */
-	private String getDeltaLong(DbStatDumpData object, String fieldName,
-			String fieldA, String fieldB, String fieldC, float inter) {
-		String result = "";
-		try {
-			long temp = 0;
-			if (Long.parseLong(fieldA) < 0 && Long.parseLong(fieldB) > 0) {
-				long partA = Long.MAX_VALUE - Long.parseLong(fieldB);
-				long partB = Long.parseLong(fieldA) - Long.MIN_VALUE;
-				temp = partA + partB;
-			} else {
-				temp = Long.parseLong(fieldA) - Long.parseLong(fieldB);
-				if (temp < 0) {
-					temp = Long.parseLong(fieldB) - Long.parseLong(fieldC);
-					long aValue = (Long.parseLong(fieldB) + temp);
-					Class<?> cc = DbStatDumpData.class;
-					Method mm = cc.getMethod("set" + fieldName,
-							new Class[]{String.class });
-					mm.invoke(object, Long.toString(aValue));
-				}
-			}
-			LOGGER.debug(fieldName + "(before divided by interval) = " + temp);
-			temp = (long) (temp / inter);
-			result = String.valueOf(temp);
-			LOGGER.debug(fieldName + "(after divided by interval) = " + result);
-		} catch (NumberFormatException ee) {
-			result = "0";
-		} catch (SecurityException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (NoSuchMethodException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalArgumentException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (IllegalAccessException ex) {
-			LOGGER.error(ex.getMessage());
-		} catch (InvocationTargetException ex) {
-			LOGGER.error(ex.getMessage());
-		}
-		return result;
+	 * @param diag DbStatDumpEnum
+	 * @return the value, zero if it is not a number
+	 */
+	public long getValue(DbStatDumpEnum diag) {
+		return counters.get(diag.ordinal());
 	}
 
 	/**
@@ -1010,14 +227,15 @@ public class DbStatDumpData implements
 	 * @return the num_file_opens
 	 */
 	public String getNum_file_removes() {
-		return num_file_removes;
+		return counters.getText(DbStatDumpEnum.num_file_removes.ordinal());
 	}
 
 	/**
 	 * @param numFileRemoves the num_file_removes to set
 	 */
 	public void setNum_file_removes(String numFileRemoves) {
-		this.num_file_removes = numFileRemoves;
+		counters.setText(DbStatDumpEnum.num_file_removes.ordinal(),
+				numFileRemoves);
 	}
 
 	/**
@@ -1026,14 +244,15 @@ public class DbStatDumpData implements
 	 * @return the num_file_creates
 	 */
 	public String getNum_file_creates() {
-		return num_file_creates;
+		return counters.getText(DbStatDumpEnum.num_file_creates.ordinal());
 	}
 
 	/**
 	 * @param numFileCreates the num_file_creates to set
 	 */
 	public void setNum_file_creates(String numFileCreates) {
-		num_file_creates = numFileCreates;
+		counters.setText(DbStatDumpEnum.num_file_creates.ordinal(),
+				numFileCreates);
 	}
 
 	/**
@@ -1042,14 +261,15 @@ public class DbStatDumpData implements
 	 * @return the num_file_ioreads
 	 */
 	public String getNum_file_ioreads() {
-		return num_file_ioreads;
+		return counters.getText(DbStatDumpEnum.num_file_ioreads.ordinal());
 	}
 
 	/**
 	 * @param numFileIoreads the num_file_ioreads to set
 	 */
 	public void setNum_file_ioreads(String numFileIoreads) {
-		num_file_ioreads = numFileIoreads;
+		counters.setText(DbStatDumpEnum.num_file_ioreads.ordinal(),
+				numFileIoreads);
 	}
 
 	/**
@@ -1058,14 +278,15 @@ public class DbStatDumpData implements
 	 * @return the num_file_iowrites
 	 */
 	public String getNum_file_iowrites() {
-		return num_file_iowrites;
+		return counters.getText(DbStatDumpEnum.num_file_iowrites.ordinal());
 	}
 
 	/**
 	 * @param numFileIowrites the num_file_iowrites to set
 	 */
 	public void setNum_file_iowrites(String numFileIowrites) {
-		num_file_iowrites = numFileIowrites;
+		counters.setText(DbStatDumpEnum.num_file_iowrites.ordinal(),
+				numFileIowrites);
 	}
 
 	/**
@@ -1074,14 +295,15 @@ public class DbStatDumpData implements
 	 * @return the num_file_iosynches
 	 */
 	public String getNum_file_iosynches() {
-		return num_file_iosynches;
+		return counters.getText(DbStatDumpEnum.num_file_iosynches.ordinal());
 	}
 
 	/**
 	 * @param numFileIosynches the num_file_iosynches to set
 	 */
 	public void setNum_file_iosynches(String numFileIosynches) {
-		num_file_iosynches = numFileIosynches;
+		counters.setText(DbStatDumpEnum.num_file_iosynches.ordinal(),
+				numFileIosynches);
 	}
 
 	/**
@@ -1090,14 +312,15 @@ public class DbStatDumpData implements
 	 * @return the num_data_page_fetches
 	 */
 	public String getNum_data_page_fetches() {
-		return num_data_page_fetches;
+		return counters.getText(DbStatDumpEnum.num_data_page_fetches.ordinal());
 	}
 
 	/**
 	 * @param numDataPageFetches the num_data_page_fetches to set
 	 */
 	public void setNum_data_page_fetches(String numDataPageFetches) {
-		num_data_page_fetches = numDataPageFetches;
+		counters.setText(DbStatDumpEnum.num_data_page_fetches.ordinal(),
+				numDataPageFetches);
 	}
 
 	/**
@@ -1106,14 +329,15 @@ public class DbStatDumpData implements
 	 * @return the num_data_page_dirties
 	 */
 	public String getNum_data_page_dirties() {
-		return num_data_page_dirties;
+		return counters.getText(DbStatDumpEnum.num_data_page_dirties.ordinal());
 	}
 
 	/**
 	 * @param numDataPageDirties the num_data_page_dirties to set
 	 */
 	public void setNum_data_page_dirties(String numDataPageDirties) {
-		num_data_page_dirties = numDataPageDirties;
+		counters.setText(DbStatDumpEnum.num_data_page_dirties.ordinal(),
+				numDataPageDirties);
 	}
 
 	/**
@@ -1122,14 +346,15 @@ public class DbStatDumpData implements
 	 * @return the num_data_page_ioreads
 	 */
 	public String getNum_data_page_ioreads() {
-		return num_data_page_ioreads;
+		return counters.getText(DbStatDumpEnum.num_data_page_ioreads.ordinal());
 	}
 
 	/**
 	 * @param numDataPageIoreads the num_data_page_ioreads to set
 	 */
 	public void setNum_data_page_ioreads(String numDataPageIoreads) {
-		num_data_page_ioreads = numDataPageIoreads;
+		counters.setText(DbStatDumpEnum.num_data_page_ioreads.ordinal(),
+				numDataPageIoreads);
 	}
 
 	/**
@@ -1138,14 +363,15 @@ public class DbStatDumpData implements
 	 * @return the num_data_page_iowrites
 	 */
 	public String getNum_data_page_iowrites() {
-		return num_data_page_iowrites;
+		return counters.getText(DbStatDumpEnum.num_data_page_iowrites.ordinal());
 	}
 
 	/**
 	 * @param numDataPageIowrites the num_data_page_iowrites to set
 	 */
 	public void setNum_data_page_iowrites(String numDataPageIowrites) {
-		num_data_page_iowrites = numDataPageIowrites;
+		counters.setText(DbStatDumpEnum.num_data_page_iowrites.ordinal(),
+				numDataPageIowrites);
 	}
 
 	/**
@@ -1154,14 +380,15 @@ public class DbStatDumpData implements
 	 * @return the num_log_page_ioreads
 	 */
 	public String getNum_log_page_ioreads() {
-		return num_log_page_ioreads;
+		return counters.getText(DbStatDumpEnum.num_log_page_ioreads.ordinal());
 	}
 
 	/**
 	 * @param numLogPageIoreads the num_log_page_ioreads to set
 	 */
 	public void setNum_log_page_ioreads(String numLogPageIoreads) {
-		num_log_page_ioreads = numLogPageIoreads;
+		counters.setText(DbStatDumpEnum.num_log_page_ioreads.ordinal(),
+				numLogPageIoreads);
 	}
 
 	/**
@@ -1170,14 +397,15 @@ public class DbStatDumpData implements
 	 * @return the num_log_page_iowrites
 	 */
 	public String getNum_log_page_iowrites() {
-		return num_log_page_iowrites;
+		return counters.getText(DbStatDumpEnum.num_log_page_iowrites.ordinal());
 	}
 
 	/**
 	 * @param numLogPageIowrites the num_log_page_iowrites to set
 	 */
 	public void setNum_log_page_iowrites(String numLogPageIowrites) {
-		num_log_page_iowrites = numLogPageIowrites;
+		counters.setText(DbStatDumpEnum.num_log_page_iowrites.ordinal(),
+				numLogPageIowrites);
 	}
 
 	/**
@@ -1186,14 +414,15 @@ public class DbStatDumpData implements
 	 * @return the num_log_append_records
 	 */
 	public String getNum_log_append_records() {
-		return num_log_append_records;
+		return counters.getText(DbStatDumpEnum.num_log_append_records.ordinal());
 	}
 
 	/**
 	 * @param numLogAppendRecords the num_log_append_records to set
 	 */
 	public void setNum_log_append_records(String numLogAppendRecords) {
-		num_log_append_records = numLogAppendRecords;
+		counters.setText(DbStatDumpEnum.num_log_append_records.ordinal(),
+				numLogAppendRecords);
 	}
 
 	/**
@@ -1202,14 +431,15 @@ public class DbStatDumpData implements
 	 * @return the num_log_archives
 	 */
 	public String getNum_log_archives() {
-		return num_log_archives;
+		return counters.getText(DbStatDumpEnum.num_log_archives.ordinal());
 	}
 
 	/**
 	 * @param numLogArchives the num_log_archives to set
 	 */
 	public void setNum_log_archives(String numLogArchives) {
-		num_log_archives = numLogArchives;
+		counters.setText(DbStatDumpEnum.num_log_archives.ordinal(),
+				numLogArchives);
 	}
 
 	/**
@@ -1218,14 +448,15 @@ public class DbStatDumpData implements
 	 * @return the num_log_checkpoints
 	 */
 	public String getNum_log_checkpoints() {
-		return num_log_checkpoints;
+		return counters.getText(DbStatDumpEnum.num_log_checkpoints.ordinal());
 	}
 
 	/**
 	 * @param numLogCheckpoints the num_log_checkpoints to set
 	 */
 	public void setNum_log_checkpoints(String numLogCheckpoints) {
-		num_log_checkpoints = numLogCheckpoints;
+		counters.setText(DbStatDumpEnum.num_log_checkpoints.ordinal(),
+				numLogCheckpoints);
 	}
 
 	/**
@@ -1234,14 +465,15 @@ public class DbStatDumpData implements
 	 * @return the num_page_locks_acquired
 	 */
 	public String getNum_page_locks_acquired() {
-		return num_page_locks_acquired;
+		return counters.getText(DbStatDumpEnum.num_page_locks_acquired.ordinal());
 	}
 
 	/**
 	 * @param numPageLocksAcquired the num_page_locks_acquired to set
 	 */
 	public void setNum_page_locks_acquired(String numPageLocksAcquired) {
-		num_page_locks_acquired = numPageLocksAcquired;
+		counters.setText(DbStatDumpEnum.num_page_locks_acquired.ordinal(),
+				numPageLocksAcquired);
 	}
 
 	/**
@@ -1250,14 +482,15 @@ public class DbStatDumpData implements
 	 * @return the num_object_locks_acquired
 	 */
 	public String getNum_object_locks_acquired() {
-		return num_object_locks_acquired;
+		return counters.getText(DbStatDumpEnum.num_object_locks_acquired.ordinal());
 	}
 
 	/**
 	 * @param numObjectLocksAcquired the num_object_locks_acquired to set
 	 */
 	public void setNum_object_locks_acquired(String numObjectLocksAcquired) {
-		num_object_locks_acquired = numObjectLocksAcquired;
+		counters.setText(DbStatDumpEnum.num_object_locks_acquired.ordinal(),
+				numObjectLocksAcquired);
 	}
 
 	/**
@@ -1266,14 +499,15 @@ public class DbStatDumpData implements
 	 * @return the num_page_locks_converted
 	 */
 	public String getNum_page_locks_converted() {
-		return num_page_locks_converted;
+		return counters.getText(DbStatDumpEnum.num_page_locks_converted.ordinal());
 	}
 
 	/**
 	 * @param numPageLocksConverted the num_page_locks_converted to set
 	 */
 	public void setNum_page_locks_converted(String numPageLocksConverted) {
-		num_page_locks_converted = numPageLocksConverted;
+		counters.setText(DbStatDumpEnum.num_page_locks_converted.ordinal(),
+				numPageLocksConverted);
 	}
 
 	/**
@@ -1282,14 +516,15 @@ public class DbStatDumpData implements
 	 * @return the num_object_locks_converted
 	 */
 	public String getNum_object_locks_converted() {
-		return num_object_locks_converted;
+		return counters.getText(DbStatDumpEnum.num_object_locks_converted.ordinal());
 	}
 
 	/**
 	 * @param numObjectLocksConverted the num_object_locks_converted to set
 	 */
 	public void setNum_object_locks_converted(String numObjectLocksConverted) {
-		num_object_locks_converted = numObjectLocksConverted;
+		counters.setText(DbStatDumpEnum.num_object_locks_converted.ordinal(),
+				numObjectLocksConverted);
 	}
 
 	/**
@@ -1298,14 +533,15 @@ public class DbStatDumpData implements
 	 * @return the num_page_locks_re_requested
 	 */
 	public String getNum_page_locks_re_requested() {
-		return num_page_locks_re_requested;
+		return counters.getText(DbStatDumpEnum.num_page_locks_re_requested.ordinal());
 	}
 
 	/**
 	 * @param numPageLocksReRequested the num_page_locks_re_requested to set
 	 */
 	public void setNum_page_locks_re_requested(String numPageLocksReRequested) {
-		num_page_locks_re_requested = numPageLocksReRequested;
+		counters.setText(DbStatDumpEnum.num_page_locks_re_requested.ordinal(),
+				numPageLocksReRequested);
 	}
 
 	/**
@@ -1314,7 +550,7 @@ public class DbStatDumpData implements
 	 * @return the num_object_locks_re_requested
 	 */
 	public String getNum_object_locks_re_requested() {
-		return num_object_locks_re_requested;
+		return counters.getText(DbStatDumpEnum.num_object_locks_re_requested.ordinal());
 	}
 
 	/**
@@ -1322,7 +558,8 @@ public class DbStatDumpData implements
 	 */
 	public void setNum_object_locks_re_requested(
 			String numObjectLocksReRequested) {
-		num_object_locks_re_requested = numObjectLocksReRequested;
+		counters.setText(DbStatDumpEnum.num_object_locks_re_requested.ordinal(),
+				numObjectLocksReRequested);
 	}
 
 	/**
@@ -1331,14 +568,15 @@ public class DbStatDumpData implements
 	 * @return the num_page_locks_waits
 	 */
 	public String getNum_page_locks_waits() {
-		return num_page_locks_waits;
+		return counters.getText(DbStatDumpEnum.num_page_locks_waits.ordinal());
 	}
 
 	/**
 	 * @param numPageLocksWaits the num_page_locks_waits to set
 	 */
 	public void setNum_page_locks_waits(String numPageLocksWaits) {
-		num_page_locks_waits = numPageLocksWaits;
+		counters.setText(DbStatDumpEnum.num_page_locks_waits.ordinal(),
+				numPageLocksWaits);
 	}
 
 	/**
@@ -1347,14 +585,15 @@ public class DbStatDumpData implements
 	 * @return the num_object_locks_waits
 	 */
 	public String getNum_object_locks_waits() {
-		return num_object_locks_waits;
+		return counters.getText(DbStatDumpEnum.num_object_locks_waits.ordinal());
 	}
 
 	/**
 	 * @param numObjectLocksWaits the num_object_locks_waits to set
 	 */
 	public void setNum_object_locks_waits(String numObjectLocksWaits) {
-		num_object_locks_waits = numObjectLocksWaits;
+		counters.setText(DbStatDumpEnum.num_object_locks_waits.ordinal(),
+				numObjectLocksWaits);
 	}
 
 	/**
@@ -1363,14 +602,15 @@ public class DbStatDumpData implements
 	 * @return the num_tran_commits
 	 */
 	public String getNum_tran_commits() {
-		return num_tran_commits;
+		return counters.getText(DbStatDumpEnum.num_tran_commits.ordinal());
 	}
 
 	/**
 	 * @param numTranCommits the num_tran_commits to set
 	 */
 	public void setNum_tran_commits(String numTranCommits) {
-		num_tran_commits = numTranCommits;
+		counters.setText(DbStatDumpEnum.num_tran_commits.ordinal(),
+				numTranCommits);
 	}
 
 	/**
@@ -1379,14 +619,15 @@ public class DbStatDumpData implements
 	 * @return the num_tran_rollbacks
 	 */
 	public String getNum_tran_rollbacks() {
-		return num_tran_rollbacks;
+		return counters.getText(DbStatDumpEnum.num_tran_rollbacks.ordinal());
 	}
 
 	/**
 	 * @param numTranRollbacks the num_tran_rollbacks to set
 	 */
 	public void setNum_tran_rollbacks(String numTranRollbacks) {
-		num_tran_rollbacks = numTranRollbacks;
+		counters.setText(DbStatDumpEnum.num_tran_rollbacks.ordinal(),
+				numTranRollbacks);
 	}
 
 	/**
@@ -1395,14 +636,15 @@ public class DbStatDumpData implements
 	 * @return the num_tran_savepoints
 	 */
 	public String getNum_tran_savepoints() {
-		return num_tran_savepoints;
+		return counters.getText(DbStatDumpEnum.num_tran_savepoints.ordinal());
 	}
 
 	/**
 	 * @param numTranSavepoints the num_tran_savepoints to set
 	 */
 	public void setNum_tran_savepoints(String numTranSavepoints) {
-		num_tran_savepoints = numTranSavepoints;
+		counters.setText(DbStatDumpEnum.num_tran_savepoints.ordinal(),
+				numTranSavepoints);
 	}
 
 	/**
@@ -1411,14 +653,15 @@ public class DbStatDumpData implements
 	 * @return the num_tran_start_topops
 	 */
 	public String getNum_tran_start_topops() {
-		return num_tran_start_topops;
+		return counters.getText(DbStatDumpEnum.num_tran_start_topops.ordinal());
 	}
 
 	/**
 	 * @param numTranStartTopops the num_tran_start_topops to set
 	 */
 	public void setNum_tran_start_topops(String numTranStartTopops) {
-		num_tran_start_topops = numTranStartTopops;
+		counters.setText(DbStatDumpEnum.num_tran_start_topops.ordinal(),
+				numTranStartTopops);
 	}
 
 	/**
@@ -1427,14 +670,15 @@ public class DbStatDumpData implements
 	 * @return the num_tran_end_topops
 	 */
 	public String getNum_tran_end_topops() {
-		return num_tran_end_topops;
+		return counters.getText(DbStatDumpEnum.num_tran_end_topops.ordinal());
 	}
 
 	/**
 	 * @param numTranEndTopops the num_tran_end_topops to set
 	 */
 	public void setNum_tran_end_topops(String numTranEndTopops) {
-		num_tran_end_topops = numTranEndTopops;
+		counters.setText(DbStatDumpEnum.num_tran_end_topops.ordinal(),
+				numTranEndTopops);
 	}
 
 	/**
@@ -1443,14 +687,15 @@ public class DbStatDumpData implements
 	 * @return the num_tran_interrupts
 	 */
 	public String getNum_tran_interrupts() {
-		return num_tran_interrupts;
+		return counters.getText(DbStatDumpEnum.num_tran_interrupts.ordinal());
 	}
 
 	/**
 	 * @param numTranInterrupts the num_tran_interrupts to set
 	 */
 	public void setNum_tran_interrupts(String numTranInterrupts) {
-		num_tran_interrupts = numTranInterrupts;
+		counters.setText(DbStatDumpEnum.num_tran_interrupts.ordinal(),
+				numTranInterrupts);
 	}
 
 	/**
@@ -1459,14 +704,15 @@ public class DbStatDumpData implements
 	 * @return the num_btree_inserts
 	 */
 	public String getNum_btree_inserts() {
-		return num_btree_inserts;
+		return counters.getText(DbStatDumpEnum.num_btree_inserts.ordinal());
 	}
 
 	/**
 	 * @param numBtreeInserts the num_btree_inserts to set
 	 */
 	public void setNum_btree_inserts(String numBtreeInserts) {
-		num_btree_inserts = numBtreeInserts;
+		counters.setText(DbStatDumpEnum.num_btree_inserts.ordinal(),
+				numBtreeInserts);
 	}
 
 	/**
@@ -1475,14 +721,15 @@ public class DbStatDumpData implements
 	 * @return the num_btree_deletes
 	 */
 	public String getNum_btree_deletes() {
-		return num_btree_deletes;
+		return counters.getText(DbStatDumpEnum.num_btree_deletes.ordinal());
 	}
 
 	/**
 	 * @param numBtreeDeletes the num_btree_deletes to set
 	 */
 	public void setNum_btree_deletes(String numBtreeDeletes) {
-		num_btree_deletes = numBtreeDeletes;
+		counters.setText(DbStatDumpEnum.num_btree_deletes.ordinal(),
+				numBtreeDeletes);
 	}
 
 	/**
@@ -1491,14 +738,15 @@ public class DbStatDumpData implements
 	 * @return the num_btree_updates
 	 */
 	public String getNum_btree_updates() {
-		return num_btree_updates;
+		return counters.getText(DbStatDumpEnum.num_btree_updates.ordinal());
 	}
 
 	/**
 	 * @param numBtreeUpdates the num_btree_updates to set
 	 */
 	public void setNum_btree_updates(String numBtreeUpdates) {
-		num_btree_updates = numBtreeUpdates;
+		counters.setText(DbStatDumpEnum.num_btree_updates.ordinal(),
+				numBtreeUpdates);
 	}
 
 	/**
@@ -1507,14 +755,15 @@ public class DbStatDumpData implements
 	 * @return the num_network_requests
 	 */
 	public String getNum_network_requests() {
-		return num_network_requests;
+		return counters.getText(DbStatDumpEnum.num_network_requests.ordinal());
 	}
 
 	/**
 	 * @param numNetworkRequests the num_network_requests to set
 	 */
 	public void setNum_network_requests(String numNetworkRequests) {
-		num_network_requests = numNetworkRequests;
+		counters.setText(DbStatDumpEnum.num_network_requests.ordinal(),
+				numNetworkRequests);
 	}
 
 	/**
@@ -1523,14 +772,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_selects
 	 */
 	public String getNum_query_selects() {
-		return num_query_selects;
+		return counters.getText(DbStatDumpEnum.num_query_selects.ordinal());
 	}
 
 	/**
 	 * @param numQuerySelects the num_query_selects to set
 	 */
 	public void setNum_query_selects(String numQuerySelects) {
-		num_query_selects = numQuerySelects;
+		counters.setText(DbStatDumpEnum.num_query_selects.ordinal(),
+				numQuerySelects);
 	}
 
 	/**
@@ -1539,14 +789,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_inserts
 	 */
 	public String getNum_query_inserts() {
-		return num_query_inserts;
+		return counters.getText(DbStatDumpEnum.num_query_inserts.ordinal());
 	}
 
 	/**
 	 * @param numQueryInserts the num_query_inserts to set
 	 */
 	public void setNum_query_inserts(String numQueryInserts) {
-		num_query_inserts = numQueryInserts;
+		counters.setText(DbStatDumpEnum.num_query_inserts.ordinal(),
+				numQueryInserts);
 	}
 
 	/**
@@ -1555,14 +806,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_deletes
 	 */
 	public String getNum_query_deletes() {
-		return num_query_deletes;
+		return counters.getText(DbStatDumpEnum.num_query_deletes.ordinal());
 	}
 
 	/**
 	 * @param numQueryDeletes the num_query_deletes to set
 	 */
 	public void setNum_query_deletes(String numQueryDeletes) {
-		num_query_deletes = numQueryDeletes;
+		counters.setText(DbStatDumpEnum.num_query_deletes.ordinal(),
+				numQueryDeletes);
 	}
 
 	/**
@@ -1571,14 +823,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_updates
 	 */
 	public String getNum_query_updates() {
-		return num_query_updates;
+		return counters.getText(DbStatDumpEnum.num_query_updates.ordinal());
 	}
 
 	/**
 	 * @param numQueryUpdates the num_query_updates to set
 	 */
 	public void setNum_query_updates(String numQueryUpdates) {
-		num_query_updates = numQueryUpdates;
+		counters.setText(DbStatDumpEnum.num_query_updates.ordinal(),
+				numQueryUpdates);
 	}
 
 	/**
@@ -1587,14 +840,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_sscans
 	 */
 	public String getNum_query_sscans() {
-		return num_query_sscans;
+		return counters.getText(DbStatDumpEnum.num_query_sscans.ordinal());
 	}
 
 	/**
 	 * @param numQuerySscans the num_query_sscans to set
 	 */
 	public void setNum_query_sscans(String numQuerySscans) {
-		num_query_sscans = numQuerySscans;
+		counters.setText(DbStatDumpEnum.num_query_sscans.ordinal(),
+				numQuerySscans);
 	}
 
 	/**
@@ -1603,14 +857,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_iscans
 	 */
 	public String getNum_query_iscans() {
-		return num_query_iscans;
+		return counters.getText(DbStatDumpEnum.num_query_iscans.ordinal());
 	}
 
 	/**
 	 * @param numQueryIscans the num_query_iscans to set
 	 */
 	public void setNum_query_iscans(String numQueryIscans) {
-		num_query_iscans = numQueryIscans;
+		counters.setText(DbStatDumpEnum.num_query_iscans.ordinal(),
+				numQueryIscans);
 	}
 
 	/**
@@ -1619,14 +874,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_lscans
 	 */
 	public String getNum_query_lscans() {
-		return num_query_lscans;
+		return counters.getText(DbStatDumpEnum.num_query_lscans.ordinal());
 	}
 
 	/**
 	 * @param numQueryLscans the num_query_lscans to set
 	 */
 	public void setNum_query_lscans(String numQueryLscans) {
-		num_query_lscans = numQueryLscans;
+		counters.setText(DbStatDumpEnum.num_query_lscans.ordinal(),
+				numQueryLscans);
 	}
 
 	/**
@@ -1635,14 +891,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_setscans
 	 */
 	public String getNum_query_setscans() {
-		return num_query_setscans;
+		return counters.getText(DbStatDumpEnum.num_query_setscans.ordinal());
 	}
 
 	/**
 	 * @param numQuerySetscans the num_query_setscans to set
 	 */
 	public void setNum_query_setscans(String numQuerySetscans) {
-		num_query_setscans = numQuerySetscans;
+		counters.setText(DbStatDumpEnum.num_query_setscans.ordinal(),
+				numQuerySetscans);
 	}
 
 	/**
@@ -1651,14 +908,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_methscans
 	 */
 	public String getNum_query_methscans() {
-		return num_query_methscans;
+		return counters.getText(DbStatDumpEnum.num_query_methscans.ordinal());
 	}
 
 	/**
 	 * @param numQueryMethscans the num_query_methscans to set
 	 */
 	public void setNum_query_methscans(String numQueryMethscans) {
-		num_query_methscans = numQueryMethscans;
+		counters.setText(DbStatDumpEnum.num_query_methscans.ordinal(),
+				numQueryMethscans);
 	}
 
 	/**
@@ -1667,14 +925,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_nljoins
 	 */
 	public String getNum_query_nljoins() {
-		return num_query_nljoins;
+		return counters.getText(DbStatDumpEnum.num_query_nljoins.ordinal());
 	}
 
 	/**
 	 * @param numQueryNljoins the num_query_nljoins to set
 	 */
 	public void setNum_query_nljoins(String numQueryNljoins) {
-		num_query_nljoins = numQueryNljoins;
+		counters.setText(DbStatDumpEnum.num_query_nljoins.ordinal(),
+				numQueryNljoins);
 	}
 
 	/**
@@ -1683,14 +942,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_mjoins
 	 */
 	public String getNum_query_mjoins() {
-		return num_query_mjoins;
+		return counters.getText(DbStatDumpEnum.num_query_mjoins.ordinal());
 	}
 
 	/**
 	 * @param numQueryMjoins the num_query_mjoins to set
 	 */
 	public void setNum_query_mjoins(String numQueryMjoins) {
-		num_query_mjoins = numQueryMjoins;
+		counters.setText(DbStatDumpEnum.num_query_mjoins.ordinal(),
+				numQueryMjoins);
 	}
 
 	/**
@@ -1699,14 +959,15 @@ public class DbStatDumpData implements
 	 * @return the num_query_objfetches
 	 */
 	public String getNum_query_objfetches() {
-		return num_query_objfetches;
+		return counters.getText(DbStatDumpEnum.num_query_objfetches.ordinal());
 	}
 
 	/**
 	 * @param numQueryObjfetches the num_query_objfetches to set
 	 */
 	public void setNum_query_objfetches(String numQueryObjfetches) {
-		num_query_objfetches = numQueryObjfetches;
+		counters.setText(DbStatDumpEnum.num_query_objfetches.ordinal(),
+				numQueryObjfetches);
 	}
 
 	/**
@@ -1715,14 +976,15 @@ public class DbStatDumpData implements
 	 * @return the data_page_buffer_hit_ratio
 	 */
 	public String getData_page_buffer_hit_ratio() {
-		return data_page_buffer_hit_ratio;
+		return counters.getText(DbStatDumpEnum.data_page_buffer_hit_ratio.ordinal());
 	}
 
 	/**
 	 * @param dataPageBufferHitRatio the data_page_buffer_hit_ratio to set
 	 */
 	public void setData_page_buffer_hit_ratio(String dataPageBufferHitRatio) {
-		data_page_buffer_hit_ratio = dataPageBufferHitRatio;
+		counters.setText(DbStatDumpEnum.data_page_buffer_hit_ratio.ordinal(),
+				dataPageBufferHitRatio);
 	}
 
 	/**
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search Solution. 
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted provided that the following conditions are met: 
+ *
+ * - Redistributions of source code must retain the above copyright notice, 
+ *   this list of conditions and the following disclaimer. 
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, 
+ *   this list of conditions and the following disclaimer in the documentation 
+ *   and/or other materials provided with the distribution. 
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors 
+ *   may be used to endorse or promote products derived from this software without 
+ *   specific prior written permission. 
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, 
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, 
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY 
+ * OF SUCH DAMAGE. 
+ *
+ */
+package com.cubrid.jdbc.proxy.manage;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+
+import junit.framework.TestCase;
+
+/**
+ * Test ReflectionUtil
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class ReflectionUtilTest extends
+		TestCase {
+
+	/**
+	 * The driver result set like class which has collection columns
+	 */
+	public static class CollectionResultSet {
+		public static final int COLUMN_COUNT = 2;
+		private final Object[][] rows;
+		private int row = -1;
+
+		public CollectionResultSet(Object[][] rows) {
+			this.rows = rows;
+		}
+
+		public boolean next() {
+			return ++row < rows.length;
+		}
+
+		public void beforeFirst() {
+			row = -1;
+		}
+
+		public Object getCollection(int column) {
+			return rows[row][column - 1];
+		}
+
+		public Object getCollection(String columnName) throws SQLException {
+			throw new SQLException("no such column " + columnName, "", -1);
+		}
+
+		public static int getMaxColumn() {
+			return 2;
+		}
+	}
+
+	private static CollectionResultSet createResultSet(int count) {
+		Object[][] rows = new Object[count][];
+		for (int i = 0; i < count; i++) {
+			rows[i] = new Object[]{new Object[]{i, i + 1 }, new String[]{"a" + i, "b" + i } };
+		}
+		return new CollectionResultSet(rows);
+	}
+
+	/**
+	 * Test the invoke methods call the method with the given parameters
+	 * 
+	 * @throws Exception
+	 */
+	public void testInvoke() throws Exception {
+		CollectionResultSet rs = createResultSet(2);
+		assertEquals(Boolean.TRUE, ReflectionUtil.invoke(rs, "next"));
+		Object[] value = (Object[]) ReflectionUtil.invoke(rs, "getCollection", int.class, 1);
+		assertEquals(0, value[0]);
+		assertEquals(1, value[1]);
+		assertEquals(Boolean.TRUE, ReflectionUtil.invoke(rs, "next"));
+		String[] strs = ReflectionUtil.invoke(rs, "getCollection", new Class<?>[]{int.class },
+				new Object[]{2 });
+		assertEquals("a1", strs[0]);
+		assertEquals("b1", strs[1]);
+		assertEquals(Boolean.FALSE, ReflectionUtil.invoke(rs, "next"));
+		assertEquals(2, ReflectionUtil.invokeStaticMethod(CollectionResultSet.class, "getMaxColumn", null,
+				null));
+		assertEquals(2, ReflectionUtil.getStaticFieldValue("COLUMN_COUNT", CollectionResultSet.class));
+	}
+
+	/**
+	 * Test the second lookup returns the cached method, and the cache key is
+	 * not changed by the caller reusing its parameter type array
+	 * 
+	 * @throws Exception
+	 */
+	public void testCacheHit() throws Exception {
+		Class<?>[] types = new Class<?>[]{int.class };
+		Method m = ReflectionUtil.getMethod(CollectionResultSet.class, "getCollection", types);
+		assertSame(m, ReflectionUtil.getMethod(CollectionResultSet.class, "getCollection",
+				new Class<?>[]{int.class }));
+
+		types[0] = String.class;
+		assertSame(m, ReflectionUtil.getMethod(CollectionResultSet.class, "getCollection",
+				new Class<?>[]{int.class }));
+		Method byName = ReflectionUtil.getMethod(CollectionResultSet.class, "getCollection", types);
+		assertNotSame(m, byName);
+		assertSame(byName, ReflectionUtil.getMethod(CollectionResultSet.class, "getCollection",
+				new Class<?>[]{String.class }));
+
+		// null and empty parameter types are the same key
+		Method next = ReflectionUtil.getMethod(CollectionResultSet.class, "next", null);
+		assertSame(next, ReflectionUtil.getMethod(CollectionResultSet.class, "next", new Class<?>[0]));
+		assertEquals(0, next.getParameterTypes().length);
+	}
+
+	/**
+	 * Test the overloaded methods are resolved by the parameter types
+	 * 
+	 * @throws Exception
+	 */
+	public void testOverloadResolution() throws Exception {
+		Method byIndex = ReflectionUtil.getMethod(CollectionResultSet.class, "getCollection",
+				new Class<?>[]{int.class });
+		Method byName = ReflectionUtil.getMethod(CollectionResultSet.class, "getCollection",
+				new Class<?>[]{String.class });
+		assertEquals(int.class, byIndex.getParameterTypes()[0]);
+		assertEquals(String.class, byName.getParameterTypes()[0]);
+
+		CollectionResultSet rs = createResultSet(1);
+		rs.next();
+		Object[] value = (Object[]) ReflectionUtil.invoke(rs, "getCollection", int.class, 1);
+		assertEquals(0, value[0]);
+		// only the String overload throws
+		try {
+			ReflectionUtil.invoke(rs, "getCollection", String.class, "set_col");
+			fail("The String overload must be called.");
+		} catch (CUBRIDProxySQLException e) {
+			assertEquals(-1, e.getErrorCode());
+			assertTrue(e.getMessage().indexOf("set_col") >= 0);
+		}
+	}
+
+	/**
+	 * Test the missing methods and fields are reported by the error codes and
+	 * are not cached
+	 * 
+	 * @throws Exception
+	 */
+	public void testMissingMember() throws Exception {
+		CollectionResultSet rs = createResultSet(1);
+		for (int i = 0; i < 2; i++) {
+			try {
+				ReflectionUtil.getMethod(CollectionResultSet.class, "getSet", null);
+				fail("getSet does not exist.");
+			} catch (NoSuchMethodException e) {
+				assertNotNull(e);
+			}
+		}
+		try {
+			ReflectionUtil.invoke(rs, "getSet");
+			fail("getSet does not exist.");
+		} catch (CUBRIDProxySQLException e) {
+			assertEquals(-90000, e.getErrorCode());
+		}
+		try {
+			ReflectionUtil.invoke(rs, "getCollection", long.class, 1L);
+			fail("getCollection(long) does not exist.");
+		} catch (CUBRIDProxySQLException e) {
+			assertEquals(-90000, e.getErrorCode());
+		}
+		try {
+			ReflectionUtil.invokeStaticMethod(CollectionResultSet.class, "getMinColumn", null, null);
+			fail("getMinColumn does not exist.");
+		} catch (CUBRIDProxySQLException e) {
+			assertEquals(-90003, e.getErrorCode());
+		}
+		try {
+			ReflectionUtil.getStaticFieldValue("ROW_COUNT", CollectionResultSet.class);
+			fail("ROW_COUNT does not exist.");
+		} catch (CUBRIDProxySQLException e) {
+			assertEquals(-90004, e.getErrorCode());
+		}
+	}
+
+	/**
+	 * Test the cached and the uncached method lookup read the same collection
+	 * columns of a result set
+	 * 
+	 * @throws Exception
+	 */
+	public void testSameAsUncached() throws Exception {
+		CollectionResultSet rs = createResultSet(1000);
+		assertEquals(4000, readUncached(rs));
+		assertEquals(4000, readCached(rs));
+	}
+
+	private static int readUncached(CollectionResultSet rs) throws Exception {
+		rs.beforeFirst();
+		int length = 0;
+		while (rs.next()) {
+			for (int i = 1; i <= 2; i++) {
+				Method m = rs.getClass().getMethod("getCollection", new Class<?>[]{int.class });
+				length += ((Object[]) m.invoke(rs, new Object[]{i })).length;
+			}
+		}
+		return length;
+	}
+
+	private static int readCached(CollectionResultSet rs) throws Exception {
+		rs.beforeFirst();
+		int length = 0;
+		while (rs.next()) {
+			for (int i = 1; i <= 2; i++) {
+				length += ((Object[]) ReflectionUtil.invoke(rs, "getCollection", int.class, i)).length;
+			}
+		}
+		return length;
+	}
+}
@@ -32,18 +32,88 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * The reflection util
+ * The reflection util. The resolved methods are cached by class, method name
+ * and parameter types, so a proxy call does not look up the method of the
+ * driver class every time. The class is part of the key, therefore the same
+ * class name loaded by the class loaders of different driver versions is
+ * cached separately.
  *
  * @author robinhood
  *
  */
 public final class ReflectionUtil {
+	private static final Class<?>[] NO_PARAMETER_TYPES = new Class<?>[0];
+	private static final ConcurrentMap<MethodKey, Method> METHOD_CACHE = new ConcurrentHashMap<MethodKey, Method>();
 
 	private ReflectionUtil() {
 	}
 
+	/**
+	 * The key of the cached method
+	 */
+	private static final class MethodKey {
+		private final Class<?> clazz;
+		private final String methodName;
+		private final Class<?>[] parametersType;
+		private final int hashCode;
+
+		private MethodKey(Class<?> clazz, String methodName,
+				Class<?>[] parametersType) {
+			this.clazz = clazz;
+			this.methodName = methodName;
+			this.parametersType = parametersType;
+			this.hashCode = (clazz.hashCode() * 31 + methodName.hashCode())
+					* 31 + Arrays.hashCode(parametersType);
+		}
+
+		public int hashCode() {
+			return hashCode;
+		}
+
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey other = (MethodKey) obj;
+			return clazz == other.clazz
+					&& methodName.equals(other.methodName)
+					&& Arrays.equals(parametersType, other.parametersType);
+		}
+	}
+
+	/**
+	 *
+	 * Get the public method of the class from the cache, look it up when it is
+	 * not cached yet
+	 *
+	 * @param clazz the class
+	 * @param methodName the method name
+	 * @param parametersType the parameters type
+	 * @return the method
+	 * @throws NoSuchMethodException if the method is not found
+	 */
+	public static Method getMethod(Class<?> clazz, String methodName,
+			Class<?>[] parametersType) throws NoSuchMethodException {
+		MethodKey key = new MethodKey(clazz, methodName,
+				parametersType == null ? NO_PARAMETER_TYPES : parametersType);
+		Method m = METHOD_CACHE.get(key);
+		if (m == null) {
+			m = clazz.getMethod(methodName, parametersType);
+			// the caller may reuse its array
+			METHOD_CACHE.putIfAbsent(new MethodKey(clazz, methodName,
+					key.parametersType.clone()), m);
+		}
+		return m;
+	}
+
 	/**
 	 *
 	 * Invoke the method of this object by reflection
@@ -56,7 +126,8 @@ public final class ReflectionUtil {
 	public static Object invoke(Object objSrc, String methodName) throws CUBRIDProxySQLException {
 		try {
 
-			Method m = objSrc.getClass().getMethod(methodName);
+			Method m = getMethod(objSrc.getClass(), methodName,
+					NO_PARAMETER_TYPES);
 			return m.invoke(objSrc);
 		} catch (SecurityException e) {
 			throw e;
@@ -91,7 +162,7 @@ public final class ReflectionUtil {
 	public static Object invoke(Object objSrc, String methodName,
 			Class<?> clazz, Object obj) throws CUBRIDProxySQLException {
 		try {
-			Method m = objSrc.getClass().getMethod(methodName,
+			Method m = getMethod(objSrc.getClass(), methodName,
 					new Class<?>[] {clazz });
 			return m.invoke(objSrc, new Object[] {obj });
 		} catch (SecurityException e) {
@@ -129,7 +200,7 @@ public final class ReflectionUtil {
 	public static <T> T invoke(Object objSrc, String methodName,
 			Class<?>[] parametersType, Object[] parameters) throws CUBRIDProxySQLException {
 		try {
-			Method m = objSrc.getClass().getMethod(methodName, parametersType);
+			Method m = getMethod(objSrc.getClass(), methodName, parametersType);
 			return (T) m.invoke(objSrc, parameters);
 		} catch (SecurityException e) {
 			throw e;
@@ -165,8 +236,7 @@ public final class ReflectionUtil {
 	public static Object invokeStaticMethod(Class<?> clazzSrc,
 			String methodName, Class<?>[] parametersType, Object[] parameters) throws CUBRIDProxySQLException {
 		try {
-			// clazzSrc.getMethods()
-			Method m = clazzSrc.getMethod(methodName, parametersType);
+			Method m = getMethod(clazzSrc, methodName, parametersType);
 
 			return m.invoke(null, parameters);
 
@@ -38,6 +38,7 @@ import com.cubrid.common.core.util.ApplicationUtil;
 import com.cubrid.common.ui.CommonUIPlugin;
 import com.cubrid.common.ui.common.navigator.NodeAdapterFactory;
 import com.cubrid.common.ui.spi.model.ICubridNode;
+import com.cubrid.cubridmanager.ui.logs.dialog.LogSearchDialog;
 
 /**
  * 
@@ -77,6 +78,7 @@ public class CubridManagerUIPlugin extends
 	 * @exception Exception if this plug-in did not start up properly
 	 */
 	public void stop(BundleContext context) throws Exception {
+		LogSearchDialog.closeLogIndex();
 		plugin = null;
 		super.stop(context);
 	}
@@ -395,6 +395,9 @@ public class BackupDatabaseDialog extends
 					if (!(task instanceof GetBackupVolInfoTask)
 							|| database.getRunningType() != DbRunningType.CS) {
 						task.execute();
+						if (task instanceof BackupDbTask) {
+							((BackupDbTask) task).waitTaskStatus(monitor);
+						}
 						final String msg = task.getErrorMsg();
 						if (msg != null && msg.length() > 0
 								&& !monitor.isCanceled() && !isCanceled()) {
@@ -529,6 +532,7 @@ public class BackupDatabaseDialog extends
 		backupDbTask.setThreadCount(String.valueOf(threadNum));
 		backupDbTask.setZiped(isZip);
 		backupDbTask.setSafeReplication(isSafeReplication);
+		backupDbTask.setWaitTaskStatus(false);
 
 		GetBackupVolInfoTask getBackupVolInfoTask = new GetBackupVolInfoTask(
 				database.getServer().getServerInfo());
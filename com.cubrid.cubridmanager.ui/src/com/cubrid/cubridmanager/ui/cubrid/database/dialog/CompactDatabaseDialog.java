@@ -27,6 +27,7 @@
  */
 package com.cubrid.cubridmanager.ui.cubrid.database.dialog;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
@@ -216,7 +217,16 @@ public class CompactDatabaseDialog extends
 				jobName = Messages.msgCompactDbRearJobName + " - " + dbName
 						+ "@" + serverName;
 
-				TaskJobExecutor taskExec = new CommonTaskJobExec(this);
+				task.setWaitTaskStatus(false);
+				TaskJobExecutor taskExec = new CommonTaskJobExec(this) {
+					protected void executeTask(ITask task,
+							IProgressMonitor monitor) {
+						super.executeTask(task, monitor);
+						if (task instanceof CommonUpdateTask) {
+							((CommonUpdateTask) task).waitTaskStatus(monitor);
+						}
+					}
+				};
 				taskExec.addTask(task);
 				JobFamily jobFamily = new JobFamily();
 				jobFamily.setServerName(serverName);
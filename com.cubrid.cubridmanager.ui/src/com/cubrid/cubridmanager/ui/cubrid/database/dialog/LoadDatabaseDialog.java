@@ -964,6 +964,8 @@ public class LoadDatabaseDialog extends
 		}
 		loadDbTask1.setNoUsedLog(false);
 		loadDbTask2.setNoUsedLog(false);
+		loadDbTask1.setWaitTaskStatus(false);
+		loadDbTask2.setWaitTaskStatus(false);
 		if (selectLoadFileFromListButton.getSelection()) {
 			String schemaPath = "";
 			String objectPath = "";
@@ -1456,6 +1458,9 @@ public class LoadDatabaseDialog extends
 			}
 			for (ITask task : taskList) {
 				task.execute();
+				if (task instanceof LoadDbTask) {
+					((LoadDbTask) task).waitTaskStatus(monitor);
+				}
 				final String msg = task.getErrorMsg();
 				if (msg != null && msg.length() > 0 && !monitor.isCanceled()
 						&& !isCanceled()) {
@@ -1067,13 +1067,21 @@ public class RestoreDatabaseDialog extends
 		if (!valid()) {
 			return;
 		}
-		TaskJobExecutor taskExec = new CommonTaskJobExec(this);
+		TaskJobExecutor taskExec = new CommonTaskJobExec(this) {
+			protected void executeTask(ITask task, IProgressMonitor monitor) {
+				super.executeTask(task, monitor);
+				if (task instanceof RestoreDbTask) {
+					((RestoreDbTask) task).waitTaskStatus(monitor);
+				}
+			}
+		};
 		String databaseName = databaseNameText.getText();
 		ServerInfo serverInfo = database.getServer().getServerInfo();
 		boolean isLocalServer = serverInfo.isLocalServer();
 		RestoreDbTask restoreDbTask = new RestoreDbTask(
 				database.getServer().getServerInfo());
 		restoreDbTask.setDbName(databaseName);
+		restoreDbTask.setWaitTaskStatus(false);
 		String level = "0";
 		String path = "none";
 		if (selectBackupButton.getSelection()) {
@@ -105,6 +105,8 @@ import com.cubrid.cubridmanager.core.broker.model.BrokerInfos;
 import com.cubrid.cubridmanager.core.common.model.DbRunningType;
 import com.cubrid.cubridmanager.core.common.model.EnvInfo;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.common.socket.SocketTask;
+import com.cubrid.cubridmanager.core.common.socket.TreeNode;
 import com.cubrid.cubridmanager.core.common.task.CommonQueryTask;
 import com.cubrid.cubridmanager.core.common.task.CommonSendMsg;
 import com.cubrid.cubridmanager.core.common.task.GetCubridConfParameterTask;
@@ -123,6 +125,10 @@ import com.cubrid.cubridmanager.ui.broker.editor.BrokersStatusContentProvider;
 import com.cubrid.cubridmanager.ui.broker.editor.BrokersStatusLabelProvider;
 import com.cubrid.cubridmanager.ui.host.Messages;
 import com.cubrid.cubridmanager.ui.host.action.HostDashboardEditorInput;
+import com.cubrid.cubridmanager.ui.spi.monitor.IMonitoringListener;
+import com.cubrid.cubridmanager.ui.spi.monitor.MonitoringRequest;
+import com.cubrid.cubridmanager.ui.spi.monitor.MonitoringScheduler;
+import com.cubrid.cubridmanager.ui.spi.monitor.UIUpdateCoalescer;
 
 /**
  *
@@ -147,7 +153,7 @@ public class HostDashboardEditor extends
 	private Table databaseTable;
 	private final List<TableEditor> checkEditors = new ArrayList<TableEditor>();
 
-	private DataGeneratorThread dataGeneratorThread = null;
+	private HostDataGenerator dataGenerator = null;
 	private volatile int finishedCount = 0;
 	private static int TOTAL_TASK_COUNT = 4;
 
@@ -769,11 +775,11 @@ public class HostDashboardEditor extends
 	}
 
 	public void loadServerData() {
-		if (dataGeneratorThread != null) {
-			dataGeneratorThread.setRunFlag(false);
+		if (dataGenerator != null) {
+			dataGenerator.stop();
 		}
-		dataGeneratorThread = new DataGeneratorThread(serverInfo, this);
-		dataGeneratorThread.start();
+		dataGenerator = new HostDataGenerator(serverInfo, this);
+		dataGenerator.start();
 	}
 
 	private void setDbServerData(final String content) {
@@ -967,8 +973,8 @@ public class HostDashboardEditor extends
 	 */
 	public void dispose() {
 		synchronized (this) {
-			if (dataGeneratorThread != null) {
-				dataGeneratorThread.setRunFlag(false);
+			if (dataGenerator != null) {
+				dataGenerator.stop();
 			}
 			super.dispose();
 		}
@@ -1048,99 +1054,157 @@ public class HostDashboardEditor extends
 
 /**
  *
- * The Data Generator Thread
+ * The Data Generator which receives the host status and the broker status
+ * polled by {@link MonitoringScheduler}
  *
  * @author Kevin.Wang
  * @version 1.0 - 2012-10-22 created by Kevin.Wang
  */
-class DataGeneratorThread extends
-		Thread {
+class HostDataGenerator {
 	private ServerInfo serverInfo;
 	private HostDashboardEditor editorPart;
 
 	private int startRun = 0;
-	private static HostStatData diagOldOneStatusResult = new HostStatData();
-	private static HostStatData diagOldTwoStatusResult = new HostStatData();
+	private final HostStatData diagOldOneStatusResult = new HostStatData();
+	private final HostStatData diagOldTwoStatusResult = new HostStatData();
 	private HostStatData diagStatusResult = new HostStatData();
 	private boolean interruptReq = true;
 	private HostStatDataProxy hostStatDataProxy = new HostStatDataProxy();
 	private HostDataManager hostDataManager = new HostDataManager();
-	private volatile boolean runFlag = true;
-	private CommonQueryTask<BrokerInfos> task = null;
+	private boolean runFlag = false;
+	private volatile BrokerInfos brokerInfos = null;
+	private final UIUpdateCoalescer uiUpdater = new UIUpdateCoalescer();
+	private final IMonitoringListener hostListener = new IMonitoringListener() {
+		public void dataReceived(TreeNode response, String errorMsg) {
+			hostDataReceived(response);
+		}
+	};
+	private final IMonitoringListener brokerListener = new IMonitoringListener() {
+		public void dataReceived(TreeNode response, String errorMsg) {
+			if (response != null) {
+				BrokerInfos infos = new BrokerInfos();
+				SocketTask.setFieldValue(response, infos);
+				brokerInfos = infos;
+			}
+		}
+	};
 
 	/*Unit : millisecond*/
 	private int smallSpaceTime = 1000;
 	private int bigSpaceTime = 30000;
 	private int timeout = 60 * 5 * 1000;
+	private long startTime;
 
-	public DataGeneratorThread(ServerInfo serverInfo,
+	public HostDataGenerator(ServerInfo serverInfo,
 			HostDashboardEditor editorPart) {
 		this.serverInfo = serverInfo;
 		this.editorPart = editorPart;
+	}
 
-		BrokerInfos brokerInfos = new BrokerInfos();
-		task = new CommonQueryTask<BrokerInfos>(serverInfo,
-				CommonSendMsg.getCommonSimpleSendMsg(), brokerInfos);
+	/**
+	 * Start to receive the data
+	 */
+	public synchronized void start() {
+		runFlag = true;
+		startTime = System.currentTimeMillis();
+		subscribe(smallSpaceTime);
+	}
+
+	/**
+	 * Stop receiving the data
+	 */
+	public void stop() {
+		synchronized (this) {
+			runFlag = false;
+		}
+		MonitoringScheduler.getInstance().unsubscribe(hostListener);
+		MonitoringScheduler.getInstance().unsubscribe(brokerListener);
 	}
 
 	/**
-	 * Thread run method
+	 * Subscribe the hoststat and the brokers status with the interval
+	 *
+	 * @param interval the interval in milliseconds
 	 */
-	public void run() {
-		int sleepTime = smallSpaceTime;
-		long startTime = System.currentTimeMillis();
+	private void subscribe(int interval) {
+		MonitoringScheduler scheduler = MonitoringScheduler.getInstance();
+		scheduler.unsubscribe(hostListener);
+		scheduler.unsubscribe(brokerListener);
+		MonitoringRequest brokerRequest = new MonitoringRequest(
+				new BrokerInfos().getTaskName(), serverInfo,
+				CommonSendMsg.getCommonSimpleSendMsg());
+		scheduler.subscribe(brokerRequest, interval, brokerListener);
+		MonitoringRequest hostRequest = new MonitoringRequest(
+				diagStatusResult.getTaskName(), serverInfo,
+				CommonSendMsg.getCommonSimpleSendMsg());
+		scheduler.subscribe(hostRequest, interval, hostListener);
+	}
 
-		while (runFlag) {
+	/**
+	 * Compute the host status by the received hoststat and update the server
+	 * table
+	 *
+	 * @param response the response of the hoststat request
+	 */
+	private void hostDataReceived(TreeNode response) {
+		synchronized (this) {
+			if (!runFlag) {
+				return;
+			}
 			// It should be stopped when it have exceed 5 minutes because of server load
 			if (System.currentTimeMillis() - startTime > timeout) {
-				break;
+				runFlag = false;
+				MonitoringScheduler.getInstance().unsubscribe(hostListener);
+				MonitoringScheduler.getInstance().unsubscribe(brokerListener);
+				return;
 			}
 
-			getUpdateValue(startRun);
+			getUpdateValue(response, startRun);
 
 			if (startRun == 0) {
 				startRun++;
-				continue;
+				return;
 			}
 
 			if (startRun < 15) {
 				startRun++;
-			} else {
-				sleepTime = bigSpaceTime;
+				if (startRun == 15) {
+					subscribe(bigSpaceTime);
+				}
 			}
+		}
 
-			HostStatus hostStatus = new HostStatus();
-			hostStatus.setCpu(StringUtil.doubleValue(
-					hostStatDataProxy.getUserPercent(), 0));
-			hostStatus.setMemoryUsed(StringUtil.doubleValue(
-					hostStatDataProxy.getMemPhyUsed(), 0));
-			hostStatus.setMemoryPhy(StringUtil.doubleValue(
-					hostStatDataProxy.getMemPhyTotal(), 0));
-
-			task.execute();
-			BrokerInfos brokerInfos = task.getResultModel();
-
-			double qps = 0;
-			double tps = 0;
-			List<BrokerInfo> newBrokerInfoList = null;
-			if (null != brokerInfos) {
-				BrokerInfoList list = brokerInfos.getBorkerInfoList();
-				if (list != null && list.getBrokerInfoList() != null) {
-					newBrokerInfoList = list.getBrokerInfoList();
-				}
+		HostStatus hostStatus = new HostStatus();
+		hostStatus.setCpu(StringUtil.doubleValue(
+				hostStatDataProxy.getUserPercent(), 0));
+		hostStatus.setMemoryUsed(StringUtil.doubleValue(
+				hostStatDataProxy.getMemPhyUsed(), 0));
+		hostStatus.setMemoryPhy(StringUtil.doubleValue(
+				hostStatDataProxy.getMemPhyTotal(), 0));
+
+		double qps = 0;
+		double tps = 0;
+		List<BrokerInfo> newBrokerInfoList = null;
+		BrokerInfos infos = brokerInfos;
+		if (null != infos) {
+			BrokerInfoList list = infos.getBorkerInfoList();
+			if (list != null && list.getBrokerInfoList() != null) {
+				newBrokerInfoList = list.getBrokerInfoList();
 			}
-			if (newBrokerInfoList != null) {
-				for (BrokerInfo brokerInfo : newBrokerInfoList) {
-					tps += StringUtil.doubleValue(brokerInfo.getTran(), 0);
-					qps += StringUtil.doubleValue(brokerInfo.getQuery(), 0);
-				}
+		}
+		if (newBrokerInfoList != null) {
+			for (BrokerInfo brokerInfo : newBrokerInfoList) {
+				tps += StringUtil.doubleValue(brokerInfo.getTran(), 0);
+				qps += StringUtil.doubleValue(brokerInfo.getQuery(), 0);
 			}
+		}
 
-			hostStatus.setTps(tps);
-			hostStatus.setQps(qps);
+		hostStatus.setTps(tps);
+		hostStatus.setQps(qps);
 
+		final List<HostStatus> serverDataList = new ArrayList<HostStatus>();
+		synchronized (hostDataManager) {
 			hostDataManager.addData(hostStatus);
-			final List<HostStatus> serverDataList = new ArrayList<HostStatus>();
 
 			HostStatus hostStatusNow = new HostStatus();
 			hostStatusNow.setLabel(Messages.lblNow);
@@ -1161,40 +1225,28 @@ class DataGeneratorThread extends
 			hostStatusAvg.setTps(hostDataManager.getAvgTps());
 			hostStatusAvg.setFreespaceOnStorage(-1);
 			serverDataList.add(hostStatusAvg);
+		}
 
-			Display.getDefault().syncExec(new Runnable() {
-				public void run() {
-					if (editorPart.getServerTableViewer() != null
-							&& !editorPart.getServerTableViewer().getTable().isDisposed()) {
-						editorPart.getServerTableViewer().setInput(
-								serverDataList);
-						editorPart.getServerTableViewer().refresh();
-					}
+		uiUpdater.post(new Runnable() {
+			public void run() {
+				if (editorPart.getServerTableViewer() != null
+						&& !editorPart.getServerTableViewer().getTable().isDisposed()) {
+					editorPart.getServerTableViewer().setInput(serverDataList);
+					editorPart.getServerTableViewer().refresh();
 				}
-			});
-
-			try {
-				Thread.sleep(sleepTime);
-			} catch (Exception e) {
 			}
-		}
+		});
 	}
 
 	/**
 	 * Get update value
 	 *
+	 * @param response the response of the hoststat request
 	 * @param startRun int
-	 * @return Map<String, String>
 	 */
-	private void getUpdateValue(int startRun) {
-
-		final CommonQueryTask<HostStatData> task = new CommonQueryTask<HostStatData>(
-				serverInfo, CommonSendMsg.getCommonSimpleSendMsg(),
-				diagStatusResult);
-		task.execute();
-
+	private void getUpdateValue(TreeNode response, int startRun) {
 		if (startRun == 0) {
-			diagStatusResult = task.getResultModel();
+			SocketTask.setFieldValue(response, diagStatusResult);
 			if (!diagStatusResult.getStatus()) {
 				if (interruptReq) {
 					hostStatDataProxy.getDiagStatusResultMap();
@@ -1204,7 +1256,7 @@ class DataGeneratorThread extends
 			}
 		} else if (startRun == 1) {
 			diagOldOneStatusResult.copyFrom(diagStatusResult);
-			diagStatusResult = task.getResultModel();
+			SocketTask.setFieldValue(response, diagStatusResult);
 			if (!diagStatusResult.getStatus()) {
 				if (!interruptReq) {
 					showErrorMsg(diagStatusResult);
@@ -1215,7 +1267,7 @@ class DataGeneratorThread extends
 
 			diagOldTwoStatusResult.copyFrom(diagOldOneStatusResult);
 			diagOldOneStatusResult.copyFrom(diagStatusResult);
-			diagStatusResult = task.getResultModel();
+			SocketTask.setFieldValue(response, diagStatusResult);
 			if (!diagStatusResult.getStatus()) {
 				if (!interruptReq) {
 					showErrorMsg(diagStatusResult);
@@ -1240,10 +1292,6 @@ class DataGeneratorThread extends
 			}
 		});
 	}
-
-	public void setRunFlag(boolean runFlag) {
-		this.runFlag = runFlag;
-	}
 }
 
 class HostDataManager {
@@ -169,4 +169,31 @@ public class Messages extends
 	public static String lblErrorTraceResultInfo;
 
 	public static String errCharset;
+	public static String btnFollowTail;
+	public static String tipFollowTail;
+	public static String btnSearchLog;
+	public static String tipSearchLog;
+	public static String titleLogSearchDialog;
+	public static String msgLogSearchDialog;
+	public static String lblSearchText;
+	public static String lblSearchSeverity;
+	public static String lblSearchPeriod;
+	public static String itemAllSeverity;
+	public static String itemAllPeriod;
+	public static String itemLastDay;
+	public static String itemLastWeek;
+	public static String itemLastMonth;
+	public static String btnSearch;
+	public static String btnThisHostOnly;
+	public static String btnIndexLog;
+	public static String indexLogJobName;
+	public static String msgIndexLogResult;
+	public static String msgLogSearchResult;
+	public static String errLogIndex;
+	public static String errLogSearchNoTerm;
+	public static String colSearchTime;
+	public static String colSearchSeverity;
+	public static String colSearchFile;
+	public static String colSearchLine;
+	public static String colSearchContent;
 }
\ No newline at end of file
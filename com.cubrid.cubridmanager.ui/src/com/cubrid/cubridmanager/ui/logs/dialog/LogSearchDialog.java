@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmanager.ui.logs.dialog;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.dialogs.IDialogConstants;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.BusyIndicator;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Text;
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.common.ui.spi.dialog.CMTitleAreaDialog;
+import com.cubrid.common.ui.spi.progress.TaskJobExecutor;
+import com.cubrid.common.ui.spi.util.CommonUITool;
+import com.cubrid.cubridmanager.core.CubridManagerCorePlugin;
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.logs.index.LogHit;
+import com.cubrid.cubridmanager.core.logs.index.LogIndex;
+import com.cubrid.cubridmanager.core.logs.index.LogIndexer;
+import com.cubrid.cubridmanager.core.logs.index.LogQuery;
+import com.cubrid.cubridmanager.core.logs.index.LogSearchResult;
+import com.cubrid.cubridmanager.ui.CubridManagerUIPlugin;
+import com.cubrid.cubridmanager.ui.logs.Messages;
+
+/**
+ * 
+ * Search the log files which are indexed into the local {@link LogIndex} by
+ * the words, the severity and the period, and index the new lines of the log
+ * file of the editor.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class LogSearchDialog extends
+		CMTitleAreaDialog {
+
+	private static final Logger LOGGER = LogUtil.getLogger(LogSearchDialog.class);
+	private static final int INDEX_ID = IDialogConstants.CLIENT_ID + 1;
+	private static final int SEARCH_LIMIT = 1000;
+	private static final long ONE_DAY = 24L * 60 * 60 * 1000;
+	private static final String[] SEVERITIES = {"FATAL ERROR", "ERROR",
+			"SYNTAX ERROR", "WARNING", "NOTIFICATION" };
+	private static final long[] PERIOD_DAYS = {0, 1, 7, 30 };
+	private static LogIndex logIndex;
+
+	private final ServerInfo serverInfo;
+	private final String charsetName;
+	private final String path;
+	private final SimpleDateFormat timeFormat = new SimpleDateFormat(
+			"yyyy-MM-dd HH:mm:ss.SSS");
+	private Text searchText;
+	private Combo severityCombo;
+	private Combo periodCombo;
+	private Button hostOnlyBtn;
+	private Table resultTable;
+
+	/**
+	 * The constructor
+	 * 
+	 * @param parentShell
+	 * @param serverInfo the server of the log file
+	 * @param charsetName the charset of the log file
+	 * @param path the path of the log file
+	 */
+	public LogSearchDialog(Shell parentShell, ServerInfo serverInfo,
+			String charsetName, String path) {
+		super(parentShell);
+		this.serverInfo = serverInfo;
+		this.charsetName = charsetName;
+		this.path = path;
+	}
+
+	/**
+	 * Get the log index which is shared by all the dialogs, it is in the state
+	 * location of the core plugin
+	 * 
+	 * @return LogIndex
+	 * @throws IOException if the index can not be opened
+	 */
+	private static synchronized LogIndex getLogIndex() throws IOException {
+		if (logIndex == null) {
+			IPath indexPath = CubridManagerCorePlugin.getDefault().getStateLocation().append(
+					"logindex");
+			logIndex = new LogIndex(indexPath.toFile());
+		}
+		return logIndex;
+	}
+
+	/**
+	 * Close the shared log index, it is opened again by the next dialog
+	 */
+	public static synchronized void closeLogIndex() {
+		if (logIndex != null) {
+			logIndex.close();
+			logIndex = null;
+		}
+	}
+
+	/**
+	 * @see org.eclipse.jface.dialogs.TitleAreaDialog#createDialogArea(org.eclipse.swt.widgets.Composite)
+	 * @param parent The parent composite to contain the dialog area
+	 * @return the dialog area control
+	 */
+	protected Control createDialogArea(Composite parent) {
+		Composite parentComp = (Composite) super.createDialogArea(parent);
+		Composite composite = new Composite(parentComp, SWT.NONE);
+		composite.setLayoutData(new GridData(GridData.FILL_BOTH));
+		GridLayout layout = new GridLayout();
+		layout.numColumns = 7;
+		layout.marginHeight = convertVerticalDLUsToPixels(IDialogConstants.VERTICAL_MARGIN);
+		layout.marginWidth = convertHorizontalDLUsToPixels(IDialogConstants.HORIZONTAL_MARGIN);
+		layout.verticalSpacing = convertVerticalDLUsToPixels(IDialogConstants.VERTICAL_SPACING);
+		layout.horizontalSpacing = convertHorizontalDLUsToPixels(IDialogConstants.HORIZONTAL_SPACING);
+		composite.setLayout(layout);
+
+		Label searchLabel = new Label(composite, SWT.NONE);
+		searchLabel.setText(Messages.lblSearchText);
+		searchText = new Text(composite, SWT.BORDER);
+		searchText.setLayoutData(CommonUITool.createGridData(
+				GridData.FILL_HORIZONTAL, 1, 1, 200, -1));
+		searchText.addSelectionListener(new SelectionAdapter() {
+			public void widgetDefaultSelected(SelectionEvent event) {
+				search();
+			}
+		});
+
+		Label severityLabel = new Label(composite, SWT.NONE);
+		severityLabel.setText(Messages.lblSearchSeverity);
+		severityCombo = new Combo(composite, SWT.DROP_DOWN | SWT.READ_ONLY);
+		severityCombo.add(Messages.itemAllSeverity);
+		for (String severity : SEVERITIES) {
+			severityCombo.add(severity);
+		}
+		severityCombo.select(0);
+
+		Label periodLabel = new Label(composite, SWT.NONE);
+		periodLabel.setText(Messages.lblSearchPeriod);
+		periodCombo = new Combo(composite, SWT.DROP_DOWN | SWT.READ_ONLY);
+		periodCombo.setItems(new String[]{Messages.itemAllPeriod,
+				Messages.itemLastDay, Messages.itemLastWeek,
+				Messages.itemLastMonth });
+		periodCombo.select(0);
+
+		Button searchBtn = new Button(composite, SWT.NONE);
+		searchBtn.setText(Messages.btnSearch);
+		searchBtn.setLayoutData(CommonUITool.createGridData(1, 1, 80, -1));
+		searchBtn.addSelectionListener(new SelectionAdapter() {
+			public void widgetSelected(SelectionEvent event) {
+				search();
+			}
+		});
+
+		hostOnlyBtn = new Button(composite, SWT.CHECK);
+		hostOnlyBtn.setText(Messages.btnThisHostOnly);
+		hostOnlyBtn.setLayoutData(CommonUITool.createGridData(7, 1, -1, -1));
+
+		resultTable = new Table(composite, SWT.SINGLE | SWT.FULL_SELECTION
+				| SWT.BORDER);
+		resultTable.setHeaderVisible(true);
+		resultTable.setLinesVisible(true);
+		GridData gridData = new GridData(GridData.FILL_BOTH);
+		gridData.horizontalSpan = 7;
+		gridData.widthHint = 800;
+		gridData.heightHint = 300;
+		resultTable.setLayoutData(gridData);
+		createColumn(Messages.colSearchTime, 160);
+		createColumn(Messages.colSearchSeverity, 90);
+		createColumn(Messages.colSearchFile, 200);
+		createColumn(Messages.colSearchLine, 70);
+		createColumn(Messages.colSearchContent, 400);
+		resultTable.addSelectionListener(new SelectionAdapter() {
+			public void widgetDefaultSelected(SelectionEvent event) {
+				TableItem[] items = resultTable.getSelection();
+				if (items != null && items.length == 1) {
+					new LogContentDetailDialog(getShell(), items[0].getText(4)).open();
+				}
+			}
+		});
+
+		getShell().setText(Messages.titleLogSearchDialog);
+		setTitle(Messages.titleLogSearchDialog);
+		setMessage(Messages.msgLogSearchDialog);
+		return parentComp;
+	}
+
+	/**
+	 * Create a column of the result table
+	 * 
+	 * @param text the column text
+	 * @param width the column width
+	 */
+	private void createColumn(String text, int width) {
+		TableColumn column = new TableColumn(resultTable, SWT.LEFT);
+		column.setText(text);
+		column.setWidth(width);
+	}
+
+	/**
+	 * @see org.eclipse.jface.dialogs.Dialog#createButtonsForButtonBar(org.eclipse.swt.widgets.Composite)
+	 * @param parent the button bar composite
+	 */
+	protected void createButtonsForButtonBar(Composite parent) {
+		createButton(parent, INDEX_ID, Messages.btnIndexLog, false).setEnabled(
+				path != null && path.length() > 0);
+		createButton(parent, IDialogConstants.CANCEL_ID, Messages.buttonClose,
+				false);
+	}
+
+	/**
+	 * @see org.eclipse.jface.dialogs.Dialog#buttonPressed(int)
+	 * @param buttonId the id of the button that was pressed
+	 */
+	protected void buttonPressed(int buttonId) {
+		if (buttonId == INDEX_ID) {
+			indexLog();
+			return;
+		}
+		super.buttonPressed(buttonId);
+	}
+
+	/**
+	 * Search the index and show the newest hits
+	 */
+	private void search() {
+		final LogQuery query = new LogQuery();
+		query.setText(searchText.getText());
+		query.setLimit(SEARCH_LIMIT);
+		if (severityCombo.getSelectionIndex() > 0) {
+			query.setSeverity(severityCombo.getText());
+		}
+		long days = PERIOD_DAYS[Math.max(0, periodCombo.getSelectionIndex())];
+		if (days > 0) {
+			query.setFromTime(System.currentTimeMillis() - days * ONE_DAY);
+		}
+		if (hostOnlyBtn.getSelection()) {
+			query.setFileKeyPrefix(serverInfo.getHostAddress() + ":"
+					+ serverInfo.getHostMonPort() + ":");
+		}
+		if (!query.hasIndexedTerm()) {
+			setErrorMessage(Messages.errLogSearchNoTerm);
+			return;
+		}
+		setErrorMessage(null);
+		final LogSearchResult[] result = new LogSearchResult[1];
+		final String[] errorMsg = new String[1];
+		BusyIndicator.showWhile(getShell().getDisplay(), new Runnable() {
+			public void run() {
+				try {
+					result[0] = getLogIndex().search(query);
+				} catch (IOException e) {
+					LOGGER.error(e.getMessage(), e);
+					errorMsg[0] = e.getMessage();
+				}
+			}
+		});
+		if (errorMsg[0] != null) {
+			CommonUITool.openErrorBox(getShell(), NLS.bind(Messages.errLogIndex,
+					errorMsg[0]));
+			return;
+		}
+		resultTable.removeAll();
+		for (LogHit hit : result[0].getHitList()) {
+			TableItem item = new TableItem(resultTable, SWT.NONE);
+			item.setText(0, hit.getTime() > 0 ? timeFormat.format(new Date(
+					hit.getTime())) : "");
+			item.setText(1, hit.getSeverity());
+			item.setText(2, hit.getFileKey());
+			item.setText(3, Long.toString(hit.getLineNo()));
+			item.setText(4, hit.getText());
+		}
+		StringBuffer facets = new StringBuffer();
+		for (Map.Entry<String, Integer> entry : result[0].getSeverityCountMap().entrySet()) {
+			if (entry.getKey().length() > 0) {
+				facets.append(facets.length() > 0 ? ", " : "").append(
+						entry.getKey()).append(": ").append(entry.getValue());
+			}
+		}
+		setMessage(NLS.bind(Messages.msgLogSearchResult,
+				Integer.toString(result[0].getMatchCount()), facets.toString()));
+	}
+
+	/**
+	 * Index the new lines of the log file in a job
+	 */
+	private void indexLog() {
+		final LogIndexer indexer;
+		try {
+			indexer = new LogIndexer(getLogIndex(), serverInfo, charsetName);
+		} catch (IOException e) {
+			LOGGER.error(e.getMessage(), e);
+			CommonUITool.openErrorBox(getShell(), NLS.bind(Messages.errLogIndex,
+					e.getMessage()));
+			return;
+		}
+		getButton(INDEX_ID).setEnabled(false);
+		TaskJobExecutor taskJobExecutor = new TaskJobExecutor() {
+			public IStatus exec(IProgressMonitor monitor) {
+				final long count = indexer.index(path);
+				Display.getDefault().asyncExec(new Runnable() {
+					public void run() {
+						if (getShell() == null || getShell().isDisposed()) {
+							return;
+						}
+						getButton(INDEX_ID).setEnabled(true);
+						if (count >= 0) {
+							setMessage(NLS.bind(Messages.msgIndexLogResult,
+									Long.toString(count), path));
+						}
+					}
+				});
+				if (count < 0 && !indexer.isCanceled()) {
+					return new Status(IStatus.ERROR,
+							CubridManagerUIPlugin.PLUGIN_ID,
+							indexer.getErrorMsg());
+				}
+				return Status.OK_STATUS;
+			}
+
+			public void cancel() {
+				indexer.cancel();
+				super.cancel();
+			}
+		};
+		String jobName = NLS.bind(Messages.indexLogJobName, path);
+		taskJobExecutor.schedule(jobName, null, false, Job.LONG);
+	}
+}
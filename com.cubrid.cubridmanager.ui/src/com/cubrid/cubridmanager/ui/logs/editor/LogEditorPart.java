@@ -86,15 +86,18 @@ import com.cubrid.common.ui.spi.part.CubridEditorPart;
 import com.cubrid.common.ui.spi.persist.QueryOptions;
 import com.cubrid.common.ui.spi.progress.TaskJobExecutor;
 import com.cubrid.common.ui.spi.util.CommonUITool;
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.logs.model.LogBlockCache;
 import com.cubrid.cubridmanager.core.logs.model.LogContentInfo;
 import com.cubrid.cubridmanager.core.logs.model.ManagerLogInfo;
 import com.cubrid.cubridmanager.core.logs.model.ManagerLogInfos;
 import com.cubrid.cubridmanager.core.logs.task.ErrorTraceTask;
-import com.cubrid.cubridmanager.core.logs.task.GetLogListTask;
+import com.cubrid.cubridmanager.core.logs.task.GetCachedLogListTask;
 import com.cubrid.cubridmanager.core.logs.task.GetManagerLogListTask;
 import com.cubrid.cubridmanager.ui.CubridManagerUIPlugin;
 import com.cubrid.cubridmanager.ui.logs.Messages;
 import com.cubrid.cubridmanager.ui.logs.dialog.LogContentDetailDialog;
+import com.cubrid.cubridmanager.ui.logs.dialog.LogSearchDialog;
 import com.cubrid.cubridmanager.ui.logs.dialog.ShowErrorTraceInfoDialog;
 import com.cubrid.cubridmanager.ui.spi.model.CubridNodeType;
 
@@ -115,6 +118,16 @@ public class LogEditorPart extends
 	private Button buttonNext = null;
 	private Button buttonPrev = null;
 	private Button buttonEnd = null;
+	private Button buttonFollowTail = null;
+	private boolean isFollowTail = false;
+	// the only timer of the follow tail mode, it is rescheduled by every tick
+	private final Runnable followTailRunnable = new Runnable() {
+		public void run() {
+			if (isFollowTail && table != null && !table.isDisposed()) {
+				connect(false, 0, true);
+			}
+		}
+	};
 	private Combo charsetCombo = null;
 	private String charsetName = StringUtil.getDefaultCharset();
 	private Table table = null;
@@ -125,6 +138,7 @@ public class LogEditorPart extends
 	// start page info
 	private final static int PAGESIZE = 100;
 	private final static int CNTRECORD = 0;
+	private final static int FOLLOW_TAIL_INTERVAL = 3000;
 	private PageUtil pageInfo = null;
 	private String path = "";
 	// end page info
@@ -341,7 +355,7 @@ public class LogEditorPart extends
 			gridLayoutLog.marginWidth = 0;
 			gridLayoutLog.marginHeight = 0;
 			gridLayoutLog.horizontalSpacing = 5;
-			gridLayoutLog.numColumns = 8;
+			gridLayoutLog.numColumns = 10;
 			compositeLog.setLayout(gridLayoutLog);
 		}
 
@@ -352,7 +366,7 @@ public class LogEditorPart extends
 		{
 			table.setHeaderVisible(true);
 			GridData gridData = new GridData(SWT.FILL, SWT.FILL, true, true);
-			gridData.horizontalSpan = 8;
+			gridData.horizontalSpan = 10;
 			gridData.verticalSpan = 10;
 			gridData.heightHint = 600;
 			table.setLayoutData(gridData);
@@ -442,6 +456,7 @@ public class LogEditorPart extends
 					setCharsetName(charsetName);
 					if (!CubridNodeType.LOGS_MANAGER_ERROR_LOG.equals(type)
 							&& !CubridNodeType.LOGS_MANAGER_ACCESS_LOG.equals(type)) {
+						LogBlockCache.getInstance().invalidate(getLogFileKey());
 						connect(false);
 					}
 					if (CubridNodeType.LOGS_MANAGER_ERROR_LOG.equals(type)
@@ -474,7 +489,7 @@ public class LogEditorPart extends
 					public void widgetSelected(SelectionEvent event) {
 						lineStart = 1;
 						lineEnd = 100;
-						connect(false);
+						connect(false, 1, false);
 					}
 				});
 			}
@@ -490,7 +505,7 @@ public class LogEditorPart extends
 							lineStart = 1;
 						}
 						lineEnd = lineStart + 99;
-						connect(false);
+						connect(false, -1, false);
 					}
 				});
 			}
@@ -509,7 +524,7 @@ public class LogEditorPart extends
 						if (lineEnd > lineTot) {
 							lineEnd = lineTot;
 						}
-						connect(false);
+						connect(false, 1, false);
 					}
 				});
 			}
@@ -522,7 +537,35 @@ public class LogEditorPart extends
 					public void widgetSelected(SelectionEvent event) {
 						lineEnd = lineTot;
 						lineStart = lineEnd - lineTot % 100 + 1;
-						connect(false);
+						connect(false, -1, false);
+					}
+				});
+			}
+			buttonFollowTail = new Button(compositeLog, SWT.TOGGLE);
+			{
+				buttonFollowTail.setText(Messages.btnFollowTail);
+				buttonFollowTail.setToolTipText(Messages.tipFollowTail);
+				buttonFollowTail.setLayoutData(createPageBtnGridData(-1));
+				buttonFollowTail.addSelectionListener(new SelectionAdapter() {
+					public void widgetSelected(SelectionEvent event) {
+						isFollowTail = buttonFollowTail.getSelection();
+						Display.getDefault().timerExec(-1, followTailRunnable);
+						if (isFollowTail) {
+							connect(false, 0, true);
+						}
+					}
+				});
+			}
+			Button buttonSearch = new Button(compositeLog, SWT.NONE);
+			{
+				buttonSearch.setText(Messages.btnSearchLog);
+				buttonSearch.setToolTipText(Messages.tipSearchLog);
+				buttonSearch.setLayoutData(createPageBtnGridData(-1));
+				buttonSearch.addSelectionListener(new SelectionAdapter() {
+					public void widgetSelected(SelectionEvent event) {
+						new LogSearchDialog(getSite().getShell(),
+								cubridNode.getServer().getServerInfo(),
+								charsetName, path).open();
 					}
 				});
 			}
@@ -636,17 +679,36 @@ public class LogEditorPart extends
 	 *
 	 */
 	public void connect(final boolean isCreateColumn) {
-		GetLogListTask task = null;
+		connect(isCreateColumn, 0, false);
+	}
+
+	/**
+	 * Each page of log connect, the pages are read through the client block
+	 * cache
+	 *
+	 * @param isCreateColumn boolean
+	 * @param direction the paging direction, 1 is forward and -1 is backward
+	 * @param isTail whether to read the last page for the follow tail mode
+	 */
+	private void connect(final boolean isCreateColumn, int direction,
+			final boolean isTail) {
+		if (!isTail) {
+			stopFollowTail();
+		}
+		GetCachedLogListTask task = null;
 		if (charsetName == null) {
-			task = new GetLogListTask(
+			task = new GetCachedLogListTask(
 					this.cubridNode.getServer().getServerInfo());
 		} else {
-			task = new GetLogListTask(
+			task = new GetCachedLogListTask(
 					this.cubridNode.getServer().getServerInfo(), charsetName);
 		}
 		task.setPath(path);
 		task.setStart(Long.toString(lineStart));
 		task.setEnd(Long.toString(lineEnd));
+		task.setDirection(direction);
+		task.setFollowTail(isTail);
+		task.setPageSize(PAGESIZE);
 
 		TaskJobExecutor taskJobExecutor = new TaskJobExecutor() {
 			public IStatus exec(IProgressMonitor monitor) {
@@ -661,15 +723,25 @@ public class LogEditorPart extends
 					}
 					if (msg != null && msg.length() > 0
 							&& !monitor.isCanceled()) {
+						if (isTail) {
+							Display.getDefault().asyncExec(new Runnable() {
+								public void run() {
+									stopFollowTail();
+								}
+							});
+						}
 						return new Status(IStatus.ERROR,
 								CubridManagerUIPlugin.PLUGIN_ID, msg);
 					} else {
 						Display.getDefault().asyncExec(new Runnable() {
 							public void run() {
-								if (task instanceof GetLogListTask) {
-									GetLogListTask getLogListTask = (GetLogListTask) task;
+								if (task instanceof GetCachedLogListTask) {
+									GetCachedLogListTask getLogListTask = (GetCachedLogListTask) task;
 									LogContentInfo logContentInfo = (LogContentInfo) getLogListTask.getLogContent();
 									setTableInfo(logContentInfo, isCreateColumn);
+									if (isTail) {
+										followTail();
+									}
 								}
 							}
 						});
@@ -687,6 +759,50 @@ public class LogEditorPart extends
 		taskJobExecutor.schedule(jobName, null, false, Job.SHORT);
 	}
 
+	/**
+	 * Show the last line and read the tail again after a while
+	 */
+	private void followTail() {
+		if (!isFollowTail || table == null || table.isDisposed()) {
+			return;
+		}
+		if (table.getItemCount() > 0) {
+			table.setTopIndex(table.getItemCount() - 1);
+		}
+		Display.getDefault().timerExec(FOLLOW_TAIL_INTERVAL, followTailRunnable);
+	}
+
+	/**
+	 * Cancel the follow tail timer and dispose the resource and object
+	 */
+	public void dispose() {
+		isFollowTail = false;
+		Display.getDefault().timerExec(-1, followTailRunnable);
+		super.dispose();
+	}
+
+	/**
+	 * Stop the follow tail mode
+	 */
+	private void stopFollowTail() {
+		isFollowTail = false;
+		Display.getDefault().timerExec(-1, followTailRunnable);
+		if (buttonFollowTail != null && !buttonFollowTail.isDisposed()) {
+			buttonFollowTail.setSelection(false);
+		}
+	}
+
+	/**
+	 * Get the key of the log file in the client block cache
+	 *
+	 * @return String
+	 */
+	private String getLogFileKey() {
+		ServerInfo serverInfo = cubridNode.getServer().getServerInfo();
+		return LogBlockCache.getFileKey(serverInfo.getHostAddress(),
+				serverInfo.getHostMonPort(), path);
+	}
+
 	/**
 	 * each page of manager log connect
 	 *
@@ -765,6 +881,7 @@ public class LogEditorPart extends
 			lineStart = Integer.parseInt(logContentInfo.getStart());
 			lineEnd = Integer.parseInt(logContentInfo.getEnd());
 			lineTot = Integer.parseInt(logContentInfo.getTotal());
+			LogBlockCache.getInstance().updateTotal(getLogFileKey(), lineTot);
 			pageText.setText(lineStart + "-" + lineEnd + " (" + lineTot + ")");
 			if (lineStart <= 100) {
 				buttonFirst.setEnabled(false);
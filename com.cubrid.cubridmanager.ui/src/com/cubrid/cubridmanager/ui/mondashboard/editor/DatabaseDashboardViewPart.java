@@ -69,6 +69,7 @@ import com.cubrid.cubridmanager.core.CubridManagerCorePlugin;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
 import com.cubrid.cubridmanager.core.mondashboard.model.DbProcessStatusInfo;
 import com.cubrid.cubridmanager.core.mondashboard.model.HADatabaseStatusInfo;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.DbProcStatEnum;
 import com.cubrid.cubridmanager.core.monitoring.model.DbStatDumpData;
 import com.cubrid.cubridmanager.core.monitoring.model.DbStatDumpEnum;
@@ -620,10 +621,13 @@ public class DatabaseDashboardViewPart extends
 	 * Perform updating the dynamic data in this view part
 	 *
 	 * @param map an instance of Map
+	 * @param dbStatDumpCounters the database counters to record, can be null
 	 * @param hostCpuTotal String
 	 * @param hostMemTotal String
 	 */
-	private void performUpdate(Map<IDiagPara, String> map, String hostCpuTotal, String hostMemTotal) {
+	private void performUpdate(Map<IDiagPara, String> map,
+			CounterVector dbStatDumpCounters, String hostCpuTotal,
+			String hostMemTotal) {
 		if (map == null) {
 			resetZero();
 			return;
@@ -663,7 +667,10 @@ public class DatabaseDashboardViewPart extends
 			historyFileHelp.buildCountFile(typeNames);
 			historyFileHelp.storageData(dbProcStatMap, DbProcStatEnum.values());
 			historyFileHelp.storageData(standbyServerStatMap, StandbyServerStatEnum.values());
-			historyFileHelp.storageData(dbStatDumpMap, DbStatDumpEnum.values());
+			if (dbStatDumpCounters != null) {
+				historyFileHelp.storageData(dbStatDumpCounters,
+						DbStatDumpEnum.values());
+			}
 
 		} else {
 			historyFileHelp.closeHistroyFile();
@@ -873,11 +880,13 @@ public class DatabaseDashboardViewPart extends
 
 		Set<MondashDataResult> set = dataChangedEvent.getResultSet();
 		Map<IDiagPara, String> updateMap = null;
+		CounterVector dbStatDumpCounters = null;
 		String hostCpuTotal = "0";
 		String hostMemTotal = "0";
 		for (MondashDataResult result : set) {
 			if (dbNode.getDbName().equals(result.getName())) {
 				updateMap = result.getUpdateMap();
+				dbStatDumpCounters = result.getCounters(DbStatDumpEnum.class);
 			} else if (generator.getName().equals(result.getName())) {
 				Map<IDiagPara, String> hostMap = result.getUpdateMap();
 				if (hostMap != null) {
@@ -889,7 +898,8 @@ public class DatabaseDashboardViewPart extends
 				}
 			}
 		}
-		performUpdate(updateMap, hostCpuTotal, hostMemTotal);
+		performUpdate(updateMap, dbStatDumpCounters, hostCpuTotal,
+				hostMemTotal);
 	}
 
 	public HANode getModel() {
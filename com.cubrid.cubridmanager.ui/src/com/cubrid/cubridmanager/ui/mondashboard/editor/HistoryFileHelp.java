@@ -40,12 +40,15 @@ import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.ui.spi.util.CommonUITool;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
 import com.cubrid.cubridmanager.ui.mondashboard.Messages;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.BasicCounterFile;
+import com.cubrid.cubridmanager.ui.monitoring.editor.count.BlockReadCounterFile;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.CounterFile;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.CounterType;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.RangeType;
+import com.cubrid.cubridmanager.ui.monitoring.editor.count.RollupCounterFile;
 
 /**
  * This class is responsible for generating history file, recording data into
@@ -74,7 +77,8 @@ public class HistoryFileHelp {
 		File counter = new File(historyPath);
 		if (counter.exists() && counter.isFile()) {
 			try {
-				countFile = new BasicCounterFile(counter, null);
+				countFile = new RollupCounterFile(counter,
+						new BasicCounterFile(counter, null), false);
 			} catch (IOException ex) {
 				LOGGER.error(ex.getMessage());
 			}
@@ -89,8 +93,9 @@ public class HistoryFileHelp {
 			CounterType[] types = counterList.toArray(new CounterType[counterList.size()]);
 			Properties props = new Properties();
 			try {
-				countFile = new BasicCounterFile(counter, types, maxCount,
-						interval, 0, props);
+				countFile = new RollupCounterFile(counter,
+						new BasicCounterFile(counter, types, maxCount,
+								interval, 0, props), false);
 			} catch (IOException ex) {
 				LOGGER.error(ex.getMessage());
 			}
@@ -124,6 +129,31 @@ public class HistoryFileHelp {
 		}
 	}
 
+	/**
+	 *
+	 * Storage the counters into the local file.
+	 *
+	 * @param <T> the generic type which is the sub type of IDiagPara
+	 * @param counters the counters that will be storage, indexed in the same
+	 *        order as ts
+	 * @param ts a generic array, for instance
+	 *        BrokerDiagEnum.values(),DbStatDumpEnum.values()
+	 */
+	public <T extends IDiagPara> void storageData(CounterVector counters,
+			T[] ts) {
+		long time = System.currentTimeMillis();
+		for (int i = 0; i < ts.length; i++) {
+			if (!counters.isNumber(i)) {
+				continue;
+			}
+			try {
+				countFile.updateData(time, ts[i].getName(), counters.get(i));
+			} catch (IOException e) {
+				LOGGER.error(e.getMessage());
+			}
+		}
+	}
+
 	/**
 	 * Open a history file while reading the history data
 	 * 
@@ -133,7 +163,8 @@ public class HistoryFileHelp {
 		File counter = new File(historyPath);
 		if (counter.exists() && counter.isFile()) {
 			try {
-				countFile = new BasicCounterFile(counter, null);
+				countFile = new RollupCounterFile(counter,
+						new BlockReadCounterFile(counter, null), true);
 			} catch (IOException ex) {
 				LOGGER.error(ex.getMessage());
 			}
@@ -71,6 +71,7 @@ import com.cubrid.cubridmanager.core.common.model.ServerInfo;
 import com.cubrid.cubridmanager.core.common.model.ServerType;
 import com.cubrid.cubridmanager.core.monitoring.model.BrokerDiagData;
 import com.cubrid.cubridmanager.core.monitoring.model.BrokerDiagEnum;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.HostStatEnum;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
 import com.cubrid.cubridmanager.ui.CubridManagerUIPlugin;
@@ -486,8 +487,10 @@ public class HostDashboardViewPart extends
 	/**
 	 * @see com.cubrid.cubridmanager.ui.mondashboard.editor.dispatcher.DataUpdateListener
 	 * @param map which includes all the changed value
+	 * @param brokerDiagCounters the broker counters to record, can be null
 	 */
-	public void performUpdate(Map<IDiagPara, String> map) {
+	public void performUpdate(Map<IDiagPara, String> map,
+			CounterVector brokerDiagCounters) {
 		if (map == null) {
 			resetZero();
 			return;
@@ -511,8 +514,9 @@ public class HostDashboardViewPart extends
 		if (recordFlag) {
 			historyFileHelp.buildCountFile(typeNames);
 			historyFileHelp.storageData(hostStatMap, HostStatEnum.values());
-			if (brokerChartPart != null) {
-				historyFileHelp.storageData(brokerDiagMap, BrokerDiagEnum.values());
+			if (brokerChartPart != null && brokerDiagCounters != null) {
+				historyFileHelp.storageData(brokerDiagCounters,
+						BrokerDiagEnum.values());
 			}
 		} else {
 			historyFileHelp.closeHistroyFile();
@@ -666,7 +670,8 @@ public class HostDashboardViewPart extends
 		}
 		for (MondashDataResult result : set) {
 			if (generator.getName().equals(result.getName())) {
-				performUpdate(result.getUpdateMap());
+				performUpdate(result.getUpdateMap(),
+						result.getCounters(BrokerDiagEnum.class));
 			}
 		}
 
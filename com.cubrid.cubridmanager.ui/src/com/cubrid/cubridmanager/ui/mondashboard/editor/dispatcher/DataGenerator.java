@@ -33,11 +33,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import org.eclipse.swt.widgets.Display;
 import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
-import com.cubrid.common.ui.spi.thread.ThreadPoolManager;
+import com.cubrid.cubridmanager.ui.spi.monitor.UIUpdateCoalescer;
 import com.cubrid.cubridmanager.ui.mondashboard.editor.model.BrokerNode;
 import com.cubrid.cubridmanager.ui.mondashboard.editor.model.DatabaseNode;
 import com.cubrid.cubridmanager.ui.mondashboard.editor.model.HostNode;
@@ -56,23 +55,24 @@ public class DataGenerator extends
 	private final List<DataUpdateListener> listeners = Collections.synchronizedList(new ArrayList<DataUpdateListener>());
 	private boolean isRunning;
 	private final IDataProvider dataProvider;
-	private final ThreadPoolManager threadPoolManager;
+	private final UIUpdateCoalescer uiUpdater = new UIUpdateCoalescer();
 
 	public DataGenerator(String name, IDataProvider provider) {
 		super(name);
 		dataProvider = provider;
-		threadPoolManager = new ThreadPoolManager(name);
 		dataProvider.setDataGenerator(this);
 	}
 
 	/**
-	 * Thread run method
+	 * Thread run method. The samples are taken at the multiple of the
+	 * interval and the update is delivered to UI thread asynchronously, so a
+	 * slow painting does not delay the next sample.
 	 */
 	public void run() {
 		isRunning = true;
 		while (runflag) {
 			final DataChangedEvent dataChangedEvent = dataProvider.getUpdateValue();
-			Display.getDefault().syncExec(new Runnable() {
+			uiUpdater.post(new Runnable() {
 				public void run() {
 					if (dataProvider.isAllowUpdate()) {
 						fireUpdate(dataChangedEvent);
@@ -81,7 +81,7 @@ public class DataGenerator extends
 			});
 
 			try {
-				Thread.sleep(interval);
+				Thread.sleep(interval - System.currentTimeMillis() % interval);
 			} catch (Exception e) {
 				LOGGER.error(e.getMessage());
 			}
@@ -145,7 +145,6 @@ public class DataGenerator extends
 				if (hostNode != null) {
 					hostNode.setConnecting(false);
 				}
-				getThreadPoolManager().disposeAll();
 				DataGeneratorPool pool = DataGeneratorPool.getInstance();
 				pool.removeDataGenerator(getName());
 			}
@@ -201,8 +200,4 @@ public class DataGenerator extends
 		return isRunning;
 	}
 
-	public ThreadPoolManager getThreadPoolManager() {
-		return threadPoolManager;
-	}
-
 }
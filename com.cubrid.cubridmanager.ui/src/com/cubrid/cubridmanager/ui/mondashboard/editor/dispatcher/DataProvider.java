@@ -40,10 +40,9 @@ import java.util.Set;
 import org.eclipse.swt.widgets.Display;
 import org.slf4j.Logger;
 
-import com.cubrid.common.core.task.AbstractTask;
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.core.util.StringUtil;
-import com.cubrid.common.ui.spi.thread.ThreadCountOutOfBoundsException;
+import com.cubrid.common.ui.spi.thread.ExecutorPools;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
 import com.cubrid.cubridmanager.core.common.model.ServerType;
 import com.cubrid.cubridmanager.core.common.task.CommonQueryTask;
@@ -54,6 +53,8 @@ import com.cubrid.cubridmanager.core.mondashboard.model.HAHostStatusInfo;
 import com.cubrid.cubridmanager.core.mondashboard.task.GetDbModeTask;
 import com.cubrid.cubridmanager.core.mondashboard.task.GetHeartbeatNodeInfoTask;
 import com.cubrid.cubridmanager.core.monitoring.model.BrokerDiagData;
+import com.cubrid.cubridmanager.core.monitoring.model.BrokerDiagEnum;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.HostStatData;
 import com.cubrid.cubridmanager.core.monitoring.model.HostStatDataProxy;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
@@ -93,6 +94,7 @@ public class DataProvider implements
 	private float inter;
 	private BrokerDiagData brokerDiagOldOneStatusResult;
 	private BrokerDiagData brokerDiagOldTwoStatusResult;
+	private CounterVector brokerDiagCounters;
 	private int brokerdiagRequestCount;
 
 	private boolean isExecuteHostStatTask = false;
@@ -412,12 +414,7 @@ public class DataProvider implements
 		}
 
 		if (IS_MULTI_THREAD && !runnableList.isEmpty()) {
-			try {
-				generator.getThreadPoolManager().execute(runnableList, true);
-			} catch (ThreadCountOutOfBoundsException e) {
-				LOGGER.error("", e);
-			}
-			join(runnableList, 350);
+			ExecutorPools.getIoPool().executeAll(runnableList, 0);
 			runnableList.clear();
 		}
 
@@ -435,51 +432,12 @@ public class DataProvider implements
 			runnableList.addAll(dbDataProviderList.get(i).getExecRunnableList());
 		}
 		if (IS_MULTI_THREAD && !runnableList.isEmpty()) {
-			try {
-				generator.getThreadPoolManager().execute(runnableList, true);
-			} catch (ThreadCountOutOfBoundsException e) {
-				LOGGER.error("", e);
-			}
-			join(runnableList, 20);
+			ExecutorPools.getIoPool().executeAll(runnableList, 0);
 		} else {
 			execute(runnableList);
 		}
 	}
 
-	/**
-	 * 
-	 * Join the current thread
-	 * 
-	 * @param runnableList List<Runnable>
-	 * @param time long
-	 */
-	private void join(List<Runnable> runnableList, long time) {
-		while (!isDone(runnableList)) {
-			try {
-				Thread.sleep(time);
-			} catch (InterruptedException e) {
-				LOGGER.error("", e);
-			}
-		}
-	}
-
-	/**
-	 * 
-	 * Whether all runnable object is done
-	 * 
-	 * @param runnableList List<Runnable>
-	 * @return boolean
-	 */
-	private boolean isDone(List<Runnable> runnableList) {
-		boolean isDone = true;
-		for (Runnable runnableObj : runnableList) {
-			if (runnableObj instanceof AbstractTask) {
-				isDone = isDone && ((AbstractTask) runnableObj).isDone();
-			}
-		}
-		return isDone;
-	}
-
 	/**
 	 * 
 	 * Execute all runnable orderly in current thread
@@ -523,6 +481,7 @@ public class DataProvider implements
 			MondashDataResult hostResult = new MondashDataResult();
 			hostResult.setName(generator.getName());
 			hostResult.putUpdateMap(hostMap);
+			hostResult.putCounters(BrokerDiagEnum.class, brokerDiagCounters);
 			resultSet.add(hostResult);
 		}
 
@@ -670,6 +629,7 @@ public class DataProvider implements
 	 * @param returnMap the instance of TreeMap<IDiagPara, String>
 	 */
 	public void performBrokerDiagTask(Map<IDiagPara, String> returnMap) {
+		brokerDiagCounters = null;
 		BrokerDiagData brokerDiagStatusResult = brokerDiagTask == null ? null
 				: brokerDiagTask.getResultModel();
 		if (brokerDiagStatusResult == null) {
@@ -694,6 +654,7 @@ public class DataProvider implements
 			brokerDiagDataDelta.getDelta(brokerDiagStatusResult,
 					brokerDiagOldOneStatusResult);
 			returnMap.putAll(brokerDiagDataDelta.getDiagStatusResultMap());
+			brokerDiagCounters = brokerDiagDataDelta.getCounters();
 			brokerdiagRequestCount++;
 
 			brokerDiagOldTwoStatusResult.copyFrom(brokerDiagOldOneStatusResult);
@@ -709,6 +670,7 @@ public class DataProvider implements
 					brokerDiagOldOneStatusResult, brokerDiagOldTwoStatusResult,
 					inter);
 			returnMap.putAll(brokerDiagStatusResultDelta.getDiagStatusResultMap());
+			brokerDiagCounters = brokerDiagStatusResultDelta.getCounters();
 
 			brokerDiagOldTwoStatusResult.copyFrom(brokerDiagOldOneStatusResult);
 			brokerDiagOldOneStatusResult.copyFrom(brokerDiagStatusResult);
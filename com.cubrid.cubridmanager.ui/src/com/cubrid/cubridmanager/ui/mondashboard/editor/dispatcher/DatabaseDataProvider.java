@@ -46,9 +46,11 @@ import com.cubrid.cubridmanager.core.mondashboard.model.DBStatusType;
 import com.cubrid.cubridmanager.core.mondashboard.model.HADatabaseStatusInfo;
 import com.cubrid.cubridmanager.core.mondashboard.model.StandbyServerStat;
 import com.cubrid.cubridmanager.core.mondashboard.model.StandbyServerStatProxy;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.DbProcStat;
 import com.cubrid.cubridmanager.core.monitoring.model.DbProcStatProxy;
 import com.cubrid.cubridmanager.core.monitoring.model.DbStatDumpData;
+import com.cubrid.cubridmanager.core.monitoring.model.DbStatDumpEnum;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
 import com.cubrid.cubridmanager.ui.mondashboard.editor.DatabaseDashboardViewPart;
 import com.cubrid.cubridmanager.ui.mondashboard.editor.model.DatabaseNode;
@@ -84,6 +86,7 @@ public class DatabaseDataProvider implements
 
 	private DbStatDumpData dbStatDumpOldOneResult;
 	private DbStatDumpData dbStatDumpOldTwoResult;
+	private CounterVector dbStatDumpCounters;
 	private Calendar lastSec;
 	private Calendar nowSec;
 	private int dbdumpRequestCount;
@@ -245,6 +248,7 @@ public class DatabaseDataProvider implements
 			performDbProcTask(dbMap);
 		}
 		result.putUpdateMap(dbMap);
+		result.putCounters(DbStatDumpEnum.class, dbStatDumpCounters);
 
 		Set<MondashDataResult> resultSet = new HashSet<MondashDataResult>();
 		resultSet.add(result);
@@ -353,6 +357,7 @@ public class DatabaseDataProvider implements
 	 * @param updateMap an instance of Map
 	 */
 	public void performDbdumpTask(Map<IDiagPara, String> updateMap) {
+		dbStatDumpCounters = null;
 		DbStatDumpData dbStatDumpResult = dbStatDumptask == null ? null
 				: dbStatDumptask.getResultModel();
 		if (dbStatDumpResult == null) {
@@ -378,6 +383,7 @@ public class DatabaseDataProvider implements
 			dbStatDumpDataDelta.getDelta(dbStatDumpResult,
 					dbStatDumpOldOneResult);
 			updateMap.putAll(dbStatDumpDataDelta.getDiagStatusResultMap());
+			dbStatDumpCounters = dbStatDumpDataDelta.getCounters();
 			dbdumpRequestCount++;
 
 			dbStatDumpOldTwoResult.copy_from(dbStatDumpOldOneResult);
@@ -393,6 +399,7 @@ public class DatabaseDataProvider implements
 					dbStatDumpOldOneResult, dbStatDumpOldTwoResult, inter);
 
 			updateMap.putAll(dbStatDumpDataDelta.getDiagStatusResultMap());
+			dbStatDumpCounters = dbStatDumpDataDelta.getCounters();
 
 			dbStatDumpOldTwoResult.copy_from(dbStatDumpOldOneResult);
 			dbStatDumpOldOneResult.copy_from(dbStatDumpResult);
@@ -32,6 +32,7 @@ package com.cubrid.cubridmanager.ui.mondashboard.editor.dispatcher;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
 
 /**
@@ -44,15 +45,18 @@ public class MondashDataResult {
 
 	private String name;
 	private final Map<IDiagPara, String> updateMap;
+	private final Map<Class<?>, CounterVector> countersMap;
 
 	public MondashDataResult() {
 		name = "";
 		updateMap = new HashMap<IDiagPara, String>();
+		countersMap = new HashMap<Class<?>, CounterVector>();
 	}
 
 	public MondashDataResult(String name) {
 		this.name = name;
 		updateMap = new HashMap<IDiagPara, String>();
+		countersMap = new HashMap<Class<?>, CounterVector>();
 	}
 
 	/**
@@ -91,6 +95,29 @@ public class MondashDataResult {
 		}
 	}
 
+	/**
+	 * Get the newest counters of the given type
+	 * 
+	 * @param type the enum type of the counters, for instance BrokerDiagEnum
+	 * @return the counters indexed by the ordinal of type, or null
+	 */
+	public CounterVector getCounters(Class<? extends IDiagPara> type) {
+		return countersMap.get(type);
+	}
+
+	/**
+	 * Put the counters of the given type
+	 * 
+	 * @param type the enum type of the counters, for instance BrokerDiagEnum
+	 * @param counters the counters indexed by the ordinal of type
+	 */
+	public void putCounters(Class<? extends IDiagPara> type,
+			CounterVector counters) {
+		if (counters != null) {
+			countersMap.put(type, counters);
+		}
+	}
+
 	/**
 	 * @return int
 	 * @see java.lang.Object#hashCode()
@@ -45,20 +45,20 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IActionBars;
 import org.eclipse.ui.IViewSite;
 import org.eclipse.ui.PartInitException;
-import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.CompatibleUtil;
-import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.ui.spi.event.CubridNodeChangedEvent;
 import com.cubrid.common.ui.spi.model.ICubridNode;
 import com.cubrid.common.ui.spi.part.CubridViewPart;
 import com.cubrid.common.ui.spi.util.CommonUITool;
 import com.cubrid.cubridmanager.core.CubridManagerCorePlugin;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
-import com.cubrid.cubridmanager.core.common.task.CommonQueryTask;
+import com.cubrid.cubridmanager.core.common.socket.SocketTask;
+import com.cubrid.cubridmanager.core.common.socket.TreeNode;
 import com.cubrid.cubridmanager.core.common.task.CommonSendMsg;
 import com.cubrid.cubridmanager.core.monitoring.model.BrokerDiagData;
 import com.cubrid.cubridmanager.core.monitoring.model.BrokerDiagEnum;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
 import com.cubrid.cubridmanager.ui.CubridManagerUIPlugin;
 import com.cubrid.cubridmanager.ui.monitoring.Messages;
@@ -70,6 +70,10 @@ import com.cubrid.cubridmanager.ui.monitoring.editor.internal.Recordable;
 import com.cubrid.cubridmanager.ui.monitoring.editor.internal.ShowSetting;
 import com.cubrid.cubridmanager.ui.monitoring.editor.internal.ShowSettingMatching;
 import com.cubrid.cubridmanager.ui.monitoring.editor.internal.StatusMonInstanceData;
+import com.cubrid.cubridmanager.ui.spi.monitor.IMonitoringListener;
+import com.cubrid.cubridmanager.ui.spi.monitor.MonitoringRequest;
+import com.cubrid.cubridmanager.ui.spi.monitor.MonitoringScheduler;
+import com.cubrid.cubridmanager.ui.spi.monitor.UIUpdateCoalescer;
 
 /**
  * A editor part is used to view broker status monitor.
@@ -81,14 +85,15 @@ public class BrokerStatusMonitorViewPart extends
 		CubridViewPart implements
 		Recordable {
 
-	private static final Logger LOGGER = LogUtil.getLogger(BrokerStatusMonitorViewPart.class);
 	public static final String ID = BrokerStatusMonitorViewPart.class.getName();
+	private static final int MONITOR_INTERVAL = 1000;
 	private Composite composite;
 	private boolean runflag = true;
 	private int startRun = 0;
 
-	private static BrokerDiagData diagOldOneStatusResult = new BrokerDiagData();
-	private static BrokerDiagData diagOldTwoStatusResult = new BrokerDiagData();
+	private final BrokerDiagData diagOldOneStatusResult = new BrokerDiagData();
+	private final BrokerDiagData diagOldTwoStatusResult = new BrokerDiagData();
+	private CounterVector updateCounters;
 	private BrokerDiagData diagStatusResult = new BrokerDiagData();
 	private Calendar lastSec;
 	private Calendar nowSec;
@@ -98,6 +103,8 @@ public class BrokerStatusMonitorViewPart extends
 	private StatusMonInstanceData monInstaceData;
 	private boolean recordFlag;
 	private boolean isNewBrokerDiag;
+	private final DataGenerator dataGenerator = new DataGenerator();
+	private final UIUpdateCoalescer uiUpdater = new UIUpdateCoalescer();
 
 	/**
 	 * @param site IViewSite the view site
@@ -160,7 +167,11 @@ public class BrokerStatusMonitorViewPart extends
 		chartPart.loadContent();
 		makeActions();
 
-		new DataGenerator().start();
+		MonitoringRequest request = new MonitoringRequest(
+				diagStatusResult.getTaskName(), serverInfo,
+				CommonSendMsg.getGetBrokerStatusItems());
+		MonitoringScheduler.getInstance().subscribe(request, MONITOR_INTERVAL,
+				dataGenerator);
 	}
 
 	/**
@@ -175,21 +186,17 @@ public class BrokerStatusMonitorViewPart extends
 	/**
 	 * Get update value
 	 *
+	 * @param response the response of the broker status request
 	 * @param startRun int
 	 * @return Map<String, String>
 	 */
-	private TreeMap<String, String> getUpdateValue(int startRun) {
-		ServerInfo site = cubridNode.getServer().getServerInfo();
-
-		final CommonQueryTask<BrokerDiagData> task = new CommonQueryTask<BrokerDiagData>(
-				site, CommonSendMsg.getGetBrokerStatusItems(), diagStatusResult);
-		task.execute();
-
+	private TreeMap<String, String> getUpdateValue(TreeNode response,
+			int startRun) {
 		TreeMap<String, String> resultMap = null;
 		float inter = 0.0f;
 
 		if (startRun == 0) {
-			diagStatusResult = task.getResultModel();
+			SocketTask.setFieldValue(response, diagStatusResult);
 			if (!diagStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(diagStatusResult.getDiagStatusResultMap());
@@ -202,7 +209,7 @@ public class BrokerStatusMonitorViewPart extends
 			lastSec = Calendar.getInstance();
 			diagOldOneStatusResult.copyFrom(diagStatusResult);
 			BrokerDiagData brokerDiagDataDelta = new BrokerDiagData();
-			diagStatusResult = task.getResultModel();
+			SocketTask.setFieldValue(response, diagStatusResult);
 			if (!diagStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(diagStatusResult.getDiagStatusResultMap());
@@ -225,7 +232,7 @@ public class BrokerStatusMonitorViewPart extends
 
 			diagOldTwoStatusResult.copyFrom(diagOldOneStatusResult);
 			diagOldOneStatusResult.copyFrom(diagStatusResult);
-			diagStatusResult = task.getResultModel();
+			SocketTask.setFieldValue(response, diagStatusResult);
 			if (!diagStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(diagStatusResult.getDiagStatusResultMap());
@@ -237,6 +244,7 @@ public class BrokerStatusMonitorViewPart extends
 			diagStatusResultDelta.getDelta(diagStatusResult,
 					diagOldOneStatusResult, diagOldTwoStatusResult, inter);
 			resultMap = convertMapKey(diagStatusResultDelta.getDiagStatusResultMap());
+			updateCounters = diagStatusResultDelta.getCounters();
 		}
 		return resultMap;
 	}
@@ -266,44 +274,43 @@ public class BrokerStatusMonitorViewPart extends
 	}
 
 	/**
-	 * A inner class that update the data of chart in a single thread
+	 * A inner class that receives the broker status polled by
+	 * {@link MonitoringScheduler} and updates the data of chart
 	 *
 	 * @author lizhiqiang
 	 * @version 1.0 - 2009-6-4 created by lizhiqiang
 	 */
-	class DataGenerator extends
-			Thread {
-		private TreeMap<String, String> updateMap;
+	class DataGenerator implements
+			IMonitoringListener {
 
 		/**
-		 * Thread run method
+		 * @see IMonitoringListener#dataReceived(TreeNode, String)
+		 * @param response the response
+		 * @param errorMsg the error message
 		 */
-		@Override
-		public void run() {
-			while (getRunflag()) {
-				updateMap = getUpdateValue(startRun);
+		public void dataReceived(TreeNode response, String errorMsg) {
+			synchronized (BrokerStatusMonitorViewPart.this) {
+				if (!runflag) {
+					return;
+				}
+				final TreeMap<String, String> updateMap = getUpdateValue(
+						response, startRun);
 				if (startRun <= 1) {
 					startRun++;
-				} else {
-					Display.getDefault().syncExec(new Runnable() {
-						public void run() {
-							if (composite != null && !composite.isDisposed()) {
-								update(updateMap);
-							}
+					return;
+				}
+				uiUpdater.post(new Runnable() {
+					public void run() {
+						if (composite != null && !composite.isDisposed()) {
+							update(updateMap);
 						}
-
-					});
-					if (recordFlag) {
-						chartPart.storageData(updateMap,
-								BrokerDiagEnum.values(), null);
-					} else {
-						chartPart.closeHistroyFile();
 					}
-				}
-				try {
-					Thread.sleep(1000);
-				} catch (Exception e) {
-					LOGGER.error(e.getMessage());
+				});
+				if (recordFlag) {
+					chartPart.storageData(updateCounters,
+							BrokerDiagEnum.values(), null);
+				} else {
+					chartPart.closeHistroyFile();
 				}
 			}
 		}
@@ -324,6 +331,7 @@ public class BrokerStatusMonitorViewPart extends
 	 * Disposes this view when it closed
 	 */
 	public void dispose() {
+		MonitoringScheduler.getInstance().unsubscribe(dataGenerator);
 		synchronized (this) {
 			runflag = false;
 			chartPart.closeHistroyFile();
@@ -62,6 +62,7 @@ import com.cubrid.cubridmanager.core.common.model.ServerInfo;
 import com.cubrid.cubridmanager.core.common.task.CommonQueryTask;
 import com.cubrid.cubridmanager.core.common.task.CommonSendMsg;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.DbStatDumpData;
 import com.cubrid.cubridmanager.core.monitoring.model.DbStatDumpEnum;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
@@ -95,6 +96,7 @@ public class DbStatusDumpMonitorViewPart extends
 
 	private static DbStatDumpData diagOldOneStatusResult = new DbStatDumpData();
 	private static DbStatDumpData diagOldTwoStatusResult = new DbStatDumpData();
+	private CounterVector updateCounters;
 	private DbStatDumpData diagStatusResult = new DbStatDumpData();
 	private Calendar lastSec;
 	private Calendar nowSec;
@@ -277,6 +279,7 @@ public class DbStatusDumpMonitorViewPart extends
 					diagOldOneStatusResult, diagOldTwoStatusResult, inter);
 
 			resultMap = convertMapKey(diagStatusResultDelta.getDiagStatusResultMap());
+			updateCounters = diagStatusResultDelta.getCounters();
 
 		}
 		return resultMap;
@@ -365,7 +368,7 @@ public class DbStatusDumpMonitorViewPart extends
 
 					});
 					if (recordFlag) {
-						chartPart.storageData(updateMap,
+						chartPart.storageData(updateCounters,
 								DbStatDumpEnum.values(), dbName);
 					} else {
 						chartPart.closeHistroyFile();
@@ -52,16 +52,15 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IActionBars;
 import org.eclipse.ui.IViewSite;
 import org.eclipse.ui.PartInitException;
-import org.slf4j.Logger;
 
-import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.ui.spi.event.CubridNodeChangedEvent;
 import com.cubrid.common.ui.spi.part.CubridViewPart;
 import com.cubrid.common.ui.spi.util.CommonUITool;
 import com.cubrid.cubridmanager.core.CubridManagerCorePlugin;
 import com.cubrid.cubridmanager.core.common.model.DbRunningType;
 import com.cubrid.cubridmanager.core.common.model.ServerInfo;
-import com.cubrid.cubridmanager.core.common.task.CommonQueryTask;
+import com.cubrid.cubridmanager.core.common.socket.SocketTask;
+import com.cubrid.cubridmanager.core.common.socket.TreeNode;
 import com.cubrid.cubridmanager.core.common.task.CommonSendMsg;
 import com.cubrid.cubridmanager.core.cubrid.database.model.DatabaseInfo;
 import com.cubrid.cubridmanager.core.monitoring.model.DbProcStat;
@@ -78,6 +77,10 @@ import com.cubrid.cubridmanager.ui.monitoring.editor.internal.DbSystemMonitorCom
 import com.cubrid.cubridmanager.ui.monitoring.editor.internal.HistoryComposite;
 import com.cubrid.cubridmanager.ui.monitoring.editor.internal.RecordAction;
 import com.cubrid.cubridmanager.ui.monitoring.editor.internal.Recordable;
+import com.cubrid.cubridmanager.ui.spi.monitor.IMonitoringListener;
+import com.cubrid.cubridmanager.ui.spi.monitor.MonitoringRequest;
+import com.cubrid.cubridmanager.ui.spi.monitor.MonitoringScheduler;
+import com.cubrid.cubridmanager.ui.spi.monitor.UIUpdateCoalescer;
 
 /**
  * A editor part is used to view system monitor info which.
@@ -89,20 +92,25 @@ public class DbSystemMonitorViewPart extends
 		CubridViewPart implements
 		Recordable {
 
-	private static final Logger LOGGER = LogUtil.getLogger(DbSystemMonitorViewPart.class);
 	public static final String ID = DbSystemMonitorViewPart.class.getName();
+	private static final int MONITOR_INTERVAL = 1000;
 	private Composite composite;
 	private boolean runflag = true;
 	private int startRun = 0;
-	private static DbProcStat dbProcOldOneStatusResult = new DbProcStat();
-	private static DbProcStat dbProcOldTwoStatusResult = new DbProcStat();
+	private final DbProcStat dbProcOldOneStatusResult = new DbProcStat();
+	private final DbProcStat dbProcOldTwoStatusResult = new DbProcStat();
 	private DbProcStat dbProcStatusResult = new DbProcStat();
 	private DbProcStatProxy dbProcStatProxy;
 
-	private static HostStatData hostOldOneStatusResult = new HostStatData();
-	private static HostStatData hostOldTwoStatusResult = new HostStatData();
+	private int hostStartRun = 0;
+	private final HostStatData hostOldOneStatusResult = new HostStatData();
+	private final HostStatData hostOldTwoStatusResult = new HostStatData();
 	private HostStatData hostStatusResult = new HostStatData();
 	private HostStatDataProxy hostStatDataProxy;
+	private TreeMap<String, String> hostMap;
+	private final DataGenerator dataGenerator = new DataGenerator();
+	private final HostDataReceiver hostDataReceiver = new HostDataReceiver();
+	private final UIUpdateCoalescer uiUpdater = new UIUpdateCoalescer();
 	private long monitorTimes;
 	private boolean interruptReq;
 	private String dbName = "";
@@ -206,7 +214,36 @@ public class DbSystemMonitorViewPart extends
 			dbName = selectDb;
 		}
 		makeActions();
-		new DataGenerator().start();
+		if (runflag) {
+			MonitoringRequest hostRequest = new MonitoringRequest(
+					hostStatusResult.getTaskName(), serverInfo,
+					CommonSendMsg.getCommonSimpleSendMsg());
+			MonitoringScheduler.getInstance().subscribe(hostRequest,
+					MONITOR_INTERVAL, hostDataReceiver);
+			subscribeDbRequest();
+		}
+	}
+
+	/**
+	 * Subscribe the dbprocstat request of the selected database, the former
+	 * subscription is canceled
+	 */
+	private void subscribeDbRequest() {
+		MonitoringScheduler scheduler = MonitoringScheduler.getInstance();
+		scheduler.unsubscribe(dataGenerator);
+		synchronized (this) {
+			String selectDb = dbCombo.getSelectedDb();
+			if (ALL_DB_NAME.equals(selectDb)) {
+				dbName = "";
+			} else {
+				dbName = selectDb;
+			}
+		}
+		MonitoringRequest dbRequest = new MonitoringRequest(
+				dbProcStatusResult.getTaskName(), serverInfo,
+				CommonSendMsg.getCommonDatabaseSendMsg());
+		dbRequest.setMsgItem("dbname", dbName);
+		scheduler.subscribe(dbRequest, MONITOR_INTERVAL, dataGenerator);
 	}
 
 	/**
@@ -219,18 +256,20 @@ public class DbSystemMonitorViewPart extends
 	}
 
 	/**
-	 * Get update value
+	 * Get update value, the host values are the latest ones received by
+	 * {@link HostDataReceiver}
 	 *
+	 * @param response the response of the dbprocstat request
 	 * @param startRun int
 	 * @return Map<String, String>
 	 */
-	private TreeMap<String, String> getUpdateValue(int startRun) {
-		ServerInfo serverInfo = cubridNode.getServer().getServerInfo();
-
-		TreeMap<String, String> returnMap = getDbProcTaskValue(serverInfo,
-				startRun);
-		TreeMap<String, String> hostMap = getHostProcTaskValue(serverInfo,
+	private TreeMap<String, String> getUpdateValue(TreeNode response,
+			int startRun) {
+		TreeMap<String, String> returnMap = getDbProcTaskValue(response,
 				startRun);
+		if (hostMap == null) {
+			return returnMap;
+		}
 		String hostCpuTotal = hostMap.get(HostStatEnum.CPU_TOTAL.name());
 		String memPhyTotal = hostMap.get(HostStatEnum.MEMPHY_TOTAL.name());
 		returnMap.put(HostStatEnum.CPU_TOTAL.name(), hostCpuTotal);
@@ -241,26 +280,14 @@ public class DbSystemMonitorViewPart extends
 	/**
 	 * Get the update value from dbprocstat task
 	 *
-	 * @param serverInfo the server info
+	 * @param response the response of the dbprocstat request
 	 * @param startRun int
 	 * @return TreeMap<String, String>
 	 */
-	private TreeMap<String, String> getDbProcTaskValue(ServerInfo serverInfo,
+	private TreeMap<String, String> getDbProcTaskValue(TreeNode response,
 			int startRun) {
-		String selectDb = dbCombo.getSelectedDb();
-		if (ALL_DB_NAME.equals(selectDb)) {
-			dbName = "";
-		} else {
-			dbName = selectDb;
-		}
-		final CommonQueryTask<DbProcStat> dbStatTask = new CommonQueryTask<DbProcStat>(
-				serverInfo, CommonSendMsg.getCommonDatabaseSendMsg(),
-				dbProcStatusResult);
-		dbStatTask.setDbName(dbName);
-		dbStatTask.execute();
-
 		if (startRun == 0) {
-			dbProcStatusResult = dbStatTask.getResultModel();
+			SocketTask.setFieldValue(response, dbProcStatusResult);
 			if (!dbProcStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(dbProcStatProxy.getDiagStatusResultMap());
@@ -271,7 +298,7 @@ public class DbSystemMonitorViewPart extends
 		} else if (startRun == 1) {
 			dbProcOldOneStatusResult.copyFrom(dbProcStatusResult);
 			dbProcStatusResult.clearDbstat();
-			dbProcStatusResult = dbStatTask.getResultModel();
+			SocketTask.setFieldValue(response, dbProcStatusResult);
 			if (!dbProcStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(dbProcStatProxy.getDiagStatusResultMap());
@@ -285,7 +312,7 @@ public class DbSystemMonitorViewPart extends
 			dbProcOldTwoStatusResult.copyFrom(dbProcOldOneStatusResult);
 			dbProcOldOneStatusResult.copyFrom(dbProcStatusResult);
 			dbProcStatusResult.clearDbstat();
-			dbProcStatusResult = dbStatTask.getResultModel();
+			SocketTask.setFieldValue(response, dbProcStatusResult);
 			if (!dbProcStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(dbProcStatProxy.getDiagStatusResultMap());
@@ -302,20 +329,15 @@ public class DbSystemMonitorViewPart extends
 	/**
 	 * Get update value from hostStatdata task
 	 *
-	 * @param serverInfo the serverInfo
+	 * @param response the response of the hoststat request
 	 * @param startRun int
 	 * @return Map<String, String>
 	 */
-	private TreeMap<String, String> getHostProcTaskValue(ServerInfo serverInfo,
+	private TreeMap<String, String> getHostProcTaskValue(TreeNode response,
 			int startRun) { // FIXME extract
-
-		final CommonQueryTask<HostStatData> hostStattask = new CommonQueryTask<HostStatData>(
-				serverInfo, CommonSendMsg.getCommonSimpleSendMsg(),
-				hostStatusResult);
-		hostStattask.execute();
 		if (startRun == 0) {
 
-			hostStatusResult = hostStattask.getResultModel();
+			SocketTask.setFieldValue(response, hostStatusResult);
 			if (!hostStatusResult.getStatus()) {
 				if (interruptReq) {
 					hostStatDataProxy.getDiagStatusResultMap();
@@ -325,7 +347,7 @@ public class DbSystemMonitorViewPart extends
 			}
 		} else if (startRun == 1) {
 			hostOldOneStatusResult.copyFrom(hostStatusResult);
-			hostStatusResult = hostStattask.getResultModel();
+			SocketTask.setFieldValue(response, hostStatusResult);
 			if (!hostStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(hostStatDataProxy.getDiagStatusResultMap());
@@ -337,7 +359,7 @@ public class DbSystemMonitorViewPart extends
 		} else {
 			hostOldTwoStatusResult.copyFrom(hostOldOneStatusResult);
 			hostOldOneStatusResult.copyFrom(hostStatusResult);
-			hostStatusResult = hostStattask.getResultModel();
+			SocketTask.setFieldValue(response, hostStatusResult);
 			if (!hostStatusResult.getStatus()) {
 				if (interruptReq) {
 					return convertMapKey(hostStatDataProxy.getDiagStatusResultMap());
@@ -391,46 +413,77 @@ public class DbSystemMonitorViewPart extends
 	}
 
 	/**
-	 * A inner class that update the data of chart in a single thread
+	 * A inner class that receives the dbprocstat polled by
+	 * {@link MonitoringScheduler} and updates the data of chart
 	 *
 	 * @author lizhiqiang
 	 * @version 1.0 - 2010-6-17 created by lizhiqiang
 	 */
-	class DataGenerator extends
-			Thread {
-		private TreeMap<String, String> updateMap;
+	class DataGenerator implements
+			IMonitoringListener {
 
 		/**
-		 * Thread run method
+		 * @see IMonitoringListener#dataReceived(TreeNode, String)
+		 * @param response the response
+		 * @param errorMsg the error message
 		 */
-		@Override
-		public void run() {
-			while (runflag) {
-				updateMap = getUpdateValue(startRun);
+		public void dataReceived(TreeNode response, String errorMsg) {
+			synchronized (DbSystemMonitorViewPart.this) {
+				if (!runflag) {
+					return;
+				}
+				final TreeMap<String, String> updateMap = getUpdateValue(
+						response, startRun);
 				if (startRun <= 1) {
 					startRun++;
-				} else {
-					Display.getDefault().syncExec(new Runnable() {
-						public void run() {
-							if (composite != null && !composite.isDisposed()) {
-								update(updateMap);
-							}
+					return;
+				}
+				uiUpdater.post(new Runnable() {
+					public void run() {
+						if (composite != null && !composite.isDisposed()) {
+							update(updateMap);
 						}
-					});
-					//history
-					if (recordFlag) {
-						historyFileHelp.buildCountFile(typeNames);
-						historyFileHelp.storageData(updateMap,
-								DbProcStatEnum.values());
-
-					} else {
-						historyFileHelp.closeHistroyFile();
 					}
+				});
+				//history
+				if (recordFlag) {
+					historyFileHelp.buildCountFile(typeNames);
+					historyFileHelp.storageData(updateMap,
+							DbProcStatEnum.values());
+				} else {
+					historyFileHelp.closeHistroyFile();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A inner class that receives the hoststat polled by
+	 * {@link MonitoringScheduler} and keeps the latest host values
+	 *
+	 * @author cubrid
+	 * @version 1.0 - 2026-10-18 created by cubrid
+	 */
+	class HostDataReceiver implements
+			IMonitoringListener {
+
+		/**
+		 * @see IMonitoringListener#dataReceived(TreeNode, String)
+		 * @param response the response
+		 * @param errorMsg the error message
+		 */
+		public void dataReceived(TreeNode response, String errorMsg) {
+			synchronized (DbSystemMonitorViewPart.this) {
+				if (!runflag) {
+					return;
+				}
+				TreeMap<String, String> map = getHostProcTaskValue(response,
+						hostStartRun);
+				if (hostStartRun > 0) {
+					hostMap = map;
 				}
-				try {
-					Thread.sleep(1000);
-				} catch (Exception e) {
-					LOGGER.error(e.getMessage());
+				if (hostStartRun <= 1) {
+					hostStartRun++;
 				}
 			}
 		}
@@ -440,6 +493,8 @@ public class DbSystemMonitorViewPart extends
 	 * Disposes this view when it closed
 	 */
 	public void dispose() {
+		MonitoringScheduler.getInstance().unsubscribe(dataGenerator);
+		MonitoringScheduler.getInstance().unsubscribe(hostDataReceiver);
 		synchronized (this) {
 			runflag = false;
 			historyFileHelp.closeHistroyFile();
@@ -480,7 +535,9 @@ public class DbSystemMonitorViewPart extends
 	 * @param startRun the startRun to set
 	 */
 	public void setStartRun(int startRun) {
-		this.startRun = startRun;
+		synchronized (this) {
+			this.startRun = startRun;
+		}
 	}
 
 	/**
@@ -606,6 +663,7 @@ public class DbSystemMonitorViewPart extends
 							selectedDb = newSelectedDb;
 
 							setStartRun(0);
+							subscribeDbRequest();
 							compositePart.updateChart();
 							updateHistoryPath(selectedDb);
 
@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -86,9 +87,10 @@ public class BasicCounterFile implements
 	private final int rowCapacity;
 	private final boolean[] skipSlots;
 
-	private int originTimeSecond; // begin from first storage data;
-	private int rowOffset; // offset of row
-	private int rowCount; // row count
+	// volatile for the readers which do not hold the seek lock
+	private volatile int originTimeSecond; // begin from first storage data;
+	private volatile int rowOffset; // offset of row
+	private volatile int rowCount; // row count
 
 	private volatile boolean closed = false;
 
@@ -836,72 +838,110 @@ public class BasicCounterFile implements
 	 */
 	@SuppressWarnings("PMD")
 	public Result readData(long time, String... typeArgs) throws IOException {
+		CounterTypeInternal[] args = getTypeArgs(typeArgs);
+		ResultImpl res = new ResultImpl(args);
 
-		if (typeArgs.length == 0) {
-			typeArgs = types.keySet().toArray(new String[types.size()]);
-		}
-
-		CounterTypeInternal[] args = new CounterTypeInternal[typeArgs.length];
+		beginRead();
+		ByteBuffer row = getRow(time, null);
 
-		for (int i = 0; i < typeArgs.length; i++) {
-			String name = typeArgs[i];
-			CounterTypeInternal type = types.get(name);
+		for (int i = 0; i < args.length; i++) {
+			CounterTypeInternal type = args[i];
 
-			if (type == null) {
-				throw new IllegalArgumentException();
+			if (type.isMulti()) {
+				ColumnData data = row == null ? new ColumnData()
+						: type.readMulti(row);
+				res.setMulti(i, data, type.isCounter());
+			} else {
+				long data = row == null ? INVALID_VALUE : type.readSingle(row);
+				res.setSingle(i, data, type.isCounter());
 			}
-
-			args[i] = type;
 		}
 
-		ResultImpl res = new ResultImpl(args);
-
-		if (originTimeSecond == NULL_TIME || time < getBeginTime()
-				|| time >= getEndTime() || isSkipped(time)) {
-
-			for (int i = 0; i < args.length; i++) {
-				CounterTypeInternal type = args[i];
+		return res;
+	}
 
-				if (type.isMulti()) {
-					res.setMulti(i, new ColumnData(), type.isCounter());
-				} else {
-					res.setSingle(i, INVALID_VALUE, type.isCounter());
-				}
-			}
+	/**
+	 * read data as long
+	 * 
+	 * @param time time
+	 * @param typeArgs types
+	 * @return long value array, mapped to types
+	 * @@throws IOException exception for IO operation
+	 */
+	@SuppressWarnings("PMD")
+	public long[] readDataAsLong(long time, String... typeArgs) throws IOException {
+		CounterTypeInternal[] args = getTypeArgs(typeArgs);
+		long[] items = new long[args.length];
 
-		} else {
+		beginRead();
+		ByteBuffer row = getRow(time, null);
 
-			long pos = getRowOffset(time);
+		for (int i = 0; i < args.length; i++) {
+			CounterTypeInternal type = args[i];
 
-			synchronized (seekLock) {
-				for (int i = 0; i < args.length; i++) {
-					CounterTypeInternal type = args[i];
+			if (row == null) {
+				items[i] = INVALID_VALUE;
+			} else if (type.isMulti()) {
+				ColumnData data = type.readMulti(row);
 
-					if (type.isMulti()) {
-						ColumnData data = type.readMulti(file, pos);
-						res.setMulti(i, data, type.isCounter());
+				if (data.getCount() == 0) {
+					items[i] = INVALID_VALUE;
+				} else {
+					if (type.isCounter()) {
+						items[i] = data.getSum();
 					} else {
-						long data = type.readSingle(file, pos);
-						res.setSingle(i, data, type.isCounter());
+						items[i] = data.getSum() / data.getCount();
 					}
 				}
+			} else {
+				items[i] = type.readSingle(row);
 			}
 		}
 
-		return res;
+		return items;
 	}
 
 	/**
-	 * read data as long
+	 * read the average values of a time range
 	 * 
-	 * @param time time
+	 * @param beginTime begin time
+	 * @param endTime end time, exclusive
+	 * @param step count of intervals between two rows
 	 * @param typeArgs types
-	 * @return long value array, mapped to types
-	 * @@throws IOException exception for IO operation
+	 * @return values indexed by [type][row]
+	 * @throws IOException exception for IO operation
 	 */
-	@SuppressWarnings("PMD")
-	public long[] readDataAsLong(long time, String... typeArgs) throws IOException {
+	public double[][] readAvgRange(long beginTime, long endTime, int step,
+			String... typeArgs) throws IOException {
+		CounterTypeInternal[] args = getTypeArgs(typeArgs);
+		long stepTime = interval * 1000L * (step < 1 ? 1 : step);
+		int rows = endTime <= beginTime ? 0
+				: (int) ((endTime - beginTime + stepTime - 1) / stepTime);
+		double[][] values = new double[args.length][rows];
 
+		beginRead();
+		ByteBuffer rowBuffer = ByteBuffer.allocate(rowSize);
+		long time = beginTime;
+
+		for (int r = 0; r < rows; r++, time += stepTime) {
+			ByteBuffer row = getRow(time, rowBuffer);
+
+			for (int i = 0; i < args.length; i++) {
+				values[i][r] = row == null ? INVALID_VALUE
+						: args[i].readAvg(row);
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * get the types by names, all types when no name is given
+	 * 
+	 * @param typeArgs type names
+	 * @return types
+	 */
+	CounterTypeInternal[] getTypeArgs(String... typeArgs) {
 		if (typeArgs.length == 0) {
 			typeArgs = types.keySet().toArray(new String[types.size()]);
 		}
@@ -909,8 +949,7 @@ public class BasicCounterFile implements
 		CounterTypeInternal[] args = new CounterTypeInternal[typeArgs.length];
 
 		for (int i = 0; i < typeArgs.length; i++) {
-			String name = typeArgs[i];
-			CounterTypeInternal type = types.get(name);
+			CounterTypeInternal type = types.get(typeArgs[i]);
 
 			if (type == null) {
 				throw new IllegalArgumentException();
@@ -919,44 +958,53 @@ public class BasicCounterFile implements
 			args[i] = type;
 		}
 
-		if (originTimeSecond == NULL_TIME || time < getBeginTime()
-				|| time >= getEndTime() || isSkipped(time)) {
+		return args;
+	}
 
-			long[] res = new long[typeArgs.length];
+	/**
+	 * prepare for a read operation, it is called once by every read method
+	 * before the rows are read.
+	 * 
+	 * @throws IOException exception for IO operation
+	 */
+	protected void beginRead() throws IOException {
+		// nothing to prepare for reading from the file
+	}
 
-			for (int i = 0; i < res.length; i++) {
-				res[i] = INVALID_VALUE;
-			}
+	/**
+	 * whether the row of the time has no data
+	 * 
+	 * @param time time
+	 * @return true: no data
+	 */
+	protected boolean isEmptyRow(long time) {
+		return originTimeSecond == NULL_TIME || time < getBeginTime()
+				|| time >= getEndTime() || isSkipped(time);
+	}
 
-			return res;
+	/**
+	 * read one row in one file operation
+	 * 
+	 * @param time time
+	 * @param rowBuffer the buffer to copy the row into, can be null
+	 * @return the row bytes from index 0, or null if the row has no data
+	 * @throws IOException exception for IO operation
+	 */
+	protected ByteBuffer getRow(long time, ByteBuffer rowBuffer) throws IOException {
+		if (isEmptyRow(time)) {
+			return null;
 		}
 
-		long[] items = new long[typeArgs.length];
+		ByteBuffer row = rowBuffer == null ? ByteBuffer.allocate(rowSize)
+				: rowBuffer;
 		long pos = getRowOffset(time);
 
 		synchronized (seekLock) {
-			for (int i = 0; i < args.length; i++) {
-				CounterTypeInternal type = args[i];
-
-				if (type.isMulti()) {
-					ColumnData data = type.readMulti(file, pos);
-
-					if (data.getCount() == 0) {
-						items[i] = INVALID_VALUE;
-					} else {
-						if (type.isCounter()) {
-							items[i] = data.getSum();
-						} else {
-							items[i] = data.getSum() / data.getCount();
-						}
-					}
-				} else {
-					items[i] = type.readSingle(file, pos);
-				}
-			}
+			file.seek(pos);
+			file.readFully(row.array(), 0, rowSize);
 		}
 
-		return items;
+		return row;
 	}
 
 	/**
@@ -1278,7 +1326,7 @@ public class BasicCounterFile implements
 	 * @param time time
 	 * @return true: skipped, false: not skipped
 	 */
-	private boolean isSkipped(long time) {
+	boolean isSkipped(long time) {
 		return skipSlots[getRowNoFromOrigin(time) / SKIP_SLOT_UNIT];
 	}
 
@@ -1362,7 +1410,7 @@ public class BasicCounterFile implements
 	 * @param time time
 	 * @return row number
 	 */
-	private int getRowNoFromOrigin(long time) {
+	int getRowNoFromOrigin(long time) {
 		if (time < getBeginTime()) {
 			throw new IllegalArgumentException();
 		}
@@ -1381,6 +1429,33 @@ public class BasicCounterFile implements
 		return offsetData + getRowNoFromOrigin(time) * rowSize;
 	}
 
+	/**
+	 * get the opened file
+	 * 
+	 * @return file
+	 */
+	RandomAccessFile getFile() {
+		return file;
+	}
+
+	/**
+	 * get the position of the first row in file
+	 * 
+	 * @return position in file
+	 */
+	long getOffsetData() {
+		return offsetData;
+	}
+
+	/**
+	 * get byte count of one row
+	 * 
+	 * @return row size
+	 */
+	int getRowSize() {
+		return rowSize;
+	}
+
 	/**
 	 * implementation of Result interface
 	 * 
@@ -1747,6 +1822,98 @@ public class BasicCounterFile implements
 			return data;
 		}
 
+		/**
+		 * read single counter data value from a row
+		 * 
+		 * @param row the row bytes from index 0
+		 * @return counter data value
+		 */
+		long readSingle(ByteBuffer row) {
+			//
+			// same as readSingle(RandomAccessFile, long)
+			switch (getRangeType()) {
+			case BYTE:
+				byte b1 = row.get(offsetInRow);
+				return b1 == 0 ? INVALID_VALUE : b1 & 0x7f;
+			case SHORT:
+				short s1 = row.getShort(offsetInRow);
+				return s1 == 0 ? INVALID_VALUE : s1 & 0x7fff;
+			case INT:
+				int i1 = row.getInt(offsetInRow);
+				return i1 == 0 ? INVALID_VALUE : i1 & 0x7fffffff;
+			case LONG:
+				long l1 = row.getLong(offsetInRow);
+				return l1 == 0 ? INVALID_VALUE : l1 & 0x7fffffffffffffffL;
+			default:
+				throw new IllegalStateException();
+			}
+		}
+
+		/**
+		 * read multi counter data (min, max, last, avg, sum) value from a row
+		 * 
+		 * @param row the row bytes from index 0
+		 * @return counter data value in ColumnData
+		 */
+		ColumnData readMulti(ByteBuffer row) {
+			int pos = offsetInRow;
+			ColumnData data = new ColumnData();
+			data.count = row.getInt(pos);
+			pos += 4;
+
+			switch (getRangeType()) {
+			case BYTE:
+				data.min = row.get(pos);
+				data.max = row.get(pos + 1);
+				data.sum = row.getShort(pos + 2);
+				data.last = row.get(pos + 4);
+				break;
+
+			case SHORT:
+				data.min = row.getShort(pos);
+				data.max = row.getShort(pos + 2);
+				data.sum = row.getInt(pos + 4);
+				data.last = row.getShort(pos + 8);
+				break;
+
+			case INT:
+				data.min = row.getInt(pos);
+				data.max = row.getInt(pos + 4);
+				data.sum = row.getLong(pos + 8);
+				data.last = row.getInt(pos + 16);
+				break;
+
+			case LONG:
+				data.min = row.getLong(pos);
+				data.max = row.getLong(pos + 8);
+				data.sum = row.getLong(pos + 16);
+				data.last = row.getLong(pos + 24);
+				break;
+
+			default:
+				throw new IllegalStateException();
+			}
+
+			return data;
+		}
+
+		/**
+		 * read the average value from a row, the same as
+		 * Result.getAvgAsDouble
+		 * 
+		 * @param row the row bytes from index 0
+		 * @return average value
+		 */
+		double readAvg(ByteBuffer row) {
+			if (isMulti()) {
+				ColumnData data = readMulti(row);
+				return data.count == 0 ? INVALID_VALUE : (double) data.sum
+						/ data.count;
+			}
+
+			return readSingle(row);
+		}
+
 		/**
 		 * write single value
 		 * 
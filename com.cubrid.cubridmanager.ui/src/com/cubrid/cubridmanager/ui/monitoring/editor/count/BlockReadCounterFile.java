@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search Solution. 
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted provided that the following conditions are met: 
+ *
+ * - Redistributions of source code must retain the above copyright notice, 
+ *   this list of conditions and the following disclaimer. 
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, 
+ *   this list of conditions and the following disclaimer in the documentation 
+ *   and/or other materials provided with the distribution. 
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors 
+ *   may be used to endorse or promote products derived from this software without 
+ *   specific prior written permission. 
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, 
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, 
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY 
+ * OF SUCH DAMAGE. 
+ *
+ */
+package com.cubrid.cubridmanager.ui.monitoring.editor.count;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Properties;
+
+/**
+ * Counter file which reads the rows in blocks by positional reads of the file
+ * channel into the heap, so the history charts read a long time range by
+ * readAvgRange with few file operations and without the seek lock. The file
+ * is not memory mapped because it is still written, and truncated, by
+ * BasicCounterFile of the recorder.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class BlockReadCounterFile extends
+		BasicCounterFile {
+
+	private static final int BLOCK_SIZE = 64 * 1024;
+
+	private final FileChannel channel;
+	private final int blockRows;
+	private volatile Block block = null;
+
+	/**
+	 * Open existing counter file.
+	 * 
+	 * @param fo the file will opened.
+	 * @param props a new properties that write immediately on opening file.
+	 * @throws IOException exception for IO operation
+	 */
+	public BlockReadCounterFile(File fo, final Properties props) throws IOException {
+		super(fo, props);
+		channel = getFile().getChannel();
+		blockRows = Math.max(1, BLOCK_SIZE / Math.max(1, getRowSize()));
+	}
+
+	/**
+	 * drop the block of the last read, the rows may be written since then
+	 * 
+	 * @throws IOException exception for IO operation
+	 */
+	protected void beginRead() throws IOException {
+		block = null;
+	}
+
+	/**
+	 * read one row from the block which contains it
+	 * 
+	 * @param time time
+	 * @param rowBuffer not used, the row is not copied
+	 * @return the row bytes from index 0, or null if the row has no data
+	 * @throws IOException exception for IO operation
+	 */
+	protected ByteBuffer getRow(long time, ByteBuffer rowBuffer) throws IOException {
+		if (isEmptyRow(time)) {
+			return null;
+		}
+
+		int rowNo = getRowNoFromOrigin(time);
+		Block current = block;
+
+		if (current == null || rowNo < current.firstRow
+				|| rowNo >= current.firstRow + current.rows) {
+			current = readBlock(rowNo);
+
+			if (current.rows == 0) {
+				return super.getRow(time, rowBuffer);
+			}
+
+			block = current;
+		}
+
+		int rowSize = getRowSize();
+		return ByteBuffer.wrap(current.data, (rowNo - current.firstRow) * rowSize,
+				rowSize).slice();
+	}
+
+	/**
+	 * read the rows from the row number by positional reads, which do not
+	 * move the file pointer used by the writer
+	 * 
+	 * @param firstRow the first row number
+	 * @return the block, its rows are fewer at the end of the file
+	 * @throws IOException exception for IO operation
+	 */
+	private Block readBlock(int firstRow) throws IOException {
+		int rowSize = getRowSize();
+		byte[] data = new byte[blockRows * rowSize];
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		long position = getOffsetData() + (long) firstRow * rowSize;
+
+		while (buffer.hasRemaining()) {
+			int count = channel.read(buffer, position + buffer.position());
+
+			if (count < 0) {
+				break;
+			}
+		}
+
+		return new Block(firstRow, rowSize == 0 ? 0 : buffer.position() / rowSize, data);
+	}
+
+	/**
+	 * close file, release system resource
+	 * 
+	 * @throws IOException exception for IO operation
+	 */
+	public void close() throws IOException {
+		block = null;
+		super.close();
+	}
+
+	/**
+	 * the rows read by one positional read, it is not changed after reading
+	 * 
+	 * @author cubrid
+	 * @version 1.0 - 2026-10-18 created by cubrid
+	 */
+	private static final class Block {
+		private final int firstRow;
+		private final int rows;
+		private final byte[] data;
+
+		Block(int firstRow, int rows, byte[] data) {
+			this.firstRow = firstRow;
+			this.rows = rows;
+			this.data = data;
+		}
+	}
+}
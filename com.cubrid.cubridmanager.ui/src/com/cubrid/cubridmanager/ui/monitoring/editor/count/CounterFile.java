@@ -76,6 +76,21 @@ public interface CounterFile extends
 	 */
 	long[] readDataAsLong(long time, String... typeArgs) throws IOException;
 
+	/**
+	 * Read the average values of a time range in one call, one row for every
+	 * step intervals from the begin time. The value is the same as
+	 * readData(time, types).getAvgAsDouble(type) of the row time.
+	 * 
+	 * @param beginTime begin time since 1970-01-01 UTC in milliseconds
+	 * @param endTime end time (exclusive) since 1970-01-01 UTC in milliseconds
+	 * @param step count of intervals between two returned rows
+	 * @param typeArgs types
+	 * @return values indexed by [type][row], INVALID_VALUE for an empty row
+	 * @throws IOException exception for IO operation
+	 */
+	double[][] readAvgRange(long beginTime, long endTime, int step,
+			String... typeArgs) throws IOException;
+
 	/**
 	 * Get minimum time for all counter data. since 1970-01-01 00:00:00 UTC
 	 * 
@@ -0,0 +1,379 @@
+/*
+ * Copyright (C) 2009 Search Solution Corporation. All rights reserved by Search Solution. 
+ *
+ * Redistribution and use in source and binary forms, with or without modification, 
+ * are permitted provided that the following conditions are met: 
+ *
+ * - Redistributions of source code must retain the above copyright notice, 
+ *   this list of conditions and the following disclaimer. 
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice, 
+ *   this list of conditions and the following disclaimer in the documentation 
+ *   and/or other materials provided with the distribution. 
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors 
+ *   may be used to endorse or promote products derived from this software without 
+ *   specific prior written permission. 
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND 
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED 
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. 
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, 
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, 
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, 
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) 
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY 
+ * OF SUCH DAMAGE. 
+ *
+ */
+package com.cubrid.cubridmanager.ui.monitoring.editor.count;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.Closer;
+import com.cubrid.common.core.util.LogUtil;
+
+/**
+ * Counter file which keeps rollup tiers beside the raw counter file. Every
+ * tier is a counter file with a coarser interval and multi (min, max, sum,
+ * count) types, it is updated with the same values as the raw file. The
+ * range reading picks the coarsest tier which is still finer than the
+ * requested step, so a long time range is read from a few rows.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class RollupCounterFile implements
+		CounterFile {
+
+	private static final Logger LOGGER = LogUtil.getLogger(RollupCounterFile.class);
+
+	public static final int[] TIER_INTERVALS = {60, 3600 };
+	private static final int TIER_MAX_COUNT = 36000;
+	private static final String TIER_SUFFIX = ".rollup";
+
+	private final CounterFile raw;
+	private final CounterFile[] tiers; // from the finest to the coarsest
+
+	/**
+	 * Open the rollup tiers of the raw counter file. For updating, the missing
+	 * or mismatched tiers are created again; for reading, they are skipped.
+	 * 
+	 * @param fo the raw counter file path
+	 * @param raw the opened raw counter file
+	 * @param readOnly open the tiers for reading only
+	 */
+	public RollupCounterFile(File fo, CounterFile raw, boolean readOnly) {
+		this.raw = raw;
+
+		List<CounterFile> list = new ArrayList<CounterFile>();
+
+		for (int interval : TIER_INTERVALS) {
+			if (interval <= raw.getInterval()) {
+				continue;
+			}
+
+			File tierFile = getTierFile(fo, interval);
+			CounterFile tier = null;
+
+			try {
+				tier = openTier(tierFile, interval, readOnly);
+			} catch (IOException ex) {
+				LOGGER.error(ex.getMessage());
+			}
+
+			if (tier != null) {
+				list.add(tier);
+			}
+		}
+
+		tiers = list.toArray(new CounterFile[list.size()]);
+	}
+
+	/**
+	 * get the file of a rollup tier
+	 * 
+	 * @param fo the raw counter file path
+	 * @param interval the tier interval in seconds
+	 * @return tier file
+	 */
+	public static File getTierFile(File fo, int interval) {
+		return new File(fo.getPath() + TIER_SUFFIX + interval);
+	}
+
+	/**
+	 * open one tier file
+	 * 
+	 * @param tierFile tier file
+	 * @param interval the tier interval in seconds
+	 * @param readOnly open for reading only
+	 * @return tier counter file, null if it can not be used
+	 * @throws IOException exception for IO operation
+	 */
+	private CounterFile openTier(File tierFile, int interval, boolean readOnly) throws IOException {
+		if (tierFile.isFile()) {
+			CounterFile tier = readOnly ? new BlockReadCounterFile(tierFile, null)
+					: new BasicCounterFile(tierFile, null);
+
+			// the tier of a deleted raw file is recreated with the new raw file
+			boolean isStale = !readOnly && raw.getBeginTime() == NULL_TIME
+					&& tier.getBeginTime() != NULL_TIME;
+
+			if (!isStale && isMatchedTier(tier, interval)) {
+				return tier;
+			}
+
+			Closer.close(tier);
+
+			if (readOnly || !tierFile.delete()) {
+				return null;
+			}
+		} else if (readOnly) {
+			return null;
+		}
+
+		return new BasicCounterFile(tierFile, getTierTypes(), TIER_MAX_COUNT,
+				interval, 0, null);
+	}
+
+	/**
+	 * whether the tier has the interval and all the tier types of the raw file
+	 * 
+	 * @param tier tier counter file
+	 * @param interval the tier interval in seconds
+	 * @return true: matched
+	 */
+	private boolean isMatchedTier(CounterFile tier, int interval) {
+		if (tier.getInterval() != interval) {
+			return false;
+		}
+
+		for (CounterType type : getTierTypes()) {
+			int index = tier.indexOfType(type.getName());
+			if (index < 0) {
+				return false;
+			}
+
+			CounterType tierType = tier.getTypes()[index];
+			if (tierType.isMulti() != type.isMulti()
+					|| tierType.isCounter() != type.isCounter()
+					|| tierType.getRangeType() != type.getRangeType()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * get the tier types, they are multi types of the raw types and at least
+	 * INT range to keep the sum of a coarse row.
+	 * 
+	 * @return tier types
+	 */
+	private CounterType[] getTierTypes() {
+		CounterType[] rawTypes = raw.getTypes();
+		CounterType[] tierTypes = new CounterType[rawTypes.length];
+
+		for (int i = 0; i < rawTypes.length; i++) {
+			RangeType rangeType = rawTypes[i].getRangeType();
+
+			if (rangeType == RangeType.BYTE || rangeType == RangeType.SHORT) {
+				rangeType = RangeType.INT;
+			}
+
+			tierTypes[i] = new CounterType(rawTypes[i].getName(), true,
+					rawTypes[i].isCounter(), rangeType);
+		}
+
+		return tierTypes;
+	}
+
+	/**
+	 * update the raw file and all the tiers
+	 * 
+	 * @param time time
+	 * @param type type
+	 * @param value value
+	 * @throws IOException exception for IO operation
+	 */
+	public void updateData(long time, String type, long value) throws IOException {
+		raw.updateData(time, type, value);
+
+		for (CounterFile tier : tiers) {
+			tier.updateData(time, type, value);
+		}
+	}
+
+	public Result readData(long time, String... typeArgs) throws IOException {
+		return raw.readData(time, typeArgs);
+	}
+
+	public long[] readDataAsLong(long time, String... typeArgs) throws IOException {
+		return raw.readDataAsLong(time, typeArgs);
+	}
+
+	/**
+	 * read the average values of a time range from the coarsest tier that
+	 * still has a row for every step and covers the range as the raw file
+	 * does. A row is the average of the tier rows in its step.
+	 * 
+	 * @param beginTime begin time
+	 * @param endTime end time, exclusive
+	 * @param step count of raw intervals between two rows
+	 * @param typeArgs types
+	 * @return values indexed by [type][row]
+	 * @throws IOException exception for IO operation
+	 */
+	public double[][] readAvgRange(long beginTime, long endTime, int step,
+			String... typeArgs) throws IOException {
+		long stepTime = raw.getInterval() * 1000L * (step < 1 ? 1 : step);
+		long coveredTime = Math.max(beginTime, raw.getBeginTime());
+
+		for (int i = tiers.length - 1; i >= 0; i--) {
+			CounterFile tier = tiers[i];
+			long tierTime = tier.getInterval() * 1000L;
+
+			if (tierTime <= stepTime && tier.getBeginTime() != NULL_TIME
+					&& tier.getBeginTime() <= coveredTime) {
+				return readTierRange(tier, beginTime, endTime, stepTime,
+						typeArgs);
+			}
+		}
+
+		return raw.readAvgRange(beginTime, endTime, step, typeArgs);
+	}
+
+	/**
+	 * read the rows of a tier and merge them into the rows of every step
+	 * 
+	 * @param tier tier counter file
+	 * @param beginTime begin time
+	 * @param endTime end time, exclusive
+	 * @param stepTime milliseconds between two rows
+	 * @param typeArgs types
+	 * @return values indexed by [type][row]
+	 * @throws IOException exception for IO operation
+	 */
+	private double[][] readTierRange(CounterFile tier, long beginTime,
+			long endTime, long stepTime, String... typeArgs) throws IOException {
+		long tierTime = tier.getInterval() * 1000L;
+		double[][] tierValues = tier.readAvgRange(beginTime, endTime, 1,
+				typeArgs);
+		int rows = endTime <= beginTime ? 0
+				: (int) ((endTime - beginTime + stepTime - 1) / stepTime);
+		double[][] values = new double[tierValues.length][rows];
+
+		for (int i = 0; i < tierValues.length; i++) {
+			double[] tierRow = tierValues[i];
+
+			for (int r = 0; r < rows; r++) {
+				int from = (int) (r * stepTime / tierTime);
+				int to = (int) Math.min(tierRow.length, (r + 1) * stepTime
+						/ tierTime);
+				double sum = 0;
+				int count = 0;
+
+				for (int j = from; j < to; j++) {
+					if (tierRow[j] >= 0) {
+						sum += tierRow[j];
+						count++;
+					}
+				}
+
+				values[i][r] = count == 0 ? INVALID_VALUE : sum / count;
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * close the raw file and all the tiers
+	 * 
+	 * @throws IOException exception for IO operation
+	 */
+	public void close() throws IOException {
+		for (CounterFile tier : tiers) {
+			Closer.close(tier);
+		}
+
+		raw.close();
+	}
+
+	public long getBeginTime() {
+		return raw.getBeginTime();
+	}
+
+	public int getDuration() {
+		return raw.getDuration();
+	}
+
+	public long getEndTime() {
+		return raw.getEndTime();
+	}
+
+	public int getInterval() {
+		return raw.getInterval();
+	}
+
+	public int getMaxCount() {
+		return raw.getMaxCount();
+	}
+
+	public int getCount() {
+		return raw.getCount();
+	}
+
+	public int getMode() {
+		return raw.getMode();
+	}
+
+	public int indexOfType(String type) {
+		return raw.indexOfType(type);
+	}
+
+	public CounterType[] getTypes() {
+		return raw.getTypes();
+	}
+
+	public Properties getProperties() {
+		return raw.getProperties();
+	}
+
+	public String getProperty(String key) {
+		return raw.getProperty(key);
+	}
+
+	public int getPropertyInt(String key, int def) {
+		return raw.getPropertyInt(key, def);
+	}
+
+	public long getPropertyLong(String key, long def) {
+		return raw.getPropertyLong(key, def);
+	}
+
+	public boolean getPropertyBool(String key, boolean def) {
+		return raw.getPropertyBool(key, def);
+	}
+
+	public double getPropertyDouble(String key, double def) {
+		return raw.getPropertyDouble(key, def);
+	}
+
+	public void setProperty(String key, String value) throws IOException {
+		raw.setProperty(key, value);
+	}
+
+	public void setProperties(Map<String, String> pairs) throws IOException {
+		raw.setProperties(pairs);
+	}
+}
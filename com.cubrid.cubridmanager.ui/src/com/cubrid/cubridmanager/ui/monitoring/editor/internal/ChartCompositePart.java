@@ -91,13 +91,15 @@ import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.common.ui.spi.util.CommonUITool;
+import com.cubrid.cubridmanager.core.monitoring.model.CounterVector;
 import com.cubrid.cubridmanager.core.monitoring.model.IDiagPara;
 import com.cubrid.cubridmanager.ui.monitoring.Messages;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.BasicCounterFile;
+import com.cubrid.cubridmanager.ui.monitoring.editor.count.BlockReadCounterFile;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.CounterFile;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.CounterType;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.RangeType;
-import com.cubrid.cubridmanager.ui.monitoring.editor.count.Result;
+import com.cubrid.cubridmanager.ui.monitoring.editor.count.RollupCounterFile;
 
 /**
  * This type provides for other type the chart unit to show data changing.
@@ -934,26 +936,27 @@ public class ChartCompositePart {
 			factor++;
 		}
 
-		Result[] results = new Result[(int) (quotient / factor + 1L)];
-		int length = 0;
-		for (long time = beginTime; time < endTime; time += (interval * factor)) {
-			Result res;
-			try {
-				res = file.readData(time, fileTypes.toArray(new String[fileTypes.size()]));
-				results[length] = res;
-				for (String type : types) {
-					double result = results[length].getAvgAsDouble(type);
-					if (result < 0) {
-						result = 0;
-					}
-					// if (result > 0) {
-					seriesMap.get(type).addOrUpdate(new Second(new Date(time)), result);
-					// }
+		if (fileTypes.isEmpty()) {
+			return;
+		}
+		double[][] values;
+		try {
+			values = file.readAvgRange(beginTime, endTime, factor,
+					fileTypes.toArray(new String[fileTypes.size()]));
+		} catch (IOException ex) {
+			LOGGER.error(ex.getMessage());
+			return;
+		}
+		long time = beginTime;
+		for (int row = 0; row < values[0].length; row++) {
+			for (int i = 0; i < fileTypes.size(); i++) {
+				double result = values[i][row];
+				if (result < 0) {
+					result = 0;
 				}
-			} catch (IOException ex) {
-				LOGGER.error(ex.getMessage());
+				seriesMap.get(fileTypes.get(i)).addOrUpdate(new Second(new Date(time)), result);
 			}
-			length++;
+			time += (interval * factor);
 		}
 	}
 
@@ -962,27 +965,26 @@ public class ChartCompositePart {
 	 * Storage the data into the local file.
 	 *
 	 * @param <T> the generic type which is the sub type of IDiagPara
-	 * @param updateMap a instance of TreeMap which include all the data that
-	 *        will be storage.
+	 * @param counters the counters that will be storage, indexed in the same
+	 *        order as ts
 	 * @param ts a generic array, for instance
 	 *        BrokerDiagEnum.values(),DbStatDumpEnum.values()
 	 * @param dbName the database name, this value can be set null
 	 */
-
-	public <T extends IDiagPara> void storageData(Map<String, String> updateMap, T[] ts,
-			String dbName) {
+	public <T extends IDiagPara> void storageData(CounterVector counters,
+			T[] ts, String dbName) {
 		CounterFile countFile = getHistoryFile(ts, dbName);
 		long time = System.currentTimeMillis();
-		for (T diagName : ts) {
+		for (int i = 0; i < ts.length; i++) {
+			if (!counters.isNumber(i)) {
+				continue;
+			}
+			String type = ts[i].getName();
+			if (dbName != null) {
+				type = dbName + "_" + type;
+			}
 			try {
-				String type = diagName.getName();
-				long value = Long.valueOf(updateMap.get(diagName.getName()));
-				if (dbName != null) {
-					type = dbName + "_" + type;
-				}
-				countFile.updateData(time, type, value);
-			} catch (NumberFormatException e) {
-				LOGGER.error(e.getMessage());
+				countFile.updateData(time, type, counters.get(i));
 			} catch (IOException e) {
 				LOGGER.error(e.getMessage());
 			}
@@ -998,7 +1000,8 @@ public class ChartCompositePart {
 		File counter = new File(historyPath);
 		if (counter.exists() && counter.isFile()) {
 			try {
-				countFile = new BasicCounterFile(counter, null);
+				countFile = new RollupCounterFile(counter,
+						new BlockReadCounterFile(counter, null), true);
 			} catch (IOException ex) {
 				LOGGER.error(ex.getMessage());
 			}
@@ -1040,7 +1043,8 @@ public class ChartCompositePart {
 		File counter = new File(historyPath);
 		if (counter.exists() && counter.isFile()) {
 			try {
-				countFile = new BasicCounterFile(counter, null);
+				countFile = new RollupCounterFile(counter,
+						new BasicCounterFile(counter, null), false);
 			} catch (IOException ex) {
 				LOGGER.error(ex.getMessage());
 			}
@@ -1057,7 +1061,8 @@ public class ChartCompositePart {
 			CounterType[] types = counterList.toArray(new CounterType[counterList.size()]);
 			Properties props = new Properties();
 			try {
-				countFile = new BasicCounterFile(counter, types, 36000, 3, 0, props);
+				countFile = new RollupCounterFile(counter,
+						new BasicCounterFile(counter, types, 36000, 3, 0, props), false);
 			} catch (IOException ex) {
 				LOGGER.error(ex.getMessage());
 			}
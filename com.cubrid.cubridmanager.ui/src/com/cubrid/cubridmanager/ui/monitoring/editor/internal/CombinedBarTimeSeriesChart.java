@@ -82,7 +82,6 @@ import org.slf4j.Logger;
 
 import com.cubrid.common.core.util.LogUtil;
 import com.cubrid.cubridmanager.ui.monitoring.editor.count.CounterFile;
-import com.cubrid.cubridmanager.ui.monitoring.editor.count.Result;
 
 /**
  * A combined chart includes the bar chart and time series.Generally, the bar
@@ -616,46 +615,47 @@ public class CombinedBarTimeSeriesChart {
 		if (quotient % SWITCH_VALUE != 0) {
 			factor++;
 		}
-		Result[] results = new Result[(int) (quotient / factor + 1L)];
-		int length = 0;
-		for (long time = beginTime; time < endTime; time += (interval * factor)) {
-			Result res;
-			try {
-				res = file.readData(time,
-						fileTypes.toArray(new String[fileTypes.size()]));
-				results[length] = res;
-				for (String type : types) {
-					if (isAreaRender) {
-						double result = results[length].getAvgAsDouble(type);
-						timeTableXYCollection.add(new Second(new Date(time)),
-								result, type);
+		if (fileTypes.isEmpty()) {
+			return;
+		}
+		double[][] values;
+		try {
+			values = file.readAvgRange(beginTime, endTime, factor,
+					fileTypes.toArray(new String[fileTypes.size()]));
+		} catch (IOException ex) {
+			LOGGER.error(ex.getMessage());
+			return;
+		}
+		long time = beginTime;
+		for (int row = 0; row < values[0].length; row++) {
+			for (int i = 0; i < types.size(); i++) {
+				String type = types.get(i);
+				double result = values[i][row];
+				if (isAreaRender) {
+					timeTableXYCollection.add(new Second(new Date(time)),
+							result, type);
+				} else {
+					seriesMap.get(type).addOrUpdate(
+							new Second(new Date(time)), result);
+					if (maxType == null) {
+						if (barMax < result) {
+							barMax = result;
+							numberaxis.setRange(0 - 1, barMax + 1);
+							numberaxis.setVisible(isShowSeriesAxis);
+						}
 					} else {
-						double result = results[length].getAvgAsDouble(type);
-						seriesMap.get(type).addOrUpdate(
-								new Second(new Date(time)), result);
-						if (maxType == null) {
-							if (barMax < result) {
-								barMax = result;
-								numberaxis.setRange(0 - 1, barMax + 1);
-								numberaxis.setVisible(isShowSeriesAxis);
-							}
-						} else {
-							double maxPercent = results[length].getAvgAsDouble(maxType);
-							double max = maxPercent <= 0 ? barMax : result
-									/ maxPercent * 10000;
-							if (barMax < max) {
-								barMax = max;
-								numberaxis.setRange(0 - 1, barMax + 1);
-								numberaxis.setVisible(isShowSeriesAxis);
-							}
+						double maxPercent = values[types.size()][row];
+						double max = maxPercent <= 0 ? barMax : result
+								/ maxPercent * 10000;
+						if (barMax < max) {
+							barMax = max;
+							numberaxis.setRange(0 - 1, barMax + 1);
+							numberaxis.setVisible(isShowSeriesAxis);
 						}
 					}
 				}
-
-			} catch (IOException ex) {
-				LOGGER.error(ex.getMessage());
 			}
-			length++;
+			time += (interval * factor);
 		}
 	}
 
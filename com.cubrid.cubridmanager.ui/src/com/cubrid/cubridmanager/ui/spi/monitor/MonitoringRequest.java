@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2013 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.ui.spi.monitor;
+
+import com.cubrid.cubridmanager.core.common.model.ServerInfo;
+import com.cubrid.cubridmanager.core.common.socket.SocketTask;
+import com.cubrid.cubridmanager.core.common.socket.TreeNode;
+
+/**
+ * A monitoring request which is polled by {@link MonitoringScheduler}, the
+ * requests of the same host, user and message are polled only once for all
+ * the listeners.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class MonitoringRequest extends
+		SocketTask {
+
+	/**
+	 * The constructor
+	 * 
+	 * @param taskName the task name, generally it is got from the model
+	 * @param serverInfo the server info
+	 * @param sendMSGItems the send message items
+	 */
+	public MonitoringRequest(String taskName, ServerInfo serverInfo,
+			String[] sendMSGItems) {
+		super(taskName, serverInfo, sendMSGItems);
+	}
+
+	/**
+	 * Set the value of a message item
+	 * 
+	 * @param key the item key
+	 * @param value the item value
+	 */
+	public void setMsgItem(String key, String value) {
+		super.setMsgItem(key, value);
+	}
+
+	/**
+	 * Get the response of the last execution
+	 * 
+	 * @return the response
+	 */
+	public TreeNode getResponseNode() {
+		return getResponse();
+	}
+
+	/**
+	 * Get the key which identifies the same request, it consists of the host,
+	 * the user and the request message
+	 * 
+	 * @return the key
+	 */
+	public String getKey() {
+		return serverInfo.getHostAddress() + ":" + serverInfo.getHostMonPort()
+				+ ":" + serverInfo.getUserName() + "\n" + getRequest();
+	}
+}
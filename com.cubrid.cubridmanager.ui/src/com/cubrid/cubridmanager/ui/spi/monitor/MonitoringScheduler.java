@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2013 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.ui.spi.monitor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+import com.cubrid.common.core.util.LogUtil;
+import com.cubrid.cubridmanager.core.common.socket.TreeNode;
+
+/**
+ * This type is singleton class which polls the monitoring requests of all the
+ * open monitors.
+ * 
+ * <li>The same request (host, user, task and parameters) with the same
+ * interval is polled only once and the response is fanned out to all the
+ * listeners.</li>
+ * <li>The polls run at a fixed rate aligned to the multiple of the interval,
+ * so the monitors sample at the same time and the time spent by a poll does
+ * not shift the next one.</li>
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public final class MonitoringScheduler {
+	private static final Logger LOGGER = LogUtil.getLogger(MonitoringScheduler.class);
+	private static MonitoringScheduler instance = new MonitoringScheduler();
+	private final ScheduledThreadPoolExecutor executor;
+	private final Map<String, Poll> pollMap = new HashMap<String, Poll>();
+
+	private MonitoringScheduler() {
+		int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+		executor = new ScheduledThreadPoolExecutor(threadCount, new ThreadFactory() {
+			private final AtomicInteger threadNo = new AtomicInteger();
+
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "MonitoringScheduler-"
+						+ threadNo.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Get the instance of the type of MonitoringScheduler
+	 * 
+	 * @return the instance of MonitoringScheduler
+	 */
+	public static MonitoringScheduler getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Subscribe a request, if the same request with the same interval is
+	 * polled already, the listener shares it.
+	 * 
+	 * @param request the request
+	 * @param interval the interval in milliseconds
+	 * @param listener the listener
+	 */
+	public void subscribe(MonitoringRequest request, int interval,
+			IMonitoringListener listener) {
+		String key = interval + "@" + request.getKey();
+		synchronized (pollMap) {
+			Poll poll = pollMap.get(key);
+			if (poll == null) {
+				poll = new Poll(key, request);
+				pollMap.put(key, poll);
+				poll.listeners.add(listener);
+				long delay = interval - System.currentTimeMillis() % interval;
+				poll.future = executor.scheduleAtFixedRate(poll, delay,
+						interval, TimeUnit.MILLISECONDS);
+			} else if (!poll.listeners.contains(listener)) {
+				poll.listeners.add(listener);
+			}
+		}
+	}
+
+	/**
+	 * Remove the listener from all the requests, the request is not polled
+	 * any more when it has no listener.
+	 * 
+	 * @param listener the listener
+	 */
+	public void unsubscribe(IMonitoringListener listener) {
+		synchronized (pollMap) {
+			Iterator<Poll> it = pollMap.values().iterator();
+			while (it.hasNext()) {
+				Poll poll = it.next();
+				poll.listeners.remove(listener);
+				if (poll.listeners.isEmpty()) {
+					poll.future.cancel(false);
+					poll.request.finish();
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the count of the requests which are being polled
+	 * 
+	 * @return the count
+	 */
+	public int getPollCount() {
+		synchronized (pollMap) {
+			return pollMap.size();
+		}
+	}
+
+	/**
+	 * A request being polled and its listeners
+	 */
+	private static class Poll implements
+			Runnable {
+		private final String key;
+		private final MonitoringRequest request;
+		private final List<IMonitoringListener> listeners = new CopyOnWriteArrayList<IMonitoringListener>();
+		private ScheduledFuture<?> future;
+
+		public Poll(String key, MonitoringRequest request) {
+			this.key = key;
+			this.request = request;
+		}
+
+		/**
+		 * Execute the request and fan out the response
+		 */
+		public void run() {
+			List<IMonitoringListener> listenerList = new ArrayList<IMonitoringListener>(listeners);
+			if (listenerList.isEmpty()) {
+				return;
+			}
+			TreeNode response = null;
+			String errorMsg = null;
+			try {
+				request.execute();
+				errorMsg = request.getErrorMsg();
+				response = request.getResponseNode();
+			} catch (Exception e) {
+				LOGGER.error("Failed to poll " + key, e);
+				errorMsg = e.getMessage();
+			}
+			for (IMonitoringListener listener : listenerList) {
+				try {
+					listener.dataReceived(response, errorMsg);
+				} catch (Exception e) {
+					// a periodic task is stopped by an exception
+					LOGGER.error(e.getMessage(), e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2013 Search Solution Corporation. All rights reserved by Search
+ * Solution.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met: -
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer. - Redistributions in binary
+ * form must reproduce the above copyright notice, this list of conditions and
+ * the following disclaimer in the documentation and/or other materials provided
+ * with the distribution. - Neither the name of the <ORGANIZATION> nor the names
+ * of its contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ */
+package com.cubrid.cubridmanager.ui.spi.monitor;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Deliver the UI updates of a monitor with asyncExec. When the UI thread is
+ * slower than the samples, the pending update is replaced by the latest one,
+ * so the sampling thread never waits for the painting and the UI never
+ * paints the stale samples.
+ * 
+ * @author cubrid
+ * @version 1.0 - 2026-10-18 created by cubrid
+ */
+public class UIUpdateCoalescer {
+	private final AtomicReference<Runnable> pending = new AtomicReference<Runnable>();
+	private final Runnable drainer = new Runnable() {
+		public void run() {
+			Runnable update = pending.getAndSet(null);
+			if (update != null) {
+				update.run();
+			}
+		}
+	};
+
+	/**
+	 * Post an update, it replaces the update which is not run yet
+	 * 
+	 * @param update the update runnable
+	 */
+	public void post(Runnable update) {
+		if (pending.getAndSet(update) != null) {
+			return;
+		}
+		Display display = Display.getDefault();
+		if (display == null || display.isDisposed()) {
+			pending.set(null);
+			return;
+		}
+		display.asyncExec(drainer);
+	}
+}